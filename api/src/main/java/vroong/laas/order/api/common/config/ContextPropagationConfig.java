@@ -0,0 +1,26 @@
+package vroong.laas.order.api.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * 비동기 작업 컨텍스트 전파 설정
+ *
+ * <p>요청 스레드의 Trace 컨텍스트(traceId/spanId, MDC)를 다른 스레드에서 실행되는 작업으로 전파합니다.
+ *
+ * <p>적용 대상:
+ * <ul>
+ *   <li>AddressRefiner: Origin/Destination 동시 주소 정제 (Virtual Thread)</li>
+ *   <li>Spring Boot가 구성하는 TaskExecutor (@Async 등)</li>
+ * </ul>
+ */
+@Configuration
+public class ContextPropagationConfig {
+
+  @Bean
+  public TaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+}
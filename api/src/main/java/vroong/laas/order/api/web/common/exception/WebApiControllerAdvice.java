@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import vroong.laas.order.core.common.exception.BaseException;
 import vroong.laas.order.core.common.exception.ErrorCode;
 import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
+import vroong.laas.order.core.domain.order.exception.OrderExportLimitExceededException;
 
 /**
  * Web API 전역 예외 처리기
@@ -60,6 +61,31 @@ public class WebApiControllerAdvice {
         .body(problem);
   }
 
+  /**
+   * 주문 Export 동시 실행 한도 초과 예외 처리
+   *
+   * <p>Export 는 Reader DB Connection 을 전송이 끝날 때까지 잡고 있으므로 동시 실행 수를 제한합니다. 전송 시작 전
+   * (응답 Commit 전)에 발생하므로 503 Service Unavailable 과 Retry-After 헤더를 반환합니다.
+   *
+   * @param e OrderExportLimitExceededException
+   * @return 503 Service Unavailable + ProblemDetail
+   */
+  @ExceptionHandler(OrderExportLimitExceededException.class)
+  public ResponseEntity<ProblemDetail> handleOrderExportLimitExceeded(
+      OrderExportLimitExceededException e) {
+    log.warn("Order export rejected: {}", e.getMessage());
+
+    ProblemDetail problem =
+        ProblemDetailBuilder.of(
+                HttpStatus.SERVICE_UNAVAILABLE, e.getErrorCode(), e.getMessage(), e)
+            .retryable(true)
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header("Retry-After", "30")
+        .body(problem);
+  }
+
   /**
    * 커스텀 예외 처리
    *
@@ -70,6 +96,7 @@ public class WebApiControllerAdvice {
    * - OrderAlreadyAssignedException
    * - OrderNotCancellableException
    * - OrderLocationChangeNotAllowedException
+   * - OrderConcurrentlyModifiedException
    * - InvalidOrderException 등
    *
    * @param e BaseException
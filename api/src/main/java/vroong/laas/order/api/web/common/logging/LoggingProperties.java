@@ -3,6 +3,7 @@ package vroong.laas.order.api.web.common.logging;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +21,28 @@ public class LoggingProperties {
      */
     private List<String> excludePatterns = new ArrayList<>();
     
+    /**
+     * Response Body를 버퍼링하지 않고 그대로 흘려보낼 URL 패턴 목록 (Streaming 응답)
+     * 예: /api/v1/orders/export
+     */
+    private List<String> streamingPatterns = new ArrayList<>();
+    
+    /**
+     * 정상 요청 로깅 비율 (0.0 ~ 1.0, 기본 1.0 = 전부 기록)
+     * 에러(4xx/5xx, 예외)와 Slow 요청은 비율과 관계없이 항상 기록
+     */
+    private double sampleRate = 1.0;
+    
+    /**
+     * 이 시간 이상 걸린 요청은 항상 기록
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    
+    /**
+     * Request/Response 로그 비동기 출력 설정 (RequestLogWriter)
+     */
+    private Async async = new Async();
+    
     public List<String> getExcludePatterns() {
         return excludePatterns;
     }
@@ -27,4 +50,104 @@ public class LoggingProperties {
     public void setExcludePatterns(List<String> excludePatterns) {
         this.excludePatterns = excludePatterns;
     }
+    
+    public List<String> getStreamingPatterns() {
+        return streamingPatterns;
+    }
+    
+    public void setStreamingPatterns(List<String> streamingPatterns) {
+        this.streamingPatterns = streamingPatterns;
+    }
+    
+    public double getSampleRate() {
+        return sampleRate;
+    }
+    
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sample-rate는 0.0 ~ 1.0 이어야 합니다: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+    
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+    
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+    
+    public Async getAsync() {
+        return async;
+    }
+    
+    public void setAsync(Async async) {
+        this.async = async;
+    }
+    
+    /**
+     * Queue가 가득 찼을 때 버릴 로그
+     */
+    public enum DropPolicy {
+        /** 새로 들어온 로그를 버림 */
+        DROP_NEWEST,
+        /** 가장 오래된 로그를 버리고 새 로그를 넣음 */
+        DROP_OLDEST
+    }
+    
+    /**
+     * 비동기 출력 설정
+     */
+    public static class Async {
+        
+        /**
+         * 비동기 출력 여부 (false면 요청 스레드에서 바로 출력)
+         */
+        private boolean enabled = true;
+        
+        /**
+         * 출력 대기 Queue 크기 (가득 차면 drop-policy에 따라 버림, 요청 스레드는 대기하지 않음)
+         */
+        private int queueCapacity = 8192;
+        
+        private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+        
+        /**
+         * 종료 시 남은 로그 출력 대기 시간
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+        
+        public DropPolicy getDropPolicy() {
+            return dropPolicy;
+        }
+        
+        public void setDropPolicy(DropPolicy dropPolicy) {
+            this.dropPolicy = dropPolicy;
+        }
+        
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+        
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package vroong.laas.order.api.web.common.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 로그용 Payload 캡처 버퍼
+ * 
+ * - 요청/응답 Stream을 지나가는 바이트 중 앞 maxLength 바이트까지만 복사 (Tee)
+ * - 버퍼는 첫 쓰기 시점에 작게 만들고 필요할 때만 maxLength까지 증가 (Body 없는 요청은 할당 없음)
+ * - maxLength를 넘으면 버퍼를 버리고 전체 길이만 계속 집계
+ */
+class PayloadCapture {
+    
+    private static final int INITIAL_CAPACITY = 256;
+    
+    private final int maxLength;
+    private byte[] buffer;
+    private int count;
+    private long totalLength;
+    
+    PayloadCapture(int maxLength) {
+        this.maxLength = maxLength;
+    }
+    
+    void write(int b) {
+        totalLength++;
+        if (totalLength > maxLength) {
+            buffer = null;
+            return;
+        }
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+    
+    void write(byte[] b, int off, int len) {
+        totalLength += len;
+        if (totalLength > maxLength) {
+            buffer = null;
+            return;
+        }
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+    
+    /**
+     * Stream을 지나간 전체 바이트 수 (캡처 한도와 무관)
+     */
+    long getTotalLength() {
+        return totalLength;
+    }
+    
+    /**
+     * 전체 길이가 캡처 한도를 넘었는지 여부
+     */
+    boolean isOverflowed() {
+        return totalLength > maxLength;
+    }
+    
+    /**
+     * 캡처한 내용 (UTF-8, 비어 있거나 한도를 넘었으면 null)
+     */
+    String getContentAsString() {
+        if (count == 0 || isOverflowed()) {
+            return null;
+        }
+        return new String(buffer, 0, count, StandardCharsets.UTF_8);
+    }
+    
+    private void ensureCapacity(int required) {
+        if (buffer == null) {
+            buffer = new byte[Math.min(maxLength, Math.max(INITIAL_CAPACITY, required))];
+        } else if (required > buffer.length) {
+            int grown = Math.max(required, buffer.length * 2);
+            buffer = Arrays.copyOf(buffer, Math.min(maxLength, grown));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package vroong.laas.order.api.web.common.logging;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 요청 1건의 Request/Response 로그 Record
+ * 
+ * - 요청 스레드에서 원본 Request에 의존하는 값만 복사 (Tomcat이 Request/Response 객체를 재사용하므로)
+ * - Payload 문자열 변환과 StructuredArguments 생성은 RequestLogWriter에서 수행
+ * - mdc: 요청 스레드의 MDC (traceId/spanId 등, Writer 스레드에서 복원)
+ */
+record RequestLogRecord(
+    String method,
+    String uri,
+    String uriPattern,
+    Map<String, String> headers,
+    Map<String, String> queryParams,
+    PayloadCapture requestBody,
+    Instant requestedAt,
+    int status,
+    long durationMs,
+    PayloadCapture responseBody,
+    Instant respondedAt,
+    Map<String, String> mdc) {
+}
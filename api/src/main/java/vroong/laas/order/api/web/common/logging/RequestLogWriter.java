@@ -0,0 +1,201 @@
+package vroong.laas.order.api.web.common.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import static net.logstash.logback.argument.StructuredArguments.keyValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request/Response 로그 Writer
+ * 
+ * - 비동기 모드 (기본): 요청 스레드는 고정 크기 Queue에 Record를 넣기만 하고,
+ *   전용 Writer 스레드가 Payload 변환 + 로그 출력 (느린 Appender가 API 지연에 더해지지 않음)
+ * - Queue가 가득 차면 요청 스레드를 막지 않고 Drop Policy에 따라 Record를 버림
+ *   (DROP_NEWEST: 새 Record, DROP_OLDEST: 가장 오래된 Record)
+ * - 버린 Record 수: request.log.dropped (Counter), 대기 중 Record 수: request.log.queue.size (Gauge)
+ * - 동기 모드 (app.logging.async.enabled=false): 요청 스레드에서 바로 출력
+ * - 종료 시 shutdown-timeout 까지 남은 Record를 출력
+ */
+@Component
+public class RequestLogWriter implements AutoCloseable {
+    
+    // 기존 로그 검색 조건(logger_name)이 바뀌지 않도록 Filter Logger 사용
+    private static final Logger log = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MS = 100;
+    
+    private final LoggingProperties.Async properties;
+    private final int maxPayloadLength;
+    private final BlockingQueue<RequestLogRecord> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    
+    public RequestLogWriter(LoggingProperties loggingProperties,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(loggingProperties.getAsync(), RequestResponseLoggingFilter.MAX_PAYLOAD_LENGTH,
+            meterRegistry.getIfAvailable());
+    }
+    
+    RequestLogWriter(LoggingProperties.Async properties, int maxPayloadLength,
+                     MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.maxPayloadLength = maxPayloadLength;
+        
+        if (!properties.isEnabled()) {
+            this.queue = null;
+            this.writerThread = null;
+            return;
+        }
+        
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        if (meterRegistry != null) {
+            FunctionCounter.builder("request.log.dropped", dropped, LongAdder::sum)
+                .description("Queue가 가득 차서 버린 Request/Response 로그 수")
+                .tag("policy", properties.getDropPolicy().name())
+                .register(meterRegistry);
+            Gauge.builder("request.log.queue.size", queue, BlockingQueue::size)
+                .description("출력 대기 중인 Request/Response 로그 수")
+                .register(meterRegistry);
+        }
+        
+        this.writerThread = new Thread(this::drainLoop, "request-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    /**
+     * 로그 Record 제출 (비동기 모드에서는 절대 Block 하지 않음)
+     */
+    void submit(RequestLogRecord record) {
+        if (queue == null) {
+            write(record);
+            return;
+        }
+        
+        if (queue.offer(record)) {
+            return;
+        }
+        
+        if (properties.getDropPolicy() == LoggingProperties.DropPolicy.DROP_OLDEST
+                && queue.poll() != null) {
+            dropped.increment();
+            if (queue.offer(record)) {
+                return;
+            }
+        }
+        dropped.increment();
+    }
+    
+    /**
+     * 지금까지 버린 Record 수
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    @Override
+    public void close() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.join(properties.getShutdownTimeout().toMillis());
+    }
+    
+    private void drainLoop() {
+        List<RequestLogRecord> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                RequestLogRecord first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                for (RequestLogRecord record : batch) {
+                    writeWithMdc(record);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to write request log", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void writeWithMdc(RequestLogRecord record) {
+        Map<String, String> mdc = record.mdc();
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            write(record);
+        } catch (Exception e) {
+            log.error("Failed to write request log", e);
+        } finally {
+            MDC.clear();
+        }
+    }
+    
+    /**
+     * Request/Response 로그 출력 (StructuredArguments 사용)
+     */
+    private void write(RequestLogRecord record) {
+        PayloadCapture requestBody = record.requestBody();
+        log.info("Request: {} {}", record.method(), record.uri(),
+            keyValue("headers", record.headers()),
+            keyValue("query_params", record.queryParams()),
+            keyValue("payload", getPayloadForLog(requestBody)),
+            keyValue("content_length", requestBody != null ? requestBody.getTotalLength() : 0),
+            keyValue("requested_at", record.requestedAt())
+        );
+        
+        PayloadCapture responseBody = record.responseBody();
+        log.info("Response: {} {}", record.method(), record.uri(),
+            keyValue("uri_pattern", record.uriPattern()),
+            keyValue("payload", getPayloadForLog(responseBody)),
+            keyValue("status", record.status()),
+            keyValue("duration_ms", record.durationMs()),
+            keyValue("content_length", responseBody != null ? responseBody.getTotalLength() : 0),
+            keyValue("responded_at", record.respondedAt())
+        );
+    }
+    
+    /**
+     * Payload를 로그용으로 변환 (크기 제한 적용)
+     */
+    private String getPayloadForLog(PayloadCapture body) {
+        if (body == null || body.getTotalLength() == 0) {
+            return null;
+        }
+        
+        if (body.isOverflowed()) {
+            // 크기 초과 시 별도 경고 로그
+            log.warn("Payload exceeds max length: {} bytes (max: {} bytes)", 
+                body.getTotalLength(), maxPayloadLength);
+            
+            return String.format("[PAYLOAD_TOO_LARGE: %d bytes, max: %d bytes]", 
+                body.getTotalLength(), maxPayloadLength);
+        }
+        
+        return body.getContentAsString();
+    }
+}
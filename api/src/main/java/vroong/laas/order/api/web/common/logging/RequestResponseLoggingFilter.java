@@ -9,35 +9,37 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import static net.logstash.logback.argument.StructuredArguments.keyValue;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.servlet.HandlerMapping;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Request/Response 로깅 Filter
  * 
- * - 모든 HTTP 요청/응답을 로그로 기록
- * - ContentCachingWrapper 사용으로 성능 최적화
- * - 제외 URL 패턴 지원
+ * - HTTP 요청/응답을 로그로 기록 (요청 처리 후 Request/Response 로그를 함께 기록)
+ * - Body는 Tee Wrapper로 앞 MAX_PAYLOAD_LENGTH 바이트까지만 캡처 (전체 버퍼링/복사 없음)
+ * - 샘플링 지원: sample-rate 비율만 기록, 에러(4xx/5xx, 예외)와 Slow 요청은 항상 기록
+ * - 로그 출력은 RequestLogWriter가 담당 (기본: 비동기, 고정 크기 Queue)
+ * - 제외/Streaming URL 패턴은 생성 시 한 번만 Parse (UriPatternMatcher)
+ * - Streaming URL 패턴은 Response를 감싸지 않음 (Request/Status만 기록)
  * - traceId는 Micrometer가 자동으로 MDC에 설정
  */
 @Component
 public class RequestResponseLoggingFilter implements Filter {
     
     private static final Logger log = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
-    private static final int MAX_PAYLOAD_LENGTH = 10 * 1024; // 10KB (성능 최적화)
+    static final int MAX_PAYLOAD_LENGTH = 10 * 1024; // 10KB (성능 최적화)
+    private static final String STREAMING_PAYLOAD = "[STREAMING]";
     
     // 민감 정보 헤더 제외
     private static final Set<String> EXCLUDED_HEADERS = Set.of(
@@ -48,10 +50,16 @@ public class RequestResponseLoggingFilter implements Filter {
     );
     
     private final LoggingProperties loggingProperties;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RequestLogWriter requestLogWriter;
+    private final UriPatternMatcher excludeMatcher;
+    private final UriPatternMatcher streamingMatcher;
     
-    public RequestResponseLoggingFilter(LoggingProperties loggingProperties) {
+    public RequestResponseLoggingFilter(LoggingProperties loggingProperties,
+                                        RequestLogWriter requestLogWriter) {
         this.loggingProperties = loggingProperties;
+        this.requestLogWriter = requestLogWriter;
+        this.excludeMatcher = new UriPatternMatcher(loggingProperties.getExcludePatterns());
+        this.streamingMatcher = new UriPatternMatcher(loggingProperties.getStreamingPatterns());
     }
     
     @Override
@@ -60,65 +68,144 @@ public class RequestResponseLoggingFilter implements Filter {
         
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
+        String uri = httpRequest.getRequestURI();
         
         // 제외 URL 체크
-        if (isExcluded(httpRequest.getRequestURI())) {
+        if (excludeMatcher.matches(uri)) {
             chain.doFilter(request, response);
             return;
         }
         
-        // ContentCachingWrapper로 감싸기 (Body를 여러 번 읽을 수 있도록)
-        ContentCachingRequestWrapper wrappedRequest = 
-            httpRequest instanceof ContentCachingRequestWrapper 
-                ? (ContentCachingRequestWrapper) httpRequest 
-                : new ContentCachingRequestWrapper(httpRequest, MAX_PAYLOAD_LENGTH);
+        // Streaming 응답 (StreamingResponseBody 등) 은 Body를 감싸지 않고 그대로 전달
+        if (streamingMatcher.matches(uri)) {
+            doFilterStreaming(httpRequest, httpResponse, chain);
+            return;
+        }
         
-        ContentCachingResponseWrapper wrappedResponse = 
-            httpResponse instanceof ContentCachingResponseWrapper 
-                ? (ContentCachingResponseWrapper) httpResponse 
-                : new ContentCachingResponseWrapper(httpResponse);
+        // Tee Wrapper로 감싸기 (Handler가 읽고 쓰는 Body의 앞부분만 복사)
+        TeeRequestWrapper wrappedRequest = new TeeRequestWrapper(httpRequest, MAX_PAYLOAD_LENGTH);
+        TeeResponseWrapper wrappedResponse =
+            new TeeResponseWrapper(httpResponse, MAX_PAYLOAD_LENGTH);
+            
+        Instant requestedAt = Instant.now();
+        long startTime = System.currentTimeMillis();
+        boolean failed = true;
         
+        try {
+            // 다음 Filter로 진행
+            chain.doFilter(wrappedRequest, wrappedResponse);
+            failed = false;
+            
+        } finally {
+            long duration = System.currentTimeMillis() - startTime;
+            
+            // 로깅 대상일 때만 Record 생성 후 Writer로 전달 (실패해도 응답은 전달)
+            if (shouldLog(wrappedResponse.getStatus(), duration, failed)) {
+                try {
+                    requestLogWriter.submit(
+                        toLogRecord(wrappedRequest, wrappedResponse, requestedAt, duration));
+                } catch (Exception e) {
+                    log.error("Failed to log request", e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Streaming 요청 처리
+     * 
+     * - Request/Response를 감싸지 않음
+     *   (비동기 응답은 Filter 종료 후 쓰이므로 Body 캡처 의미 없음)
+     * - Response 로그는 Handler 반환 시점의 status만 기록 (payload는 [STREAMING])
+     */
+    private void doFilterStreaming(HttpServletRequest request, HttpServletResponse response,
+                                   FilterChain chain) throws IOException, ServletException {
+        Instant requestedAt = Instant.now();
         long startTime = System.currentTimeMillis();
         
         try {
-            // Request 로깅 (실패해도 요청 처리는 계속)
             try {
-                logRequest(wrappedRequest);
+                logStreamingRequest(request, requestedAt);
             } catch (Exception e) {
                 log.error("Failed to log request", e);
             }
             
-            // 다음 Filter로 진행
-            chain.doFilter(wrappedRequest, wrappedResponse);
+            chain.doFilter(request, response);
             
         } finally {
             long duration = System.currentTimeMillis() - startTime;
             
-            // Response 로깅 (실패해도 응답은 전달)
             try {
-                logResponse(wrappedRequest, wrappedResponse, duration);
+                log.info("Response: {} {}", request.getMethod(), request.getRequestURI(),
+                    keyValue("uri_pattern", extractUriPattern(request)),
+                    keyValue("payload", STREAMING_PAYLOAD),
+                    keyValue("status", response.getStatus()),
+                    keyValue("duration_ms", duration),
+                    keyValue("async_started", request.isAsyncStarted()),
+                    keyValue("responded_at", Instant.now())
+                );
             } catch (Exception e) {
                 log.error("Failed to log response", e);
             }
-            
-            // Response Body를 실제 응답으로 복사 (필수!)
-            try {
-                wrappedResponse.copyBodyToResponse();
-            } catch (Exception e) {
-                log.error("Failed to copy response body", e);
-            }
         }
     }
     
     /**
-     * Request 로깅 (StructuredArguments 사용)
+     * 로깅 대상 여부
+     * 
+     * - 예외, 4xx/5xx, Slow 요청은 항상 기록
+     * - 그 외는 sample-rate 비율로 기록 (1.0이면 전부)
      */
-    private void logRequest(ContentCachingRequestWrapper request) {
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String queryString = request.getQueryString();
-
-        // Headers 수집 (민감 정보 제외)
+    private boolean shouldLog(int status, long duration, boolean failed) {
+        if (failed || status >= 400) {
+            return true;
+        }
+        if (duration >= loggingProperties.getSlowThreshold().toMillis()) {
+            return true;
+        }
+        double sampleRate = loggingProperties.getSampleRate();
+        return sampleRate >= 1.0
+            || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+    
+    /**
+     * 로그 Record 생성 (원본 Request에 의존하는 값은 요청 스레드에서 복사)
+     */
+    private RequestLogRecord toLogRecord(TeeRequestWrapper request, TeeResponseWrapper response,
+                                         Instant requestedAt, long duration) {
+        return new RequestLogRecord(
+            request.getMethod(),
+            request.getRequestURI(),
+            extractUriPattern(request),
+            collectHeaders(request),
+            collectQueryParams(request),
+            request.getCapture(),
+            requestedAt,
+            response.getStatus(),
+            duration,
+            response.getCapture(),
+            Instant.now(),
+            MDC.getCopyOfContextMap()
+        );
+    }
+    
+    /**
+     * Streaming 요청 Request 로깅 (StructuredArguments 사용)
+     */
+    private void logStreamingRequest(HttpServletRequest request, Instant requestedAt) {
+        log.info("Request: {} {}", request.getMethod(), request.getRequestURI(),
+            keyValue("headers", collectHeaders(request)),
+            keyValue("query_params", collectQueryParams(request)),
+            keyValue("payload", null),
+            keyValue("content_length", 0),
+            keyValue("requested_at", requestedAt)
+        );
+    }
+    
+    /**
+     * Headers 수집 (민감 정보 제외)
+     */
+    private Map<String, String> collectHeaders(HttpServletRequest request) {
         Map<String, String> headers = new HashMap<>();
         Enumeration<String> headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
@@ -127,104 +214,29 @@ public class RequestResponseLoggingFilter implements Filter {
                 headers.put(headerName, request.getHeader(headerName));
             }
         }
-
-        // Query Parameters 수집
+        return headers;
+    }
+    
+    /**
+     * Query Parameters 수집
+     */
+    private Map<String, String> collectQueryParams(HttpServletRequest request) {
         Map<String, String> queryParams = new HashMap<>();
-        if (queryString != null) {
+        if (request.getQueryString() != null) {
             request.getParameterMap().forEach((key, values) -> {
                 if (values.length > 0) {
                     queryParams.put(key, values[0]);
                 }
             });
         }
-
-        // Request Body (크기 제한)
-        byte[] content = request.getContentAsByteArray();
-        String payload = getPayloadForLog(content);
-        
-        // Content Length
-        int contentLength = content.length;
-
-        // Timestamp
-        Instant requestedAt = Instant.now();
-
-        // StructuredArguments를 사용한 로깅
-        log.info("Request: {} {}", method, uri,
-            keyValue("headers", headers),
-            keyValue("query_params", queryParams),
-            keyValue("payload", payload),
-            keyValue("content_length", contentLength),
-            keyValue("requested_at", requestedAt)
-        );
-    }
-    
-    /**
-     * Response 로깅 (StructuredArguments 사용)
-     */
-    private void logResponse(ContentCachingRequestWrapper request, 
-                            ContentCachingResponseWrapper response, 
-                            long duration) {
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        int status = response.getStatus();
-        
-        // URI 패턴 추출 (Spring MVC가 매핑한 패턴)
-        String uriPattern = extractUriPattern(request);
-
-        // Response Body (크기 제한)
-        byte[] content = response.getContentAsByteArray();
-        String payload = getPayloadForLog(content);
-
-        // Content Length
-        int contentLength = content.length;
-        
-        // Timestamp
-        Instant respondedAt = Instant.now();
-        
-        // StructuredArguments를 사용한 로깅
-        log.info("Response: {} {}", method, uri,
-            keyValue("uri_pattern", uriPattern),
-            keyValue("payload", payload),
-            keyValue("status", status),
-            keyValue("duration_ms", duration),
-            keyValue("content_length", contentLength),
-            keyValue("responded_at", respondedAt)
-        );
-    }
-    
-    /**
-     * Payload를 로그용으로 변환 (크기 제한 적용)
-     */
-    private String getPayloadForLog(byte[] content) {
-        if (content.length == 0) {
-            return null;
-        }
-        
-        if (content.length > MAX_PAYLOAD_LENGTH) {
-            // 크기 초과 시 별도 경고 로그
-            log.warn("Payload exceeds max length: {} bytes (max: {} bytes)", 
-                content.length, MAX_PAYLOAD_LENGTH);
-            
-            return String.format("[PAYLOAD_TOO_LARGE: %d bytes, max: %d bytes]", 
-                content.length, MAX_PAYLOAD_LENGTH);
-        }
-        
-        return new String(content, StandardCharsets.UTF_8);
+        return queryParams;
     }
     
     /**
      * URI 패턴 추출 (예: /api/v1/orders/{orderId})
      */
-    private String extractUriPattern(ContentCachingRequestWrapper request) {
+    private String extractUriPattern(HttpServletRequest request) {
         Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
         return pattern != null ? pattern.toString() : request.getRequestURI();
     }
-    
-    /**
-     * 제외 URL 체크
-     */
-    private boolean isExcluded(String uri) {
-        return loggingProperties.getExcludePatterns().stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, uri));
-    }
 }
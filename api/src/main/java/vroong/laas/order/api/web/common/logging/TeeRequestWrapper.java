@@ -0,0 +1,82 @@
+package vroong.laas.order.api.web.common.logging;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.IOException;
+
+/**
+ * Request Body Tee Wrapper
+ * 
+ * - ContentCachingRequestWrapper와 달리 Body를 미리 읽거나 전부 복사하지 않음
+ * - Handler가 getInputStream()으로 읽는 바이트 중 앞부분만 PayloadCapture에 복사
+ * - getReader()와 Form Parameter는 원본 요청을 그대로 사용 (캡처 대상 아님)
+ */
+class TeeRequestWrapper extends HttpServletRequestWrapper {
+    
+    private final PayloadCapture capture;
+    private ServletInputStream inputStream;
+    
+    TeeRequestWrapper(HttpServletRequest request, int maxPayloadLength) {
+        super(request);
+        this.capture = new PayloadCapture(maxPayloadLength);
+    }
+    
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
+    
+    PayloadCapture getCapture() {
+        return capture;
+    }
+    
+    private static class TeeInputStream extends ServletInputStream {
+        
+        private final ServletInputStream delegate;
+        private final PayloadCapture capture;
+        
+        TeeInputStream(ServletInputStream delegate, PayloadCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                capture.write(b);
+            }
+            return b;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                capture.write(b, off, read);
+            }
+            return read;
+        }
+        
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+        
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+        
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
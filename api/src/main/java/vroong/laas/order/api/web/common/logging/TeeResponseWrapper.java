@@ -0,0 +1,82 @@
+package vroong.laas.order.api.web.common.logging;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Response Body Tee Wrapper
+ * 
+ * - ContentCachingResponseWrapper와 달리 Body를 메모리에 모으지 않고 바로 원본 응답에 씀
+ *   (copyBodyToResponse 불필요, Content-Length/Flush 동작 그대로)
+ * - getOutputStream()으로 쓰는 바이트 중 앞부분만 PayloadCapture에 복사
+ * - getWriter()는 원본 응답을 그대로 사용 (캡처 대상 아님)
+ */
+class TeeResponseWrapper extends HttpServletResponseWrapper {
+    
+    private final PayloadCapture capture;
+    private ServletOutputStream outputStream;
+    
+    TeeResponseWrapper(HttpServletResponse response, int maxPayloadLength) {
+        super(response);
+        this.capture = new PayloadCapture(maxPayloadLength);
+    }
+    
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+    
+    PayloadCapture getCapture() {
+        return capture;
+    }
+    
+    private static class TeeOutputStream extends ServletOutputStream {
+        
+        private final ServletOutputStream delegate;
+        private final PayloadCapture capture;
+        
+        TeeOutputStream(ServletOutputStream delegate, PayloadCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+        
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+        
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
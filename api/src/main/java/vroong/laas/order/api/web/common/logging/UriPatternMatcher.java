@@ -0,0 +1,66 @@
+package vroong.laas.order.api.web.common.logging;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * URL 패턴 Matcher (생성 시 한 번만 Parse)
+ * 
+ * - 와일드카드 없는 패턴: Set 조회 (예: /health)
+ * - "/prefix/**" 패턴: 문자열 Prefix 비교 (예: /actuator/**)
+ * - 그 외 패턴: 미리 Parse한 PathPattern으로 비교
+ * - 요청마다 AntPathMatcher로 패턴 문자열을 다시 해석하지 않음
+ */
+class UriPatternMatcher {
+    
+    private static final String ANY_SUFFIX = "/**";
+    
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<PathPattern> pathPatterns = new ArrayList<>();
+    
+    UriPatternMatcher(List<String> patterns) {
+        for (String pattern : patterns) {
+            if (!hasWildcard(pattern)) {
+                exactPaths.add(pattern);
+            } else if (pattern.endsWith(ANY_SUFFIX)
+                    && !hasWildcard(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()))) {
+                prefixes.add(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()));
+            } else {
+                pathPatterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+        }
+    }
+    
+    boolean matches(String uri) {
+        if (exactPaths.contains(uri)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (uri.startsWith(prefix)
+                    && (uri.length() == prefix.length() || uri.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        if (pathPatterns.isEmpty()) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(uri);
+        for (PathPattern pathPattern : pathPatterns) {
+            if (pathPattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean hasWildcard(String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+    }
+}
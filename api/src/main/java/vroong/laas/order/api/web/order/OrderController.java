@@ -1,20 +1,41 @@
 package vroong.laas.order.api.web.order;
 
 import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import vroong.laas.order.api.web.order.request.BatchGetOrdersRequest;
+import vroong.laas.order.api.web.order.request.BulkCreateOrdersRequest;
 import vroong.laas.order.api.web.order.request.ChangeDestinationAddressRequest;
 import vroong.laas.order.api.web.order.request.CreateOrderRequest;
+import vroong.laas.order.api.web.order.request.ExportOrdersRequest;
+import vroong.laas.order.api.web.order.request.SearchOrdersRequest;
+import vroong.laas.order.api.web.order.response.BatchGetOrdersResponse;
+import vroong.laas.order.api.web.order.response.BulkCreateOrdersResponse;
+import vroong.laas.order.api.web.order.response.OrderETag;
+import vroong.laas.order.api.web.order.response.OrderExportFormat;
+import vroong.laas.order.api.web.order.response.OrderExportResponse;
+import vroong.laas.order.api.web.order.response.OrderJsonResponse;
 import vroong.laas.order.api.web.order.response.OrderResponse;
+import vroong.laas.order.api.web.order.response.OrderSummaryPageResponse;
+import vroong.laas.order.api.web.order.response.OrderSummaryResponse;
+import vroong.laas.order.core.application.order.OrderCreationResult;
 import vroong.laas.order.core.application.order.OrderFacade;
 import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.OrderSummary;
+import vroong.laas.order.core.domain.order.OrderSummaryPage;
 
 /**
  * 주문 Controller
@@ -51,36 +72,202 @@ public class OrderController {
     return OrderResponse.from(order);
   }
 
+  /**
+   * 주문 일괄 생성 API
+   *
+   * <p>최대 {@value BulkCreateOrdersRequest#MAX_BULK_SIZE}건의 주문을 한 번에 생성
+   *
+   * <p>처리 방식:
+   * - 입력값 검증은 요청 단위 (한 건이라도 실패하면 400, BulkCreateOrdersRequest)
+   * - 좌표 중복 제거 후 주소 일괄 정제, Chunk 단위 트랜잭션으로 저장 (OrderFacade)
+   * - 일부 주문이 실패해도 HTTP 200 + 건별 결과 반환
+   *
+   * @param request 일괄 생성 요청
+   * @return 건별 생성 결과 (HTTP 200 OK)
+   */
+  @PostMapping("/bulk")
+  public BulkCreateOrdersResponse bulkCreateOrders(
+      @RequestBody @Valid BulkCreateOrdersRequest request) {
+
+    // Facade 실행
+    List<OrderCreationResult> results = orderFacade.createOrders(request.toCommands());
+
+    // 건별 결과 → Response DTO 변환 및 반환
+    return BulkCreateOrdersResponse.from(results);
+  }
+
+  /**
+   * 주문 목록 조회 API
+   *
+   * <p>status, 주문 시각 범위로 필터링한 주문 요약을 주문 시각 최신순으로 반환
+   *
+   * <p>페이지 처리: Keyset Pagination
+   * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+   * - OFFSET 을 쓰지 않으므로 뒤 페이지도 첫 페이지와 같은 속도
+   *
+   * @param request 조회 조건 (Query Parameter)
+   * @return 주문 요약 목록 (HTTP 200 OK)
+   */
+  @GetMapping
+  public OrderSummaryPageResponse searchOrders(@Valid SearchOrdersRequest request) {
+
+    // Facade 실행
+    OrderSummaryPage page =
+        orderFacade.searchOrders(request.toCondition(), request.toCursor(), request.size());
+
+    // OrderSummaryPage → Response DTO 변환 및 반환
+    return OrderSummaryPageResponse.from(page);
+  }
+
+  /**
+   * 주문 Export API
+   *
+   * <p>주문 시각 기간(최대 {@value ExportOrdersRequest#MAX_WINDOW_DAYS}일)의 주문 요약을 NDJSON 또는
+   * CSV 로 반환
+   *
+   * <p>처리 방식:
+   * - StreamingResponseBody: Reader DB 에서 한 Row 씩 읽어 바로 응답 Stream 에 기록 (메모리 사용량 일정)
+   * - 요청 스레드는 바로 반환되고, 전송은 MVC 비동기 Executor 에서 진행 (spring.mvc.async.request-timeout)
+   * - 클라이언트가 연결을 끊으면 쓰기 실패로 DB 조회도 중단
+   * - 동시 실행 수 / 실행 시간 제한 (order.export.*): 한도를 넘으면 전송 전에 503 + Retry-After
+   *
+   * @param request Export 조건 (Query Parameter)
+   * @return 주문 요약 Stream (HTTP 200 OK, Content-Disposition: attachment)
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportOrders(@Valid ExportOrdersRequest request) {
+
+    // 잘못된 조건은 전송 시작 전에 400 으로 응답
+    OrderExportFormat format = request.toFormat();
+    OrderSearchCondition condition = request.toCondition();
+
+    // Facade 실행은 전송 시점 (Reader DB 에서 한 Row 씩 읽어 응답 Stream 에 기록)
+    return OrderExportResponse.of(
+        format,
+        request.orderedFrom(),
+        request.orderedTo(),
+        sink -> orderFacade.exportOrders(condition, sink));
+  }
+
   /**
    * ID로 주문 조회 API
    *
+   * <p>ETag: orders.version (Strong). If-None-Match 가 있으면 orders PK 로 버전만 조회하여 변경이 없으면
+   * 304 를 반환합니다 (Aggregate 조회 없음).
+   *
+   * <p>불일치 시 방금 읽은 버전을 그대로 캐시 조회에 넘깁니다. 캐시 항목이 그보다 오래되었으면 다시 조회하고,
+   * ETag 는 응답 Body 의 버전입니다. DB 조회는 버전 조회 1회 + (캐시가 오래된 경우만) Aggregate 조회 1회로,
+   * 조건 없는 조회와 같습니다.
+   *
    * @param orderId 주문 ID
-   * @return 주문 정보 (HTTP 200 OK)
+   * @param ifNoneMatch If-None-Match 헤더 (선택)
+   * @return 주문 정보 (HTTP 200 OK) 또는 HTTP 304 Not Modified
    */
   @GetMapping("/{orderId}")
-  public OrderResponse getOrderById(@PathVariable Long orderId) {
+  public ResponseEntity<OrderJsonResponse> getOrderById(
+      @PathVariable Long orderId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    // 조건부 조회: 버전이 같으면 304 (Body 없음), 다르면 읽은 버전으로 조회 (버전 재조회 없음)
+    if (ifNoneMatch != null) {
+      OrderSummary summary = orderFacade.getOrderSummaryById(orderId);
+      if (OrderETag.matches(ifNoneMatch, summary.version())) {
+        return OrderETag.notModified(summary.version());
+      }
+      return OrderETag.ok(orderFacade.getOrderById(orderId, summary.version()));
+    }
 
     // Facade 실행
     Order order = orderFacade.getOrderById(orderId);
 
-    // Order → Response DTO 변환 및 반환
-    return OrderResponse.from(order);
+    // Order → JSON 직접 직렬화 (OrderResponse 와 같은 JSON, DTO 변환 없음)
+    return OrderETag.ok(order);
+  }
+
+  /**
+   * ID로 주문 요약 조회 API ({@code ?view=summary})
+   *
+   * <p>아이템/출발지/도착지/배송 정책 없이 orders Row 만 조회하여 반환
+   *
+   * @param orderId 주문 ID
+   * @return 주문 요약 정보 (HTTP 200 OK)
+   */
+  @GetMapping(value = "/{orderId}", params = "view=summary")
+  public OrderSummaryResponse getOrderSummaryById(@PathVariable Long orderId) {
+
+    // Facade 실행
+    OrderSummary summary = orderFacade.getOrderSummaryById(orderId);
+
+    // OrderSummary → Response DTO 변환 및 반환
+    return OrderSummaryResponse.from(summary);
   }
 
   /**
    * 주문번호로 주문 조회 API
    *
+   * <p>ETag: orders.version (Strong). If-None-Match 가 있으면 주문번호 → ID 매핑 후 orders PK 로 버전만
+   * 조회하여 변경이 없으면 304 를 반환합니다 (Aggregate 조회 없음). 불일치 시 읽은 ID 와 버전으로 ID 조회
+   * 경로를 사용합니다.
+   *
    * @param orderNumber 주문번호 (String)
-   * @return 주문 정보 (HTTP 200 OK)
+   * @param ifNoneMatch If-None-Match 헤더 (선택)
+   * @return 주문 정보 (HTTP 200 OK) 또는 HTTP 304 Not Modified
    */
   @GetMapping("/number/{orderNumber}")
-  public OrderResponse getOrderByNumber(@PathVariable String orderNumber) {
+  public ResponseEntity<OrderJsonResponse> getOrderByNumber(
+      @PathVariable String orderNumber,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    // 조건부 조회: 버전이 같으면 304 (Body 없음), 다르면 읽은 ID/버전으로 조회 (버전 재조회 없음)
+    if (ifNoneMatch != null) {
+      OrderSummary summary = orderFacade.getOrderSummaryByNumber(orderNumber);
+      if (OrderETag.matches(ifNoneMatch, summary.version())) {
+        return OrderETag.notModified(summary.version());
+      }
+      return OrderETag.ok(orderFacade.getOrderById(summary.id(), summary.version()));
+    }
 
     // Facade 실행
     Order order = orderFacade.getOrderByNumber(orderNumber);
 
+    // Order → JSON 직접 직렬화 (OrderResponse 와 같은 JSON, DTO 변환 없음)
+    return OrderETag.ok(order);
+  }
+
+  /**
+   * 주문번호로 주문 요약 조회 API ({@code ?view=summary})
+   *
+   * @param orderNumber 주문번호 (String)
+   * @return 주문 요약 정보 (HTTP 200 OK)
+   */
+  @GetMapping(value = "/number/{orderNumber}", params = "view=summary")
+  public OrderSummaryResponse getOrderSummaryByNumber(@PathVariable String orderNumber) {
+
+    // Facade 실행
+    OrderSummary summary = orderFacade.getOrderSummaryByNumber(orderNumber);
+
+    // OrderSummary → Response DTO 변환 및 반환
+    return OrderSummaryResponse.from(summary);
+  }
+
+  /**
+   * 주문 일괄 조회 API
+   *
+   * <p>ID/주문번호 목록으로 최대 {@value BatchGetOrdersRequest#MAX_BATCH_SIZE}건을 한 번에 조회
+   *
+   * <p>존재하지 않는 주문은 에러 대신 notFoundOrderIds/notFoundOrderNumbers 로 반환
+   *
+   * @param request 일괄 조회 요청
+   * @return 조회된 주문 목록 (HTTP 200 OK)
+   */
+  @PostMapping("/batch-get")
+  public BatchGetOrdersResponse batchGetOrders(@RequestBody @Valid BatchGetOrdersRequest request) {
+
+    // Facade 실행
+    List<Order> orders = orderFacade.getOrders(request.orderIds(), request.orderNumbers());
+
     // Order → Response DTO 변환 및 반환
-    return OrderResponse.from(order);
+    return BatchGetOrdersResponse.of(request, orders);
   }
 
   /**
@@ -0,0 +1,45 @@
+package vroong.laas.order.api.web.order.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+
+/**
+ * 주문 일괄 조회 Request
+ *
+ * <p>설계 원칙:
+ * - orderIds, orderNumbers 중 하나 이상 지정 (둘 다 지정 가능)
+ * - 한 번에 최대 {@value #MAX_BATCH_SIZE}건까지 조회
+ * - 중복 값은 제거 후 조회
+ * - 주문번호 형식(ORD-)이 틀리면 400 (일부만 틀려도 전체 요청 거부, 없는 주문만 결과에서 제외)
+ */
+public record BatchGetOrdersRequest(
+    List<@NotNull(message = "주문 ID는 null일 수 없습니다") Long> orderIds,
+    List<
+            @NotBlank(message = "주문번호는 빈 값일 수 없습니다")
+            @Pattern(regexp = ORDER_NUMBER_PATTERN, message = "주문번호는 'ORD-'로 시작해야 합니다")
+            String>
+        orderNumbers) {
+
+  public static final int MAX_BATCH_SIZE = 100;
+
+  /** OrderNumber 포맷 (형식이 틀린 주문번호는 조회 전에 400) */
+  static final String ORDER_NUMBER_PATTERN = "ORD-.*";
+
+  public BatchGetOrdersRequest {
+    orderIds = orderIds != null ? orderIds.stream().distinct().toList() : List.of();
+    orderNumbers = orderNumbers != null ? orderNumbers.stream().distinct().toList() : List.of();
+  }
+
+  @AssertTrue(message = "orderIds 또는 orderNumbers 중 하나 이상은 필수입니다")
+  private boolean isNotEmpty() {
+    return !orderIds.isEmpty() || !orderNumbers.isEmpty();
+  }
+
+  @AssertTrue(message = "한 번에 최대 " + MAX_BATCH_SIZE + "건까지 조회할 수 있습니다")
+  private boolean isWithinMaxBatchSize() {
+    return orderIds.size() + orderNumbers.size() <= MAX_BATCH_SIZE;
+  }
+}
@@ -0,0 +1,29 @@
+package vroong.laas.order.api.web.order.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import vroong.laas.order.core.domain.order.command.CreateOrderCommand;
+
+/**
+ * 주문 일괄 생성 Request
+ *
+ * <p>설계 원칙:
+ * - 한 번에 최대 {@value #MAX_BULK_SIZE}건까지 생성
+ * - 개별 주문(CreateOrderRequest)도 요청 단위로 검증 (한 건이라도 검증 실패 시 400, 필드 경로는 orders[i].xxx)
+ * - 생성 단계(주소 정제, 저장)의 실패만 건별 결과로 반환
+ */
+public record BulkCreateOrdersRequest(
+    @NotEmpty(message = "생성할 주문은 최소 1건 이상이어야 합니다")
+    @Size(max = MAX_BULK_SIZE, message = "한 번에 최대 500건까지 생성할 수 있습니다")
+    List<@NotNull(message = "주문은 null일 수 없습니다") @Valid CreateOrderRequest> orders) {
+
+  public static final int MAX_BULK_SIZE = 500;
+
+  /** Request → Command 변환 (요청 순서 유지) */
+  public List<CreateOrderCommand> toCommands() {
+    return orders.stream().map(CreateOrderRequest::toCommand).toList();
+  }
+}
@@ -0,0 +1,56 @@
+package vroong.laas.order.api.web.order.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.Instant;
+import vroong.laas.order.api.web.order.response.OrderExportFormat;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.OrderStatus;
+
+/**
+ * 주문 Export Request (Query Parameter)
+ *
+ * <p>설계 원칙:
+ * - 주문 시각 기간 필수 (orderedFrom ~ orderedTo, 최대 {@value #MAX_WINDOW_DAYS}일)
+ * - 정렬은 주문 시각 오래된 순 고정 (orderedAt ASC, id ASC)
+ * - 형식은 ndjson (기본) 또는 csv
+ *
+ * @param format 응답 형식 (ndjson, csv)
+ * @param status 주문 상태 (CREATED, ASSIGNED, DELIVERED, CANCELLED)
+ * @param orderedFrom 주문 시각 시작 (포함, ISO 8601)
+ * @param orderedTo 주문 시각 끝 (미포함, ISO 8601)
+ */
+public record ExportOrdersRequest(
+    String format,
+    String status,
+    @NotNull(message = "orderedFrom은 필수입니다") Instant orderedFrom,
+    @NotNull(message = "orderedTo는 필수입니다") Instant orderedTo) {
+
+  public static final int MAX_WINDOW_DAYS = 31;
+
+  /**
+   * 응답 형식 변환
+   *
+   * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+   */
+  public OrderExportFormat toFormat() {
+    return format != null && !format.isBlank()
+        ? OrderExportFormat.from(format)
+        : OrderExportFormat.NDJSON;
+  }
+
+  /**
+   * 조회 조건 변환
+   *
+   * @throws IllegalArgumentException status 가 잘못되었거나 기간이 잘못된 경우
+   */
+  public OrderSearchCondition toCondition() {
+    if (Duration.between(orderedFrom, orderedTo).compareTo(Duration.ofDays(MAX_WINDOW_DAYS)) > 0) {
+      throw new IllegalArgumentException(
+          "Export 기간은 최대 " + MAX_WINDOW_DAYS + "일입니다: " + orderedFrom + " ~ " + orderedTo);
+    }
+    OrderStatus orderStatus =
+        status != null && !status.isBlank() ? OrderStatus.valueOf(status) : null;
+    return new OrderSearchCondition(orderStatus, orderedFrom, orderedTo);
+  }
+}
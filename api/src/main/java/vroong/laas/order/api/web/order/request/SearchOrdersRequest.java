@@ -0,0 +1,61 @@
+package vroong.laas.order.api.web.order.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Instant;
+import vroong.laas.order.core.domain.order.OrderCursor;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.OrderStatus;
+
+/**
+ * 주문 목록 조회 Request (Query Parameter)
+ *
+ * <p>설계 원칙:
+ * - 모든 조건은 선택 (status, orderedFrom ~ orderedTo)
+ * - 정렬은 주문 시각 최신순 고정 (orderedAt DESC, id DESC)
+ * - 다음 페이지는 이전 응답의 nextCursor 로 조회 (OFFSET/page 번호 없음)
+ * - 한 번에 최대 {@value #MAX_SIZE}건 (기본 {@value #DEFAULT_SIZE}건)
+ *
+ * @param status 주문 상태 (CREATED, ASSIGNED, DELIVERED, CANCELLED)
+ * @param orderedFrom 주문 시각 시작 (포함, ISO 8601)
+ * @param orderedTo 주문 시각 끝 (미포함, ISO 8601)
+ * @param cursor 이전 응답의 nextCursor
+ * @param size 페이지 크기
+ */
+public record SearchOrdersRequest(
+    String status,
+    Instant orderedFrom,
+    Instant orderedTo,
+    String cursor,
+    @Min(value = 1, message = "size는 1 이상이어야 합니다")
+        @Max(value = SearchOrdersRequest.MAX_SIZE, message = "size는 최대 {value}입니다")
+        Integer size) {
+
+  public static final int DEFAULT_SIZE = 20;
+  public static final int MAX_SIZE = 100;
+
+  public SearchOrdersRequest {
+    size = size != null ? size : DEFAULT_SIZE;
+  }
+
+  /**
+   * 조회 조건 변환
+   *
+   * @throws IllegalArgumentException status 가 잘못되었거나 orderedFrom 이 orderedTo 이후인 경우
+   */
+  public OrderSearchCondition toCondition() {
+    OrderStatus orderStatus =
+        status != null && !status.isBlank() ? OrderStatus.valueOf(status) : null;
+    return new OrderSearchCondition(orderStatus, orderedFrom, orderedTo);
+  }
+
+  /**
+   * Cursor 변환
+   *
+   * @return Cursor (첫 페이지면 null)
+   * @throws IllegalArgumentException cursor 형식이 잘못된 경우
+   */
+  public OrderCursor toCursor() {
+    return cursor != null && !cursor.isBlank() ? OrderCursor.decode(cursor) : null;
+  }
+}
@@ -0,0 +1,38 @@
+package vroong.laas.order.api.web.order.response;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import vroong.laas.order.api.web.order.request.BatchGetOrdersRequest;
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * 주문 일괄 조회 Response
+ *
+ * <p>조회된 주문과 함께, 존재하지 않아 조회되지 않은 ID/주문번호를 반환
+ */
+public record BatchGetOrdersResponse(
+    List<OrderResponse> orders, List<Long> notFoundOrderIds, List<String> notFoundOrderNumbers) {
+
+  /**
+   * 조회 결과 → BatchGetOrdersResponse 변환
+   *
+   * @param request 일괄 조회 요청
+   * @param orders 조회된 Order 목록
+   */
+  public static BatchGetOrdersResponse of(BatchGetOrdersRequest request, List<Order> orders) {
+    Set<Long> foundIds = new HashSet<>();
+    Set<String> foundOrderNumbers = new HashSet<>();
+    for (Order order : orders) {
+      foundIds.add(order.getId());
+      foundOrderNumbers.add(order.getOrderNumber().value());
+    }
+
+    return new BatchGetOrdersResponse(
+        orders.stream().map(OrderResponse::from).toList(),
+        request.orderIds().stream().filter(id -> !foundIds.contains(id)).toList(),
+        request.orderNumbers().stream()
+            .filter(orderNumber -> !foundOrderNumbers.contains(orderNumber))
+            .toList());
+  }
+}
@@ -0,0 +1,54 @@
+package vroong.laas.order.api.web.order.response;
+
+import java.util.ArrayList;
+import java.util.List;
+import vroong.laas.order.core.application.order.OrderCreationResult;
+import vroong.laas.order.core.common.exception.ErrorCode;
+
+/**
+ * 주문 일괄 생성 Response
+ *
+ * <p>요청 순서대로 건별 결과를 반환하며, 일부 주문이 실패해도 HTTP 200 으로 응답합니다.
+ */
+public record BulkCreateOrdersResponse(
+    int totalCount, int successCount, int failureCount, List<Result> results) {
+
+  /**
+   * 건별 생성 결과 목록 → BulkCreateOrdersResponse 변환
+   *
+   * @param created 요청 순서대로 정렬된 건별 생성 결과 (index = 목록 위치)
+   */
+  public static BulkCreateOrdersResponse from(List<OrderCreationResult> created) {
+    List<Result> results = new ArrayList<>(created.size());
+    for (int i = 0; i < created.size(); i++) {
+      results.add(Result.from(i, created.get(i)));
+    }
+    int successCount = (int) results.stream().filter(Result::success).count();
+    return new BulkCreateOrdersResponse(
+        results.size(), successCount, results.size() - successCount, results);
+  }
+
+  /**
+   * 건별 결과
+   *
+   * @param index 요청 목록에서의 위치 (0부터)
+   * @param success 생성 성공 여부
+   * @param order 생성된 주문 (성공 시)
+   * @param errorCode 실패 사유 코드 (실패 시)
+   * @param message 실패 메시지 (실패 시)
+   */
+  public record Result(
+      int index, boolean success, OrderResponse order, String errorCode, String message) {
+
+    public static Result from(int index, OrderCreationResult result) {
+      if (result.isSuccess()) {
+        return new Result(index, true, OrderResponse.from(result.order()), null, null);
+      }
+      return failure(index, result.errorCode(), result.message());
+    }
+
+    public static Result failure(int index, ErrorCode errorCode, String message) {
+      return new Result(index, false, null, errorCode.getCode(), message);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package vroong.laas.order.api.web.order.response;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * 주문 ETag
+ *
+ * <p>orders.version 을 Strong ETag ("{version}") 로 사용합니다.
+ *
+ * <p>특징:
+ * - If-None-Match 비교는 Weak 비교 (RFC 9110, W/ 접두사 무시)
+ * - 버전이 없는 주문은 ETag 생략 (항상 200)
+ */
+public final class OrderETag {
+
+  private OrderETag() {}
+
+  /**
+   * 200 OK + ETag
+   *
+   * @param order 주문 (버전이 없으면 ETag 생략)
+   * @return 주문 JSON 응답
+   */
+  public static ResponseEntity<OrderJsonResponse> ok(Order order) {
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+    if (order.getVersion() != null) {
+      builder.eTag(of(order.getVersion()));
+    }
+    return builder.body(OrderJsonResponse.from(order));
+  }
+
+  /**
+   * 304 Not Modified + ETag (Body 없음)
+   *
+   * @param version 현재 버전
+   */
+  public static ResponseEntity<OrderJsonResponse> notModified(Long version) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(of(version)).build();
+  }
+
+  /**
+   * If-None-Match 가 현재 버전(또는 *)과 일치하는지
+   *
+   * @param ifNoneMatch If-None-Match 헤더 값
+   * @param version 현재 버전 (null 이면 항상 false)
+   */
+  public static boolean matches(String ifNoneMatch, Long version) {
+    if (version == null) {
+      return false;
+    }
+    ETag current = ETag.create(of(version));
+    for (ETag candidate : ETag.parse(ifNoneMatch)) {
+      if (candidate.isWildcard() || candidate.compare(current, false)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static String of(Long version) {
+    return "\"" + version + "\"";
+  }
+}
@@ -0,0 +1,133 @@
+package vroong.laas.order.api.web.order.response;
+
+import java.time.Instant;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+import vroong.laas.order.core.domain.order.OrderSummary;
+
+/**
+ * 주문 Export 응답 형식
+ *
+ * <p>주문 1건을 한 줄로 변환합니다. (OrderSummaryResponse 와 같은 필드)
+ *
+ * <p>특징:
+ * - ObjectMapper 없이 직접 문자열 생성 (Row 마다 DTO/Tree 를 만들지 않음)
+ * - null 필드: NDJSON 은 생략, CSV 는 빈 값
+ * - CSV 는 RFC 4180 규칙으로 Quote (쉼표, 따옴표, 줄바꿈이 있는 값만)
+ */
+public enum OrderExportFormat {
+  NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")) {
+    @Override
+    public String header() {
+      return null;
+    }
+
+    @Override
+    public String line(OrderSummary summary) {
+      StringBuilder json = new StringBuilder(192);
+      json.append("{\"id\":").append(summary.id());
+      appendJsonField(json, "orderNumber", summary.orderNumber().value());
+      appendJsonField(json, "status", summary.status().name());
+      appendJsonField(json, "orderedAt", toString(summary.orderedAt()));
+      appendJsonField(json, "deliveredAt", toString(summary.deliveredAt()));
+      appendJsonField(json, "cancelledAt", toString(summary.cancelledAt()));
+      return json.append("}\n").toString();
+    }
+  },
+
+  CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8")) {
+    @Override
+    public String header() {
+      return "id,orderNumber,status,orderedAt,deliveredAt,cancelledAt\r\n";
+    }
+
+    @Override
+    public String line(OrderSummary summary) {
+      StringBuilder csv = new StringBuilder(128);
+      csv.append(summary.id());
+      appendCsvField(csv, summary.orderNumber().value());
+      appendCsvField(csv, summary.status().name());
+      appendCsvField(csv, toString(summary.orderedAt()));
+      appendCsvField(csv, toString(summary.deliveredAt()));
+      appendCsvField(csv, toString(summary.cancelledAt()));
+      return csv.append("\r\n").toString();
+    }
+  };
+
+  private final String extension;
+  private final MediaType mediaType;
+
+  OrderExportFormat(String extension, MediaType mediaType) {
+    this.extension = extension;
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * 형식 이름으로 조회 (대소문자 무시)
+   *
+   * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+   */
+  public static OrderExportFormat from(String name) {
+    return valueOf(name.toUpperCase(Locale.ROOT));
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public MediaType mediaType() {
+    return mediaType;
+  }
+
+  /** 첫 줄 (없으면 null) */
+  public abstract String header();
+
+  /** 주문 1건 (줄바꿈 포함) */
+  public abstract String line(OrderSummary summary);
+
+  private static void appendJsonField(StringBuilder json, String name, String value) {
+    if (value == null) {
+      return;
+    }
+    json.append(",\"").append(name).append("\":\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+
+  private static void appendCsvField(StringBuilder csv, String value) {
+    csv.append(',');
+    if (value == null) {
+      return;
+    }
+    boolean quote =
+        value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+    if (!quote) {
+      csv.append(value);
+      return;
+    }
+    csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+  }
+
+  private static String toString(Instant instant) {
+    return instant != null ? instant.toString() : null;
+  }
+}
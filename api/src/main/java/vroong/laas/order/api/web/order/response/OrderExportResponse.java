@@ -0,0 +1,89 @@
+package vroong.laas.order.api.web.order.response;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import vroong.laas.order.core.domain.order.OrderSummary;
+
+/**
+ * 주문 Export Response (Streaming)
+ *
+ * <p>주문 요약을 OrderExportFormat 한 줄씩 응답 Stream 에 바로 씁니다.
+ *
+ * <p>특징:
+ * - 64KB 버퍼 Writer (Row 마다 Socket 쓰기를 하지 않음)
+ * - 파일명: orders-{from}-{to}.{확장자} (UTC yyyyMMddHHmmss)
+ * - 쓰기 실패(클라이언트 연결 끊김)는 UncheckedIOException 으로 던져 DB 조회도 중단
+ */
+public final class OrderExportResponse {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final DateTimeFormatter FILENAME_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+
+  private OrderExportResponse() {}
+
+  /** 주문 요약을 Sink 로 흘려보내는 Export 작업 */
+  @FunctionalInterface
+  public interface Exporter {
+    void export(Consumer<OrderSummary> sink);
+  }
+
+  /**
+   * 200 OK + Content-Disposition: attachment + Streaming Body
+   *
+   * @param format 응답 형식
+   * @param orderedFrom 주문 시각 시작 (파일명)
+   * @param orderedTo 주문 시각 끝 (파일명)
+   * @param exporter 전송 시점에 실행할 Export 작업
+   * @return Export 응답
+   */
+  public static ResponseEntity<StreamingResponseBody> of(
+      OrderExportFormat format, Instant orderedFrom, Instant orderedTo, Exporter exporter) {
+
+    StreamingResponseBody body =
+        outputStream -> {
+          Writer writer =
+              new BufferedWriter(
+                  new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+          if (format.header() != null) {
+            writer.write(format.header());
+          }
+          exporter.export(summary -> writeLine(writer, format, summary));
+          writer.flush();
+        };
+
+    String filename =
+        "orders-"
+            + FILENAME_TIME.format(orderedFrom)
+            + "-"
+            + FILENAME_TIME.format(orderedTo)
+            + "."
+            + format.extension();
+    return ResponseEntity.ok()
+        .contentType(format.mediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
+  private static void writeLine(Writer writer, OrderExportFormat format, OrderSummary summary) {
+    try {
+      writer.write(format.line(summary));
+    } catch (IOException e) {
+      throw new UncheckedIOException("주문 Export 전송 실패 - orderId: " + summary.id(), e);
+    }
+  }
+}
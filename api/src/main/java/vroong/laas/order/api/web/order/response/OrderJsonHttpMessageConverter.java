@@ -0,0 +1,55 @@
+package vroong.laas.order.api.web.order.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderJsonResponse 직렬화 Converter
+ *
+ * <p>특징:
+ * - OrderJsonWriter 가 OrderResponse JSON 을 Response Body 로 바로 씀 (중간 Bytes 없음)
+ * - Content-Type 은 Jackson 과 같은 application/json
+ * - 쓰기 전용 (Request Body 로는 사용 불가)
+ *
+ * <p>HttpMessageConverter Bean 은 Spring Boot 가 기본 Converter(Jackson) 앞에 등록합니다.
+ */
+@Component
+public class OrderJsonHttpMessageConverter
+    extends AbstractHttpMessageConverter<OrderJsonResponse> {
+
+  private final OrderJsonWriter orderJsonWriter;
+
+  public OrderJsonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(MediaType.APPLICATION_JSON);
+    this.orderJsonWriter = new OrderJsonWriter(objectMapper);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return OrderJsonResponse.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected OrderJsonResponse readInternal(
+      Class<? extends OrderJsonResponse> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "OrderJsonResponse는 Request Body로 사용할 수 없습니다", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(OrderJsonResponse response, HttpOutputMessage outputMessage)
+      throws IOException {
+    orderJsonWriter.write(response.order(), outputMessage.getBody());
+  }
+}
@@ -0,0 +1,20 @@
+package vroong.laas.order.api.web.order.response;
+
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * 주문 Response (직접 직렬화)
+ *
+ * <p>OrderJsonWriter 가 OrderResponse JSON 을 Response Body 로 바로 씁니다.
+ *
+ * <p>직렬화: OrderJsonHttpMessageConverter
+ */
+public record OrderJsonResponse(Order order) {
+
+  /**
+   * Order → OrderJsonResponse 변환
+   */
+  public static OrderJsonResponse from(Order order) {
+    return new OrderJsonResponse(order);
+  }
+}
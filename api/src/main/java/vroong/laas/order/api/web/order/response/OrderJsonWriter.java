@@ -0,0 +1,44 @@
+package vroong.laas.order.api.web.order.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * 주문 JSON Writer
+ *
+ * <p>Order 를 OrderResponse 로 변환해 Response Body(OutputStream)에 바로 씁니다.
+ *
+ * <p>특징:
+ * - JSON 은 OrderResponse DTO 하나에서만 생성 (다른 주문 응답과 필드/형식이 달라지지 않음)
+ * - 애플리케이션 ObjectMapper 설정(spring.jackson, non_null)을 그대로 사용
+ * - OrderResponse 용 ObjectWriter 를 생성 시 한 번만 만들어 Root Serializer 조회를 재사용
+ * - 중간 String / byte[] 없이 JsonGenerator 가 OutputStream 으로 바로 씀
+ * - OutputStream 은 닫지 않음 (Servlet Container 가 관리)
+ *
+ * @see OrderResponse
+ */
+public final class OrderJsonWriter {
+
+  private final ObjectWriter writer;
+
+  public OrderJsonWriter(ObjectMapper objectMapper) {
+    this.writer =
+        objectMapper
+            .writerFor(OrderResponse.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  /**
+   * Order → JSON (UTF-8) 을 OutputStream 에 씀
+   *
+   * @param order 주문
+   * @param out Response Body
+   */
+  public void write(Order order, OutputStream out) throws IOException {
+    writer.writeValue(out, OrderResponse.from(order));
+  }
+}
@@ -0,0 +1,25 @@
+package vroong.laas.order.api.web.order.response;
+
+import java.util.List;
+import vroong.laas.order.core.domain.order.OrderSummaryPage;
+
+/**
+ * 주문 목록 Response
+ *
+ * @param orders 주문 요약 목록 (주문 시각 최신순)
+ * @param nextCursor 다음 페이지 조회 시 cursor 로 전달할 값 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record OrderSummaryPageResponse(
+    List<OrderSummaryResponse> orders, String nextCursor, boolean hasNext) {
+
+  /**
+   * OrderSummaryPage → OrderSummaryPageResponse 변환
+   */
+  public static OrderSummaryPageResponse from(OrderSummaryPage page) {
+    return new OrderSummaryPageResponse(
+        page.orders().stream().map(OrderSummaryResponse::from).toList(),
+        page.hasNext() ? page.nextCursor().encode() : null,
+        page.hasNext());
+  }
+}
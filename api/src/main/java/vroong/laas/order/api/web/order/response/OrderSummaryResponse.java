@@ -0,0 +1,31 @@
+package vroong.laas.order.api.web.order.response;
+
+import java.time.Instant;
+import vroong.laas.order.core.domain.order.OrderSummary;
+
+/**
+ * 주문 요약 Response ({@code view=summary})
+ *
+ * <p>OrderResponse 에서 아이템/출발지/도착지/배송 정책을 뺀 응답
+ */
+public record OrderSummaryResponse(
+    Long id,
+    String orderNumber,
+    String status,
+    Instant orderedAt,
+    Instant deliveredAt,
+    Instant cancelledAt) {
+
+  /**
+   * OrderSummary → OrderSummaryResponse 변환
+   */
+  public static OrderSummaryResponse from(OrderSummary summary) {
+    return new OrderSummaryResponse(
+        summary.id(),
+        summary.orderNumber().value(),
+        summary.status().name(),
+        summary.orderedAt(),
+        summary.deliveredAt(),
+        summary.cancelledAt());
+  }
+}
@@ -0,0 +1,73 @@
+package vroong.laas.order.api.web.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RequestLogWriter 테스트")
+class RequestLogWriterTest {
+
+  @Test
+  @DisplayName("Queue가 가득 차면 대기하지 않고 버린 뒤 request.log.dropped 증가")
+  void drops_when_queue_is_full() throws Exception {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RequestLogWriter sut = writer(LoggingProperties.DropPolicy.DROP_NEWEST, meterRegistry);
+    sut.close(); // Writer 스레드 종료 → Queue 를 비우지 않음
+
+    // when
+    sut.submit(record());
+    sut.submit(record());
+    sut.submit(record());
+
+    // then
+    assertThat(sut.getDroppedCount()).isEqualTo(2);
+    assertThat(meterRegistry.get("request.log.dropped").functionCounter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("request.log.queue.size").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("DROP_OLDEST는 오래된 로그를 버리고 새 로그를 넣음")
+  void drop_oldest_replaces_oldest_record() throws Exception {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RequestLogWriter sut = writer(LoggingProperties.DropPolicy.DROP_OLDEST, meterRegistry);
+    sut.close();
+
+    // when
+    sut.submit(record());
+    sut.submit(record());
+
+    // then
+    assertThat(sut.getDroppedCount()).isEqualTo(1);
+    assertThat(meterRegistry.get("request.log.queue.size").gauge().value()).isEqualTo(1);
+  }
+
+  private static RequestLogWriter writer(
+      LoggingProperties.DropPolicy dropPolicy, SimpleMeterRegistry meterRegistry) {
+    LoggingProperties.Async properties = new LoggingProperties.Async();
+    properties.setQueueCapacity(1);
+    properties.setDropPolicy(dropPolicy);
+    return new RequestLogWriter(properties, 1024, meterRegistry);
+  }
+
+  private static RequestLogRecord record() {
+    return new RequestLogRecord(
+        "GET",
+        "/api/v1/orders/1",
+        "/api/v1/orders/{orderId}",
+        Map.of(),
+        Map.of(),
+        new PayloadCapture(1024),
+        Instant.now(),
+        200,
+        1,
+        new PayloadCapture(1024),
+        Instant.now(),
+        null);
+  }
+}
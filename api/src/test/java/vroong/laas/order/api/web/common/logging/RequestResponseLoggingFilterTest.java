@@ -0,0 +1,152 @@
+package vroong.laas.order.api.web.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("RequestResponseLoggingFilter 테스트")
+class RequestResponseLoggingFilterTest {
+
+  @Test
+  @DisplayName("캡처 한도를 넘는 Body도 Handler와 클라이언트에는 그대로 전달")
+  void passes_bodies_through_unchanged() throws Exception {
+    // given
+    RequestResponseLoggingFilter sut = filter(1.0);
+    String requestBody = "{\"name\":\"" + "a".repeat(20 * 1024) + "\"}";
+    String responseBody = "{\"result\":\"" + "b".repeat(20 * 1024) + "\"}";
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+    request.setContent(requestBody.getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    String[] received = new String[1];
+    FilterChain chain =
+        (req, res) -> {
+          received[0] = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+          res.getOutputStream().write(responseBody.getBytes(StandardCharsets.UTF_8));
+        };
+
+    // when
+    sut.doFilter(request, response, chain);
+
+    // then
+    assertThat(received[0]).isEqualTo(requestBody);
+    assertThat(response.getContentAsString()).isEqualTo(responseBody);
+  }
+
+  @Test
+  @DisplayName("샘플링에서 빠진 요청도 응답은 그대로 전달")
+  void unsampled_request_passes_through() throws Exception {
+    // given
+    RequestResponseLoggingFilter sut = filter(0.0);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain chain =
+        (req, res) -> res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    sut.doFilter(request, response, chain);
+
+    // then
+    assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+  }
+
+  @Test
+  @DisplayName("샘플링에서 빠진 정상 응답은 로그 Record를 만들지 않고, 에러 응답은 항상 기록")
+  void unsampled_success_is_not_submitted() throws Exception {
+    // given
+    RequestLogWriter writer = mock(RequestLogWriter.class);
+    RequestResponseLoggingFilter sut = new RequestResponseLoggingFilter(properties(0.0), writer);
+    FilterChain ok = (req, res) -> ((HttpServletResponse) res).setStatus(200);
+    FilterChain error = (req, res) -> ((HttpServletResponse) res).setStatus(500);
+
+    // when
+    sut.doFilter(
+        new MockHttpServletRequest("GET", "/api/v1/orders/1"), new MockHttpServletResponse(), ok);
+
+    // then
+    then(writer).should(never()).submit(any());
+
+    // when
+    sut.doFilter(
+        new MockHttpServletRequest("GET", "/api/v1/orders/1"),
+        new MockHttpServletResponse(),
+        error);
+
+    // then
+    then(writer).should().submit(any());
+  }
+
+  @Test
+  @DisplayName("한도를 넘는 Body는 복사하지 않고 전체 길이만 기록")
+  void oversized_bodies_are_not_copied_into_record() throws Exception {
+    // given
+    RequestLogWriter writer = mock(RequestLogWriter.class);
+    RequestResponseLoggingFilter sut = new RequestResponseLoggingFilter(properties(1.0), writer);
+    byte[] requestBody = "a".repeat(20 * 1024).getBytes(StandardCharsets.UTF_8);
+    byte[] responseBody = "b".repeat(512).getBytes(StandardCharsets.UTF_8);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+    request.setContent(requestBody);
+    FilterChain chain =
+        (req, res) -> {
+          req.getInputStream().readAllBytes();
+          res.getOutputStream().write(responseBody);
+        };
+
+    // when
+    sut.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // then
+    ArgumentCaptor<RequestLogRecord> record = ArgumentCaptor.forClass(RequestLogRecord.class);
+    then(writer).should().submit(record.capture());
+    assertThat(record.getValue().requestBody().isOverflowed()).isTrue();
+    assertThat(record.getValue().requestBody().getContentAsString()).isNull();
+    assertThat(record.getValue().requestBody().getTotalLength()).isEqualTo(requestBody.length);
+    assertThat(record.getValue().responseBody().getContentAsString())
+        .isEqualTo(new String(responseBody, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("PayloadCapture는 한도까지만 복사하고 초과 시 전체 길이만 집계")
+  void payload_capture_is_bounded() {
+    // given
+    PayloadCapture capture = new PayloadCapture(8);
+
+    // when
+    capture.write("1234".getBytes(StandardCharsets.UTF_8), 0, 4);
+    String withinLimit = capture.getContentAsString();
+    capture.write("56789".getBytes(StandardCharsets.UTF_8), 0, 5);
+
+    // then
+    assertThat(withinLimit).isEqualTo("1234");
+    assertThat(capture.isOverflowed()).isTrue();
+    assertThat(capture.getContentAsString()).isNull();
+    assertThat(capture.getTotalLength()).isEqualTo(9);
+  }
+
+  private static RequestResponseLoggingFilter filter(double sampleRate) {
+    LoggingProperties properties = properties(sampleRate);
+    RequestLogWriter writer =
+        new RequestLogWriter(
+            properties.getAsync(), RequestResponseLoggingFilter.MAX_PAYLOAD_LENGTH, null);
+    return new RequestResponseLoggingFilter(properties, writer);
+  }
+
+  private static LoggingProperties properties(double sampleRate) {
+    LoggingProperties properties = new LoggingProperties();
+    properties.setExcludePatterns(List.of("/actuator/**"));
+    properties.setSampleRate(sampleRate);
+    properties.getAsync().setEnabled(false);
+    return properties;
+  }
+}
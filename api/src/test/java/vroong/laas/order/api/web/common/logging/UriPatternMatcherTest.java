@@ -0,0 +1,38 @@
+package vroong.laas.order.api.web.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UriPatternMatcher 테스트")
+class UriPatternMatcherTest {
+
+  private final UriPatternMatcher sut =
+      new UriPatternMatcher(
+          List.of("/actuator/**", "/health", "/favicon.ico", "/api/v1/orders/*/export"));
+
+  @Test
+  @DisplayName("와일드카드 없는 패턴은 정확히 같은 경로만 매칭")
+  void exact_pattern() {
+    assertThat(sut.matches("/health")).isTrue();
+    assertThat(sut.matches("/health/detail")).isFalse();
+    assertThat(sut.matches("/healthz")).isFalse();
+  }
+
+  @Test
+  @DisplayName("/** 패턴은 Prefix 자신과 하위 경로를 매칭 (AntPathMatcher와 동일)")
+  void prefix_pattern() {
+    assertThat(sut.matches("/actuator")).isTrue();
+    assertThat(sut.matches("/actuator/health/liveness")).isTrue();
+    assertThat(sut.matches("/actuatorx")).isFalse();
+  }
+
+  @Test
+  @DisplayName("그 외 패턴은 PathPattern으로 매칭")
+  void path_pattern() {
+    assertThat(sut.matches("/api/v1/orders/1/export")).isTrue();
+    assertThat(sut.matches("/api/v1/orders/1")).isFalse();
+  }
+}
@@ -1,17 +1,30 @@
 package vroong.laas.order.api.web.order;
 
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.restdocs.snippet.Attributes.key;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.springframework.restdocs.payload.FieldDescriptor;
@@ -20,16 +33,21 @@ import org.springframework.restdocs.payload.JsonFieldType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import vroong.laas.order.api.config.RestDocsConfiguration;
 import vroong.laas.order.api.web.common.exception.WebApiControllerAdvice;
 import vroong.laas.order.api.web.shared.dto.AddressDto;
@@ -40,14 +58,22 @@ import vroong.laas.order.api.web.order.dto.DeliveryPolicyDto;
 import vroong.laas.order.api.web.order.dto.DestinationDto;
 import vroong.laas.order.api.web.order.dto.OrderItemDto;
 import vroong.laas.order.api.web.order.dto.OriginDto;
+import vroong.laas.order.api.web.order.request.BatchGetOrdersRequest;
+import vroong.laas.order.api.web.order.request.BulkCreateOrdersRequest;
 import vroong.laas.order.api.web.order.request.CreateOrderRequest;
+import vroong.laas.order.api.web.order.response.OrderJsonHttpMessageConverter;
+import vroong.laas.order.core.application.order.OrderCreationResult;
 import vroong.laas.order.core.application.order.OrderFacade;
+import vroong.laas.order.core.common.exception.ErrorCode;
 import vroong.laas.order.core.domain.order.DeliveryPolicy;
 import vroong.laas.order.core.domain.order.Destination;
 import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderCursor;
 import vroong.laas.order.core.domain.order.OrderItem;
 import vroong.laas.order.core.domain.order.OrderNumber;
 import vroong.laas.order.core.domain.order.OrderStatus;
+import vroong.laas.order.core.domain.order.OrderSummary;
+import vroong.laas.order.core.domain.order.OrderSummaryPage;
 import vroong.laas.order.api.docs.EnumDocs;
 import vroong.laas.order.core.domain.order.Origin;
 import vroong.laas.order.core.domain.order.exception.OrderNotFoundException;
@@ -75,7 +101,11 @@ import vroong.laas.order.core.domain.shared.Money;
     )
 )
 @AutoConfigureRestDocs
-@Import({RestDocsConfiguration.class, WebApiControllerAdvice.class})
+@Import({
+    RestDocsConfiguration.class,
+    WebApiControllerAdvice.class,
+    OrderJsonHttpMessageConverter.class
+})
 class OrderControllerTest {
 
   @Autowired private MockMvc mockMvc;
@@ -124,6 +154,8 @@ class OrderControllerTest {
     mockMvc
         .perform(get("/api/v1/orders/{orderId}", orderId))
         .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
         .andExpect(jsonPath("$.id").value(1))
         .andExpect(jsonPath("$.orderNumber").value("ORD-20250112-000001"))
         .andExpect(jsonPath("$.status").value("CREATED"))
@@ -200,6 +232,99 @@ class OrderControllerTest {
                 )));
   }
 
+  @Test
+  @DisplayName("주문 조회 API - If-None-Match 일치 시 304 (Aggregate 조회 없음)")
+  void getOrder_notModified() throws Exception {
+    // given
+    Long orderId = 1L;
+    given(orderFacade.getOrderSummaryById(orderId)).willReturn(createMockOrderSummary(3L));
+
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders/{orderId}", orderId).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(content().string(""))
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-get-not-modified",
+                pathParameters(
+                    parameterWithName("orderId").description("주문 ID")
+                ),
+                requestHeaders(
+                    headerWithName(HttpHeaders.IF_NONE_MATCH)
+                        .description("이전 응답의 ETag (orders.version)")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("현재 주문 버전 ETag")
+                )));
+
+    then(orderFacade).should(never()).getOrderById(any());
+    then(orderFacade).should(never()).getOrderById(any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("주문 조회 API - If-None-Match 불일치 시 읽은 버전으로 조회하여 200 + 새 ETag")
+  void getOrder_modified() throws Exception {
+    // given
+    Long orderId = 1L;
+    given(orderFacade.getOrderSummaryById(orderId)).willReturn(createMockOrderSummary(3L));
+    given(orderFacade.getOrderById(orderId, 3L)).willReturn(createMockOrder());
+
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders/{orderId}", orderId).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(jsonPath("$.id").value(1));
+
+    // 버전을 다시 조회하는 조회 경로는 사용하지 않음
+    then(orderFacade).should(never()).getOrderById(orderId);
+  }
+
+  @Test
+  @DisplayName("주문 조회 API (주문번호) - Weak ETag 도 일치하면 304")
+  void getOrderByOrderNumber_notModified() throws Exception {
+    // given
+    String orderNumber = "ORD-20250112-000001";
+    given(orderFacade.getOrderSummaryByNumber(orderNumber))
+        .willReturn(createMockOrderSummary(3L));
+
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders/number/{orderNumber}", orderNumber)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1\", W/\"3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+    then(orderFacade).should(never()).getOrderByNumber(any());
+  }
+
+  @Test
+  @DisplayName("주문 조회 API (주문번호) - If-None-Match 불일치 시 읽은 ID/버전으로 조회")
+  void getOrderByOrderNumber_modified() throws Exception {
+    // given
+    String orderNumber = "ORD-20250112-000001";
+    given(orderFacade.getOrderSummaryByNumber(orderNumber))
+        .willReturn(createMockOrderSummary(3L));
+    given(orderFacade.getOrderById(1L, 3L)).willReturn(createMockOrder());
+
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders/number/{orderNumber}", orderNumber)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(jsonPath("$.orderNumber").value(orderNumber));
+
+    then(orderFacade).should(never()).getOrderByNumber(any());
+  }
+
   @Test
   @DisplayName("주문 조회 API (주문번호) - 성공")
   void getOrderByOrderNumber_success() throws Exception {
@@ -212,6 +337,7 @@ class OrderControllerTest {
     mockMvc
         .perform(get("/api/v1/orders/number/{orderNumber}", orderNumber))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
         .andExpect(jsonPath("$.id").value(1))
         .andExpect(jsonPath("$.orderNumber").value("ORD-20250112-000001"))
         .andExpect(jsonPath("$.status").value("CREATED"))
@@ -288,6 +414,465 @@ class OrderControllerTest {
                 )));
   }
 
+  @Test
+  @DisplayName("주문 목록 조회 API - 성공")
+  void searchOrders_success() throws Exception {
+    // given
+    OrderSummary summary = createMockOrderSummary();
+    OrderCursor nextCursor = OrderCursor.of(summary);
+    given(orderFacade.searchOrders(any(), any(), eq(1)))
+        .willReturn(new OrderSummaryPage(List.of(summary), nextCursor));
+
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders")
+                .param("status", "CREATED")
+                .param("orderedFrom", "2025-01-01T00:00:00Z")
+                .param("orderedTo", "2025-02-01T00:00:00Z")
+                .param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.orders[0].id").value(1))
+        .andExpect(jsonPath("$.orders[0].orderNumber").value("ORD-20250112-000001"))
+        .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-search",
+                queryParameters(
+                    parameterWithName("status")
+                        .description("주문 상태 (" + EnumDocs.format(OrderStatus.class) + ")")
+                        .optional(),
+                    parameterWithName("orderedFrom")
+                        .description("주문 시각 시작 (포함, ISO 8601)")
+                        .optional(),
+                    parameterWithName("orderedTo")
+                        .description("주문 시각 끝 (미포함, ISO 8601)")
+                        .optional(),
+                    parameterWithName("cursor")
+                        .description("이전 응답의 nextCursor (첫 페이지는 생략)")
+                        .optional(),
+                    parameterWithName("size")
+                        .description("페이지 크기 (기본 20, 최대 100)")
+                        .optional()),
+                responseFields(
+                        fieldWithPath("orders")
+                            .type(JsonFieldType.ARRAY)
+                            .description("주문 요약 목록 (주문 시각 최신순)")
+                            .attributes(key("constraints").value("필수")),
+                        fieldWithPath("nextCursor")
+                            .type(JsonFieldType.STRING)
+                            .description("다음 페이지 조회 시 cursor 로 전달할 값")
+                            .attributes(key("constraints").value("선택, 마지막 페이지면 null"))
+                            .optional(),
+                        fieldWithPath("hasNext")
+                            .type(JsonFieldType.BOOLEAN)
+                            .description("다음 페이지 존재 여부")
+                            .attributes(key("constraints").value("필수")))
+                    .andWithPrefix("orders[].", getOrderSummaryResponseFields())));
+  }
+
+  @Test
+  @DisplayName("주문 목록 조회 API - 잘못된 cursor (400)")
+  void searchOrders_invalidCursor() throws Exception {
+    // when & then
+    mockMvc
+        .perform(get("/api/v1/orders").param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.properties.errorCode").value("INVALID_INPUT"));
+  }
+
+  @Test
+  @DisplayName("주문 목록 조회 API - 최대 size 초과 (400)")
+  void searchOrders_exceedsMaxSize() throws Exception {
+    // when & then
+    mockMvc
+        .perform(get("/api/v1/orders").param("size", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.properties.errorCode").value("VALIDATION_ERROR"));
+  }
+
+  @Test
+  @DisplayName("주문 Export API (NDJSON) - 성공")
+  void exportOrders_ndjson_success() throws Exception {
+    // given
+    OrderSummary summary =
+        new OrderSummary(
+            1L,
+            OrderNumber.of("ORD-20250112-000001"),
+            OrderStatus.DELIVERED,
+            Instant.parse("2025-01-12T10:00:00Z"),
+            Instant.parse("2025-01-12T11:00:00Z"),
+            null,
+            3L);
+    givenExportedOrders(summary);
+
+    // when
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/api/v1/orders/export")
+                    .param("format", "ndjson")
+                    .param("status", "DELIVERED")
+                    .param("orderedFrom", "2025-01-12T00:00:00Z")
+                    .param("orderedTo", "2025-01-13T00:00:00Z"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // then
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andExpect(
+            header()
+                .string(
+                    "Content-Disposition",
+                    "attachment; filename=\"orders-20250112000000-20250113000000.ndjson\""))
+        .andExpect(
+            content()
+                .string(
+                    "{\"id\":1,\"orderNumber\":\"ORD-20250112-000001\",\"status\":\"DELIVERED\","
+                        + "\"orderedAt\":\"2025-01-12T10:00:00Z\","
+                        + "\"deliveredAt\":\"2025-01-12T11:00:00Z\"}\n"))
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-export",
+                queryParameters(
+                    parameterWithName("format").description("응답 형식 (ndjson, csv, 기본 ndjson)")
+                        .optional(),
+                    parameterWithName("status")
+                        .description("주문 상태 (" + EnumDocs.format(OrderStatus.class) + ")")
+                        .optional(),
+                    parameterWithName("orderedFrom").description("주문 시각 시작 (포함, ISO 8601, 필수)"),
+                    parameterWithName("orderedTo")
+                        .description("주문 시각 끝 (미포함, ISO 8601, 필수, 시작부터 최대 31일)"))));
+  }
+
+  @Test
+  @DisplayName("주문 Export API (CSV) - 성공")
+  void exportOrders_csv_success() throws Exception {
+    // given
+    givenExportedOrders(
+        new OrderSummary(
+            1L,
+            OrderNumber.of("ORD-20250112-000001"),
+            OrderStatus.CREATED,
+            Instant.parse("2025-01-12T10:00:00Z"),
+            null,
+            null,
+            1L));
+
+    // when
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/api/v1/orders/export")
+                    .param("format", "csv")
+                    .param("orderedFrom", "2025-01-12T00:00:00Z")
+                    .param("orderedTo", "2025-01-13T00:00:00Z"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // then
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("text/csv;charset=UTF-8"))
+        .andExpect(
+            content()
+                .string(
+                    "id,orderNumber,status,orderedAt,deliveredAt,cancelledAt\r\n"
+                        + "1,ORD-20250112-000001,CREATED,2025-01-12T10:00:00Z,,\r\n"));
+  }
+
+  @Test
+  @DisplayName("주문 Export API - 기간 누락 (400)")
+  void exportOrders_missingWindow() throws Exception {
+    // when & then
+    mockMvc
+        .perform(get("/api/v1/orders/export").param("orderedFrom", "2025-01-12T00:00:00Z"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.properties.errorCode").value("VALIDATION_ERROR"));
+  }
+
+  @Test
+  @DisplayName("주문 Export API - 최대 기간 초과 (400)")
+  void exportOrders_exceedsMaxWindow() throws Exception {
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders/export")
+                .param("orderedFrom", "2025-01-01T00:00:00Z")
+                .param("orderedTo", "2025-02-02T00:00:00Z"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.properties.errorCode").value("INVALID_INPUT"));
+  }
+
+  @Test
+  @DisplayName("주문 요약 조회 API (view=summary) - 성공")
+  void getOrderSummary_success() throws Exception {
+    // given
+    Long orderId = 1L;
+    given(orderFacade.getOrderSummaryById(orderId)).willReturn(createMockOrderSummary());
+
+    // when & then
+    mockMvc
+        .perform(get("/api/v1/orders/{orderId}", orderId).param("view", "summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.orderNumber").value("ORD-20250112-000001"))
+        .andExpect(jsonPath("$.status").value("CREATED"))
+        .andExpect(jsonPath("$.items").doesNotExist())
+        .andExpect(jsonPath("$.deliveryPolicy").doesNotExist())
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-get-summary",
+                pathParameters(parameterWithName("orderId").description("주문 ID")),
+                queryParameters(
+                    parameterWithName("view").description("응답 형태 (summary: 요약)")),
+                responseFields(getOrderSummaryResponseFields())));
+  }
+
+  @Test
+  @DisplayName("주문 요약 조회 API (주문번호, view=summary) - 성공")
+  void getOrderSummaryByOrderNumber_success() throws Exception {
+    // given
+    String orderNumber = "ORD-20250112-000001";
+    given(orderFacade.getOrderSummaryByNumber(orderNumber)).willReturn(createMockOrderSummary());
+
+    // when & then
+    mockMvc
+        .perform(
+            get("/api/v1/orders/number/{orderNumber}", orderNumber).param("view", "summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.orderNumber").value(orderNumber))
+        .andExpect(jsonPath("$.origin").doesNotExist())
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-get-summary-by-order-number",
+                pathParameters(parameterWithName("orderNumber").description("주문 번호")),
+                queryParameters(
+                    parameterWithName("view").description("응답 형태 (summary: 요약)")),
+                responseFields(getOrderSummaryResponseFields())));
+  }
+
+  @Test
+  @DisplayName("주문 일괄 조회 API - 성공 (일부 주문 없음)")
+  void batchGetOrders_success() throws Exception {
+    // given
+    BatchGetOrdersRequest request =
+        new BatchGetOrdersRequest(List.of(1L, 999L), List.of("ORD-99999999-999999"));
+
+    Order order = createMockOrder();
+    given(orderFacade.getOrders(List.of(1L, 999L), List.of("ORD-99999999-999999")))
+        .willReturn(List.of(order));
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/api/v1/orders/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.orders[0].id").value(1))
+        .andExpect(jsonPath("$.notFoundOrderIds[0]").value(999))
+        .andExpect(jsonPath("$.notFoundOrderNumbers[0]").value("ORD-99999999-999999"))
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-batch-get",
+                requestFields(
+                    fieldWithPath("orderIds")
+                        .type(JsonFieldType.ARRAY)
+                        .description("조회할 주문 ID 목록")
+                        .attributes(key("constraints").value("선택, orderNumbers와 합쳐 최대 100건"))
+                        .optional(),
+                    fieldWithPath("orderNumbers")
+                        .type(JsonFieldType.ARRAY)
+                        .description("조회할 주문번호 목록")
+                        .attributes(key("constraints").value("선택, orderIds와 합쳐 최대 100건"))
+                        .optional()),
+                responseFields(
+                        fieldWithPath("orders")
+                            .type(JsonFieldType.ARRAY)
+                            .description("조회된 주문 목록")
+                            .attributes(key("constraints").value("필수")),
+                        fieldWithPath("notFoundOrderIds")
+                            .type(JsonFieldType.ARRAY)
+                            .description("존재하지 않는 주문 ID 목록")
+                            .attributes(key("constraints").value("필수")),
+                        fieldWithPath("notFoundOrderNumbers")
+                            .type(JsonFieldType.ARRAY)
+                            .description("존재하지 않는 주문번호 목록")
+                            .attributes(key("constraints").value("필수")))
+                    .andWithPrefix("orders[].", getOrderResponseFields())));
+  }
+
+  @Test
+  @DisplayName("주문 일괄 조회 API - 최대 건수 초과 (400)")
+  void batchGetOrders_exceedsMaxBatchSize() throws Exception {
+    // given
+    List<Long> orderIds =
+        LongStream.rangeClosed(1, BatchGetOrdersRequest.MAX_BATCH_SIZE + 1)
+            .boxed()
+            .toList();
+    BatchGetOrdersRequest request = new BatchGetOrdersRequest(orderIds, null);
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/api/v1/orders/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("주문 일괄 조회 API - 주문번호 형식 오류 (400)")
+  void batchGetOrders_invalidOrderNumber() throws Exception {
+    // given
+    BatchGetOrdersRequest request =
+        new BatchGetOrdersRequest(null, List.of("ORD-20250112-000001", "20250112-000002"));
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/api/v1/orders/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.properties.errorCode").value("VALIDATION_ERROR"));
+
+    then(orderFacade).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("주문 일괄 생성 API - 성공 (일부 주문 생성 실패)")
+  void bulkCreateOrders_success() throws Exception {
+    // given - 두 번째 주문은 주소 정제 실패
+    CreateOrderRequest order = createOrderRequest();
+    BulkCreateOrdersRequest request = new BulkCreateOrdersRequest(List.of(order, order));
+
+    given(orderFacade.createOrders(any()))
+        .willReturn(
+            List.of(
+                OrderCreationResult.success(createMockOrder()),
+                OrderCreationResult.failure(
+                    ErrorCode.ADDRESS_REFINE_FAILED,
+                    ErrorCode.ADDRESS_REFINE_FAILED.getMessage())));
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/api/v1/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalCount").value(2))
+        .andExpect(jsonPath("$.successCount").value(1))
+        .andExpect(jsonPath("$.failureCount").value(1))
+        .andExpect(jsonPath("$.results[0].index").value(0))
+        .andExpect(jsonPath("$.results[0].success").value(true))
+        .andExpect(jsonPath("$.results[0].order.id").value(1))
+        .andExpect(jsonPath("$.results[1].index").value(1))
+        .andExpect(jsonPath("$.results[1].success").value(false))
+        .andExpect(jsonPath("$.results[1].errorCode").value("ADDRESS_REFINE_FAILED"))
+        // REST Docs 문서화
+        .andDo(
+            document(
+                "order-bulk-create",
+                requestFields(
+                    subsectionWithPath("orders")
+                        .type(JsonFieldType.ARRAY)
+                        .description("생성할 주문 목록 (각 항목은 주문 생성 Request 와 동일)")
+                        .attributes(key("constraints").value("필수, 최소 1건, 최대 500건"))),
+                responseFields(
+                    fieldWithPath("totalCount")
+                        .type(JsonFieldType.NUMBER)
+                        .description("요청 주문 수")
+                        .attributes(key("constraints").value("필수")),
+                    fieldWithPath("successCount")
+                        .type(JsonFieldType.NUMBER)
+                        .description("생성 성공 주문 수")
+                        .attributes(key("constraints").value("필수")),
+                    fieldWithPath("failureCount")
+                        .type(JsonFieldType.NUMBER)
+                        .description("생성 실패 주문 수")
+                        .attributes(key("constraints").value("필수")),
+                    fieldWithPath("results")
+                        .type(JsonFieldType.ARRAY)
+                        .description("건별 결과 (요청 순서)")
+                        .attributes(key("constraints").value("필수")),
+                    fieldWithPath("results[].index")
+                        .type(JsonFieldType.NUMBER)
+                        .description("요청 목록에서의 위치 (0부터)")
+                        .attributes(key("constraints").value("필수")),
+                    fieldWithPath("results[].success")
+                        .type(JsonFieldType.BOOLEAN)
+                        .description("생성 성공 여부")
+                        .attributes(key("constraints").value("필수")),
+                    subsectionWithPath("results[].order")
+                        .type(JsonFieldType.OBJECT)
+                        .description("생성된 주문 (주문 생성 Response 와 동일)")
+                        .attributes(key("constraints").value("성공 시"))
+                        .optional(),
+                    fieldWithPath("results[].errorCode")
+                        .type(JsonFieldType.STRING)
+                        .description("실패 사유 코드")
+                        .attributes(key("constraints").value("실패 시"))
+                        .optional(),
+                    fieldWithPath("results[].message")
+                        .type(JsonFieldType.STRING)
+                        .description("실패 메시지")
+                        .attributes(key("constraints").value("실패 시"))
+                        .optional())));
+  }
+
+  @Test
+  @DisplayName("주문 일괄 생성 API - 한 건이라도 검증 실패 시 전체 요청 거부 (400)")
+  void bulkCreateOrders_invalidOrder() throws Exception {
+    // given - 두 번째 주문은 출발지 누락
+    CreateOrderRequest valid = createOrderRequest();
+    CreateOrderRequest invalid =
+        new CreateOrderRequest(valid.items(), null, valid.destination(), valid.deliveryPolicy());
+    BulkCreateOrdersRequest request = new BulkCreateOrdersRequest(List.of(valid, invalid));
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/api/v1/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.properties.errorCode").value("VALIDATION_ERROR"));
+
+    then(orderFacade).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("주문 일괄 생성 API - 최대 건수 초과 (400)")
+  void bulkCreateOrders_exceedsMaxBulkSize() throws Exception {
+    // given
+    CreateOrderRequest order = createOrderRequest();
+    List<CreateOrderRequest> orders =
+        Collections.nCopies(BulkCreateOrdersRequest.MAX_BULK_SIZE + 1, order);
+    BulkCreateOrdersRequest request = new BulkCreateOrdersRequest(orders);
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/api/v1/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+  }
+
   // ===== Helper Methods =====
 
   /**
@@ -503,6 +1088,37 @@ class OrderControllerTest {
    * <p>모든 Order 조회/생성 API에서 공통으로 사용하는 Response 필드
    * <p>타입, 필수/선택 여부, 제약조건 포함
    */
+  private FieldDescriptor[] getOrderSummaryResponseFields() {
+    return new FieldDescriptor[] {
+      fieldWithPath("id")
+          .type(JsonFieldType.NUMBER)
+          .description("주문 ID")
+          .attributes(key("constraints").value("필수")),
+      fieldWithPath("orderNumber")
+          .type(JsonFieldType.STRING)
+          .description("주문 번호")
+          .attributes(key("constraints").value("필수, 고유값")),
+      fieldWithPath("status")
+          .type(JsonFieldType.STRING)
+          .description("주문 상태")
+          .attributes(key("constraints").value(EnumDocs.formatRequired(OrderStatus.class))),
+      fieldWithPath("orderedAt")
+          .type(JsonFieldType.STRING)
+          .description("주문 시각")
+          .attributes(key("constraints").value("필수, ISO 8601 형식")),
+      fieldWithPath("deliveredAt")
+          .type(JsonFieldType.STRING)
+          .description("배송 완료 시각")
+          .attributes(key("constraints").value("선택, ISO 8601 형식"))
+          .optional(),
+      fieldWithPath("cancelledAt")
+          .type(JsonFieldType.STRING)
+          .description("취소 시각")
+          .attributes(key("constraints").value("선택, ISO 8601 형식"))
+          .optional()
+    };
+  }
+
   private FieldDescriptor[] getOrderResponseFields() {
     return new FieldDescriptor[] {
       fieldWithPath("id")
@@ -757,6 +1373,29 @@ class OrderControllerTest {
     return new CreateOrderRequest(List.of(item), origin, destination, deliveryPolicy);
   }
 
+  private void givenExportedOrders(OrderSummary... summaries) {
+    given(orderFacade.exportOrders(any(), any()))
+        .willAnswer(
+            invocation -> {
+              Consumer<OrderSummary> consumer = invocation.getArgument(1);
+              for (OrderSummary summary : summaries) {
+                consumer.accept(summary);
+              }
+              return (long) summaries.length;
+            });
+  }
+
+  private OrderSummary createMockOrderSummary() {
+    return new OrderSummary(
+        1L,
+        OrderNumber.of("ORD-20250112-000001"),
+        OrderStatus.CREATED,
+        Instant.now(),
+        null,
+        null,
+        1L);
+  }
+
   private Order createMockOrder() {
     OrderItem item =
         new OrderItem(
@@ -787,7 +1426,19 @@ class OrderControllerTest {
         deliveryPolicy,
         Instant.now(),
         null,
-        null);
+        null,
+        3L);
+  }
+
+  private OrderSummary createMockOrderSummary(Long version) {
+    return new OrderSummary(
+        1L,
+        OrderNumber.of("ORD-20250112-000001"),
+        OrderStatus.CREATED,
+        Instant.parse("2025-01-12T10:00:00Z"),
+        null,
+        null,
+        version);
   }
 }
 
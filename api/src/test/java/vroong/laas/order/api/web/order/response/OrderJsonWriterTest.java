@@ -0,0 +1,206 @@
+package vroong.laas.order.api.web.order.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.order.DeliveryPolicy;
+import vroong.laas.order.core.domain.order.Destination;
+import vroong.laas.order.core.domain.order.EntranceInfo;
+import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderItem;
+import vroong.laas.order.core.domain.order.OrderNumber;
+import vroong.laas.order.core.domain.order.OrderStatus;
+import vroong.laas.order.core.domain.order.Origin;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.Contact;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.core.domain.shared.Money;
+import vroong.laas.order.core.domain.shared.Volume;
+import vroong.laas.order.core.domain.shared.Weight;
+
+@DisplayName("OrderJsonWriter 테스트 (OrderResponse 직렬화 결과와 비교)")
+class OrderJsonWriterTest {
+
+  private static final Instant ORDERED_AT = Instant.parse("2025-01-12T10:00:00Z");
+
+  // application.yml 의 spring.jackson 설정과 동일 (non_null, ISO-8601)
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+  private final OrderJsonWriter sut = new OrderJsonWriter(objectMapper);
+
+  @Test
+  @DisplayName("기본 주문 - OrderResponse 직렬화 결과와 Byte 단위로 동일")
+  void write_basicOrder() throws IOException {
+    // given
+    Order order = order(List.of(item("테스트 상품", null, null)), entranceInfo(), null, null);
+
+    // when & then
+    assertSameAsJackson(order);
+  }
+
+  @Test
+  @DisplayName("선택 필드(무게/부피, 예약 배송, 배송 완료/취소 시각)가 모두 있는 주문")
+  void write_allOptionalFields() throws IOException {
+    // given
+    OrderItem item =
+        item(
+            "피자",
+            new Weight(new BigDecimal("1.50")),
+            new Volume(new BigDecimal("30"), new BigDecimal("20.5"), new BigDecimal("1E+1")));
+    DeliveryPolicy policy =
+        new DeliveryPolicy(
+            true,
+            true,
+            true,
+            Instant.parse("2025-01-12T12:00:00.123456789Z"),
+            Instant.parse("2025-01-12T11:00:00.100Z"));
+    Order order =
+        new Order(
+            1L,
+            OrderNumber.of("ORD-20250112100000001"),
+            OrderStatus.DELIVERED,
+            List.of(item, item("콜라", null, null)),
+            new Origin(contact(), address(), latLng(), entranceInfo()),
+            new Destination(contact(), address(), latLng(), entranceInfo()),
+            policy,
+            ORDERED_AT,
+            Instant.parse("2025-01-12T13:00:00.5Z"),
+            Instant.parse("2025-01-12T14:00:00Z"));
+
+    // when & then
+    assertSameAsJackson(order);
+  }
+
+  @Test
+  @DisplayName("null 필드는 생략 (지번 주소, 출입 정보 항목, 아이템 없음)")
+  void write_nullFieldsOmitted() throws IOException {
+    // given
+    Address address = new Address(null, "서울시 강남구 테헤란로 123", null);
+    EntranceInfo emptyEntrance = new EntranceInfo(null, null, null);
+    EntranceInfo partialEntrance = new EntranceInfo(null, "후문 이용", null);
+    Order order =
+        new Order(
+            2L,
+            OrderNumber.of("ORD-20250112100000002"),
+            OrderStatus.CREATED,
+            List.of(),
+            new Origin(contact(), address, latLng(), emptyEntrance),
+            new Destination(contact(), address, latLng(), partialEntrance),
+            new DeliveryPolicy(false, false, false, null, ORDERED_AT),
+            null,
+            null,
+            null);
+
+    // when & then
+    assertSameAsJackson(order);
+  }
+
+  @Test
+  @DisplayName("특수 문자 Escape (따옴표, 역슬래시, 제어 문자, 이모지)")
+  void write_escapesStrings() throws IOException {
+    // given
+    String special = "\"따옴표\" \\역슬래시\\ \n\r\t\b\f \u0000\u001F\u007F 🍕 끝";
+    EntranceInfo entranceInfo = new EntranceInfo("12\"34", special, "</script>");
+    Order order =
+        new Order(
+            3L,
+            OrderNumber.of("ORD-20250112100000003"),
+            OrderStatus.CANCELLED,
+            List.of(item(special, null, null)),
+            new Origin(new Contact("홍\t길동", "010-1234-5678"), address(), latLng(), entranceInfo),
+            new Destination(contact(), new Address(special, special, special), latLng(), null),
+            new DeliveryPolicy(false, true, false, null, ORDERED_AT),
+            ORDERED_AT,
+            null,
+            ORDERED_AT);
+
+    // when & then
+    assertSameAsJackson(order);
+  }
+
+  @Test
+  @DisplayName("Response Body 를 닫지 않고 이어서 쓸 수 있음")
+  void write_doesNotCloseStream() throws IOException {
+    // given
+    Order order = order(List.of(item("테스트 상품", null, null)), entranceInfo(), null, null);
+    AtomicBoolean closed = new AtomicBoolean();
+    ByteArrayOutputStream body =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            closed.set(true);
+          }
+        };
+
+    // when
+    sut.write(order, body);
+
+    // then
+    assertThat(closed).isFalse();
+    assertThat(body.toByteArray())
+        .isEqualTo(objectMapper.writeValueAsBytes(OrderResponse.from(order)));
+  }
+
+  private void assertSameAsJackson(Order order) throws IOException {
+    byte[] expected = objectMapper.writeValueAsBytes(OrderResponse.from(order));
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    sut.write(order, body);
+    byte[] actual = body.toByteArray();
+
+    assertThat(new String(actual, StandardCharsets.UTF_8))
+        .isEqualTo(new String(expected, StandardCharsets.UTF_8));
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  private static Order order(
+      List<OrderItem> items, EntranceInfo entranceInfo, Instant deliveredAt, Instant cancelledAt) {
+    return new Order(
+        1L,
+        OrderNumber.of("ORD-20250112100000001"),
+        OrderStatus.CREATED,
+        items,
+        new Origin(contact(), address(), latLng(), entranceInfo),
+        new Destination(contact(), address(), latLng(), entranceInfo),
+        new DeliveryPolicy(false, true, false, null, ORDERED_AT),
+        ORDERED_AT,
+        deliveredAt,
+        cancelledAt);
+  }
+
+  private static OrderItem item(String name, Weight weight, Volume volume) {
+    return new OrderItem(name, 2, new Money(BigDecimal.valueOf(15000)), "식품", weight, volume);
+  }
+
+  private static Contact contact() {
+    return new Contact("홍길동", "010-1234-5678");
+  }
+
+  private static Address address() {
+    return new Address("서울시 강남구 역삼동 123-45", "서울시 강남구 테헤란로 123", "1층");
+  }
+
+  private static LatLng latLng() {
+    return new LatLng(new BigDecimal("37.5665"), new BigDecimal("126.9780"));
+  }
+
+  private static EntranceInfo entranceInfo() {
+    return new EntranceInfo("1234", "정문 출입", "문을 열어주세요");
+  }
+}
@@ -0,0 +1,67 @@
+package vroong.laas.order.core.application.order;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import vroong.laas.order.core.common.exception.BaseException;
+import vroong.laas.order.core.common.exception.ErrorCode;
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * 주문 일괄 생성의 건별 결과
+ *
+ * <p>성공 시 order, 실패 시 errorCode/message 를 가집니다.
+ *
+ * @param order 생성된 Order (실패 시 null)
+ * @param errorCode 실패 사유 코드 (성공 시 null)
+ * @param message 실패 메시지 (성공 시 null)
+ */
+public record OrderCreationResult(Order order, ErrorCode errorCode, String message) {
+
+  public static OrderCreationResult success(Order order) {
+    return new OrderCreationResult(order, null, null);
+  }
+
+  public static OrderCreationResult failure(ErrorCode errorCode, String message) {
+    return new OrderCreationResult(null, errorCode, message);
+  }
+
+  /**
+   * 예외 → 실패 결과 변환
+   *
+   * <p>예상하지 못한 예외는 내부 메시지를 노출하지 않고 INTERNAL_SERVER_ERROR 로 변환합니다.
+   *
+   * @param e 주문 생성 중 발생한 예외
+   * @return 실패 결과
+   */
+  public static OrderCreationResult failure(RuntimeException e) {
+    if (e instanceof BaseException baseException) {
+      return failure(baseException.getErrorCode(), baseException.getMessage());
+    }
+    if (e instanceof IllegalArgumentException) {
+      return failure(ErrorCode.INVALID_INPUT, e.getMessage());
+    }
+    if (e instanceof DataIntegrityViolationException) {
+      // SQL/제약 조건 이름을 노출하지 않음
+      return failure(ErrorCode.INVALID_ORDER, ErrorCode.INVALID_ORDER.getMessage());
+    }
+    return failure(ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+  }
+
+  /**
+   * 해당 주문에만 해당하는 실패인지 여부
+   *
+   * <p>Domain 검증 실패와 제약 조건 위반은 다른 주문과 무관하므로 건별 결과로 반환합니다. 그 외(Connection,
+   * Timeout, Deadlock 등 인프라 장애)는 건별로 다시 시도해도 같으므로 호출자에게 그대로 던집니다.
+   *
+   * @param e 주문 생성 중 발생한 예외
+   * @return 주문 단위 실패이면 true
+   */
+  public static boolean isPerOrderFailure(RuntimeException e) {
+    return e instanceof BaseException
+        || e instanceof IllegalArgumentException
+        || e instanceof DataIntegrityViolationException;
+  }
+
+  public boolean isSuccess() {
+    return order != null;
+  }
+}
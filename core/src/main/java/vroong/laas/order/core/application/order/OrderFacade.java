@@ -1,17 +1,30 @@
 package vroong.laas.order.core.application.order;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import vroong.laas.order.core.common.annotation.Facade;
+import vroong.laas.order.core.common.exception.ErrorCode;
 import vroong.laas.order.core.domain.address.AddressRefiner;
+import vroong.laas.order.core.domain.address.RefinedLocations;
 import vroong.laas.order.core.domain.order.Destination;
 import vroong.laas.order.core.domain.order.Order;
 import vroong.laas.order.core.domain.order.OrderCreator;
+import vroong.laas.order.core.domain.order.OrderCursor;
 import vroong.laas.order.core.domain.order.OrderLocationChanger;
 import vroong.laas.order.core.domain.order.OrderReader;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.OrderSummary;
+import vroong.laas.order.core.domain.order.OrderSummaryPage;
 import vroong.laas.order.core.domain.order.Origin;
 import vroong.laas.order.core.domain.order.command.ChangeDestinationAddressCommand;
 import vroong.laas.order.core.domain.order.command.CreateOrderCommand;
 import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
 
 /**
  * Order Facade
@@ -23,8 +36,9 @@ import vroong.laas.order.core.domain.shared.Address;
  * - 외부 서비스 조합
  *
  * <p>흐름:
- * 1. 주소 정제 (Origin/Destination) - AddressRefiner
+ * 1. 주소 정제 (Origin/Destination 동시 실행) - AddressRefiner
  * 2. 주문 생성 - OrderCreator
+ * - 일괄 생성은 좌표 중복 제거 후 일괄 정제, Chunk 단위 트랜잭션으로 저장
  *
  * <p>트랜잭션:
  * - 트랜잭션 없음 (Domain Service에서 관리)
@@ -33,6 +47,9 @@ import vroong.laas.order.core.domain.shared.Address;
 @RequiredArgsConstructor
 public class OrderFacade {
 
+  /** 일괄 생성 시 하나의 트랜잭션으로 저장할 최대 주문 수 */
+  static final int BULK_CREATE_CHUNK_SIZE = 100;
+
   private final OrderCreator orderCreator;
   private final OrderReader orderReader;
   private final OrderLocationChanger orderLocationChanger;
@@ -42,22 +59,79 @@ public class OrderFacade {
    * 주문 생성
    *
    * <p>흐름:
-   * 1. Origin 주소 정제 (역지오코딩)
-   * 2. Destination 주소 정제 (역지오코딩)
-   * 3. 정제된 주소로 Order 생성
+   * 1. Origin/Destination 주소 정제 (역지오코딩, 동시 실행 + 단일 Deadline)
+   * 2. 정제된 주소로 Order 생성
    *
    * @param command 주문 생성 Command
    * @return 생성된 Order
    * @throws vroong.laas.order.core.domain.address.exception.AddressRefineFailedException 주소 정제 실패 시
    */
   public Order createOrder(CreateOrderCommand command) {
-    // 1. 주소 정제 (역지오코딩)
-    Origin refinedOrigin = addressRefiner.refineOrigin(command.origin());
-    Destination refinedDestination = addressRefiner.refineDestination(command.destination());
+    // 1. 주소 정제 (역지오코딩 - Origin/Destination 동시 실행)
+    RefinedLocations refined =
+        addressRefiner.refineLocations(command.origin(), command.destination());
 
     // 2. Order 생성 및 저장 (정제된 주소로)
     return orderCreator.create(
-        command.items(), refinedOrigin, refinedDestination, command.deliveryPolicy());
+        command.items(), refined.origin(), refined.destination(), command.deliveryPolicy());
+  }
+
+  /**
+   * 주문 일괄 생성
+   *
+   * <p>흐름:
+   * 1. 모든 주문의 Origin/Destination 좌표 중복 제거
+   * 2. 중복 제거된 좌표 일괄 정제 (병렬 실행) - AddressRefiner.refineAll
+   * 3. 주소 정제에 성공한 주문을 Chunk({@value #BULK_CREATE_CHUNK_SIZE}건) 단위 트랜잭션으로 저장
+   * 4. 주문 자체의 문제(검증 실패, 제약 조건 위반)로 Chunk 저장이 실패하면 해당 Chunk만 건별로 다시
+   *    저장하여 실패한 주문만 골라냄
+   *
+   * <p>일부 주문이 실패해도 예외를 던지지 않고 건별 결과로 반환합니다. DB 연결 실패 같은 인프라 장애는
+   * 건별 결과로 바꾸지 않고 그대로 던집니다.
+   *
+   * @param commands 주문 생성 Command 목록
+   * @return 건별 생성 결과 (commands 순서 유지)
+   */
+  public List<OrderCreationResult> createOrders(List<CreateOrderCommand> commands) {
+    // 1. 좌표 중복 제거 (같은 매장 Origin 등)
+    Map<LatLng, Address> originals = new LinkedHashMap<>();
+    for (CreateOrderCommand command : commands) {
+      originals.putIfAbsent(command.origin().latLng(), command.origin().address());
+      originals.putIfAbsent(command.destination().latLng(), command.destination().address());
+    }
+
+    // 2. 좌표 일괄 정제 (실패한 좌표는 결과에서 제외)
+    Map<LatLng, Address> refined = addressRefiner.refineAll(originals);
+
+    OrderCreationResult[] results = new OrderCreationResult[commands.size()];
+    List<Integer> refinedIndexes = new ArrayList<>();
+    List<CreateOrderCommand> refinedCommands = new ArrayList<>();
+    for (int i = 0; i < commands.size(); i++) {
+      CreateOrderCommand command = commands.get(i);
+      Address originAddress = refined.get(command.origin().latLng());
+      Address destinationAddress = refined.get(command.destination().latLng());
+
+      if (originAddress == null || destinationAddress == null) {
+        LatLng failedLatLng =
+            originAddress == null ? command.origin().latLng() : command.destination().latLng();
+        results[i] =
+            OrderCreationResult.failure(
+                ErrorCode.ADDRESS_REFINE_FAILED,
+                String.format("주소 정제 실패 - LatLng: %s", failedLatLng));
+        continue;
+      }
+
+      refinedIndexes.add(i);
+      refinedCommands.add(withRefinedAddresses(command, originAddress, destinationAddress));
+    }
+
+    // 3. Chunk 단위 저장
+    for (int from = 0; from < refinedCommands.size(); from += BULK_CREATE_CHUNK_SIZE) {
+      int to = Math.min(from + BULK_CREATE_CHUNK_SIZE, refinedCommands.size());
+      createChunk(refinedIndexes.subList(from, to), refinedCommands.subList(from, to), results);
+    }
+
+    return Arrays.asList(results);
   }
 
   /**
@@ -70,6 +144,17 @@ public class OrderFacade {
     return orderReader.getOrderById(orderId);
   }
 
+  /**
+   * 이미 읽은 버전으로 Order 조회 (버전 재조회 없음, 캐시가 더 오래되었으면 다시 조회)
+   *
+   * @param orderId Order ID
+   * @param currentVersion 방금 읽은 orders.version
+   * @return Order
+   */
+  public Order getOrderById(Long orderId, long currentVersion) {
+    return orderReader.getOrderById(orderId, currentVersion);
+  }
+
   /**
    * 주문번호로 Order 조회
    *
@@ -80,13 +165,80 @@ public class OrderFacade {
     return orderReader.getOrderByNumber(orderNumber);
   }
 
+  /**
+   * ID로 주문 요약 조회 (orders Row 만 조회)
+   *
+   * @param orderId Order ID
+   * @return 주문 요약
+   */
+  public OrderSummary getOrderSummaryById(Long orderId) {
+    return orderReader.getOrderSummaryById(orderId);
+  }
+
+  /**
+   * 주문번호로 주문 요약 조회 (orders Row 만 조회)
+   *
+   * @param orderNumber 주문번호
+   * @return 주문 요약
+   */
+  public OrderSummary getOrderSummaryByNumber(String orderNumber) {
+    return orderReader.getOrderSummaryByNumber(orderNumber);
+  }
+
+  /**
+   * 주문 요약 목록 조회 (Keyset Pagination)
+   *
+   * @param condition 조회 조건
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 주문 요약 페이지
+   */
+  public OrderSummaryPage searchOrders(
+      OrderSearchCondition condition, OrderCursor cursor, int size) {
+    return orderReader.searchOrderSummaries(condition, cursor, size);
+  }
+
+  /**
+   * 주문 요약 Export (Streaming, 주문 시각 오름차순)
+   *
+   * @param condition 조회 조건
+   * @param consumer 주문 요약 처리 (예: 응답 스트림에 쓰기)
+   * @return 전달한 주문 수
+   */
+  public long exportOrders(OrderSearchCondition condition, Consumer<OrderSummary> consumer) {
+    return orderReader.exportOrderSummaries(condition, consumer);
+  }
+
+  /**
+   * ID/주문번호 목록으로 Order 일괄 조회
+   *
+   * <p>흐름:
+   * 1. ID 목록 일괄 조회 (1 쿼리)
+   * 2. 주문번호 목록 일괄 조회 (1 쿼리)
+   * 3. 같은 주문이 양쪽에 포함된 경우 ID 기준으로 중복 제거
+   *
+   * @param orderIds Order ID 목록
+   * @param orderNumbers 주문번호 목록
+   * @return 조회된 Order 목록 (존재하지 않는 주문은 제외)
+   */
+  public List<Order> getOrders(List<Long> orderIds, List<String> orderNumbers) {
+    Map<Long, Order> ordersById = new LinkedHashMap<>();
+    for (Order order : orderReader.getOrdersByIds(orderIds)) {
+      ordersById.put(order.getId(), order);
+    }
+    for (Order order : orderReader.getOrdersByNumbers(orderNumbers)) {
+      ordersById.putIfAbsent(order.getId(), order);
+    }
+    return List.copyOf(ordersById.values());
+  }
+
   /**
    * 주문 도착지 주소 변경
    *
    * <p>흐름:
-   * 1. Order 조회 (빠른 실패 - 주문이 없으면 즉시 실패)
+   * 1. Order 조회 (빠른 실패 - 주문이 없으면 즉시 실패, 캐시 조회)
    * 2. 주소 정제 (역지오코딩 - 주문이 있을 때만 실행)
-   * 3. 정제된 주소로 도착지 주소 변경
+   * 3. 정제된 주소로 도착지 주소 변경 (쓰기 트랜잭션 안에서 Writer DB 로 다시 조회 후 변경)
    *
    * <p>변경 범위:
    * - Address (주소)
@@ -103,8 +255,8 @@ public class OrderFacade {
    * @throws vroong.laas.order.core.domain.address.exception.AddressRefineFailedException 주소 정제 실패 시
    */
   public Order changeDestinationAddress(ChangeDestinationAddressCommand command) {
-    // 1. Order 조회 먼저 (빠른 실패)
-    Order order = orderReader.getOrderById(command.orderId());
+    // 1. Order 조회 먼저 (빠른 실패, 존재 확인용이므로 캐시 사용)
+    orderReader.getOrderById(command.orderId());
 
     // 2. 주소 정제 (역지오코딩 - Order가 있을 때만)
     Address refinedAddress =
@@ -112,7 +264,54 @@ public class OrderFacade {
 
     // 3. 도착지 주소 변경 (정제된 주소로)
     return orderLocationChanger.changeDestinationAddress(
-        order, refinedAddress, command.newLatLng(), command.newEntranceInfo());
+        command.orderId(), refinedAddress, command.newLatLng(), command.newEntranceInfo());
   }
-}
 
+  private void createChunk(
+      List<Integer> indexes, List<CreateOrderCommand> chunk, OrderCreationResult[] results) {
+    try {
+      List<Order> orders = orderCreator.createAll(chunk);
+      for (int i = 0; i < orders.size(); i++) {
+        results[indexes.get(i)] = OrderCreationResult.success(orders.get(i));
+      }
+    } catch (RuntimeException chunkFailure) {
+      // 인프라 장애(Connection, Timeout, Deadlock 등)는 건별로 다시 저장해도 실패하므로 그대로 던짐
+      if (!OrderCreationResult.isPerOrderFailure(chunkFailure)) {
+        throw chunkFailure;
+      }
+      // 특정 주문 때문에 Chunk 트랜잭션 롤백 → 건별로 다시 저장하여 실패한 주문만 골라냄
+      for (int i = 0; i < chunk.size(); i++) {
+        CreateOrderCommand command = chunk.get(i);
+        try {
+          Order order =
+              orderCreator.create(
+                  command.items(),
+                  command.origin(),
+                  command.destination(),
+                  command.deliveryPolicy());
+          results[indexes.get(i)] = OrderCreationResult.success(order);
+        } catch (RuntimeException e) {
+          if (!OrderCreationResult.isPerOrderFailure(e)) {
+            throw e;
+          }
+          results[indexes.get(i)] = OrderCreationResult.failure(e);
+        }
+      }
+    }
+  }
+
+  private CreateOrderCommand withRefinedAddresses(
+      CreateOrderCommand command, Address originAddress, Address destinationAddress) {
+    Origin origin = command.origin();
+    Destination destination = command.destination();
+    return new CreateOrderCommand(
+        command.items(),
+        new Origin(origin.contact(), originAddress, origin.latLng(), origin.entranceInfo()),
+        new Destination(
+            destination.contact(),
+            destinationAddress,
+            destination.latLng(),
+            destination.entranceInfo()),
+        command.deliveryPolicy());
+  }
+}
@@ -46,9 +46,15 @@ public enum ErrorCode {
   /** 위치 정보를 변경할 수 없는 주문 */
   ORDER_LOCATION_CHANGE_NOT_ALLOWED("현재 상태에서는 위치 정보를 변경할 수 없습니다"),
 
+  /** 조회 이후 다른 요청이 먼저 변경한 주문 */
+  ORDER_CONCURRENTLY_MODIFIED("다른 요청이 먼저 주문을 변경했습니다"),
+
   /** 유효하지 않은 주문 */
   INVALID_ORDER("유효하지 않은 주문입니다"),
 
+  /** 동시에 실행 중인 주문 Export 수 초과 */
+  ORDER_EXPORT_LIMIT_EXCEEDED("실행 중인 주문 Export 가 많아 잠시 후 다시 시도해야 합니다"),
+
   // 비즈니스 로직 에러 (주소)
   /** 주소 정제 실패 */
   ADDRESS_REFINE_FAILED("주소 정제에 실패했습니다"),
@@ -1,7 +1,25 @@
 package vroong.laas.order.core.domain.address;
 
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.stereotype.Service;
+import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
 import vroong.laas.order.core.domain.address.required.AddressRefinementClient;
 import vroong.laas.order.core.domain.order.Destination;
 import vroong.laas.order.core.domain.order.Origin;
@@ -18,7 +36,13 @@ import vroong.laas.order.core.domain.shared.LatLng;
  * - Origin/Destination 주소 정제
  *
  * <p>사용처:
- * - OrderFacade.createOrder(): Origin/Destination 주소 정제
+ * - OrderFacade.createOrder(): Origin/Destination 주소 동시 정제 (refineLocations)
+ * - OrderFacade.createOrders(): 대량 주문의 중복 제거된 좌표 일괄 정제 (refineAll)
+ *
+ * <p>동시 정제:
+ * - Origin/Destination 역지오코딩을 Virtual Thread에서 병렬 실행
+ * - 전체 Deadline(address.refinement.deadline-ms, 기본 6초) 하나로 두 작업을 함께 제한
+ * - 한쪽이 실패하면 나머지 작업을 즉시 취소(interrupt)
  *
  * <p>Fallback Chain:
  * - AddressRefinementClient (Port)에서 처리
@@ -26,12 +50,41 @@ import vroong.laas.order.core.domain.shared.LatLng;
  *
  * <p>로그:
  * - Infrastructure Layer (AddressRefinementAdapter)에서 기록
+ *
+ * <p>종료:
+ * - Spring 컨테이너 종료 시 close() 호출 (AutoCloseable)
+ * - 실행 중인 정제는 deadline-ms 까지 기다린 뒤 남은 작업을 취소(interrupt)
  */
 @Service
-@RequiredArgsConstructor
-public class AddressRefiner {
+public class AddressRefiner implements AutoCloseable {
 
   private final AddressRefinementClient addressRefinementClient;
+  private final Optional<TaskDecorator> taskDecorator;
+  private final Duration refinementDeadline;
+  private final int batchConcurrency;
+  private final Duration batchDeadline;
+  private final ExecutorService refinementExecutor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("address-refiner-", 0).factory());
+
+  /**
+   * @param addressRefinementClient 주소 정제 Client
+   * @param taskDecorator Virtual Thread로 Trace/MDC 등 컨텍스트를 전파하기 위한 Decorator (선택)
+   * @param deadlineMs Origin/Destination 동시 정제 전체 Deadline (밀리초)
+   * @param batchConcurrency 일괄 정제 시 동시에 실행할 최대 역지오코딩 수
+   * @param batchDeadlineMs 일괄 정제 전체 Deadline (밀리초)
+   */
+  public AddressRefiner(
+      AddressRefinementClient addressRefinementClient,
+      Optional<TaskDecorator> taskDecorator,
+      @Value("${address.refinement.deadline-ms:6000}") long deadlineMs,
+      @Value("${address.refinement.batch-concurrency:16}") int batchConcurrency,
+      @Value("${address.refinement.batch-deadline-ms:30000}") long batchDeadlineMs) {
+    this.addressRefinementClient = addressRefinementClient;
+    this.taskDecorator = taskDecorator;
+    this.refinementDeadline = Duration.ofMillis(deadlineMs);
+    this.batchConcurrency = batchConcurrency;
+    this.batchDeadline = Duration.ofMillis(batchDeadlineMs);
+  }
 
   /**
    * 위/경도 좌표를 기반으로 주소를 정제합니다.
@@ -76,5 +129,168 @@ public class AddressRefiner {
     return new Destination(
         destination.contact(), refinedAddress, destination.latLng(), destination.entranceInfo());
   }
-}
 
+  /**
+   * Origin/Destination 주소를 동시에 정제합니다.
+   *
+   * <p>흐름:
+   * 1. Origin/Destination 역지오코딩을 각각 Virtual Thread에서 시작
+   * 2. 둘 다 성공하거나, 하나라도 실패하거나, Deadline이 지날 때까지 대기
+   * 3. 실패/Deadline 초과 시 아직 실행 중인 작업을 취소(interrupt)
+   *
+   * @param origin 원본 Origin
+   * @param destination 원본 Destination
+   * @return 정제된 Origin/Destination
+   * @throws AddressRefineFailedException 역지오코딩 실패 또는 Deadline 초과 시
+   */
+  public RefinedLocations refineLocations(Origin origin, Destination destination) {
+    CompletableFuture<Origin> originResult = new CompletableFuture<>();
+    CompletableFuture<Destination> destinationResult = new CompletableFuture<>();
+
+    Future<?> originTask = submit(originResult, () -> refineOrigin(origin));
+    Future<?> destinationTask = submit(destinationResult, () -> refineDestination(destination));
+
+    // 둘 다 성공하면 완료, 하나라도 실패하면 즉시 예외로 완료
+    CompletableFuture<Void> bothOrFirstFailure = new CompletableFuture<>();
+    originResult.whenComplete(
+        (result, e) -> {
+          if (e != null) {
+            bothOrFirstFailure.completeExceptionally(e);
+          }
+        });
+    destinationResult.whenComplete(
+        (result, e) -> {
+          if (e != null) {
+            bothOrFirstFailure.completeExceptionally(e);
+          }
+        });
+    CompletableFuture.allOf(originResult, destinationResult)
+        .thenRun(() -> bothOrFirstFailure.complete(null));
+
+    try {
+      bothOrFirstFailure.get(refinementDeadline.toMillis(), TimeUnit.MILLISECONDS);
+      return new RefinedLocations(originResult.join(), destinationResult.join());
+
+    } catch (ExecutionException e) {
+      cancel(originTask, destinationTask);
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new AddressRefineFailedException("주소 정제 실패", e.getCause());
+
+    } catch (TimeoutException e) {
+      cancel(originTask, destinationTask);
+      throw new AddressRefineFailedException(
+          String.format("주소 정제 시간 초과 - deadline: %dms", refinementDeadline.toMillis()), e);
+
+    } catch (InterruptedException e) {
+      cancel(originTask, destinationTask);
+      Thread.currentThread().interrupt();
+      throw new AddressRefineFailedException("주소 정제 중 인터럽트 발생", e);
+    }
+  }
+
+  /**
+   * 여러 좌표의 주소를 일괄 정제합니다.
+   *
+   * <p>흐름:
+   * 1. 좌표마다 Virtual Thread에서 역지오코딩 시작 (동시 실행 수는 batch-concurrency로 제한)
+   * 2. 전체 Deadline(batch-deadline-ms)까지 결과 수집
+   * 3. Deadline 초과 시 아직 실행 중인 작업을 취소(interrupt)
+   *
+   * <p>일부 좌표가 실패해도 예외를 던지지 않고, 실패한 좌표는 결과에서 제외합니다.
+   *
+   * @param originalsByLatLng 좌표별 원본 주소 (좌표는 호출하는 쪽에서 중복 제거)
+   * @return 정제에 성공한 좌표별 정제된 주소
+   */
+  public Map<LatLng, Address> refineAll(Map<LatLng, Address> originalsByLatLng) {
+    Semaphore permits = new Semaphore(batchConcurrency);
+    Map<LatLng, Address> refined = new ConcurrentHashMap<>();
+    List<Future<?>> tasks = new ArrayList<>(originalsByLatLng.size());
+
+    originalsByLatLng.forEach(
+        (latLng, original) ->
+            tasks.add(
+                submit(
+                    () -> {
+                      try {
+                        permits.acquire();
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                      }
+                      try {
+                        refined.put(latLng, refine(latLng, original));
+                      } finally {
+                        permits.release();
+                      }
+                    })));
+
+    try {
+      awaitAll(tasks, System.nanoTime() + batchDeadline.toNanos());
+    } finally {
+      // Deadline 초과 시 아직 실행 중인 작업 취소
+      cancel(tasks.toArray(Future<?>[]::new));
+    }
+
+    return Map.copyOf(refined);
+  }
+
+  /**
+   * 정제 Executor 종료
+   *
+   * <p>새 작업은 거부하고, 실행 중인 작업은 deadline-ms 까지 기다린 뒤 취소합니다.
+   */
+  @Override
+  public void close() {
+    refinementExecutor.shutdown();
+    try {
+      if (!refinementExecutor.awaitTermination(
+          refinementDeadline.toMillis(), TimeUnit.MILLISECONDS)) {
+        refinementExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      refinementExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Deadline까지 작업 완료 대기 (개별 작업 실패는 무시) */
+  private void awaitAll(List<Future<?>> tasks, long deadlineNanos) {
+    for (Future<?> task : tasks) {
+      try {
+        task.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException | CancellationException e) {
+        // 실패한 좌표는 결과에서 제외
+      } catch (TimeoutException e) {
+        return;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private Future<?> submit(Runnable task) {
+    return refinementExecutor.submit(
+        taskDecorator.map(decorator -> decorator.decorate(task)).orElse(task));
+  }
+
+  private <T> Future<?> submit(CompletableFuture<T> result, Supplier<T> task) {
+    Runnable runnable =
+        () -> {
+          try {
+            result.complete(task.get());
+          } catch (Throwable t) {
+            result.completeExceptionally(t);
+          }
+        };
+    return submit(runnable);
+  }
+
+  private void cancel(Future<?>... tasks) {
+    for (Future<?> task : tasks) {
+      task.cancel(true);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package vroong.laas.order.core.domain.address;
+
+import vroong.laas.order.core.domain.order.Destination;
+import vroong.laas.order.core.domain.order.Origin;
+
+/**
+ * 주소 정제 결과 (Origin + Destination)
+ *
+ * @param origin 정제된 주소가 적용된 Origin
+ * @param destination 정제된 주소가 적용된 Destination
+ */
+public record RefinedLocations(Origin origin, Destination destination) {}
@@ -28,6 +28,9 @@ public class Order extends AggregateRoot {
   private Instant deliveredAt;
   private Instant cancelledAt;
 
+  /** Aggregate 버전 (orders.version, 저장 전이면 null) */
+  private Long version;
+
   /**
    * 생성자 (순수 객체 생성)
    *
@@ -46,6 +49,38 @@ public class Order extends AggregateRoot {
       Instant orderedAt,
       Instant deliveredAt,
       Instant cancelledAt) {
+    this(
+        id,
+        orderNumber,
+        status,
+        items,
+        origin,
+        destination,
+        deliveryPolicy,
+        orderedAt,
+        deliveredAt,
+        cancelledAt,
+        null);
+  }
+
+  /**
+   * 생성자 (버전 포함)
+   *
+   * <p>Infrastructure에서 orders.version 과 함께 DB 데이터 복원 시 사용
+   * <p>도메인 이벤트를 추가하지 않음
+   */
+  public Order(
+      Long id,
+      OrderNumber orderNumber,
+      OrderStatus status,
+      List<OrderItem> items,
+      Origin origin,
+      Destination destination,
+      DeliveryPolicy deliveryPolicy,
+      Instant orderedAt,
+      Instant deliveredAt,
+      Instant cancelledAt,
+      Long version) {
     // 필수 값 체크
     if (id == null) {
       throw new IllegalArgumentException("ID는 필수입니다");
@@ -73,6 +108,7 @@ public class Order extends AggregateRoot {
     this.orderedAt = orderedAt;
     this.deliveredAt = deliveredAt;
     this.cancelledAt = cancelledAt;
+    this.version = version;
   }
 
   /**
@@ -116,6 +152,28 @@ public class Order extends AggregateRoot {
     return order;
   }
 
+  /**
+   * 도메인 이벤트 없는 복사본
+   *
+   * <p>캐시에 보관한 Order 를 호출자가 변경해도 캐시 항목에 영향이 없도록 할 때 사용
+   *
+   * @return 같은 상태/버전의 새 Order
+   */
+  public Order copy() {
+    return new Order(
+        id,
+        orderNumber,
+        status,
+        items,
+        origin,
+        destination,
+        deliveryPolicy,
+        orderedAt,
+        deliveredAt,
+        cancelledAt,
+        version);
+  }
+
   // 불변 리스트 반환
   public List<OrderItem> getItems() {
     return Collections.unmodifiableList(items);
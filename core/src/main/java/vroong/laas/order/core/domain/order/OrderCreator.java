@@ -1,9 +1,12 @@
 package vroong.laas.order.core.domain.order;
 
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vroong.laas.order.core.domain.order.command.CreateOrderCommand;
+import vroong.laas.order.core.domain.order.required.OrderNumberCache;
 import vroong.laas.order.core.domain.order.required.OrderRepository;
 import vroong.laas.order.core.domain.outbox.OutboxEventAppender;
 import vroong.laas.order.core.domain.outbox.OutboxEventType;
@@ -18,6 +21,7 @@ import vroong.laas.order.core.domain.outbox.OutboxEventType;
  *
  * <p>트랜잭션:
  * - Order 저장 + Outbox 저장까지 하나의 트랜잭션 (원자성 보장)
+ * - 일괄 생성(createAll)은 전달받은 주문 전체가 하나의 트랜잭션 (JDBC Batch로 함께 flush)
  *
  * <p>주소 정제:
  * - OrderCreator는 이미 정제된 주소를 받아서 생성에만 집중
@@ -30,6 +34,7 @@ public class OrderCreator {
   private final OrderNumberGenerator orderNumberGenerator;
   private final OrderRepository orderRepository;
   private final OutboxEventAppender outboxEventAppender;
+  private final OrderNumberCache orderNumberCache;
 
   /**
    * 주문 생성 (이미 정제된 주소로)
@@ -59,6 +64,38 @@ public class OrderCreator {
     // 3. 도메인 이벤트 발행
     outboxEventAppender.append(OutboxEventType.ORDER_CREATED, order);
 
+    // 4. 주문번호 → ID 매핑 캐시 (커밋 후 저장)
+    orderNumberCache.put(order.getOrderNumber(), order.getId());
+
     return order;
   }
+
+  /**
+   * 주문 일괄 생성 (이미 정제된 주소로)
+   *
+   * <p>OrderFacade에서 대량 주문을 Chunk 단위로 나누어 호출합니다. 하나라도 실패하면 전체가 롤백됩니다.
+   *
+   * @param commands 정제된 주소가 적용된 주문 생성 Command 목록
+   * @return 생성된 Order 목록 (commands 순서 유지)
+   */
+  @Transactional
+  public List<Order> createAll(List<CreateOrderCommand> commands) {
+    List<Order> orders = new ArrayList<>(commands.size());
+    for (CreateOrderCommand command : commands) {
+      OrderNumber orderNumber = orderNumberGenerator.generate();
+
+      Order order =
+          orderRepository.store(
+              orderNumber,
+              command.items(),
+              command.origin(),
+              command.destination(),
+              command.deliveryPolicy());
+
+      outboxEventAppender.append(OutboxEventType.ORDER_CREATED, order);
+      orderNumberCache.put(order.getOrderNumber(), order.getId());
+      orders.add(order);
+    }
+    return orders;
+  }
 }
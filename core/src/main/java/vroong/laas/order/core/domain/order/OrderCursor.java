@@ -0,0 +1,64 @@
+package vroong.laas.order.core.domain.order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 Keyset Cursor
+ *
+ * <p>주문 목록은 (ordered_at DESC, id DESC) 순서이며, Cursor 는 이전 페이지 마지막 주문의 (orderedAt, id) 입니다.
+ * 다음 페이지는 이 위치 "뒤"의 주문부터 조회합니다 (OFFSET 없음).
+ *
+ * <p>API 에는 Base64 URL 문자열로 노출합니다 (클라이언트는 내용을 해석하지 않음).
+ *
+ * @param orderedAt 마지막 주문의 주문 시각
+ * @param id 마지막 주문의 ID
+ */
+public record OrderCursor(Instant orderedAt, Long id) {
+
+  private static final String SEPARATOR = "|";
+
+  public OrderCursor {
+    if (orderedAt == null || id == null) {
+      throw new IllegalArgumentException("cursor 의 orderedAt, id 는 필수입니다");
+    }
+  }
+
+  /** 주문 요약의 위치 */
+  public static OrderCursor of(OrderSummary summary) {
+    return new OrderCursor(summary.orderedAt(), summary.id());
+  }
+
+  /**
+   * API 문자열 → Cursor
+   *
+   * @param value {@link #encode()} 로 만든 문자열
+   * @return Cursor
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  public static OrderCursor decode(String value) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("잘못된 cursor 입니다: " + value);
+      }
+      return new OrderCursor(
+          Instant.parse(decoded.substring(0, separator)),
+          Long.parseLong(decoded.substring(separator + 1)));
+    } catch (DateTimeParseException | IllegalArgumentException e) {
+      // NumberFormatException 포함
+      throw new IllegalArgumentException("잘못된 cursor 입니다: " + value, e);
+    }
+  }
+
+  /** Cursor → API 문자열 */
+  public String encode() {
+    String raw = orderedAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -3,6 +3,8 @@ package vroong.laas.order.core.domain.order;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vroong.laas.order.core.domain.order.exception.OrderNotFoundException;
+import vroong.laas.order.core.domain.order.required.OrderCache;
 import vroong.laas.order.core.domain.order.required.OrderRepository;
 import vroong.laas.order.core.domain.shared.Address;
 import vroong.laas.order.core.domain.shared.LatLng;
@@ -17,6 +19,7 @@ import vroong.laas.order.core.domain.shared.LatLng;
  * - 출발지 변경 (향후 추가 예정)
  * - 상태 검증 (CREATED만 허용)
  * - 도메인 이벤트 발행
+ * - 커밋 후 Order 캐시 무효화 (변경 후 버전 기준)
  *
  * <p>주의:
  * - 주소 정제는 Facade에서 수행 (인프라 의존적 처리)
@@ -30,6 +33,7 @@ import vroong.laas.order.core.domain.shared.LatLng;
 public class OrderLocationChanger {
 
   private final OrderRepository orderRepository;
+  private final OrderCache orderCache;
   // TODO: private final OutboxEventAppender outboxEventAppender;
 
   /**
@@ -48,30 +52,46 @@ public class OrderLocationChanger {
    * - Contact (연락처) - 변경되지 않음
    *
    * <p>주의:
-   * - Order 조회는 Facade에서 완료 (빠른 실패)
+   * - 변경할 Order 는 이 트랜잭션 안에서 Writer DB 로 조회 (캐시, Reader 를 거치지 않음)
    * - 주소 정제는 Facade에서 완료 (불필요한 외부 API 호출 방지)
+   * - 조회 이후 다른 요청이 먼저 변경했으면 (orders.version 불일치) 변경하지 않고 실패
    *
-   * @param order Order (Facade에서 조회 완료)
+   * @param orderId 주문 ID
    * @param refinedAddress 정제된 주소 (Facade에서 주소 정제 완료)
    * @param refinedLatLng 정제된 위경도
    * @param refinedEntranceInfo 정제된 출입 정보
    * @return 변경된 Order
+   * @throws OrderNotFoundException 주문을 찾을 수 없음
    * @throws vroong.laas.order.core.domain.order.exception.OrderLocationChangeNotAllowedException CREATED 상태가 아님
+   * @throws vroong.laas.order.core.domain.order.exception.OrderConcurrentlyModifiedException 동시 변경
    */
   @Transactional
   public Order changeDestinationAddress(
-      Order order,
+      Long orderId,
       Address refinedAddress,
       LatLng refinedLatLng,
       EntranceInfo refinedEntranceInfo) {
-    // 1. 도착지 주소 변경 (상태 검증 포함, 도메인 이벤트 추가)
+    // 1. 변경할 Order 조회 (쓰기 트랜잭션 → Writer DB, 복제 지연 없음)
+    Order order =
+        orderRepository.findById(orderId).orElseThrow(() -> new OrderNotFoundException(orderId));
+
+    // 2. 도착지 주소 변경 (상태 검증 포함, 도메인 이벤트 추가)
     order.changeDestinationAddress(refinedAddress, refinedLatLng, refinedEntranceInfo);
 
-    // 2. DB 업데이트
-    orderRepository.updateDestinationAddress(
-        order.getId(), refinedAddress, refinedLatLng, refinedEntranceInfo);
+    // 3. DB 업데이트 (조회한 버전일 때만 orders.version 증가)
+    long version =
+        orderRepository.updateDestinationAddress(
+            order.getId(),
+            order.getVersion(),
+            refinedAddress,
+            refinedLatLng,
+            refinedEntranceInfo);
+    order.updateVersion(version);
+
+    // 4. 커밋 후 캐시 무효화 (이전 버전이 다시 캐시되지 않음)
+    orderCache.invalidate(order.getId(), version);
 
-    // TODO: 3. Outbox 이벤트 발행
+    // TODO: 5. Outbox 이벤트 발행
     // Kafka 라이브러리 업데이트 후 구현 예정
     // outboxEventAppender.append(
     //     OutboxEventType.ORDER_DESTINATION_ADDRESS_CHANGED,
@@ -1,28 +1,110 @@
 package vroong.laas.order.core.domain.order;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Random;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * 주문번호 생성기
  *
- * <p>주문번호 생성 규칙:
- * - 형식: ORD-YYYYMMDDHHMMSS + 3자리 난수
- * - 예시: ORD-20240101123045001
+ * <p>주문번호 생성 규칙 (order.number.mode):
+ * - random (기본): ORD-YYYYMMDDHHMMSS + 3자리 난수 (예: ORD-20240101123045001)
+ * - sequence: ORD-YYYYMMDDHHMMSS + 3자리 노드 ID + 6자리 초당 시퀀스 (예: ORD-20240101123045007000123)
+ *
+ * <p>sequence 모드 (Snowflake 방식):
+ * - 노드(Pod)마다 서로 다른 order.number.node-id (0 ~ 999, 최대 1000개 노드) 필요
+ * - node-id 미설정 시 기동 실패 (모든 Pod가 같은 기본값을 쓰면 같은 초에 같은 번호 발급)
+ * - 예: StatefulSet Ordinal, 배포 시 할당한 Pod 번호 (ORDER_NUMBER_NODE_ID)
+ * - 같은 초 안에서는 시퀀스를 1씩 증가 (노드당 초당 최대 1,000,000건)
+ * - 시퀀스가 소진되면 다음 초의 시퀀스를 미리 사용 (대기 없음)
+ * - 시계가 뒤로 가도 마지막으로 사용한 초 이후로만 발급 → 노드 내 중복 없음
  *
  * <p>특징:
- * - Stateless (상태 없음)
- * - 순수 계산 로직
- * - Thread-safe
+ * - Thread-safe (Lock 없이 CAS)
+ * - DateTimeFormatter, String.format, Boxing 없이 byte[] 로 직접 조립
+ * - 날짜/시간 자릿수는 초가 바뀔 때만 다시 계산
  */
 @Service
 public class OrderNumberGenerator {
 
-  private static final String PREFIX = "ORD-";
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
-  private static final Random RANDOM = new Random();
+  /** 생성 모드 */
+  public enum Mode {
+    RANDOM,
+    SEQUENCE
+  }
+
+  static final int MAX_NODE_ID = 999;
+  static final int MAX_SEQUENCE = 999_999;
+
+  private static final byte[] PREFIX = "ORD-".getBytes(StandardCharsets.ISO_8859_1);
+  private static final int TIMESTAMP_DIGITS = 14;
+  private static final int RANDOM_DIGITS = 3;
+  private static final int NODE_DIGITS = 3;
+  private static final int SEQUENCE_DIGITS = 6;
+  private static final int SEQUENCE_BITS = 20;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private final Mode mode;
+  private final int nodeId;
+  private final Clock clock;
+
+  // sequence 모드 상태: (epochSecond << SEQUENCE_BITS) | sequence
+  private final AtomicLong lastState = new AtomicLong(-1);
+
+  // 마지막으로 계산한 초의 YYYYMMDDHHMMSS 자릿수
+  private volatile Timestamp cachedTimestamp = new Timestamp(Long.MIN_VALUE, null);
+
+  /** random 모드 생성기 (시스템 시계) */
+  public OrderNumberGenerator() {
+    this(Mode.RANDOM, 0, Clock.systemDefaultZone());
+  }
+
+  /**
+   * 설정 기반 생성
+   *
+   * @param mode 생성 모드 (random, sequence)
+   * @param nodeId 노드 ID (sequence 모드에서 필수, 노드마다 고유해야 함, 0 ~ 999)
+   * @throws IllegalArgumentException sequence 모드인데 nodeId가 없거나 범위를 벗어난 경우
+   */
+  @Autowired
+  public OrderNumberGenerator(
+      @Value("${order.number.mode:random}") String mode,
+      @Value("${order.number.node-id:#{null}}") Integer nodeId) {
+    this(parseMode(mode), requireNodeId(parseMode(mode), nodeId), Clock.systemDefaultZone());
+  }
+
+  OrderNumberGenerator(Mode mode, int nodeId, Clock clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("order.number.node-id는 0 ~ 999 사이여야 합니다: " + nodeId);
+    }
+    this.mode = mode;
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  private static Mode parseMode(String mode) {
+    return Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+  }
+
+  /** sequence 모드는 node-id 필수 (random 모드는 사용하지 않으므로 0) */
+  private static int requireNodeId(Mode mode, Integer nodeId) {
+    if (nodeId != null) {
+      return nodeId;
+    }
+    if (mode == Mode.SEQUENCE) {
+      throw new IllegalArgumentException(
+          "order.number.mode=sequence 는 Pod마다 고유한 order.number.node-id(0 ~ 999) 설정이 필요합니다");
+    }
+    return 0;
+  }
 
   /**
    * 주문번호 생성
@@ -30,9 +112,96 @@ public class OrderNumberGenerator {
    * @return 생성된 주문번호
    */
   public OrderNumber generate() {
-    String timestamp = LocalDateTime.now().format(FORMATTER);
-    String randomSuffix = String.format("%03d", RANDOM.nextInt(1000));
-    String value = PREFIX + timestamp + randomSuffix;
-    return new OrderNumber(value);
+    return switch (mode) {
+      case RANDOM -> generateRandom();
+      case SEQUENCE -> generateSequence();
+    };
   }
+
+  private OrderNumber generateRandom() {
+    byte[] digits = timestampDigits(clock.millis() / 1000);
+    byte[] value = new byte[PREFIX.length + TIMESTAMP_DIGITS + RANDOM_DIGITS];
+
+    int offset = writePrefix(value, digits);
+    writeDigits(value, offset, RANDOM_DIGITS, ThreadLocalRandom.current().nextInt(1000));
+
+    return new OrderNumber(new String(value, StandardCharsets.ISO_8859_1));
+  }
+
+  private OrderNumber generateSequence() {
+    long state = nextState(clock.millis() / 1000);
+    long epochSecond = state >>> SEQUENCE_BITS;
+    int sequence = (int) (state & SEQUENCE_MASK);
+
+    byte[] digits = timestampDigits(epochSecond);
+    byte[] value = new byte[PREFIX.length + TIMESTAMP_DIGITS + NODE_DIGITS + SEQUENCE_DIGITS];
+
+    int offset = writePrefix(value, digits);
+    offset = writeDigits(value, offset, NODE_DIGITS, nodeId);
+    writeDigits(value, offset, SEQUENCE_DIGITS, sequence);
+
+    return new OrderNumber(new String(value, StandardCharsets.ISO_8859_1));
+  }
+
+  /**
+   * 다음 (초, 시퀀스) 발급
+   *
+   * <p>현재 초가 마지막 초보다 크면 시퀀스 0부터, 아니면 마지막 초의 시퀀스 + 1. 시퀀스가 소진되면 다음 초로 넘어갑니다.
+   */
+  private long nextState(long nowSecond) {
+    while (true) {
+      long last = lastState.get();
+      long lastSecond = last < 0 ? -1 : last >>> SEQUENCE_BITS;
+
+      long next;
+      if (nowSecond > lastSecond) {
+        next = nowSecond << SEQUENCE_BITS;
+      } else if ((last & SEQUENCE_MASK) < MAX_SEQUENCE) {
+        next = last + 1;
+      } else {
+        next = (lastSecond + 1) << SEQUENCE_BITS;
+      }
+
+      if (lastState.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+
+  private byte[] timestampDigits(long epochSecond) {
+    Timestamp cached = cachedTimestamp;
+    if (cached.epochSecond() == epochSecond) {
+      return cached.digits();
+    }
+
+    ZoneId zone = clock.getZone();
+    LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+    byte[] digits = new byte[TIMESTAMP_DIGITS];
+    int offset = writeDigits(digits, 0, 4, dateTime.getYear());
+    offset = writeDigits(digits, offset, 2, dateTime.getMonthValue());
+    offset = writeDigits(digits, offset, 2, dateTime.getDayOfMonth());
+    offset = writeDigits(digits, offset, 2, dateTime.getHour());
+    offset = writeDigits(digits, offset, 2, dateTime.getMinute());
+    writeDigits(digits, offset, 2, dateTime.getSecond());
+
+    cachedTimestamp = new Timestamp(epochSecond, digits);
+    return digits;
+  }
+
+  private static int writePrefix(byte[] value, byte[] timestampDigits) {
+    System.arraycopy(PREFIX, 0, value, 0, PREFIX.length);
+    System.arraycopy(timestampDigits, 0, value, PREFIX.length, TIMESTAMP_DIGITS);
+    return PREFIX.length + TIMESTAMP_DIGITS;
+  }
+
+  /** number를 width 자리 0-padding 10진수로 기록하고 다음 offset 반환 */
+  private static int writeDigits(byte[] target, int offset, int width, int number) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      target[i] = (byte) ('0' + number % 10);
+      number /= 10;
+    }
+    return offset + width;
+  }
+
+  private record Timestamp(long epochSecond, byte[] digits) {}
 }
@@ -1,9 +1,13 @@
 package vroong.laas.order.core.domain.order;
 
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import vroong.laas.order.core.common.annotation.ReadOnlyTransactional;
 import vroong.laas.order.core.domain.order.exception.OrderNotFoundException;
+import vroong.laas.order.core.domain.order.required.OrderCache;
+import vroong.laas.order.core.domain.order.required.OrderNumberCache;
 import vroong.laas.order.core.domain.order.required.OrderRepository;
 
 /**
@@ -12,6 +16,10 @@ import vroong.laas.order.core.domain.order.required.OrderRepository;
  * <p>책임:
  * - Order 조회 비즈니스 로직
  * - 조회 결과 검증
+ * - ID 조회는 Order Aggregate 캐시를 거침 (OrderCache, Read-Through, 조회 전용)
+ *   → 캐시 항목의 버전은 함께 조회한 orders Row 의 version (별도 버전 조회 없음)
+ * - 변경할 Order 는 캐시를 거치지 않고 쓰기 트랜잭션 안에서 Writer DB 로 조회 (OrderLocationChanger)
+ * - 주문번호 조회는 주문번호 → ID 매핑 캐시(OrderNumberCache)로 ID 를 찾은 뒤 ID 조회 경로를 재사용
  *
  * <p>트랜잭션:
  * - @ReadOnlyTransactional (SUPPORTS propagation)
@@ -22,24 +30,50 @@ import vroong.laas.order.core.domain.order.required.OrderRepository;
 public class OrderReader {
 
   private final OrderRepository orderRepository;
+  private final OrderCache orderCache;
+  private final OrderNumberCache orderNumberCache;
 
   /**
    * ID로 Order 조회
    *
+   * <p>캐시에 있으면 DB 를 조회하지 않고, 없으면 Aggregate 를 한 번의 쿼리로 조회해 그 Row 의 버전으로 캐시합니다.
+   * 다른 인스턴스의 변경은 공유 캐시 무효화 또는 Near Cache TTL 이후 반영됩니다. 반환한 Order 는 호출자 전용
+   * 복사본입니다.
+   *
    * @param orderId Order ID
    * @return Order
    * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
    */
   @ReadOnlyTransactional
   public Order getOrderById(Long orderId) {
-    return orderRepository
-        .findById(orderId)
+    return orderCache
+        .getOrLoad(orderId, orderRepository::findById)
+        .orElseThrow(() -> new OrderNotFoundException(orderId));
+  }
+
+  /**
+   * 이미 읽은 버전으로 Order 조회
+   *
+   * <p>호출자가 방금 읽은 orders.version 을 그대로 사용하므로 버전을 다시 조회하지 않습니다. 캐시 항목이
+   * currentVersion 보다 낮으면 DB 에서 다시 조회합니다. (조건부 조회에서 ETag 불일치 시 사용)
+   *
+   * @param orderId Order ID
+   * @param currentVersion 방금 읽은 orders.version
+   * @return Order (버전은 currentVersion 이상)
+   * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
+   */
+  @ReadOnlyTransactional
+  public Order getOrderById(Long orderId, long currentVersion) {
+    return orderCache
+        .getOrLoad(orderId, currentVersion, orderRepository::findById)
         .orElseThrow(() -> new OrderNotFoundException(orderId));
   }
 
   /**
    * 주문번호로 Order 조회
    *
+   * <p>주문번호 → ID 매핑이 캐시에 있으면 주문번호 인덱스 조회 없이 ID 조회 경로(OrderCache)를 사용합니다.
+   *
    * @param orderNumber 주문번호
    * @return Order
    * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
@@ -47,8 +81,106 @@ public class OrderReader {
   @ReadOnlyTransactional
   public Order getOrderByNumber(String orderNumber) {
     OrderNumber orderNumberVO = new OrderNumber(orderNumber);
+    return orderNumberCache
+        .getOrLoad(orderNumberVO, orderRepository::findIdByOrderNumber)
+        .flatMap(orderId -> orderCache.getOrLoad(orderId, orderRepository::findById))
+        .orElseThrow(() -> new OrderNotFoundException(orderNumberVO));
+  }
+
+  /**
+   * ID로 주문 요약 조회
+   *
+   * <p>orders Row 만 조회합니다 (Aggregate 조립, 배송 정책 JSON 파싱 없음).
+   *
+   * @param orderId Order ID
+   * @return 주문 요약
+   * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
+   */
+  @ReadOnlyTransactional
+  public OrderSummary getOrderSummaryById(Long orderId) {
     return orderRepository
-        .findByOrderNumber(orderNumberVO)
+        .findSummaryById(orderId)
+        .orElseThrow(() -> new OrderNotFoundException(orderId));
+  }
+
+  /**
+   * 주문번호로 주문 요약 조회
+   *
+   * <p>주문번호 → ID 매핑 캐시로 ID 를 찾은 뒤 orders Row 만 조회합니다.
+   *
+   * @param orderNumber 주문번호
+   * @return 주문 요약
+   * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
+   */
+  @ReadOnlyTransactional
+  public OrderSummary getOrderSummaryByNumber(String orderNumber) {
+    OrderNumber orderNumberVO = new OrderNumber(orderNumber);
+    return orderNumberCache
+        .getOrLoad(orderNumberVO, orderRepository::findIdByOrderNumber)
+        .flatMap(orderRepository::findSummaryById)
         .orElseThrow(() -> new OrderNotFoundException(orderNumberVO));
   }
+
+  /**
+   * 조건에 맞는 주문 요약 목록 조회 (Keyset Pagination)
+   *
+   * <p>size + 1 건을 조회하여 다음 페이지 존재 여부를 판단합니다 (COUNT 쿼리 없음).
+   *
+   * @param condition 조회 조건
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 주문 요약 페이지
+   */
+  @ReadOnlyTransactional
+  public OrderSummaryPage searchOrderSummaries(
+      OrderSearchCondition condition, OrderCursor cursor, int size) {
+    return OrderSummaryPage.of(orderRepository.findSummaries(condition, cursor, size + 1), size);
+  }
+
+  /**
+   * 조건에 맞는 주문 요약 전체 Export (Streaming)
+   *
+   * <p>주문 시각 오름차순으로 한 건씩 consumer 에 전달합니다. 트랜잭션 없이 Reader DB 에서 조회합니다.
+   *
+   * @param condition 조회 조건
+   * @param consumer 주문 요약 처리
+   * @return 전달한 주문 수
+   */
+  public long exportOrderSummaries(
+      OrderSearchCondition condition, Consumer<OrderSummary> consumer) {
+    return orderRepository.streamSummaries(condition, consumer);
+  }
+
+  /**
+   * ID 목록으로 Order 일괄 조회
+   *
+   * <p>존재하지 않는 주문은 결과에서 제외 (호출자가 누락 여부 판단)
+   *
+   * @param orderIds Order ID 목록
+   * @return Order 목록
+   */
+  @ReadOnlyTransactional
+  public List<Order> getOrdersByIds(List<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return List.of();
+    }
+    return orderRepository.findAllByIds(orderIds);
+  }
+
+  /**
+   * 주문번호 목록으로 Order 일괄 조회
+   *
+   * <p>존재하지 않는 주문은 결과에서 제외 (호출자가 누락 여부 판단)
+   *
+   * @param orderNumbers 주문번호 목록
+   * @return Order 목록
+   */
+  @ReadOnlyTransactional
+  public List<Order> getOrdersByNumbers(List<String> orderNumbers) {
+    if (orderNumbers.isEmpty()) {
+      return List.of();
+    }
+    List<OrderNumber> orderNumberVOs = orderNumbers.stream().map(OrderNumber::new).toList();
+    return orderRepository.findAllByOrderNumbers(orderNumberVOs);
+  }
 }
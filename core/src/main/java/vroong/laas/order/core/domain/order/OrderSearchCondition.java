@@ -0,0 +1,21 @@
+package vroong.laas.order.core.domain.order;
+
+import java.time.Instant;
+
+/**
+ * 주문 목록 조회 조건
+ *
+ * <p>모든 조건은 선택이며, 지정한 조건만 AND 로 적용합니다.
+ *
+ * @param status 주문 상태 (null 이면 전체)
+ * @param orderedFrom 주문 시각 시작 (포함, null 이면 제한 없음)
+ * @param orderedTo 주문 시각 끝 (미포함, null 이면 제한 없음)
+ */
+public record OrderSearchCondition(OrderStatus status, Instant orderedFrom, Instant orderedTo) {
+
+  public OrderSearchCondition {
+    if (orderedFrom != null && orderedTo != null && !orderedFrom.isBefore(orderedTo)) {
+      throw new IllegalArgumentException("orderedFrom 은 orderedTo 보다 이전이어야 합니다");
+    }
+  }
+}
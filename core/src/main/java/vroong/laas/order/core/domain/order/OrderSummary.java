@@ -0,0 +1,26 @@
+package vroong.laas.order.core.domain.order;
+
+import java.time.Instant;
+
+/**
+ * 주문 요약 (조회 전용)
+ *
+ * <p>orders Row 만으로 만들 수 있는 주문 정보입니다. 아이템/출발지/도착지/배송 정책이 필요 없는 조회에서 Order
+ * Aggregate 전체 조회 대신 사용합니다.
+ *
+ * @param id 주문 ID
+ * @param orderNumber 주문번호
+ * @param status 주문 상태
+ * @param orderedAt 주문 시각
+ * @param deliveredAt 배송 완료 시각
+ * @param cancelledAt 취소 시각
+ * @param version Aggregate 버전 (orders.version)
+ */
+public record OrderSummary(
+    Long id,
+    OrderNumber orderNumber,
+    OrderStatus status,
+    Instant orderedAt,
+    Instant deliveredAt,
+    Instant cancelledAt,
+    Long version) {}
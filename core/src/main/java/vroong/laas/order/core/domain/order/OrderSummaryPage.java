@@ -0,0 +1,34 @@
+package vroong.laas.order.core.domain.order;
+
+import java.util.List;
+
+/**
+ * 주문 요약 목록 한 페이지
+ *
+ * @param orders 주문 요약 목록 ((orderedAt, id) 내림차순)
+ * @param nextCursor 다음 페이지 Cursor (마지막 페이지면 null)
+ */
+public record OrderSummaryPage(List<OrderSummary> orders, OrderCursor nextCursor) {
+
+  /**
+   * 다음 페이지 존재 여부
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+
+  /**
+   * size + 1 건 조회 결과로 페이지 생성
+   *
+   * @param fetched 최대 size + 1 건의 조회 결과
+   * @param size 페이지 크기
+   * @return size 건까지의 페이지 (size 건을 넘으면 마지막 항목 위치를 다음 Cursor 로 사용)
+   */
+  public static OrderSummaryPage of(List<OrderSummary> fetched, int size) {
+    if (fetched.size() <= size) {
+      return new OrderSummaryPage(List.copyOf(fetched), null);
+    }
+    List<OrderSummary> page = List.copyOf(fetched.subList(0, size));
+    return new OrderSummaryPage(page, OrderCursor.of(page.getLast()));
+  }
+}
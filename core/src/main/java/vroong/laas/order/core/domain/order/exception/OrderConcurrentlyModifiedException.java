@@ -0,0 +1,25 @@
+package vroong.laas.order.core.domain.order.exception;
+
+import vroong.laas.order.core.common.exception.BaseException;
+import vroong.laas.order.core.common.exception.ErrorCode;
+
+/**
+ * 조회한 버전 이후 다른 요청이 먼저 주문을 변경했을 때 발생하는 예외
+ *
+ * <p>사용 시나리오:
+ * - 도착지 변경 중 같은 주문의 다른 변경이 먼저 커밋됨 (orders.version 불일치)
+ */
+public class OrderConcurrentlyModifiedException extends BaseException {
+
+  /**
+   * 주문 ID와 조회한 버전으로 예외 생성
+   *
+   * @param orderId 주문 ID
+   * @param expectedVersion 변경 전에 조회한 버전
+   */
+  public OrderConcurrentlyModifiedException(Long orderId, long expectedVersion) {
+    super(
+        ErrorCode.ORDER_CONCURRENTLY_MODIFIED,
+        "다른 요청이 먼저 주문을 변경했습니다. 주문 ID: " + orderId + ", 조회한 버전: " + expectedVersion);
+  }
+}
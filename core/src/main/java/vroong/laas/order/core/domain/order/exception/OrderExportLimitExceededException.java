@@ -0,0 +1,24 @@
+package vroong.laas.order.core.domain.order.exception;
+
+import vroong.laas.order.core.common.exception.BaseException;
+import vroong.laas.order.core.common.exception.ErrorCode;
+
+/**
+ * 동시에 실행할 수 있는 주문 Export 수를 넘었을 때 발생하는 예외
+ *
+ * <p>사용 시나리오:
+ * - Export 가 Reader DB Connection 을 오래 잡고 있으므로 동시 실행 수를 제한 (일시적, 재시도 가능)
+ */
+public class OrderExportLimitExceededException extends BaseException {
+
+  /**
+   * 동시 실행 한도로 예외 생성
+   *
+   * @param maxConcurrent 동시 실행 한도
+   */
+  public OrderExportLimitExceededException(int maxConcurrent) {
+    super(
+        ErrorCode.ORDER_EXPORT_LIMIT_EXCEEDED,
+        "실행 중인 주문 Export 가 한도(" + maxConcurrent + ")에 도달했습니다");
+  }
+}
@@ -0,0 +1,53 @@
+package vroong.laas.order.core.domain.order.required;
+
+import java.util.Optional;
+import java.util.function.Function;
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * Order Aggregate 캐시 Port
+ *
+ * <p>ID 로 조회한 Order Aggregate 전체를 캐시합니다 (Read-Through).
+ *
+ * <p>책임:
+ * - 캐시에 없으면 loader 로 조회 후 저장 (항목의 버전은 loader 가 조회한 orders Row 의 version)
+ * - 호출자가 이미 읽은 버전이 있으면 그보다 낮은 항목은 반환하지 않음 (조건부 조회)
+ * - 버전(orders.version) 비교: 캐시에 있는 항목보다 낮은 버전은 저장하지 않음
+ * - 조회 전용 (변경할 Order 는 캐시를 거치지 않음)
+ * - 변경 커밋 시 무효화 (무효화한 버전 미만의 항목은 이후에도 저장하지 않음)
+ * - Infrastructure에서 Adapter로 구현 (TwoTierOrderCache: 로컬 Near Cache + 선택적 공유 캐시)
+ *
+ * <p>주의: 반환한 Order 는 호출자 전용 복사본이므로 변경해도 캐시에 영향이 없습니다.
+ */
+public interface OrderCache {
+
+  /**
+   * 캐시 조회, 없으면 loader 로 조회 후 저장
+   *
+   * @param orderId Order ID
+   * @param loader 캐시에 없을 때 Order 조회 (DB)
+   * @return Order (없으면 Optional.empty(), 없는 주문은 캐시하지 않음)
+   */
+  Optional<Order> getOrLoad(Long orderId, Function<Long, Optional<Order>> loader);
+
+  /**
+   * 캐시 조회, 없거나 currentVersion 보다 낮으면 loader 로 조회 후 저장
+   *
+   * @param orderId Order ID
+   * @param currentVersion 호출자가 방금 읽은 orders.version
+   * @param loader 캐시에 없을 때 Order 조회 (DB)
+   * @return Order (없으면 Optional.empty(), 없는 주문은 캐시하지 않음)
+   */
+  Optional<Order> getOrLoad(
+      Long orderId, long currentVersion, Function<Long, Optional<Order>> loader);
+
+  /**
+   * Order 변경 후 캐시 무효화
+   *
+   * <p>트랜잭션 안에서 호출하면 커밋 후 무효화하며, 롤백되면 무효화하지 않습니다.
+   *
+   * @param orderId Order ID
+   * @param version 변경 후 버전 (이 버전 미만의 항목은 더 이상 캐시하지 않음)
+   */
+  void invalidate(Long orderId, long version);
+}
@@ -0,0 +1,38 @@
+package vroong.laas.order.core.domain.order.required;
+
+import java.util.Optional;
+import java.util.function.Function;
+import vroong.laas.order.core.domain.order.OrderNumber;
+
+/**
+ * 주문번호 → Order ID 매핑 캐시 Port
+ *
+ * <p>주문번호로 조회할 때 주문번호 인덱스 조회를 생략하고 ID 조회 경로(OrderCache)를 재사용하기 위한 캐시입니다.
+ *
+ * <p>특징:
+ * - 주문번호 → ID 매핑은 바뀌지 않으므로 무효화 없이 크기 제한만 둠
+ * - 주문 생성 시와 첫 조회 시 저장
+ * - 없는 주문번호는 캐시하지 않음
+ * - Infrastructure에서 Adapter로 구현 (CaffeineOrderNumberCache)
+ */
+public interface OrderNumberCache {
+
+  /**
+   * 캐시 조회, 없으면 loader 로 조회 후 저장
+   *
+   * @param orderNumber 주문번호
+   * @param loader 캐시에 없을 때 Order ID 조회 (DB)
+   * @return Order ID (없으면 Optional.empty())
+   */
+  Optional<Long> getOrLoad(OrderNumber orderNumber, Function<OrderNumber, Optional<Long>> loader);
+
+  /**
+   * 생성한 주문의 매핑 저장
+   *
+   * <p>트랜잭션 안에서 호출하면 커밋 후 저장하며, 롤백되면 저장하지 않습니다.
+   *
+   * @param orderNumber 주문번호
+   * @param orderId Order ID
+   */
+  void put(OrderNumber orderNumber, Long orderId);
+}
@@ -2,12 +2,16 @@ package vroong.laas.order.core.domain.order.required;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import vroong.laas.order.core.domain.order.DeliveryPolicy;
 import vroong.laas.order.core.domain.order.Destination;
 import vroong.laas.order.core.domain.order.EntranceInfo;
 import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderCursor;
 import vroong.laas.order.core.domain.order.OrderItem;
 import vroong.laas.order.core.domain.order.OrderNumber;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.OrderSummary;
 import vroong.laas.order.core.domain.order.Origin;
 import vroong.laas.order.core.domain.shared.Address;
 import vroong.laas.order.core.domain.shared.LatLng;
@@ -61,6 +65,71 @@ public interface OrderRepository {
    */
   Optional<Order> findByOrderNumber(OrderNumber orderNumber);
 
+  /**
+   * ID로 주문 요약 조회
+   *
+   * <p>orders 테이블만 조회합니다 (아이템/위치/배송 정책 미포함).
+   *
+   * @param id Order ID
+   * @return 주문 요약 (Optional)
+   */
+  Optional<OrderSummary> findSummaryById(Long id);
+
+  /**
+   * 조건에 맞는 주문 요약 목록 조회 (Keyset Pagination)
+   *
+   * <p>(orderedAt, id) 내림차순으로, after 위치 뒤의 주문부터 최대 limit 건을 조회합니다.
+   *
+   * @param condition 조회 조건
+   * @param after 이전 페이지 마지막 위치 (첫 페이지면 null)
+   * @param limit 최대 조회 건수
+   * @return 주문 요약 목록 ((orderedAt, id) 내림차순)
+   */
+  List<OrderSummary> findSummaries(OrderSearchCondition condition, OrderCursor after, int limit);
+
+  /**
+   * 조건에 맞는 주문 요약 전체를 순서대로 전달 (Export 용 Streaming)
+   *
+   * <p>결과를 메모리에 모으지 않고 한 건씩 consumer 에 전달합니다. 메모리 사용량은 조회 범위와 관계없이 일정합니다.
+   *
+   * <p>consumer 가 예외를 던지면 조회를 중단하고 그 예외를 그대로 던집니다.
+   *
+   * @param condition 조회 조건
+   * @param consumer 주문 요약 처리 (예: 응답 스트림에 쓰기)
+   * @return 전달한 주문 수
+   */
+  long streamSummaries(OrderSearchCondition condition, Consumer<OrderSummary> consumer);
+
+  /**
+   * 주문번호로 Order ID 조회
+   *
+   * <p>Aggregate 를 조립하지 않고 주문번호 인덱스만 조회합니다.
+   *
+   * @param orderNumber 주문번호
+   * @return Order ID (Optional)
+   */
+  Optional<Long> findIdByOrderNumber(OrderNumber orderNumber);
+
+  /**
+   * ID 목록으로 Order 일괄 조회
+   *
+   * <p>존재하지 않는 ID는 결과에서 제외됩니다. (예외 없음)
+   *
+   * @param ids Order ID 목록
+   * @return Order 목록 (ID 오름차순)
+   */
+  List<Order> findAllByIds(List<Long> ids);
+
+  /**
+   * 주문번호 목록으로 Order 일괄 조회
+   *
+   * <p>존재하지 않는 주문번호는 결과에서 제외됩니다. (예외 없음)
+   *
+   * @param orderNumbers 주문번호 목록
+   * @return Order 목록 (ID 오름차순)
+   */
+  List<Order> findAllByOrderNumbers(List<OrderNumber> orderNumbers);
+
   /**
    * 주문번호 존재 여부 확인
    *
@@ -82,11 +151,20 @@ public interface OrderRepository {
    * <p>유지되는 것:
    * - Contact (연락처) - 변경되지 않음
    *
+   * <p>Aggregate 버전(orders.version)이 expectedVersion 일 때만 1 증가시키고 변경합니다.
+   *
    * @param orderId 주문 ID
+   * @param expectedVersion 변경 전에 조회한 버전
    * @param newAddress 새로운 주소
    * @param newLatLng 새로운 위경도
    * @param newEntranceInfo 새로운 출입 정보
+   * @return 변경 후 Aggregate 버전
+   * @throws vroong.laas.order.core.domain.order.exception.OrderConcurrentlyModifiedException 동시 변경
    */
-  void updateDestinationAddress(
-      Long orderId, Address newAddress, LatLng newLatLng, EntranceInfo newEntranceInfo);
+  long updateDestinationAddress(
+      Long orderId,
+      long expectedVersion,
+      Address newAddress,
+      LatLng newLatLng,
+      EntranceInfo newEntranceInfo);
 }
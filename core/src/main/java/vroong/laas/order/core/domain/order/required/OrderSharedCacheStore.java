@@ -0,0 +1,40 @@
+package vroong.laas.order.core.domain.order.required;
+
+import java.util.Optional;
+import vroong.laas.order.core.domain.order.Order;
+
+/**
+ * Order 공유 캐시 저장소 Port (선택)
+ *
+ * <p>여러 인스턴스가 함께 쓰는 2차 캐시(예: Redis)입니다. 구현 Bean 이 없으면 로컬 Near Cache 만 사용합니다.
+ *
+ * <p>구현 규칙:
+ * - put: 저장소에 있는 항목(또는 무효화 표시)보다 버전이 낮으면 저장하지 않음 (원자적 비교 후 저장)
+ * - invalidate: 항목을 지우고 해당 버전을 기록하여, 그보다 낮은 버전이 다시 저장되지 않도록 함
+ * - 장애 시 예외를 던지면 Near Cache / DB 로 대체 (호출자가 처리)
+ */
+public interface OrderSharedCacheStore {
+
+  /**
+   * 조회
+   *
+   * @param orderId Order ID
+   * @return 캐시된 Order (없거나 무효화되었으면 Optional.empty())
+   */
+  Optional<Order> get(Long orderId);
+
+  /**
+   * 저장 (버전 비교)
+   *
+   * @param order 버전이 있는 Order
+   */
+  void put(Order order);
+
+  /**
+   * 무효화
+   *
+   * @param orderId Order ID
+   * @param version 변경 후 버전
+   */
+  void invalidate(Long orderId, long version);
+}
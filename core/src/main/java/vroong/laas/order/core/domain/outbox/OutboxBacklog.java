@@ -0,0 +1,31 @@
+package vroong.laas.order.core.domain.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Outbox Backlog (미전송 이벤트 현황)
+ *
+ * @param pendingCount 미전송(PENDING) 이벤트 수
+ * @param oldestCreatedAt 가장 오래된 미전송 이벤트 생성 시각 (미전송 이벤트가 없으면 null)
+ */
+public record OutboxBacklog(long pendingCount, Instant oldestCreatedAt) {
+
+  /** 미전송 이벤트 없음 */
+  public static OutboxBacklog empty() {
+    return new OutboxBacklog(0, null);
+  }
+
+  /**
+   * 가장 오래된 미전송 이벤트의 대기 시간
+   *
+   * @param now 기준 시각
+   * @return 대기 시간 (미전송 이벤트가 없으면 0)
+   */
+  public Duration oldestAge(Instant now) {
+    if (oldestCreatedAt == null || oldestCreatedAt.isAfter(now)) {
+      return Duration.ZERO;
+    }
+    return Duration.between(oldestCreatedAt, now);
+  }
+}
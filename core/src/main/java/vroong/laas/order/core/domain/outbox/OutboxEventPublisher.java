@@ -40,5 +40,24 @@ public class OutboxEventPublisher {
   public int publishPendingEvents(int batchSize) {
     return outboxEventClient.publishPendingEvents(batchSize);
   }
-}
 
+  /**
+   * 지정한 Partition 의 미전송 이벤트를 Kafka로 발행
+   *
+   * @param batchSize 한 번에 처리할 이벤트 수
+   * @param partition 담당 Partition (event_key 해시 구간)
+   * @return 발행된 이벤트 수
+   */
+  public int publishPendingEvents(int batchSize, OutboxPartition partition) {
+    return outboxEventClient.publishPendingEvents(batchSize, partition);
+  }
+
+  /**
+   * 미전송 이벤트 현황 조회
+   *
+   * @return 미전송 이벤트 수와 가장 오래된 미전송 이벤트 생성 시각
+   */
+  public OutboxBacklog getBacklog() {
+    return outboxEventClient.getBacklog();
+  }
+}
@@ -0,0 +1,91 @@
+package vroong.laas.order.core.domain.outbox;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import vroong.laas.order.core.domain.outbox.required.OutboxRetentionClient;
+
+/**
+ * Outbox Event Purger (Domain Service)
+ *
+ * <p>보관 기간이 지난 발행 완료 이벤트를 outbox_events 에서 정리하는 Domain Service입니다.
+ *
+ * <p>책임:
+ * <ul>
+ *   <li>Outbox Retention Job에서 호출</li>
+ *   <li>OutboxRetentionClient Port를 통해 Infrastructure 호출</li>
+ * </ul>
+ *
+ * <p>흐름:
+ * <pre>
+ * OutboxRetentionJob (Job Layer)
+ *   → OutboxEventPurger (Domain Service)
+ *     → OutboxRetentionClient (Port)
+ *       → JdbcOutboxRetentionClient (Infrastructure Adapter)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxEventPurger {
+
+  private final OutboxRetentionClient outboxRetentionClient;
+
+  /**
+   * 보관 기간이 지난 PUBLISHED 이벤트 ID 조회
+   *
+   * @param cutoff 이 시각 이전에 생성된 이벤트가 대상
+   * @param afterId 이 ID 보다 큰 이벤트부터 조회
+   * @param limit 최대 조회 수
+   * @return id 오름차순 이벤트 ID 목록
+   */
+  public List<Long> findPublishedIdsBefore(Instant cutoff, long afterId, int limit) {
+    return outboxRetentionClient.findPublishedIdsBefore(cutoff, afterId, limit);
+  }
+
+  /**
+   * 보관 기간이 지난 PUBLISHED 이벤트 조회 (Payload 포함)
+   *
+   * @param cutoff 이 시각 이전에 생성된 이벤트가 대상
+   * @param afterId 이 ID 보다 큰 이벤트부터 조회
+   * @param limit 최대 조회 수
+   * @return id 오름차순 이벤트 목록
+   */
+  public List<PublishedOutboxEvent> findPublishedBefore(Instant cutoff, long afterId, int limit) {
+    return outboxRetentionClient.findPublishedBefore(cutoff, afterId, limit);
+  }
+
+  /**
+   * PUBLISHED 이벤트 삭제
+   *
+   * @param ids 삭제할 이벤트 ID 목록
+   * @param cutoff 이 시각 이전에 생성된 이벤트만 삭제
+   * @return 삭제된 이벤트 수
+   */
+  public int deletePublished(List<Long> ids, Instant cutoff) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return outboxRetentionClient.deletePublished(ids, cutoff);
+  }
+
+  /**
+   * 보관 기간이 지난 Partition DROP
+   *
+   * @param cutoff 보관 기준 시각
+   * @return DROP 한 Partition 수
+   */
+  public int dropPartitionsBefore(Instant cutoff) {
+    return outboxRetentionClient.dropPartitionsBefore(cutoff);
+  }
+
+  /**
+   * 앞으로 사용할 Partition 생성
+   *
+   * @param until 이 시각까지 담을 Partition 이 있어야 함
+   * @return 생성한 Partition 수
+   */
+  public int addPartitionsUntil(Instant until) {
+    return outboxRetentionClient.addPartitionsUntil(until);
+  }
+}
@@ -0,0 +1,68 @@
+package vroong.laas.order.core.domain.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Outbox Relay Partition
+ *
+ * <p>event_key 의 해시값(CRC32)을 partition 수로 나눈 나머지가 index 인 이벤트를 담당하는 구간입니다.
+ *
+ * <p>특징:
+ * - 같은 event_key(주문 ID 등)의 이벤트는 항상 같은 Partition 에 속함 → 주문별 발행 순서 보장
+ * - Partition 마다 별도 Worker 가 병렬로 발행
+ * - 모든 Relay 인스턴스는 같은 partition 수를 사용해야 함
+ *
+ * @param index Partition 번호 (0 ~ count - 1)
+ * @param count 전체 Partition 수 (1 ~ {@value #MAX_COUNT})
+ */
+public record OutboxPartition(int index, int count) {
+
+  /** 최대 Partition 수 (outbox_relay_partitions 테이블에 미리 생성된 Row 수) */
+  public static final int MAX_COUNT = 256;
+
+  /**
+   * Relay Partition 수 (outbox_events.partition_no 생성 컬럼의 MOD(CRC32(event_key), 4))
+   *
+   * <p>Partition 수를 바꾸려면 partition_no 컬럼 정의를 바꾸는 Migration 이 함께 필요합니다.
+   */
+  public static final int STORED_COUNT = 4;
+
+  public OutboxPartition {
+    if (count < 1 || count > MAX_COUNT) {
+      throw new IllegalArgumentException(
+          "Partition 수는 1 ~ " + MAX_COUNT + " 사이여야 합니다: " + count);
+    }
+    if (index < 0 || index >= count) {
+      throw new IllegalArgumentException(
+          "Partition 번호는 0 ~ " + (count - 1) + " 사이여야 합니다: " + index);
+    }
+  }
+
+  /**
+   * 전체 Partition 목록 생성
+   *
+   * @param count 전체 Partition 수
+   * @return index 순서의 Partition 목록
+   */
+  public static List<OutboxPartition> all(int count) {
+    return IntStream.range(0, count).mapToObj(index -> new OutboxPartition(index, count)).toList();
+  }
+
+  /**
+   * event_key 가 속한 Partition 계산
+   *
+   * <p>Relay SQL 의 MOD(CRC32(event_key), count) 와 같은 값을 계산합니다 (UTF-8 기준).
+   *
+   * @param eventKey 이벤트 키
+   * @param count 전체 Partition 수
+   * @return event_key 가 속한 Partition
+   */
+  public static OutboxPartition of(String eventKey, int count) {
+    CRC32 crc32 = new CRC32();
+    crc32.update(eventKey.getBytes(StandardCharsets.UTF_8));
+    return new OutboxPartition((int) (crc32.getValue() % count), count);
+  }
+}
@@ -0,0 +1,23 @@
+package vroong.laas.order.core.domain.outbox;
+
+import java.time.Instant;
+
+/**
+ * 발행 완료된 Outbox 이벤트 (보관/삭제 대상)
+ *
+ * @param id outbox_events PK
+ * @param eventId 이벤트 ID (UUID)
+ * @param eventType 이벤트 타입 (ORDER_CREATED 등)
+ * @param eventKey 이벤트 키
+ * @param payload 이벤트 페이로드 (JSON)
+ * @param createdAt 생성 시각
+ * @param publishedAt 발행 완료 시각
+ */
+public record PublishedOutboxEvent(
+    long id,
+    String eventId,
+    String eventType,
+    String eventKey,
+    String payload,
+    Instant createdAt,
+    Instant publishedAt) {}
@@ -1,6 +1,8 @@
 package vroong.laas.order.core.domain.outbox.required;
 
+import vroong.laas.order.core.domain.outbox.OutboxBacklog;
 import vroong.laas.order.core.domain.outbox.OutboxEventType;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
 import vroong.laas.order.core.domain.shared.AggregateRoot;
 
 /**
@@ -47,5 +49,23 @@ public interface OutboxEventClient {
    * @return 발행된 이벤트 수
    */
   int publishPendingEvents(int batchSize);
-}
 
+  /**
+   * 지정한 Partition 의 미전송 이벤트를 id 순서대로 Kafka로 발행
+   *
+   * <p>Partition 별 Worker 가 병렬로 호출합니다. 같은 Partition 을 다른 인스턴스가 처리 중이면 발행하지 않고 0을
+   * 반환합니다.
+   *
+   * @param batchSize 한 번에 처리할 이벤트 수
+   * @param partition 담당 Partition (event_key 해시 구간)
+   * @return 발행된 이벤트 수
+   */
+  int publishPendingEvents(int batchSize, OutboxPartition partition);
+
+  /**
+   * 미전송 이벤트 현황 조회 (Backlog 모니터링용)
+   *
+   * @return 미전송 이벤트 수와 가장 오래된 미전송 이벤트 생성 시각
+   */
+  OutboxBacklog getBacklog();
+}
@@ -0,0 +1,74 @@
+package vroong.laas.order.core.domain.outbox.required;
+
+import java.time.Instant;
+import java.util.List;
+import vroong.laas.order.core.domain.outbox.PublishedOutboxEvent;
+
+/**
+ * Outbox Retention Client Port
+ *
+ * <p>보관 기간이 지난 발행 완료(PUBLISHED) 이벤트를 outbox_events 에서 정리하는 Port입니다.
+ *
+ * <p>책임:
+ * - 보관 기간이 지난 PUBLISHED 이벤트를 id 순서로 조금씩(Chunk) 조회/삭제
+ * - created_at Range Partition 관리 (오래된 Partition DROP, 앞으로 사용할 Partition 미리 생성)
+ * - Infrastructure에서 Adapter로 구현 (JdbcOutboxRetentionClient)
+ *
+ * <p>PENDING / DLQ 이벤트는 어떤 경우에도 삭제하지 않습니다.
+ */
+public interface OutboxRetentionClient {
+
+  /**
+   * 보관 기간이 지난 PUBLISHED 이벤트 ID 조회
+   *
+   * @param cutoff 이 시각 이전에 생성된 이벤트가 대상
+   * @param afterId 이 ID 보다 큰 이벤트부터 조회 (Keyset)
+   * @param limit 최대 조회 수
+   * @return id 오름차순 이벤트 ID 목록
+   */
+  List<Long> findPublishedIdsBefore(Instant cutoff, long afterId, int limit);
+
+  /**
+   * 보관 기간이 지난 PUBLISHED 이벤트 조회 (Payload 포함, Archive 용)
+   *
+   * @param cutoff 이 시각 이전에 생성된 이벤트가 대상
+   * @param afterId 이 ID 보다 큰 이벤트부터 조회 (Keyset)
+   * @param limit 최대 조회 수
+   * @return id 오름차순 이벤트 목록
+   */
+  List<PublishedOutboxEvent> findPublishedBefore(Instant cutoff, long afterId, int limit);
+
+  /**
+   * PUBLISHED 이벤트 삭제
+   *
+   * <p>cutoff 는 조회에 사용한 보관 기준 시각입니다. 삭제 조건에도 created_at 범위를 주어 보관 기간이 지난 Partition
+   * 만 읽도록 합니다.
+   *
+   * @param ids 삭제할 이벤트 ID 목록
+   * @param cutoff 이 시각 이전에 생성된 이벤트만 삭제
+   * @return 삭제된 이벤트 수 (PUBLISHED 가 아닌 이벤트는 삭제하지 않음)
+   */
+  int deletePublished(List<Long> ids, Instant cutoff);
+
+  /**
+   * 보관 기간이 지난 Partition DROP
+   *
+   * <p>상한(created_at 기준)이 cutoff 이하이고 PUBLISHED 가 아닌 이벤트가 없는 Partition 만 DROP 합니다.
+   * outbox_events 가 Partition 되어 있지 않으면 아무것도 하지 않습니다.
+   *
+   * @param cutoff 보관 기준 시각
+   * @return DROP 한 Partition 수
+   */
+  int dropPartitionsBefore(Instant cutoff);
+
+  /**
+   * 앞으로 사용할 월 단위 Partition 생성
+   *
+   * <p>until 시각의 이벤트까지 담을 수 있도록 MAXVALUE Partition 을 나눕니다. outbox_events 가 Partition 되어
+   * 있지 않거나 MAXVALUE Partition 에 이미 Row 가 있으면 (나누면 Row 복사로 테이블이 잠김) 아무것도 하지 않습니다.
+   *
+   * @param until 이 시각까지 담을 Partition 이 있어야 함
+   * @return 생성한 Partition 수
+   */
+  int addPartitionsUntil(Instant until);
+}
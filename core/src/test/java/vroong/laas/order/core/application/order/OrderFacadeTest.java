@@ -5,12 +5,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +22,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import vroong.laas.order.core.common.exception.ErrorCode;
 import vroong.laas.order.core.domain.address.AddressRefiner;
+import vroong.laas.order.core.domain.address.RefinedLocations;
 import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
 import vroong.laas.order.core.domain.order.DeliveryPolicy;
 import vroong.laas.order.core.domain.order.Destination;
@@ -74,10 +81,17 @@ class OrderFacadeTest {
     Address refinedDestinationAddress =
         new Address("서울시 서초구 서초동 456", "서울시 서초구 서초대로 456", "2층");
 
-    given(addressRefiner.refine(eq(origin.latLng()), eq(origin.address())))
-        .willReturn(refinedOriginAddress);
-    given(addressRefiner.refine(eq(destination.latLng()), eq(destination.address())))
-        .willReturn(refinedDestinationAddress);
+    Origin refinedOrigin =
+        new Origin(origin.contact(), refinedOriginAddress, origin.latLng(), origin.entranceInfo());
+    Destination refinedDestination =
+        new Destination(
+            destination.contact(),
+            refinedDestinationAddress,
+            destination.latLng(),
+            destination.entranceInfo());
+
+    given(addressRefiner.refineLocations(origin, destination))
+        .willReturn(new RefinedLocations(refinedOrigin, refinedDestination));
 
     Order mockOrder = orderFixtures.order();
     given(orderCreator.create(any(), any(Origin.class), any(Destination.class), any()))
@@ -89,8 +103,8 @@ class OrderFacadeTest {
     // then
     assertThat(result).isEqualTo(mockOrder);
 
-    // 주소 정제가 2번 호출되었는지 확인 (Origin, Destination)
-    verify(addressRefiner, times(2)).refine(any(LatLng.class), any(Address.class));
+    // Origin/Destination 주소 정제가 한 번에 요청되었는지 확인
+    verify(addressRefiner, times(1)).refineLocations(origin, destination);
 
     // OrderCreator에 정제된 주소가 전달되었는지 확인
     ArgumentCaptor<Origin> originCaptor = ArgumentCaptor.forClass(Origin.class);
@@ -105,8 +119,8 @@ class OrderFacadeTest {
   }
 
   @Test
-  @DisplayName("Origin 주소 정제 실패 시 AddressRefineFailedException 발생")
-  void createOrder_origin_refine_fail() {
+  @DisplayName("주소 정제 실패 시 AddressRefineFailedException 발생")
+  void createOrder_refine_fail() {
     // given
     CreateOrderCommand command =
         new CreateOrderCommand(
@@ -115,7 +129,7 @@ class OrderFacadeTest {
             orderFixtures.randomDestination(),
             orderFixtures.randomDeliveryPolicy());
 
-    given(addressRefiner.refine(any(), any()))
+    given(addressRefiner.refineLocations(any(), any()))
         .willThrow(new AddressRefineFailedException("모든 역지오코딩 서비스가 실패했습니다"));
 
     // when & then
@@ -128,31 +142,144 @@ class OrderFacadeTest {
   }
 
   @Test
-  @DisplayName("Destination 주소 정제 실패 시 AddressRefineFailedException 발생")
-  void createOrder_destination_refine_fail() {
+  @DisplayName("ID/주문번호 일괄 조회 시 같은 주문은 한 번만 반환한다")
+  void getOrders_deduplicates_same_order() {
     // given
-    Origin origin = orderFixtures.randomOrigin();
-    Destination destination = orderFixtures.randomDestination();
+    Order first = orderFixtures.order();
+    Order second = orderFixtures.order();
 
-    CreateOrderCommand command =
-        new CreateOrderCommand(
-            orderFixtures.randomOrderItems(), origin, destination, orderFixtures.randomDeliveryPolicy());
+    List<Long> orderIds = List.of(first.getId());
+    List<String> orderNumbers =
+        List.of(first.getOrderNumber().value(), second.getOrderNumber().value());
 
-    // Origin은 성공, Destination은 실패
-    Address refinedOriginAddress =
-        new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", "1층");
-    given(addressRefiner.refine(eq(origin.latLng()), eq(origin.address())))
-        .willReturn(refinedOriginAddress);
-    given(addressRefiner.refine(eq(destination.latLng()), eq(destination.address())))
-        .willThrow(new AddressRefineFailedException("모든 역지오코딩 서비스가 실패했습니다"));
+    given(orderReader.getOrdersByIds(orderIds)).willReturn(List.of(first));
+    given(orderReader.getOrdersByNumbers(orderNumbers)).willReturn(List.of(first, second));
+
+    // when
+    List<Order> result = orderFacade.getOrders(orderIds, orderNumbers);
+
+    // then
+    assertThat(result).containsExactly(first, second);
+  }
+
+  @Test
+  @DisplayName("일괄 생성 시 좌표를 중복 제거해 한 번에 정제하고, 정제 실패 주문만 실패로 반환한다")
+  void createOrders_refines_distinct_coordinates_once() {
+    // given
+    LatLng storeLatLng = latLng("37.4979", "127.0276");
+    LatLng customerLatLng = latLng("37.4837", "127.0324");
+    LatLng unknownLatLng = latLng("37.0000", "127.0000");
+
+    Origin store = origin(storeLatLng);
+    CreateOrderCommand first = command(store, destination(customerLatLng));
+    CreateOrderCommand second = command(store, destination(unknownLatLng));
+
+    Address refined = new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+    given(addressRefiner.refineAll(any()))
+        .willReturn(Map.of(storeLatLng, refined, customerLatLng, refined));
+
+    Order created = orderFixtures.order();
+    given(orderCreator.createAll(any())).willReturn(List.of(created));
+
+    // when
+    List<OrderCreationResult> results = orderFacade.createOrders(List.of(first, second));
+
+    // then
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).order()).isEqualTo(created);
+    assertThat(results.get(1).isSuccess()).isFalse();
+    assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.ADDRESS_REFINE_FAILED);
+
+    // 같은 매장 좌표는 한 번만 정제 요청
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<LatLng, Address>> originalsCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(addressRefiner).refineAll(originalsCaptor.capture());
+    assertThat(originalsCaptor.getValue())
+        .containsOnlyKeys(storeLatLng, customerLatLng, unknownLatLng);
+
+    // 정제에 성공한 주문만 정제된 주소로 저장
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<CreateOrderCommand>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(orderCreator).createAll(chunkCaptor.capture());
+    assertThat(chunkCaptor.getValue()).hasSize(1);
+    assertThat(chunkCaptor.getValue().getFirst().origin().address()).isEqualTo(refined);
+  }
+
+  @Test
+  @DisplayName("Chunk 저장이 실패하면 건별로 다시 저장해 실패한 주문만 실패로 반환한다")
+  void createOrders_chunk_failure_falls_back_to_single_creates() {
+    // given
+    LatLng storeLatLng = latLng("37.4979", "127.0276");
+    LatLng customerLatLng = latLng("37.4837", "127.0324");
+    CreateOrderCommand first = command(origin(storeLatLng), destination(customerLatLng));
+    CreateOrderCommand second = command(origin(storeLatLng), destination(customerLatLng));
+
+    Address refined = new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+    given(addressRefiner.refineAll(any()))
+        .willReturn(Map.of(storeLatLng, refined, customerLatLng, refined));
+    given(orderCreator.createAll(any()))
+        .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+    Order created = orderFixtures.order();
+    given(orderCreator.create(any(), any(Origin.class), any(Destination.class), any()))
+        .willReturn(created)
+        .willThrow(new IllegalArgumentException("잘못된 주문"));
+
+    // when
+    List<OrderCreationResult> results = orderFacade.createOrders(List.of(first, second));
+
+    // then
+    assertThat(results.get(0).order()).isEqualTo(created);
+    assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.INVALID_INPUT);
+    assertThat(results.get(1).message()).isEqualTo("잘못된 주문");
+    verify(orderCreator, times(2)).create(any(), any(Origin.class), any(Destination.class), any());
+  }
+
+  @Test
+  @DisplayName("인프라 장애로 Chunk 저장이 실패하면 건별로 다시 저장하지 않고 예외를 던진다")
+  void createOrders_infrastructure_failure_is_rethrown() {
+    // given
+    LatLng storeLatLng = latLng("37.4979", "127.0276");
+    LatLng customerLatLng = latLng("37.4837", "127.0324");
+    CreateOrderCommand command = command(origin(storeLatLng), destination(customerLatLng));
+
+    Address refined = new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+    given(addressRefiner.refineAll(any()))
+        .willReturn(Map.of(storeLatLng, refined, customerLatLng, refined));
+    DataAccessResourceFailureException failure =
+        new DataAccessResourceFailureException("Connection is not available");
+    given(orderCreator.createAll(any())).willThrow(failure);
 
     // when & then
-    assertThatThrownBy(() -> orderFacade.createOrder(command))
-        .isInstanceOf(AddressRefineFailedException.class)
-        .hasMessageContaining("모든 역지오코딩 서비스가 실패했습니다");
+    assertThatThrownBy(() -> orderFacade.createOrders(List.of(command))).isSameAs(failure);
+    verify(orderCreator, never()).create(any(), any(Origin.class), any(Destination.class), any());
+  }
 
-    // OrderCreator는 호출되지 않아야 함
-    verify(orderCreator, times(0)).create(any(), any(), any(), any());
+  private CreateOrderCommand command(Origin origin, Destination destination) {
+    return new CreateOrderCommand(
+        orderFixtures.randomOrderItems(),
+        origin,
+        destination,
+        orderFixtures.randomDeliveryPolicy());
   }
-}
 
+  private Origin origin(LatLng latLng) {
+    return new Origin(
+        orderFixtures.randomContact(),
+        orderFixtures.randomAddress(),
+        latLng,
+        orderFixtures.randomEntranceInfo());
+  }
+
+  private Destination destination(LatLng latLng) {
+    return new Destination(
+        orderFixtures.randomContact(),
+        orderFixtures.randomAddress(),
+        latLng,
+        orderFixtures.randomEntranceInfo());
+  }
+
+  private LatLng latLng(String latitude, String longitude) {
+    return new LatLng(new BigDecimal(latitude), new BigDecimal(longitude));
+  }
+}
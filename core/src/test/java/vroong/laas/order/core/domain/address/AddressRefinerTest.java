@@ -9,15 +9,25 @@ import static org.mockito.Mockito.verify;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
 import vroong.laas.order.core.domain.address.required.AddressRefinementClient;
+import vroong.laas.order.core.domain.order.Destination;
+import vroong.laas.order.core.domain.order.Origin;
 import vroong.laas.order.core.domain.shared.Address;
 import vroong.laas.order.core.domain.shared.LatLng;
 import vroong.laas.order.core.fixture.OrderFixtures;
@@ -25,7 +35,10 @@ import vroong.laas.order.core.fixture.OrderFixtures;
 @ExtendWith(MockitoExtension.class)
 class AddressRefinerTest {
 
-  @InjectMocks private AddressRefiner addressRefiner;
+  private static final long DEADLINE_MS = 1000;
+  private static final int BATCH_CONCURRENCY = 4;
+
+  private AddressRefiner addressRefiner;
 
   @Mock private AddressRefinementClient addressRefinementClient;
 
@@ -40,6 +53,14 @@ class AddressRefinerTest {
             .build();
 
     orderFixtures = new OrderFixtures(fixtureMonkey);
+    addressRefiner =
+        new AddressRefiner(
+            addressRefinementClient, Optional.empty(), DEADLINE_MS, BATCH_CONCURRENCY, DEADLINE_MS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    addressRefiner.close();
   }
 
   @Test
@@ -78,5 +99,162 @@ class AddressRefinerTest {
         .isInstanceOf(AddressRefineFailedException.class)
         .hasMessageContaining("모든 역지오코딩 서비스가 실패했습니다");
   }
-}
 
+  @Test
+  @DisplayName("Origin/Destination 동시 정제 성공")
+  void refineLocations_success() {
+    // given
+    Origin origin = orderFixtures.randomOrigin();
+    Destination destination = orderFixtures.randomDestination();
+    Address refinedOriginAddress =
+        new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", "1층");
+    Address refinedDestinationAddress =
+        new Address("서울시 서초구 서초동 456", "서울시 서초구 서초대로 456", "2층");
+
+    given(addressRefinementClient.refineByReverseGeocoding(origin.latLng(), origin.address()))
+        .willReturn(refinedOriginAddress);
+    given(
+            addressRefinementClient.refineByReverseGeocoding(
+                destination.latLng(), destination.address()))
+        .willReturn(refinedDestinationAddress);
+
+    // when
+    RefinedLocations result = addressRefiner.refineLocations(origin, destination);
+
+    // then
+    assertThat(result.origin().address()).isEqualTo(refinedOriginAddress);
+    assertThat(result.origin().contact()).isEqualTo(origin.contact());
+    assertThat(result.destination().address()).isEqualTo(refinedDestinationAddress);
+    assertThat(result.destination().contact()).isEqualTo(destination.contact());
+  }
+
+  @Test
+  @DisplayName("한쪽 정제가 실패하면 다른 쪽 정제를 취소하고 즉시 예외 발생")
+  void refineLocations_fail_cancels_sibling() throws Exception {
+    // given
+    Origin origin = orderFixtures.randomOrigin();
+    Destination destination = orderFixtures.randomDestination();
+    CountDownLatch originInterrupted = new CountDownLatch(1);
+
+    given(addressRefinementClient.refineByReverseGeocoding(origin.latLng(), origin.address()))
+        .willAnswer(
+            invocation -> {
+              try {
+                Thread.sleep(DEADLINE_MS * 10);
+              } catch (InterruptedException e) {
+                originInterrupted.countDown();
+              }
+              return null;
+            });
+    given(
+            addressRefinementClient.refineByReverseGeocoding(
+                destination.latLng(), destination.address()))
+        .willThrow(new AddressRefineFailedException("모든 역지오코딩 서비스가 실패했습니다"));
+
+    // when & then
+    assertThatThrownBy(() -> addressRefiner.refineLocations(origin, destination))
+        .isInstanceOf(AddressRefineFailedException.class)
+        .hasMessageContaining("모든 역지오코딩 서비스가 실패했습니다");
+
+    assertThat(originInterrupted.await(DEADLINE_MS, TimeUnit.MILLISECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Deadline 내에 정제가 끝나지 않으면 AddressRefineFailedException 발생")
+  void refineLocations_deadline_exceeded() {
+    // given
+    Origin origin = orderFixtures.randomOrigin();
+    Destination destination = orderFixtures.randomDestination();
+
+    given(addressRefinementClient.refineByReverseGeocoding(any(), any()))
+        .willAnswer(
+            invocation -> {
+              Thread.sleep(DEADLINE_MS * 10);
+              return null;
+            });
+
+    // when & then
+    assertThatThrownBy(() -> addressRefiner.refineLocations(origin, destination))
+        .isInstanceOf(AddressRefineFailedException.class)
+        .hasMessageContaining("주소 정제 시간 초과");
+  }
+
+  @Test
+  @DisplayName("여러 좌표 일괄 정제 시 실패한 좌표만 결과에서 제외")
+  void refineAll_excludes_failed_coordinates() {
+    // given
+    LatLng gangnam = new LatLng(new BigDecimal("37.4979"), new BigDecimal("127.0276"));
+    LatLng seocho = new LatLng(new BigDecimal("37.4837"), new BigDecimal("127.0324"));
+    Address original = orderFixtures.randomAddress();
+    Address refinedGangnam =
+        new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+
+    Map<LatLng, Address> originals = new LinkedHashMap<>();
+    originals.put(gangnam, original);
+    originals.put(seocho, original);
+
+    given(addressRefinementClient.refineByReverseGeocoding(gangnam, original))
+        .willReturn(refinedGangnam);
+    given(addressRefinementClient.refineByReverseGeocoding(seocho, original))
+        .willThrow(new AddressRefineFailedException("모든 역지오코딩 서비스가 실패했습니다"));
+
+    // when
+    Map<LatLng, Address> result = addressRefiner.refineAll(originals);
+
+    // then
+    assertThat(result).containsOnly(Map.entry(gangnam, refinedGangnam));
+  }
+
+  @Test
+  @DisplayName("일괄 정제 Deadline이 지나면 완료된 좌표만 반환")
+  void refineAll_deadline_exceeded_returns_completed_only() {
+    // given
+    LatLng fast = new LatLng(new BigDecimal("37.4979"), new BigDecimal("127.0276"));
+    LatLng slow = new LatLng(new BigDecimal("37.4837"), new BigDecimal("127.0324"));
+    Address original = orderFixtures.randomAddress();
+    Address refined = new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+
+    given(addressRefinementClient.refineByReverseGeocoding(fast, original)).willReturn(refined);
+    given(addressRefinementClient.refineByReverseGeocoding(slow, original))
+        .willAnswer(
+            invocation -> {
+              Thread.sleep(DEADLINE_MS * 10);
+              return refined;
+            });
+
+    // when
+    Map<LatLng, Address> result = addressRefiner.refineAll(Map.of(fast, original, slow, original));
+
+    // then
+    assertThat(result).containsOnlyKeys(fast);
+  }
+
+  @Test
+  @DisplayName("close 시 실행 중인 정제는 끝까지 기다리고 이후 작업은 거부")
+  void close_waits_for_running_refinements_then_rejects() throws Exception {
+    // given
+    LatLng latLng = new LatLng(new BigDecimal("37.4979"), new BigDecimal("127.0276"));
+    Address original = orderFixtures.randomAddress();
+    Address refined = new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+    CountDownLatch started = new CountDownLatch(1);
+
+    given(addressRefinementClient.refineByReverseGeocoding(latLng, original))
+        .willAnswer(
+            invocation -> {
+              started.countDown();
+              Thread.sleep(100);
+              return refined;
+            });
+    CompletableFuture<Map<LatLng, Address>> running =
+        CompletableFuture.supplyAsync(() -> addressRefiner.refineAll(Map.of(latLng, original)));
+    assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    addressRefiner.close();
+
+    // then
+    assertThat(running.get(1, TimeUnit.SECONDS)).containsOnlyKeys(latLng);
+    assertThatThrownBy(() -> addressRefiner.refineAll(Map.of(latLng, original)))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+}
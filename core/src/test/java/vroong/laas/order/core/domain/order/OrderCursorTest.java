@@ -0,0 +1,34 @@
+package vroong.laas.order.core.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderCursorTest {
+
+  @Test
+  @DisplayName("encode 한 Cursor 는 decode 하면 같은 위치가 된다")
+  void encodeDecodeRoundTrip() {
+    // given
+    OrderCursor cursor = new OrderCursor(Instant.parse("2025-01-15T10:00:00Z"), 12345L);
+
+    // when
+    String encoded = cursor.encode();
+
+    // then
+    assertThat(encoded).doesNotContain("=", "+", "/");
+    assertThat(OrderCursor.decode(encoded)).isEqualTo(cursor);
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 Cursor 는 예외가 발생한다")
+  void decodeInvalid() {
+    // when & then
+    assertThatThrownBy(() -> OrderCursor.decode("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("잘못된 cursor");
+  }
+}
@@ -1,14 +1,28 @@
 package vroong.laas.order.core.domain.order;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.order.OrderNumberGenerator.Mode;
 
 class OrderNumberGeneratorTest {
 
@@ -89,4 +103,191 @@ class OrderNumberGeneratorTest {
 
     assertThat(timestamp).startsWith(expectedDate);
   }
+
+  @Nested
+  @DisplayName("sequence 모드")
+  class SequenceMode {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Instant NOW = Instant.parse("2025-01-15T01:30:45Z"); // KST 10:30:45
+
+    @Test
+    @DisplayName("ORD-YYYYMMDDHHMMSS + 3자리 노드 ID + 6자리 시퀀스 포맷으로 생성한다")
+    void generated_order_number_has_sequence_format() {
+      // given
+      OrderNumberGenerator generator =
+          new OrderNumberGenerator(Mode.SEQUENCE, 7, Clock.fixed(NOW, SEOUL));
+
+      // when
+      OrderNumber first = generator.generate();
+      OrderNumber second = generator.generate();
+
+      // then
+      assertThat(first.value()).isEqualTo("ORD-20250115103045007000000");
+      assertThat(second.value()).isEqualTo("ORD-20250115103045007000001");
+    }
+
+    @Test
+    @DisplayName("초가 바뀌면 시퀀스는 0부터 다시 시작한다")
+    void sequence_resets_every_second() {
+      // given
+      MutableClock clock = new MutableClock(NOW, SEOUL);
+      OrderNumberGenerator generator = new OrderNumberGenerator(Mode.SEQUENCE, 1, clock);
+      generator.generate();
+      generator.generate();
+
+      // when
+      clock.advance(Duration.ofSeconds(1));
+      OrderNumber orderNumber = generator.generate();
+
+      // then
+      assertThat(orderNumber.value()).isEqualTo("ORD-20250115103046001000000");
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 초의 시퀀스를 이어서 발급한다")
+    void clock_going_backwards_keeps_sequence_monotonic() {
+      // given
+      MutableClock clock = new MutableClock(NOW, SEOUL);
+      OrderNumberGenerator generator = new OrderNumberGenerator(Mode.SEQUENCE, 1, clock);
+      generator.generate();
+
+      // when
+      clock.advance(Duration.ofSeconds(-5));
+      OrderNumber orderNumber = generator.generate();
+
+      // then
+      assertThat(orderNumber.value()).isEqualTo("ORD-20250115103045001000001");
+    }
+
+    @Test
+    @DisplayName("초당 시퀀스를 모두 소진하면 다음 초의 시퀀스를 사용한다")
+    void exhausted_sequence_moves_to_next_second() {
+      // given
+      OrderNumberGenerator generator =
+          new OrderNumberGenerator(Mode.SEQUENCE, 1, Clock.fixed(NOW, SEOUL));
+      OrderNumber last = null;
+      for (int i = 0; i <= OrderNumberGenerator.MAX_SEQUENCE; i++) {
+        last = generator.generate();
+      }
+
+      // when
+      OrderNumber next = generator.generate();
+
+      // then
+      assertThat(last.value()).isEqualTo("ORD-20250115103045001999999");
+      assertThat(next.value()).isEqualTo("ORD-20250115103046001000000");
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에도 주문번호가 겹치지 않는다")
+    void different_nodes_never_collide() {
+      // given
+      Clock clock = Clock.fixed(NOW, SEOUL);
+      OrderNumberGenerator node1 = new OrderNumberGenerator(Mode.SEQUENCE, 1, clock);
+      OrderNumberGenerator node2 = new OrderNumberGenerator(Mode.SEQUENCE, 2, clock);
+      Set<String> orderNumbers = new HashSet<>();
+
+      // when
+      for (int i = 0; i < 10_000; i++) {
+        orderNumbers.add(node1.generate().value());
+        orderNumbers.add(node2.generate().value());
+      }
+
+      // then
+      assertThat(orderNumbers).hasSize(20_000);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 범위를 벗어나면 예외가 발생한다")
+    void invalid_node_id_throws() {
+      assertThatThrownBy(() -> new OrderNumberGenerator("sequence", 1000))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("node-id");
+    }
+
+    @Test
+    @DisplayName("sequence 모드에서 노드 ID가 설정되지 않으면 예외가 발생한다")
+    void missing_node_id_throws() {
+      assertThatThrownBy(() -> new OrderNumberGenerator("sequence", null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("node-id");
+    }
+
+    @Test
+    @DisplayName("random 모드는 노드 ID 없이 생성할 수 있다")
+    void random_mode_does_not_require_node_id() {
+      assertThat(new OrderNumberGenerator("random", null).generate().value()).startsWith("ORD-");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 초당 10만 건 이상 생성해도 중복이 없다")
+    void concurrent_generation_has_no_duplicates() throws Exception {
+      // given
+      OrderNumberGenerator generator = new OrderNumberGenerator("sequence", 42);
+      int threads = 8;
+      int perThread = 50_000;
+      Set<String> orderNumbers = ConcurrentHashMap.newKeySet(threads * perThread);
+      CountDownLatch start = new CountDownLatch(1);
+
+      List<Future<?>> futures = new ArrayList<>();
+      try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+        for (int t = 0; t < threads; t++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                      orderNumbers.add(generator.generate().value());
+                    }
+                    return null;
+                  }));
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+          future.get();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(orderNumbers).hasSize(threads * perThread);
+        double idsPerSecond = threads * perThread / (elapsed.toNanos() / 1_000_000_000.0);
+        assertThat(idsPerSecond).isGreaterThanOrEqualTo(100_000);
+      }
+    }
+  }
+
+  /** 테스트용 이동 가능한 Clock */
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+    private final ZoneId zone;
+
+    MutableClock(Instant instant, ZoneId zone) {
+      this.instant = instant;
+      this.zone = zone;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return new MutableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package vroong.laas.order.core.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderSummaryPageTest {
+
+  @Test
+  @DisplayName("size 보다 많이 조회되면 size 건만 담고 마지막 항목 위치를 다음 Cursor 로 사용한다")
+  void ofWithNextPage() {
+    // given
+    List<OrderSummary> fetched = List.of(summary(3L), summary(2L), summary(1L));
+
+    // when
+    OrderSummaryPage page = OrderSummaryPage.of(fetched, 2);
+
+    // then
+    assertThat(page.orders()).extracting(OrderSummary::id).containsExactly(3L, 2L);
+    assertThat(page.hasNext()).isTrue();
+    assertThat(page.nextCursor().id()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("size 이하로 조회되면 마지막 페이지다")
+  void ofLastPage() {
+    // when
+    OrderSummaryPage page = OrderSummaryPage.of(List.of(summary(1L)), 2);
+
+    // then
+    assertThat(page.orders()).hasSize(1);
+    assertThat(page.hasNext()).isFalse();
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  private OrderSummary summary(Long id) {
+    return new OrderSummary(
+        id,
+        OrderNumber.of("ORD-2025011510000000" + id),
+        OrderStatus.CREATED,
+        Instant.parse("2025-01-15T10:00:00Z"),
+        null,
+        null,
+        0L);
+  }
+}
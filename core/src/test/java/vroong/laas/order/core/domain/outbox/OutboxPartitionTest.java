@@ -0,0 +1,49 @@
+package vroong.laas.order.core.domain.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OutboxPartition 테스트")
+class OutboxPartitionTest {
+
+  @Test
+  @DisplayName("전체 Partition 목록을 index 순서로 생성")
+  void all_creates_partitions_in_order() {
+    // when & then
+    assertThat(OutboxPartition.all(3))
+        .containsExactly(
+            new OutboxPartition(0, 3), new OutboxPartition(1, 3), new OutboxPartition(2, 3));
+  }
+
+  @Test
+  @DisplayName("index가 범위를 벗어나면 예외 발생")
+  void index_out_of_range_throws() {
+    // when & then
+    assertThatThrownBy(() -> new OutboxPartition(4, 4))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Partition 수가 최대값을 넘으면 예외 발생")
+  void count_over_max_throws() {
+    // when & then
+    assertThatThrownBy(() -> new OutboxPartition(0, OutboxPartition.MAX_COUNT + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("event_key의 CRC32를 Partition 수로 나눈 나머지로 Partition 결정")
+  void of_uses_crc32_of_event_key() {
+    // given - MySQL: SELECT CRC32('100') = 595022058
+    String eventKey = "100";
+
+    // when
+    OutboxPartition partition = OutboxPartition.of(eventKey, 7);
+
+    // then
+    assertThat(partition).isEqualTo(new OutboxPartition((int) (595022058L % 7), 7));
+  }
+}
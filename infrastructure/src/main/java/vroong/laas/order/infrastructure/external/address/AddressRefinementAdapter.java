@@ -8,6 +8,9 @@ import vroong.laas.order.core.domain.address.exception.AddressRefineFailedExcept
 import vroong.laas.order.core.domain.address.required.AddressRefinementClient;
 import vroong.laas.order.core.domain.shared.Address;
 import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.cache.ReverseGeocodingCache;
+import vroong.laas.order.infrastructure.external.address.chain.ReverseGeocodingProviderChain;
+import vroong.laas.order.infrastructure.external.address.hedge.HedgedReverseGeocoder;
 import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodingProvider;
 
 /**
@@ -16,13 +19,22 @@ import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodi
  * <p>AddressRefinementClient Port의 구현체입니다.
  *
  * <p>Fallback Chain:
- * - 설정된 순서대로 ReverseGeocodingProvider 시도
+ * - ReverseGeocodingProviderChain이 정한 순서대로 ReverseGeocodingProvider 시도
+ * - Circuit OPEN Provider는 호출하지 않고 건너뜀
  * - 한 Provider 실패 시 다음 Provider로 Fallback
  * - 모든 Provider 실패 시 AddressRefineFailedException 발생
  *
  * <p>Fallback 조건:
  * - 모든 Exception (4xx, 5xx, Timeout, 네트워크 에러 등)
  *
+ * <p>캐시:
+ * - Provider 호출 전 ReverseGeocodingCache 조회 (정규화된 위/경도 격자 키)
+ * - 정제 성공 시에만 캐시에 저장 (실패는 캐시하지 않음)
+ *
+ * <p>Hedging (address.refinement.hedging.enabled=true):
+ * - 순차 Fallback 대신 HedgedReverseGeocoder 사용
+ * - 앞 Provider가 Hedge Delay 안에 응답하지 않으면 다음 Provider를 병렬 호출
+ *
  * <p>로그:
  * - 각 Provider 시도/성공/실패 로그 기록
  * - 원본 주소 → 정제된 주소 변환 로그
@@ -32,13 +44,16 @@ import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodi
 @Slf4j
 public class AddressRefinementAdapter implements AddressRefinementClient {
 
-  private final List<ReverseGeocodingProvider> providers;
+  private final ReverseGeocodingProviderChain providerChain;
+  private final ReverseGeocodingCache reverseGeocodingCache;
+  private final HedgedReverseGeocoder hedgedReverseGeocoder;
 
   /**
    * 위/경도 좌표를 기반으로 역지오코딩하여 정제된 주소를 반환합니다.
    *
    * <p>Fallback Chain:
-   * 1. providers 리스트 순서대로 역지오코딩 시도
+   * 0. 캐시 적중 시 Provider 호출 없이 즉시 반환
+   * 1. Provider Chain 순서대로 역지오코딩 시도 (Circuit OPEN Provider 제외)
    * 2. 성공 시 즉시 반환
    * 3. 실패 시 다음 Provider로 Fallback
    * 4. 모든 Provider 실패 시 AddressRefineFailedException 발생
@@ -56,6 +71,25 @@ public class AddressRefinementAdapter implements AddressRefinementClient {
         originalAddress.jibnunAddress(),
         originalAddress.roadAddress());
 
+    Address cached = reverseGeocodingCache.get(latLng).orElse(null);
+    if (cached != null) {
+      log.info("[주소정제] 캐시 적중: latLng={}, refined=[도로명:{}]", latLng, cached.roadAddress());
+      return cached;
+    }
+
+    List<ReverseGeocodingProvider> providers = providerChain.providers();
+    if (providers.isEmpty()) {
+      log.error("[주소정제] 사용 가능한 Provider 없음 (모든 Circuit OPEN): latLng={}", latLng);
+      throw new AddressRefineFailedException(
+          String.format("사용 가능한 역지오코딩 서비스가 없습니다 (Circuit OPEN) - LatLng: %s", latLng));
+    }
+
+    if (hedgedReverseGeocoder.isEnabled()) {
+      Address refined = hedgedReverseGeocoder.reverseGeocode(providers, latLng);
+      reverseGeocodingCache.put(latLng, refined);
+      return refined;
+    }
+
     AddressRefineFailedException lastException = null;
 
     for (ReverseGeocodingProvider provider : providers) {
@@ -70,6 +104,7 @@ public class AddressRefinementAdapter implements AddressRefinementClient {
             originalAddress.roadAddress(),
             refined.roadAddress());
 
+        reverseGeocodingCache.put(latLng, refined);
         return refined;
 
       } catch (Exception e) {
@@ -0,0 +1,118 @@
+package vroong.laas.order.infrastructure.external.address.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+
+/**
+ * 역지오코딩 결과 캐시
+ *
+ * <p>같은 좌표(특히 매장 픽업지 Origin)에 대한 반복 역지오코딩 호출을 줄이기 위한 로컬 캐시입니다.
+ *
+ * <p>캐시 키:
+ * - 위/경도를 precision 자릿수로 반올림한 격자 좌표
+ * - 예: precision=6 → 37.1234564, 37.1234558 모두 37.123456 으로 정규화
+ *
+ * <p>제거 정책:
+ * - 최대 항목 수 초과 시 (Caffeine Window TinyLFU)
+ * - 저장 후 TTL 경과 시
+ *
+ * <p>Metrics (Micrometer, cache=reverseGeocoding):
+ * - cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+ */
+public class ReverseGeocodingCache {
+
+  public static final String CACHE_NAME = "reverseGeocoding";
+
+  private static final ReverseGeocodingCache DISABLED = new ReverseGeocodingCache(null, 0);
+
+  private final Cache<CacheKey, Address> cache;
+  private final int precision;
+
+  private ReverseGeocodingCache(Cache<CacheKey, Address> cache, int precision) {
+    this.cache = cache;
+    this.precision = precision;
+  }
+
+  /**
+   * 설정 기반 캐시 생성
+   *
+   * @param properties 캐시 설정
+   * @param meterRegistry Metrics 등록 대상 (null이면 Metrics 미등록)
+   * @return 캐시 (enabled=false 이면 항상 miss 인 비활성 캐시)
+   */
+  public static ReverseGeocodingCache create(
+      AddressRefinementProperties.Cache properties, MeterRegistry meterRegistry) {
+    if (!properties.enabled()) {
+      return DISABLED;
+    }
+
+    Cache<CacheKey, Address> cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+
+    if (meterRegistry != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    return new ReverseGeocodingCache(cache, properties.precision());
+  }
+
+  /** 비활성 캐시 (항상 miss, 저장하지 않음) */
+  public static ReverseGeocodingCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * 캐시 조회
+   *
+   * @param latLng 위/경도 좌표
+   * @return 캐시된 정제 주소 (없으면 Optional.empty())
+   */
+  public Optional<Address> get(LatLng latLng) {
+    if (cache == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(cache.getIfPresent(CacheKey.of(latLng, precision)));
+  }
+
+  /**
+   * 캐시 저장
+   *
+   * @param latLng 위/경도 좌표
+   * @param address 정제된 주소
+   */
+  public void put(LatLng latLng, Address address) {
+    if (cache == null) {
+      return;
+    }
+    cache.put(CacheKey.of(latLng, precision), address);
+  }
+
+  /**
+   * 정규화된 격자 좌표 키
+   *
+   * <p>위/경도 × 10^precision 값을 long으로 보관 (BigDecimal scale 차이에 따른 equals 불일치 방지)
+   */
+  record CacheKey(long latitude, long longitude) {
+
+    static CacheKey of(LatLng latLng, int precision) {
+      return new CacheKey(
+          toGrid(latLng.latitude(), precision), toGrid(latLng.longitude(), precision));
+    }
+
+    private static long toGrid(BigDecimal value, int precision) {
+      return value.setScale(precision, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package vroong.laas.order.infrastructure.external.address.chain;
+
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+
+/**
+ * 역지오코딩 Provider 1개에 대한 Circuit Breaker
+ *
+ * <p>상태 전이:
+ * - CLOSED → OPEN: 최근 window-size 건 중 실패율 또는 Slow Call 비율이 임계치 이상 (최소 minimum-calls 건)
+ * - OPEN → HALF_OPEN: open-duration 경과 후 첫 호출 시
+ * - HALF_OPEN → CLOSED: 시험 호출 half-open-calls 건이 모두 정상 응답
+ * - HALF_OPEN → OPEN: 시험 호출 중 1건이라도 실패 또는 Slow Call
+ *
+ * <p>Slow Call: 응답 시간이 slow-call-duration 이상인 호출 (성공/실패 무관)
+ */
+@Slf4j
+class ProviderCircuitBreaker {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String providerName;
+  private final AddressRefinementProperties.CircuitBreaker properties;
+  private final LongSupplier clock;
+
+  // CLOSED 상태의 최근 호출 결과 (Ring Buffer)
+  private final boolean[] failures;
+  private final boolean[] slowCalls;
+  private int nextIndex;
+  private int recorded;
+
+  private State state = State.CLOSED;
+  private long openedAtMillis;
+  private int halfOpenPermitted;
+  private int halfOpenSucceeded;
+
+  ProviderCircuitBreaker(
+      String providerName,
+      AddressRefinementProperties.CircuitBreaker properties,
+      LongSupplier clock) {
+    this.providerName = providerName;
+    this.properties = properties;
+    this.clock = clock;
+    this.failures = new boolean[properties.windowSize()];
+    this.slowCalls = new boolean[properties.windowSize()];
+  }
+
+  synchronized State state() {
+    return state;
+  }
+
+  /**
+   * 호출 가능 여부 (상태 변경 없음)
+   *
+   * <p>Provider Chain 구성 시 OPEN Provider를 제외하는 용도
+   */
+  synchronized boolean isCallPermitted() {
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> openDurationElapsed();
+      case HALF_OPEN -> halfOpenPermitted < properties.halfOpenCalls();
+    };
+  }
+
+  /**
+   * 호출 허가 획득
+   *
+   * @return 호출 가능하면 true (HALF_OPEN 이면 시험 호출 1건 차감)
+   */
+  synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (!openDurationElapsed()) {
+        return false;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermitted >= properties.halfOpenCalls()) {
+        return false;
+      }
+      halfOpenPermitted++;
+    }
+    return true;
+  }
+
+  synchronized void onSuccess(long elapsedMillis) {
+    onResult(false, elapsedMillis);
+  }
+
+  synchronized void onFailure(long elapsedMillis) {
+    onResult(true, elapsedMillis);
+  }
+
+  /** 결과를 판단할 수 없는 호출 (Hedge 취소 등) → 허가만 반납 */
+  synchronized void onIgnored() {
+    if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+      halfOpenPermitted--;
+    }
+  }
+
+  private void onResult(boolean failed, long elapsedMillis) {
+    boolean slow = elapsedMillis >= properties.slowCallDuration().toMillis();
+
+    switch (state) {
+      case CLOSED -> {
+        failures[nextIndex] = failed;
+        slowCalls[nextIndex] = slow;
+        nextIndex = (nextIndex + 1) % failures.length;
+        if (recorded < failures.length) {
+          recorded++;
+        }
+        if (exceedsThreshold()) {
+          transitionTo(State.OPEN);
+        }
+      }
+      case HALF_OPEN -> {
+        if (failed || slow) {
+          transitionTo(State.OPEN);
+        } else if (++halfOpenSucceeded >= properties.halfOpenCalls()) {
+          transitionTo(State.CLOSED);
+        }
+      }
+      case OPEN -> {
+        // OPEN 전환 이전에 시작된 호출의 결과 → 무시
+      }
+    }
+  }
+
+  private boolean exceedsThreshold() {
+    if (recorded < properties.minimumCalls()) {
+      return false;
+    }
+    int failureCount = 0;
+    int slowCount = 0;
+    for (int i = 0; i < recorded; i++) {
+      if (failures[i]) {
+        failureCount++;
+      }
+      if (slowCalls[i]) {
+        slowCount++;
+      }
+    }
+    return (double) failureCount / recorded >= properties.failureRateThreshold()
+        || (double) slowCount / recorded >= properties.slowCallRateThreshold();
+  }
+
+  private boolean openDurationElapsed() {
+    return clock.getAsLong() - openedAtMillis >= properties.openDuration().toMillis();
+  }
+
+  private void transitionTo(State next) {
+    State previous = state;
+    state = next;
+
+    switch (next) {
+      case OPEN -> {
+        openedAtMillis = clock.getAsLong();
+        log.warn(
+            "[주소정제] Circuit OPEN: provider={}, previous={}, openDuration={}",
+            providerName,
+            previous,
+            properties.openDuration());
+      }
+      case HALF_OPEN -> {
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        log.info("[주소정제] Circuit HALF_OPEN: provider={}", providerName);
+      }
+      case CLOSED -> log.info("[주소정제] Circuit CLOSED: provider={}", providerName);
+    }
+
+    // 상태 전이 시 CLOSED 통계 초기화
+    nextIndex = 0;
+    recorded = 0;
+  }
+}
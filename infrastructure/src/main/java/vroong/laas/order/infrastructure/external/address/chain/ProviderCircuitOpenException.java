@@ -0,0 +1,13 @@
+package vroong.laas.order.infrastructure.external.address.chain;
+
+/**
+ * Circuit이 OPEN 상태인 Provider를 호출하려 할 때 발생
+ *
+ * <p>AddressRefinementAdapter는 일반 Provider 실패와 동일하게 다음 Provider로 Fallback 합니다.
+ */
+public class ProviderCircuitOpenException extends RuntimeException {
+
+  public ProviderCircuitOpenException(String providerName) {
+    super("Circuit OPEN 상태로 호출하지 않음 - Provider: " + providerName);
+  }
+}
@@ -0,0 +1,213 @@
+package vroong.laas.order.infrastructure.external.address.chain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodingProvider;
+
+/**
+ * 역지오코딩 Provider Chain
+ *
+ * <p>fallback-order 순서의 Provider 목록에 Provider별 Circuit Breaker와 응답 시간 기반 동적 정렬을 더합니다.
+ *
+ * <p>책임:
+ * - Circuit OPEN Provider 제외 (Timeout을 기다리지 않고 즉시 Skip)
+ * - 최근 성공 응답 시간(EWMA)이 빠른 Provider 우선
+ * - 응답 시간이 같은 구간(latency-bucket)이면 fallback-order 순서 유지
+ * - 응답 시간 샘플이 없는 Provider는 fallback-order 자리 유지 (샘플이 있는 Provider끼리만 자리 교환)
+ *
+ * <p>샘플이 없는 Provider를 맨 뒤로 보내면 앞 Provider가 성공하는 한 호출되지 않아 샘플이 영영 쌓이지 않으므로,
+ * 설정한 자리에서 계속 시도되도록 둡니다.
+ *
+ * <p>Metrics:
+ * - address.refinement.circuit.state{provider}: 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+ */
+public class ReverseGeocodingProviderChain {
+
+  private final List<GuardedProvider> providers;
+  private final AddressRefinementProperties.Reordering reordering;
+
+  public ReverseGeocodingProviderChain(
+      List<ReverseGeocodingProvider> providers,
+      AddressRefinementProperties.CircuitBreaker circuitBreaker,
+      AddressRefinementProperties.Reordering reordering,
+      MeterRegistry meterRegistry) {
+    this(providers, circuitBreaker, reordering, meterRegistry, System::currentTimeMillis);
+  }
+
+  ReverseGeocodingProviderChain(
+      List<ReverseGeocodingProvider> providers,
+      AddressRefinementProperties.CircuitBreaker circuitBreaker,
+      AddressRefinementProperties.Reordering reordering,
+      MeterRegistry meterRegistry,
+      LongSupplier clock) {
+    this.reordering = reordering;
+
+    List<GuardedProvider> guarded = new ArrayList<>(providers.size());
+    for (int i = 0; i < providers.size(); i++) {
+      ReverseGeocodingProvider delegate = providers.get(i);
+      ProviderCircuitBreaker breaker =
+          circuitBreaker.enabled()
+              ? new ProviderCircuitBreaker(delegate.getProviderName(), circuitBreaker, clock)
+              : null;
+      guarded.add(new GuardedProvider(delegate, i, breaker, reordering.smoothing()));
+
+      if (breaker != null && meterRegistry != null) {
+        Gauge.builder("address.refinement.circuit.state", breaker, b -> b.state().ordinal())
+            .description("역지오코딩 Provider Circuit 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+            .tag("provider", delegate.getProviderName())
+            .register(meterRegistry);
+      }
+    }
+    this.providers = List.copyOf(guarded);
+  }
+
+  /**
+   * Circuit Breaker와 동적 정렬 없이 fallback-order 그대로 사용하는 Chain
+   *
+   * @param providers Fallback 순서대로 정렬된 Provider 목록
+   * @return 고정 순서 Chain
+   */
+  public static ReverseGeocodingProviderChain fixed(List<ReverseGeocodingProvider> providers) {
+    return new ReverseGeocodingProviderChain(
+        providers,
+        AddressRefinementProperties.CircuitBreaker.disabled(),
+        AddressRefinementProperties.Reordering.disabled(),
+        null);
+  }
+
+  /**
+   * 이번 요청에 시도할 Provider 목록
+   *
+   * @return Circuit OPEN Provider를 제외하고 우선순위대로 정렬한 목록 (모두 OPEN 이면 빈 목록)
+   */
+  public List<ReverseGeocodingProvider> providers() {
+    List<GuardedProvider> available = new ArrayList<>(providers.size());
+    for (GuardedProvider provider : providers) {
+      if (provider.isCallPermitted()) {
+        available.add(provider);
+      }
+    }
+
+    if (reordering.enabled()) {
+      long bucketMillis = Math.max(reordering.latencyBucket().toMillis(), 1);
+      reorderSampled(available, bucketMillis);
+    }
+
+    return List.copyOf(available);
+  }
+
+  /** 응답 시간 샘플이 있는 Provider의 자리만 응답 시간 순으로 다시 채움 (샘플 없는 Provider는 제자리) */
+  private static void reorderSampled(List<GuardedProvider> available, long bucketMillis) {
+    List<Integer> sampledSlots = new ArrayList<>(available.size());
+    List<RankedProvider> sampled = new ArrayList<>(available.size());
+    for (int i = 0; i < available.size(); i++) {
+      GuardedProvider provider = available.get(i);
+      long rank = provider.latencyRank(bucketMillis);
+      if (rank >= 0) {
+        sampledSlots.add(i);
+        sampled.add(new RankedProvider(provider, rank));
+      }
+    }
+
+    sampled.sort(
+        Comparator.comparingLong(RankedProvider::rank)
+            .thenComparingInt(ranked -> ranked.provider().fallbackIndex()));
+    for (int i = 0; i < sampledSlots.size(); i++) {
+      available.set(sampledSlots.get(i), sampled.get(i).provider());
+    }
+  }
+
+  private record RankedProvider(GuardedProvider provider, long rank) {}
+
+  /**
+   * Circuit Breaker와 응답 시간 측정을 적용한 Provider
+   *
+   * <p>Hedge 로 취소된 호출(인터럽트)은 실패로 집계하지 않습니다.
+   */
+  private static class GuardedProvider implements ReverseGeocodingProvider {
+
+    private final ReverseGeocodingProvider delegate;
+    private final int fallbackIndex;
+    private final ProviderCircuitBreaker breaker;
+    private final double smoothing;
+
+    // 최근 성공 응답 시간 EWMA (ms), 샘플이 없으면 -1
+    private double latencyEwma = -1;
+
+    GuardedProvider(
+        ReverseGeocodingProvider delegate,
+        int fallbackIndex,
+        ProviderCircuitBreaker breaker,
+        double smoothing) {
+      this.delegate = delegate;
+      this.fallbackIndex = fallbackIndex;
+      this.breaker = breaker;
+      this.smoothing = smoothing;
+    }
+
+    @Override
+    public String getProviderName() {
+      return delegate.getProviderName();
+    }
+
+    @Override
+    public Address reverseGeocode(LatLng latLng) {
+      if (breaker != null && !breaker.tryAcquirePermission()) {
+        throw new ProviderCircuitOpenException(getProviderName());
+      }
+
+      long startedAt = System.nanoTime();
+      try {
+        Address address = delegate.reverseGeocode(latLng);
+        long elapsedMillis = elapsedMillis(startedAt);
+        recordLatency(elapsedMillis);
+        if (breaker != null) {
+          breaker.onSuccess(elapsedMillis);
+        }
+        return address;
+
+      } catch (RuntimeException e) {
+        if (breaker != null) {
+          if (Thread.currentThread().isInterrupted()) {
+            breaker.onIgnored();
+          } else {
+            breaker.onFailure(elapsedMillis(startedAt));
+          }
+        }
+        throw e;
+      }
+    }
+
+    boolean isCallPermitted() {
+      return breaker == null || breaker.isCallPermitted();
+    }
+
+    int fallbackIndex() {
+      return fallbackIndex;
+    }
+
+    /** 응답 시간 구간 (샘플이 없으면 -1) */
+    synchronized long latencyRank(long bucketMillis) {
+      return latencyEwma < 0 ? -1 : (long) (latencyEwma / bucketMillis);
+    }
+
+    private synchronized void recordLatency(long elapsedMillis) {
+      latencyEwma =
+          latencyEwma < 0
+              ? elapsedMillis
+              : smoothing * elapsedMillis + (1 - smoothing) * latencyEwma;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+  }
+}
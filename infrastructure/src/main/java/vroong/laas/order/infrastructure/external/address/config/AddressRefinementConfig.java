@@ -1,12 +1,18 @@
 package vroong.laas.order.infrastructure.external.address.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import vroong.laas.order.infrastructure.external.address.cache.ReverseGeocodingCache;
+import vroong.laas.order.infrastructure.external.address.chain.ReverseGeocodingProviderChain;
+import vroong.laas.order.infrastructure.external.address.hedge.HedgedReverseGeocoder;
 import vroong.laas.order.infrastructure.external.address.provider.KakaoReverseGeocodingProvider;
 import vroong.laas.order.infrastructure.external.address.provider.NaverReverseGeocodingProvider;
 import vroong.laas.order.infrastructure.external.address.provider.NeogeoReverseGeocodingProvider;
@@ -15,11 +21,13 @@ import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodi
 /**
  * 주소 정제 설정
  *
- * <p>역지오코딩 Provider의 Fallback 순서를 설정합니다.
+ * <p>역지오코딩 Provider Chain(Fallback 순서, Circuit Breaker, 동적 정렬), 역지오코딩 결과 캐시, Hedged 요청을
+ * 설정합니다.
  *
  * <p>설정 방법:
  * - application.yml의 address.refinement.fallback-order 설정
  * - 순서대로 Provider를 시도 (첫 번째가 최우선)
+ * - 동적 정렬 사용 시 응답 시간이 비슷한 Provider끼리는 이 순서를 따름
  *
  * <p>예시:
  * <pre>
@@ -40,21 +48,24 @@ public class AddressRefinementConfig {
   private final AddressRefinementProperties properties;
 
   /**
-   * 역지오코딩 Provider 리스트를 Fallback 순서대로 반환
+   * 역지오코딩 Provider Chain
    *
-   * <p>application.yml의 fallback-order 설정 순서대로 Provider를 정렬합니다.
+   * <p>application.yml의 fallback-order 설정 순서대로 Provider를 정렬하고, Provider별 Circuit Breaker와 응답
+   * 시간 기반 동적 정렬을 적용합니다.
    *
    * @param neogeo Neogeo Provider
    * @param naver Naver Provider
    * @param kakao Kakao Provider
-   * @return Fallback 순서대로 정렬된 Provider 리스트
+   * @param meterRegistry Circuit 상태 Metrics 등록 대상 (없으면 Metrics 미등록)
+   * @return 역지오코딩 Provider Chain
    * @throws IllegalArgumentException 설정에 알 수 없는 Provider 이름이 있는 경우
    */
   @Bean
-  public List<ReverseGeocodingProvider> reverseGeocodingProviders(
+  public ReverseGeocodingProviderChain reverseGeocodingProviderChain(
       NeogeoReverseGeocodingProvider neogeo,
       NaverReverseGeocodingProvider naver,
-      KakaoReverseGeocodingProvider kakao) {
+      KakaoReverseGeocodingProvider kakao,
+      ObjectProvider<MeterRegistry> meterRegistry) {
 
     Map<String, ReverseGeocodingProvider> providerMap =
         Map.of(
@@ -77,10 +88,63 @@ public class AddressRefinementConfig {
             .toList();
 
     log.info(
-        "[AddressRefinementConfig] Fallback 순서 설정 완료: {}",
-        providers.stream().map(ReverseGeocodingProvider::getProviderName).toList());
+        "[AddressRefinementConfig] Fallback 순서 설정 완료: {}, circuitBreaker={}, reordering={}",
+        providers.stream().map(ReverseGeocodingProvider::getProviderName).toList(),
+        properties.circuitBreaker().enabled(),
+        properties.reordering().enabled());
 
-    return providers;
+    return new ReverseGeocodingProviderChain(
+        providers,
+        properties.circuitBreaker(),
+        properties.reordering(),
+        meterRegistry.getIfAvailable());
+  }
+
+  /**
+   * 역지오코딩 결과 캐시
+   *
+   * <p>address.refinement.cache.enabled=false 이면 비활성 캐시를 반환합니다.
+   *
+   * @param meterRegistry 캐시 Metrics 등록 대상 (없으면 Metrics 미등록)
+   * @return 역지오코딩 결과 캐시
+   */
+  @Bean
+  public ReverseGeocodingCache reverseGeocodingCache(ObjectProvider<MeterRegistry> meterRegistry) {
+    AddressRefinementProperties.Cache cacheProperties = properties.cache();
+
+    log.info(
+        "[AddressRefinementConfig] 역지오코딩 캐시 설정: enabled={}, maximumSize={}, ttl={}, precision={}",
+        cacheProperties.enabled(),
+        cacheProperties.maximumSize(),
+        cacheProperties.ttl(),
+        cacheProperties.precision());
+
+    return ReverseGeocodingCache.create(cacheProperties, meterRegistry.getIfAvailable());
   }
-}
 
+  /**
+   * Hedged 역지오코딩 실행기
+   *
+   * <p>address.refinement.hedging.enabled=false 이면 비활성 인스턴스를 반환합니다. (순차 Fallback)
+   *
+   * @param meterRegistry Hedge/Winner Metrics 등록 대상 (없으면 Metrics 미등록)
+   * @param taskDecorator Provider 호출 스레드로 Trace 컨텍스트 전파 (없으면 미전파)
+   * @return Hedged 역지오코딩 실행기
+   */
+  @Bean
+  public HedgedReverseGeocoder hedgedReverseGeocoder(
+      ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<TaskDecorator> taskDecorator) {
+    AddressRefinementProperties.Hedging hedging = properties.hedging();
+
+    log.info(
+        "[AddressRefinementConfig] Hedging 설정: enabled={}, initialDelay={}, delayRange=[{}, {}], percentile={}",
+        hedging.enabled(),
+        hedging.initialDelay(),
+        hedging.minDelay(),
+        hedging.maxDelay(),
+        hedging.percentile());
+
+    return HedgedReverseGeocoder.create(
+        hedging, meterRegistry.getIfAvailable(), taskDecorator.getIfAvailable());
+  }
+}
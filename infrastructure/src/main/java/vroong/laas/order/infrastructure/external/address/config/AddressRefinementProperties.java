@@ -1,7 +1,9 @@
 package vroong.laas.order.infrastructure.external.address.config;
 
+import java.time.Duration;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * 주소 정제 설정 Properties
@@ -17,12 +19,36 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *       - neogeo
  *       - naver
  *       - kakao
+ *     cache:
+ *       enabled: true
+ *       maximum-size: 10000
+ *       ttl: 24h
+ *       precision: 6
+ *     hedging:
+ *       enabled: false
+ *       initial-delay: 300ms
+ *     circuit-breaker:
+ *       enabled: true
+ *       failure-rate-threshold: 0.5
+ *       open-duration: 30s
+ *     reordering:
+ *       enabled: false
+ *       latency-bucket: 50ms
  * }</pre>
  *
  * @param fallbackOrder 역지오코딩 Provider의 Fallback 순서 (예: neogeo, naver, kakao)
+ * @param cache 역지오코딩 결과 캐시 설정
+ * @param hedging Hedged 요청 설정
+ * @param circuitBreaker Provider별 Circuit Breaker 설정
+ * @param reordering 응답 시간 기반 Provider 동적 정렬 설정
  */
 @ConfigurationProperties(prefix = "address.refinement")
-public record AddressRefinementProperties(List<String> fallbackOrder) {
+public record AddressRefinementProperties(
+    List<String> fallbackOrder,
+    @DefaultValue Cache cache,
+    @DefaultValue Hedging hedging,
+    @DefaultValue CircuitBreaker circuitBreaker,
+    @DefaultValue Reordering reordering) {
 
   /**
    * 생성자 검증
@@ -34,5 +60,135 @@ public record AddressRefinementProperties(List<String> fallbackOrder) {
       throw new IllegalArgumentException("fallback-order는 최소 1개 이상의 Provider가 필요합니다");
     }
   }
-}
 
+  /**
+   * 역지오코딩 결과 캐시 설정
+   *
+   * @param enabled 캐시 사용 여부
+   * @param maximumSize 최대 캐시 항목 수 (초과 시 LRU 방식으로 제거)
+   * @param ttl 캐시 항목 유지 시간 (저장 시점 기준)
+   * @param precision 캐시 키로 사용할 위/경도 소수점 자릿수 (6자리 ≒ 0.1m 격자)
+   */
+  public record Cache(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("10000") long maximumSize,
+      @DefaultValue("24h") Duration ttl,
+      @DefaultValue("6") int precision) {
+
+    public Cache {
+      if (precision < 0 || precision > 7) {
+        throw new IllegalArgumentException("cache.precision은 0 ~ 7 사이여야 합니다");
+      }
+    }
+  }
+
+  /**
+   * Hedged 요청 설정
+   *
+   * <p>앞 Provider가 Hedge Delay 안에 응답하지 않으면 다음 Provider를 병렬 호출합니다.
+   *
+   * @param enabled Hedging 사용 여부 (false: 순차 Fallback)
+   * @param initialDelay 응답 시간 샘플이 부족할 때 사용할 Hedge Delay
+   * @param minDelay Hedge Delay 하한
+   * @param maxDelay Hedge Delay 상한
+   * @param percentile Hedge Delay로 사용할 최근 응답 시간 백분위수 (0.0 ~ 1.0)
+   * @param windowSize Provider별로 보관할 최근 응답 시간 샘플 수
+   * @param minSamples 백분위수 계산에 필요한 최소 샘플 수
+   */
+  public record Hedging(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("300ms") Duration initialDelay,
+      @DefaultValue("50ms") Duration minDelay,
+      @DefaultValue("2s") Duration maxDelay,
+      @DefaultValue("0.95") double percentile,
+      @DefaultValue("100") int windowSize,
+      @DefaultValue("20") int minSamples) {
+
+    public Hedging {
+      if (percentile <= 0 || percentile > 1) {
+        throw new IllegalArgumentException("hedging.percentile은 0 초과 1 이하여야 합니다");
+      }
+      if (minDelay.compareTo(maxDelay) > 0) {
+        throw new IllegalArgumentException("hedging.min-delay는 max-delay보다 클 수 없습니다");
+      }
+      if (windowSize < minSamples) {
+        throw new IllegalArgumentException("hedging.window-size는 min-samples 이상이어야 합니다");
+      }
+    }
+  }
+
+  /**
+   * Provider별 Circuit Breaker 설정
+   *
+   * <p>OPEN 상태의 Provider는 Timeout을 기다리지 않고 즉시 건너뜁니다.
+   *
+   * @param enabled Circuit Breaker 사용 여부
+   * @param windowSize 실패율/Slow Call 비율 계산에 사용할 최근 호출 수
+   * @param minimumCalls 비율 계산에 필요한 최소 호출 수
+   * @param failureRateThreshold OPEN 전환 실패율 (0.0 ~ 1.0)
+   * @param slowCallDuration 이 시간 이상 걸린 호출을 Slow Call로 집계
+   * @param slowCallRateThreshold OPEN 전환 Slow Call 비율 (0.0 ~ 1.0)
+   * @param openDuration OPEN 유지 시간 (경과 후 HALF_OPEN)
+   * @param halfOpenCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+   */
+  public record CircuitBreaker(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("20") int windowSize,
+      @DefaultValue("10") int minimumCalls,
+      @DefaultValue("0.5") double failureRateThreshold,
+      @DefaultValue("2s") Duration slowCallDuration,
+      @DefaultValue("0.8") double slowCallRateThreshold,
+      @DefaultValue("30s") Duration openDuration,
+      @DefaultValue("3") int halfOpenCalls) {
+
+    public CircuitBreaker {
+      if (minimumCalls < 1 || windowSize < minimumCalls) {
+        throw new IllegalArgumentException(
+            "circuit-breaker.window-size는 minimum-calls(1 이상) 이상이어야 합니다");
+      }
+      if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+        throw new IllegalArgumentException(
+            "circuit-breaker.failure-rate-threshold는 0 초과 1 이하여야 합니다");
+      }
+      if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+        throw new IllegalArgumentException(
+            "circuit-breaker.slow-call-rate-threshold는 0 초과 1 이하여야 합니다");
+      }
+      if (halfOpenCalls < 1) {
+        throw new IllegalArgumentException("circuit-breaker.half-open-calls는 1 이상이어야 합니다");
+      }
+    }
+
+    /** Circuit Breaker 미사용 설정 */
+    public static CircuitBreaker disabled() {
+      return new CircuitBreaker(
+          false, 20, 10, 0.5, Duration.ofSeconds(2), 0.8, Duration.ofSeconds(30), 3);
+    }
+  }
+
+  /**
+   * 응답 시간 기반 Provider 동적 정렬 설정
+   *
+   * <p>최근 성공 응답 시간(EWMA)이 빠른 Provider를 먼저 시도하고, 같은 구간이면 fallback-order 순서를 따릅니다.
+   *
+   * @param enabled 동적 정렬 사용 여부 (기본 false: fallback-order 고정)
+   * @param latencyBucket 응답 시간 비교 단위 (같은 구간이면 동률로 보고 fallback-order 우선)
+   * @param smoothing EWMA 가중치 (0.0 초과 1.0 이하, 클수록 최근 응답 시간 반영이 빠름)
+   */
+  public record Reordering(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("50ms") Duration latencyBucket,
+      @DefaultValue("0.2") double smoothing) {
+
+    public Reordering {
+      if (smoothing <= 0 || smoothing > 1) {
+        throw new IllegalArgumentException("reordering.smoothing은 0 초과 1 이하여야 합니다");
+      }
+    }
+
+    /** 동적 정렬 미사용 설정 */
+    public static Reordering disabled() {
+      return new Reordering(false, Duration.ofMillis(50), 0.2);
+    }
+  }
+}
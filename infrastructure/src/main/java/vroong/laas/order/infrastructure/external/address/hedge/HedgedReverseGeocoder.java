@@ -0,0 +1,250 @@
+package vroong.laas.order.infrastructure.external.address.hedge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodingProvider;
+
+/**
+ * Hedged 역지오코딩 실행기
+ *
+ * <p>앞 Provider가 Hedge Delay 안에 응답하지 않으면 다음 Provider를 병렬로 추가 호출하고, 가장 먼저 성공한 응답을
+ * 사용합니다.
+ *
+ * <p>흐름:
+ * 1. fallback-order 첫 번째 Provider 호출
+ * 2. 성공 → 즉시 반환 (나머지 호출 취소)
+ * 3. 실패 → 다음 Provider 즉시 호출 (기존 Fallback 과 동일)
+ * 4. Hedge Delay 경과 → 다음 Provider 병렬 호출 (Hedge)
+ * 5. 호출한 모든 Provider 실패 → AddressRefineFailedException
+ *
+ * <p>Hedge Delay (Provider별, 적응형):
+ * - 최근 성공 응답 시간의 백분위수 (기본 p95)
+ * - 샘플이 부족하면 initial-delay 사용
+ * - [min-delay, max-delay] 범위로 제한
+ *
+ * <p>Metrics:
+ * - address.refinement.hedge.fired{provider}: Hedge 로 추가 호출된 Provider
+ * - address.refinement.provider.wins{provider, hedged}: 최종 응답을 제공한 Provider
+ *
+ * <p>컨텍스트 전파:
+ * - Provider 호출은 Virtual Thread 에서 실행되므로 TaskDecorator 로 Trace 컨텍스트(MDC)를 전파
+ * - 제출 시점(요청 스레드)의 컨텍스트를 캡처하므로 Hedge/Fallback 호출에도 같은 traceId 가 남음
+ *
+ * <p>종료:
+ * - close() 시 실행 중인 호출을 취소하고 Executor 를 종료 (Spring Bean 소멸 시 자동 호출)
+ */
+@Slf4j
+public class HedgedReverseGeocoder implements AutoCloseable {
+
+  private static final HedgedReverseGeocoder DISABLED = new HedgedReverseGeocoder(null, null, null);
+
+  private final AddressRefinementProperties.Hedging properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("reverse-geocoding-", 0).factory());
+  private final Executor taskExecutor;
+
+  private HedgedReverseGeocoder(
+      AddressRefinementProperties.Hedging properties,
+      MeterRegistry meterRegistry,
+      TaskDecorator taskDecorator) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.taskExecutor =
+        taskDecorator != null
+            ? task -> executor.execute(taskDecorator.decorate(task))
+            : executor;
+  }
+
+  /**
+   * 설정 기반 생성
+   *
+   * @param properties Hedging 설정
+   * @param meterRegistry Metrics 등록 대상 (null이면 Metrics 미등록)
+   * @param taskDecorator Provider 호출 작업 Decorator (null이면 컨텍스트 미전파)
+   * @return enabled=false 이면 비활성 인스턴스
+   */
+  public static HedgedReverseGeocoder create(
+      AddressRefinementProperties.Hedging properties,
+      MeterRegistry meterRegistry,
+      TaskDecorator taskDecorator) {
+    if (!properties.enabled()) {
+      return DISABLED;
+    }
+    return new HedgedReverseGeocoder(properties, meterRegistry, taskDecorator);
+  }
+
+  /** 비활성 인스턴스 (AddressRefinementAdapter가 순차 Fallback 사용) */
+  public static HedgedReverseGeocoder disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return properties != null;
+  }
+
+  /**
+   * Hedged 역지오코딩
+   *
+   * @param providers Fallback 순서대로 정렬된 Provider 목록
+   * @param latLng 위/경도 좌표
+   * @return 가장 먼저 성공한 Provider의 주소
+   * @throws AddressRefineFailedException 호출한 모든 Provider가 실패한 경우
+   */
+  public Address reverseGeocode(List<ReverseGeocodingProvider> providers, LatLng latLng) {
+    ExecutorCompletionService<Attempt> completion = new ExecutorCompletionService<>(taskExecutor);
+    List<Future<Attempt>> launched = new ArrayList<>();
+    Throwable lastFailure = null;
+    boolean hedged = false;
+    int next = 0;
+    int pending = 0;
+
+    try {
+      launched.add(completion.submit(() -> attempt(providers.get(0), latLng)));
+      next++;
+      pending++;
+
+      while (pending > 0) {
+        Future<Attempt> done;
+        if (next < providers.size()) {
+          Duration delay = hedgeDelay(providers.get(next - 1));
+          done = completion.poll(delay.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+          done = completion.take();
+        }
+
+        // Hedge Delay 경과 → 다음 Provider 병렬 호출
+        if (done == null) {
+          ReverseGeocodingProvider hedge = providers.get(next++);
+          log.info(
+              "[주소정제] Hedge 호출: provider={}, latLng={}", hedge.getProviderName(), latLng);
+          countHedge(hedge);
+          launched.add(completion.submit(() -> attempt(hedge, latLng)));
+          pending++;
+          hedged = true;
+          continue;
+        }
+
+        pending--;
+        try {
+          Attempt attempt = done.get();
+          log.info(
+              "[주소정제] 성공: provider={}, hedged={}, latLng={}",
+              attempt.provider().getProviderName(),
+              hedged,
+              latLng);
+          countWin(attempt.provider(), hedged);
+          return attempt.address();
+
+        } catch (ExecutionException e) {
+          lastFailure = e.getCause();
+          log.warn("[주소정제] 실패: latLng={}, error={}", latLng, lastFailure.getMessage());
+
+          // 실패 → 다음 Provider 즉시 호출 (Fallback)
+          if (next < providers.size()) {
+            ReverseGeocodingProvider fallback = providers.get(next++);
+            launched.add(completion.submit(() -> attempt(fallback, latLng)));
+            pending++;
+          }
+        }
+      }
+
+      log.error(
+          "[주소정제] 모든 Provider 실패: latLng={}, providers={}",
+          latLng,
+          providers.stream().map(ReverseGeocodingProvider::getProviderName).toList());
+
+      throw new AddressRefineFailedException(
+          String.format("모든 역지오코딩 서비스가 실패했습니다 - LatLng: %s", latLng), lastFailure);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AddressRefineFailedException("주소 정제 중 인터럽트 발생", e);
+
+    } finally {
+      // 응답을 받지 못한 나머지 호출 취소
+      launched.forEach(future -> future.cancel(true));
+    }
+  }
+
+  /** 실행 중인 Provider 호출을 취소하고 Executor 종료 */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Provider의 현재 Hedge Delay
+   *
+   * @param provider Provider
+   * @return 최근 성공 응답 시간 백분위수 (샘플 부족 시 initial-delay), [min-delay, max-delay] 범위
+   */
+  Duration hedgeDelay(ReverseGeocodingProvider provider) {
+    LatencyWindow window = latencies.get(provider.getProviderName());
+    if (window == null || window.size() < properties.minSamples()) {
+      return properties.initialDelay();
+    }
+
+    long millis = window.percentile(properties.percentile());
+    long clamped =
+        Math.clamp(millis, properties.minDelay().toMillis(), properties.maxDelay().toMillis());
+    return Duration.ofMillis(clamped);
+  }
+
+  private Attempt attempt(ReverseGeocodingProvider provider, LatLng latLng) {
+    long startedAt = System.nanoTime();
+    Address address = provider.reverseGeocode(latLng);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    latencies
+        .computeIfAbsent(
+            provider.getProviderName(), name -> new LatencyWindow(properties.windowSize()))
+        .record(elapsedMillis);
+
+    return new Attempt(provider, address);
+  }
+
+  private void countHedge(ReverseGeocodingProvider provider) {
+    if (meterRegistry == null) {
+      return;
+    }
+    Counter.builder("address.refinement.hedge.fired")
+        .description("Hedge Delay 경과로 추가 호출된 역지오코딩 Provider")
+        .tag("provider", provider.getProviderName())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private void countWin(ReverseGeocodingProvider provider, boolean hedged) {
+    if (meterRegistry == null) {
+      return;
+    }
+    Counter.builder("address.refinement.provider.wins")
+        .description("최종 응답을 제공한 역지오코딩 Provider")
+        .tag("provider", provider.getProviderName())
+        .tag("hedged", String.valueOf(hedged))
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private record Attempt(ReverseGeocodingProvider provider, Address address) {}
+}
@@ -0,0 +1,47 @@
+package vroong.laas.order.infrastructure.external.address.hedge;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건의 응답 시간(ms)을 보관하는 Ring Buffer
+ *
+ * <p>Hedge Delay 계산용 (최근 성공 응답 시간의 백분위수)
+ */
+class LatencyWindow {
+
+  private final long[] samples;
+  private int nextIndex;
+  private int size;
+
+  LatencyWindow(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  synchronized void record(long latencyMillis) {
+    samples[nextIndex] = latencyMillis;
+    nextIndex = (nextIndex + 1) % samples.length;
+    if (size < samples.length) {
+      size++;
+    }
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  /**
+   * 백분위수 계산 (nearest-rank)
+   *
+   * @param percentile 0.0 ~ 1.0 (예: 0.95)
+   * @return 백분위수 응답 시간 (ms), 샘플이 없으면 -1
+   */
+  synchronized long percentile(double percentile) {
+    if (size == 0) {
+      return -1;
+    }
+    long[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile * size);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+}
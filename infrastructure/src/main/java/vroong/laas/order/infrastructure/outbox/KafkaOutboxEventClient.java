@@ -4,9 +4,16 @@ import com.vroong.msa.kafka.eventpublisher.OutboxEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import vroong.laas.order.core.domain.outbox.OutboxBacklog;
 import vroong.laas.order.core.domain.outbox.OutboxEventType;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
 import vroong.laas.order.core.domain.shared.AggregateRoot;
 import vroong.laas.order.core.domain.outbox.required.OutboxEventClient;
+import vroong.laas.order.infrastructure.outbox.codec.EncodedOutboxEventWriter;
+import vroong.laas.order.infrastructure.outbox.codec.OutboxPayloadCodec;
+import vroong.laas.order.infrastructure.outbox.codec.OutboxPayloadProperties;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxEventRelay;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxFastPath;
 
 /**
  * Kafka Outbox Event Client Adapter
@@ -17,6 +24,9 @@ import vroong.laas.order.core.domain.outbox.required.OutboxEventClient;
  * - OutboxEventClient (Port) 구현
  * - Domain Model을 KafkaEvent로 변환 (KafkaOutboxEventMapper 사용)
  * - Outbox 라이브러리 호출 (OutboxEventService.registerEvent)
+ * - 압축 Codec 이 설정된 이벤트 타입은 라이브러리가 저장한 페이로드를 인코딩 (EncodedOutboxEventWriter)
+ * - 미전송 이벤트 발행은 프로젝트 Relay 사용 (OutboxEventRelay, batch 일괄 전송)
+ * - 커밋 직후 발행 예약 (OutboxFastPath, 설정 시)
  *
  * <p>Outbox 패턴:
  * - Order 저장과 동일한 트랜잭션으로 Outbox 저장
@@ -29,6 +39,10 @@ import vroong.laas.order.core.domain.outbox.required.OutboxEventClient;
 public class KafkaOutboxEventClient implements OutboxEventClient {
 
   private final OutboxEventService outboxEventService;
+  private final OutboxEventRelay outboxEventRelay;
+  private final OutboxFastPath outboxFastPath;
+  private final EncodedOutboxEventWriter encodedOutboxEventWriter;
+  private final OutboxPayloadProperties payloadProperties;
   private final KafkaOutboxEventMapper outboxEventMapper = new KafkaOutboxEventMapper();
 
   /**
@@ -41,16 +55,50 @@ public class KafkaOutboxEventClient implements OutboxEventClient {
   public void save(OutboxEventType eventType, AggregateRoot aggregateRoot) {
     KafkaOutboxEvent event = outboxEventMapper.map(eventType, aggregateRoot);
     outboxEventService.registerEvent(event.kafkaEvent(), event.eventKey());
+    OutboxPayloadCodec codec = payloadProperties.codecOf(eventType);
+    if (codec != OutboxPayloadCodec.JSON) {
+      encodedOutboxEventWriter.encodeRegistered(event.eventKey(), codec);
+    }
+    outboxFastPath.publishAfterCommit(event.eventKey());
   }
 
   /**
    * Outbox 테이블에서 미전송 이벤트를 Kafka로 발행
    *
-   * @param batchSize 한 번에 처리할 이벤트 수
+   * <p>{@value OutboxPartition#STORED_COUNT} 개 Partition 을 차례로 발행합니다. Partition Lease 를 Partition 별
+   * Worker 와 같은 방식으로 잡으므로 Worker 가 처리 중인 Partition 은 건너뜁니다.
+   *
+   * @param batchSize Partition 별 한 번에 처리할 이벤트 수
    * @return 발행된 이벤트 수
    */
   @Override
   public int publishPendingEvents(int batchSize) {
-    return outboxEventService.processUnpublishedEvents(batchSize);
+    int published = 0;
+    for (OutboxPartition partition : OutboxPartition.all(OutboxPartition.STORED_COUNT)) {
+      published += outboxEventRelay.relay(partition, batchSize);
+    }
+    return published;
+  }
+
+  /**
+   * 지정한 Partition 의 미전송 이벤트를 id 순서대로 Kafka로 발행
+   *
+   * @param batchSize 한 번에 처리할 이벤트 수
+   * @param partition 담당 Partition
+   * @return 발행된 이벤트 수
+   */
+  @Override
+  public int publishPendingEvents(int batchSize, OutboxPartition partition) {
+    return outboxEventRelay.relay(partition, batchSize);
+  }
+
+  /**
+   * 미전송 이벤트 현황 조회
+   *
+   * @return 미전송 이벤트 수와 가장 오래된 미전송 이벤트 생성 시각
+   */
+  @Override
+  public OutboxBacklog getBacklog() {
+    return outboxEventRelay.backlog();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package vroong.laas.order.infrastructure.outbox.codec;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 인코딩된 Outbox 이벤트 저장기
+ *
+ * <p>JSON 이 아닌 Codec 이 설정된 이벤트 타입은 Outbox 라이브러리(registerEvent)가 저장한 Row 를 같은
+ * 트랜잭션 안에서 인코딩된 형식으로 바꿉니다.
+ *
+ * <p>특징:
+ * - 페이로드 JSON 은 라이브러리가 직렬화한 값을 그대로 인코딩 (별도 ObjectMapper 없음 → 형식 불일치 없음)
+ * - payload_codec / payload_blob 에 저장하고 payload(TEXT) 는 NULL (커밋된 Row 크기 감소)
+ * - 대상 Row 는 같은 Connection 의 LAST_INSERT_ID() 로 찾음 (registerEvent 직후 호출)
+ * - 호출하는 쪽 트랜잭션(주문 저장)에 참여
+ */
+@Slf4j
+public class EncodedOutboxEventWriter {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public EncodedOutboxEventWriter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * 방금 라이브러리가 저장한 이벤트의 페이로드를 인코딩
+   *
+   * <p>같은 트랜잭션에서 {@code OutboxEventService.registerEvent()} 직후에 호출해야 합니다. 대상 Row 를 찾지
+   * 못하면 JSON 그대로 두며, 이 경우에도 발행 내용은 같습니다.
+   *
+   * @param eventKey 이벤트 키 (방금 저장한 Row 확인용)
+   * @param codec Payload Codec (JSON 제외)
+   * @return 인코딩 여부
+   */
+  public boolean encodeRegistered(String eventKey, OutboxPayloadCodec codec) {
+    if (codec == OutboxPayloadCodec.JSON) {
+      throw new IllegalArgumentException("JSON Codec 이벤트는 인코딩하지 않습니다");
+    }
+
+    List<RegisteredEvent> registered =
+        jdbcTemplate.query(
+            "SELECT id, payload FROM outbox_events"
+                + " WHERE id = LAST_INSERT_ID() AND event_key = ? AND payload_codec = 'JSON'",
+            (rs, rowNum) -> new RegisteredEvent(rs.getLong("id"), rs.getString("payload")),
+            eventKey);
+    if (registered.isEmpty()) {
+      log.warn(
+          "[EncodedOutboxEventWriter] 방금 저장한 이벤트를 찾지 못해 JSON 으로 둡니다 - eventKey: {}",
+          eventKey);
+      return false;
+    }
+
+    RegisteredEvent event = registered.getFirst();
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET payload_codec = ?, payload_blob = ?, payload = NULL"
+            + " WHERE id = ?",
+        codec.name(),
+        codec.encode(event.payload()),
+        event.id());
+    return true;
+  }
+
+  /** 라이브러리가 저장한 Row (id, JSON 페이로드) */
+  private record RegisteredEvent(long id, String payload) {}
+}
@@ -0,0 +1,108 @@
+package vroong.laas.order.infrastructure.outbox.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Outbox Payload Codec
+ *
+ * <p>outbox_events 에 이벤트 페이로드(JSON)를 저장하는 방식입니다. 저장 방식과 관계없이 Kafka 로는 항상 원본 JSON 을
+ * 발행합니다 (Consumer 영향 없음).
+ *
+ * <p>Codec:
+ * - JSON: Outbox 라이브러리가 payload(TEXT) 컬럼에 JSON 그대로 저장 (기본값)
+ * - DEFLATE: 프로젝트가 JSON 을 Deflate 압축하여 payload_blob 컬럼에 저장 (payload 는 NULL)
+ */
+public enum OutboxPayloadCodec {
+
+  /** JSON 원문 (payload TEXT 컬럼) */
+  JSON {
+    @Override
+    public byte[] encode(String json) {
+      return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+      return new String(encoded, StandardCharsets.UTF_8);
+    }
+  },
+
+  /** Deflate 압축 JSON (payload_blob 컬럼, zlib 헤더 없는 raw deflate) */
+  DEFLATE {
+    @Override
+    public byte[] encode(String json) {
+      byte[] input = json.getBytes(StandardCharsets.UTF_8);
+      Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+      try {
+        deflater.setInput(input);
+        deflater.finish();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2 + 16);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!deflater.finished()) {
+          output.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return output.toByteArray();
+      } finally {
+        deflater.end();
+      }
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+      Inflater inflater = new Inflater(true);
+      try {
+        inflater.setInput(encoded);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(encoded.length * 4);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!inflater.finished()) {
+          int length = inflater.inflate(buffer);
+          if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            throw new IllegalArgumentException("손상된 DEFLATE 페이로드입니다");
+          }
+          output.write(buffer, 0, length);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+      } catch (DataFormatException e) {
+        throw new IllegalArgumentException("손상된 DEFLATE 페이로드입니다", e);
+      } finally {
+        inflater.end();
+      }
+    }
+  };
+
+  private static final int BUFFER_SIZE = 4096;
+
+  /**
+   * outbox_events Row 의 페이로드 JSON 조회
+   *
+   * @param codec payload_codec 컬럼 값
+   * @param payload payload 컬럼 값 (JSON Codec)
+   * @param blob payload_blob 컬럼 값 (그 외 Codec)
+   * @return 이벤트 페이로드 JSON
+   */
+  public static String readPayload(String codec, String payload, byte[] blob) {
+    OutboxPayloadCodec payloadCodec = valueOf(codec);
+    return payloadCodec == JSON ? payload : payloadCodec.decode(blob);
+  }
+
+  /**
+   * JSON → 저장 형식
+   *
+   * @param json 이벤트 페이로드 JSON
+   * @return 저장할 바이트
+   */
+  public abstract byte[] encode(String json);
+
+  /**
+   * 저장 형식 → JSON
+   *
+   * @param encoded 저장된 바이트
+   * @return 이벤트 페이로드 JSON
+   * @throws IllegalArgumentException 손상된 페이로드인 경우
+   */
+  public abstract String decode(byte[] encoded);
+}
@@ -0,0 +1,25 @@
+package vroong.laas.order.infrastructure.outbox.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Outbox Payload Codec 설정
+ *
+ * <p>이벤트 타입별 Payload Codec 설정과 인코딩된 이벤트 저장기를 생성합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxPayloadProperties.class)
+@Slf4j
+public class OutboxPayloadCodecConfig {
+
+  @Bean
+  public EncodedOutboxEventWriter encodedOutboxEventWriter(
+      JdbcTemplate jdbcTemplate, OutboxPayloadProperties properties) {
+    log.info("[OutboxPayloadCodecConfig] 이벤트 타입별 Payload Codec: {}", properties.codecs());
+    return new EncodedOutboxEventWriter(jdbcTemplate);
+  }
+}
@@ -0,0 +1,37 @@
+package vroong.laas.order.infrastructure.outbox.codec;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import vroong.laas.order.core.domain.outbox.OutboxEventType;
+
+/**
+ * Outbox Payload 설정 Properties
+ *
+ * <p>application.yml의 {@code outbox.payload} 설정을 바인딩합니다.
+ *
+ * <p>설정 예시:
+ *
+ * <pre>{@code
+ * outbox:
+ *   payload:
+ *     codecs:
+ *       ORDER_CREATED: DEFLATE
+ * }</pre>
+ *
+ * @param codecs OutboxEventType 별 Payload Codec (설정이 없는 타입은 JSON)
+ */
+@ConfigurationProperties(prefix = "outbox.payload")
+public record OutboxPayloadProperties(
+    @DefaultValue Map<OutboxEventType, OutboxPayloadCodec> codecs) {
+
+  /**
+   * 이벤트 타입의 Payload Codec 조회
+   *
+   * @param eventType Outbox Event Type
+   * @return Payload Codec (설정이 없으면 JSON)
+   */
+  public OutboxPayloadCodec codecOf(OutboxEventType eventType) {
+    return codecs.getOrDefault(eventType, OutboxPayloadCodec.JSON);
+  }
+}
@@ -0,0 +1,264 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import vroong.laas.order.core.domain.outbox.OutboxBacklog;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+import vroong.laas.order.infrastructure.outbox.codec.OutboxPayloadCodec;
+
+/**
+ * outbox_events JDBC Repository (Relay 전용)
+ *
+ * <p>Outbox 라이브러리가 저장한 outbox_events 를 Relay 가 직접 선점/발행 처리하기 위한 SQL 을 모아둡니다.
+ *
+ * <p>특징:
+ * - JPA Entity 없이 JdbcTemplate 사용 (Outbox 테이블은 라이브러리 소유)
+ * - 모든 메서드는 호출하는 쪽 트랜잭션 안에서 실행 (OutboxEventRelay 의 선점/완료 트랜잭션)
+ * - Partition Lease 는 Row Lock 이 아니라 Lease Token + 만료 시각으로 표시 (Kafka 전송 중 Lock 없음)
+ * - Partition 조건은 저장 시 계산된 partition_no = index (idx_status_partition_id)
+ * - 인코딩된 Payload(payload_codec != JSON)는 조회 시 JSON 으로 복원 (Kafka 메시지 형식 동일)
+ * - id 조건에는 항상 created_at 조건을 함께 붙여 해당 created_at Partition 만 읽음 (Partition Pruning)
+ */
+class OutboxEventJdbcRepository {
+
+  static final String STATUS_PENDING = "PENDING";
+  static final String STATUS_PUBLISHED = "PUBLISHED";
+  static final String STATUS_DLQ = "DLQ";
+
+  /** 조회 컬럼 (OutboxEventRow) */
+  private static final String ROW_COLUMNS =
+      "id, event_id, event_type, event_key, payload, payload_codec, payload_blob,"
+          + " retry_count, created_at";
+
+  /** last_error 최대 저장 길이 */
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  OutboxEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  /**
+   * Partition Lease 획득
+   *
+   * <p>outbox_relay_partitions Row 에 Lease Token 과 만료 시각을 기록하고 바로 커밋합니다. 다른 인스턴스의 Lease
+   * 가 아직 유효하면 기다리지 않고 false 를 반환합니다. 만료 시각은 DB 시계 기준이므로 인스턴스 간 시계 차이와 무관합니다.
+   *
+   * @param partition Partition
+   * @param leaseToken 이번 Relay 의 Lease Token
+   * @param leaseTimeout Lease 유효 시간 (Kafka Ack 대기 시간보다 길어야 함)
+   * @return Lease 획득 여부
+   */
+  boolean tryAcquireLease(OutboxPartition partition, String leaseToken, Duration leaseTimeout) {
+    int updated =
+        jdbcTemplate.update(
+            "UPDATE outbox_relay_partitions"
+                + " SET lease_token = ?,"
+                + " leased_until = TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(6))"
+                + " WHERE partition_no = ?"
+                + " AND (leased_until IS NULL OR leased_until < CURRENT_TIMESTAMP(6))",
+            leaseToken,
+            TimeUnit.NANOSECONDS.toMicros(leaseTimeout.toNanos()),
+            partition.index());
+    return updated == 1;
+  }
+
+  /**
+   * Partition Lease 반납
+   *
+   * <p>Lease 가 만료되어 다른 인스턴스가 가져갔으면 아무것도 하지 않습니다.
+   *
+   * @param partition Partition
+   * @param leaseToken 획득할 때 사용한 Lease Token
+   */
+  void releaseLease(OutboxPartition partition, String leaseToken) {
+    jdbcTemplate.update(
+        "UPDATE outbox_relay_partitions SET lease_token = NULL, leased_until = NULL"
+            + " WHERE partition_no = ? AND lease_token = ?",
+        partition.index(),
+        leaseToken);
+  }
+
+  /**
+   * Partition 의 미전송 이벤트 조회 (Lock 없음)
+   *
+   * <p>idx_status_partition_id (status, partition_no, id) 인덱스를 id 순서로 읽습니다. 다른 Partition 의
+   * Row 는 읽지 않습니다. Partition Lease 를 잡은 Worker 만 호출하므로 Row Lock 없이 읽습니다.
+   *
+   * @param partition Partition (count 는 {@value OutboxPartition#STORED_COUNT})
+   * @param limit 최대 조회 수
+   * @return id 오름차순 미전송 이벤트
+   * @throws IllegalArgumentException partition_no 와 다른 Partition 수인 경우
+   */
+  List<OutboxEventRow> findPending(OutboxPartition partition, int limit) {
+    if (partition.count() != OutboxPartition.STORED_COUNT) {
+      throw new IllegalArgumentException(
+          "Partition 수는 outbox_events.partition_no 의 Partition 수("
+              + OutboxPartition.STORED_COUNT
+              + ")와 같아야 합니다: "
+              + partition.count());
+    }
+    return jdbcTemplate.query(
+        "SELECT " + ROW_COLUMNS + " FROM outbox_events"
+            + " WHERE status = ? AND partition_no = ?"
+            + " ORDER BY id LIMIT ?",
+        OutboxEventJdbcRepository::mapRow,
+        STATUS_PENDING,
+        partition.index(),
+        limit);
+  }
+
+  /**
+   * 특정 event_key 들의 미전송 이벤트 조회 (Lock 없음)
+   *
+   * <p>idx_event_key_status_id (event_key, status, id) 인덱스로 키별 PENDING Row 만 읽습니다. (Backlog 크기와
+   * 무관)
+   *
+   * @param eventKeys 이벤트 키 목록
+   * @param limit 최대 조회 수
+   * @return id 오름차순 미전송 이벤트
+   */
+  List<OutboxEventRow> findPendingByKeys(Collection<String> eventKeys, int limit) {
+    return namedJdbcTemplate.query(
+        "SELECT " + ROW_COLUMNS + " FROM outbox_events"
+            + " WHERE status = :status AND event_key IN (:eventKeys)"
+            + " ORDER BY id LIMIT :limit",
+        Map.of("status", STATUS_PENDING, "eventKeys", eventKeys, "limit", limit),
+        OutboxEventJdbcRepository::mapRow);
+  }
+
+  /**
+   * 미전송 이벤트 현황 조회
+   *
+   * <p>idx_status_id / idx_status_created 인덱스 범위만 읽습니다.
+   *
+   * @return 미전송 이벤트 수와 가장 오래된 미전송 이벤트 생성 시각
+   */
+  OutboxBacklog findBacklog() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) AS pending_count, MIN(created_at) AS oldest_created_at"
+            + " FROM outbox_events WHERE status = ?",
+        (rs, rowNum) -> {
+          Timestamp oldest = rs.getTimestamp("oldest_created_at");
+          return new OutboxBacklog(
+              rs.getLong("pending_count"), oldest != null ? oldest.toInstant() : null);
+        },
+        STATUS_PENDING);
+  }
+
+  /**
+   * 발행 완료 처리 (일괄)
+   *
+   * <p>PENDING 인 Row 만 바꿉니다. (Lease 만료 후 다른 Worker 가 먼저 처리한 Row 는 그대로 둠)
+   *
+   * @param keys 이벤트 PK 목록
+   */
+  void markPublished(List<OutboxEventKey> keys) {
+    namedJdbcTemplate.update(
+        "UPDATE outbox_events SET status = :status, published_at = CURRENT_TIMESTAMP"
+            + " WHERE id IN (:ids) AND created_at BETWEEN :from AND :to AND status = :pending",
+        Map.of(
+            "status", STATUS_PUBLISHED,
+            "pending", STATUS_PENDING,
+            "ids", keys.stream().map(OutboxEventKey::id).toList(),
+            "from", Timestamp.from(oldest(keys)),
+            "to", Timestamp.from(newest(keys))));
+  }
+
+  /**
+   * 발행 실패 기록
+   *
+   * <p>실패 횟수가 maxRetries 에 도달하면 outbox_events_dlq 로 복사하고 DLQ 상태로 변경합니다. 그 전까지는
+   * PENDING 상태를 유지하여 다음 Relay 에서 재시도합니다.
+   *
+   * @param row 실패한 이벤트
+   * @param error 실패 사유
+   * @param maxRetries DLQ 이동 기준 실패 횟수
+   * @return DLQ 로 이동했으면 true
+   */
+  boolean recordFailure(OutboxEventRow row, String error, int maxRetries) {
+    int retryCount = row.retryCount() + 1;
+    String lastError = truncate(error);
+
+    if (retryCount < maxRetries) {
+      jdbcTemplate.update(
+          "UPDATE outbox_events SET retry_count = ?, last_error = ?"
+              + " WHERE id = ? AND created_at = ? AND status = ?",
+          retryCount,
+          lastError,
+          row.id(),
+          Timestamp.from(row.createdAt()),
+          STATUS_PENDING);
+      return false;
+    }
+
+    jdbcTemplate.update(
+        "INSERT INTO outbox_events_dlq"
+            + " (event_id, event_type, event_key, payload, payload_codec, payload_blob,"
+            + " retry_count, last_error, created_at, failed_at)"
+            + " SELECT event_id, event_type, event_key, payload, payload_codec, payload_blob,"
+            + " ?, ?, created_at, CURRENT_TIMESTAMP"
+            + " FROM outbox_events WHERE id = ? AND created_at = ? AND status = ?",
+        retryCount,
+        lastError,
+        row.id(),
+        Timestamp.from(row.createdAt()),
+        STATUS_PENDING);
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET status = ?, retry_count = ?, last_error = ?"
+            + " WHERE id = ? AND created_at = ? AND status = ?",
+        STATUS_DLQ,
+        retryCount,
+        lastError,
+        row.id(),
+        Timestamp.from(row.createdAt()),
+        STATUS_PENDING);
+    return true;
+  }
+
+  private static Instant oldest(List<OutboxEventKey> keys) {
+    return keys.stream()
+        .map(OutboxEventKey::createdAt)
+        .min(Comparator.naturalOrder())
+        .orElseThrow();
+  }
+
+  private static Instant newest(List<OutboxEventKey> keys) {
+    return keys.stream()
+        .map(OutboxEventKey::createdAt)
+        .max(Comparator.naturalOrder())
+        .orElseThrow();
+  }
+
+  private static OutboxEventRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new OutboxEventRow(
+        rs.getLong("id"),
+        rs.getString("event_id"),
+        rs.getString("event_type"),
+        rs.getString("event_key"),
+        OutboxPayloadCodec.readPayload(
+            rs.getString("payload_codec"), rs.getString("payload"), rs.getBytes("payload_blob")),
+        rs.getInt("retry_count"),
+        rs.getTimestamp("created_at").toInstant());
+  }
+
+  private static String truncate(String error) {
+    if (error == null) {
+      return "unknown";
+    }
+    return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,14 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.time.Instant;
+
+/**
+ * outbox_events PK (id, created_at)
+ *
+ * <p>outbox_events 는 created_at Range Partition 이므로 id 와 함께 created_at 조건을 주어야 해당 Partition 만
+ * 읽습니다. (Partition Pruning)
+ *
+ * @param id 이벤트 ID (발행 순서)
+ * @param createdAt 생성 시각 (Partition Key)
+ */
+record OutboxEventKey(long id, Instant createdAt) {}
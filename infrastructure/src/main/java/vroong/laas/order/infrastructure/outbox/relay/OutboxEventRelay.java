@@ -0,0 +1,154 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+import vroong.laas.order.core.domain.outbox.OutboxBacklog;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxKafkaSender.BatchResult;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxKafkaSender.Failure;
+
+/**
+ * Partition 단위 Outbox Relay
+ *
+ * <p>Outbox 라이브러리가 저장한 outbox_events 중 한 Partition(event_key 해시 구간)의 미전송 이벤트를 id 순서대로
+ * Kafka 로 발행합니다.
+ *
+ * <p>흐름 (Kafka 전송은 트랜잭션 밖):
+ * <pre>
+ * 1. 선점 트랜잭션
+ *    - outbox_relay_partitions 에 Lease Token 기록 (만료된 Lease 만 가져옴)
+ *      → 다른 인스턴스가 같은 Partition 을 처리 중이면 즉시 종료
+ *    - Partition 의 PENDING 이벤트 조회 (Lock 없음, idx_status_partition_id 사용)
+ *    - 커밋 (Lease Row, 이벤트 Row 모두 Lock 해제)
+ * 2. 선점한 이벤트를 Kafka 로 일괄 전송하고 Ack 대기 (OutboxKafkaSender#sendAll)
+ *    → 같은 event_key 의 이벤트는 앞 이벤트 Ack 후에만 전송
+ * 3. 완료 트랜잭션
+ *    - Ack 받은 이벤트를 한 번의 UPDATE 로 PUBLISHED 처리
+ *    - event_key 별 처음 실패한 이벤트는 재시도 횟수 기록 (한도 초과 시 DLQ)
+ *    - 실패한 event_key 의 뒤 이벤트는 다음 Relay 로 미룸
+ *    - Lease 반납
+ * </pre>
+ *
+ * <p>특징:
+ * - Partition 이 다르면 Lease 가 겹치지 않아 Worker 끼리 병렬 처리
+ * - Partition Lease 로 여러 Job 인스턴스가 떠 있어도 한 Partition 은 한 Worker 만 처리
+ * - Kafka Ack 를 기다리는 동안 DB Lock/Connection 을 잡지 않음
+ * - Worker 가 중간에 죽으면 lease-timeout 후 다른 Worker 가 이어 받음 (Ack 전 이벤트는 재전송될 수 있음)
+ */
+@Slf4j
+public class OutboxEventRelay {
+
+  private final OutboxEventJdbcRepository repository;
+  private final OutboxKafkaSender sender;
+  private final TransactionOperations transactionOperations;
+  private final int maxRetries;
+  private final Duration leaseTimeout;
+
+  OutboxEventRelay(
+      OutboxEventJdbcRepository repository,
+      OutboxKafkaSender sender,
+      TransactionOperations transactionOperations,
+      int maxRetries,
+      Duration leaseTimeout) {
+    this.repository = repository;
+    this.sender = sender;
+    this.transactionOperations = transactionOperations;
+    this.maxRetries = maxRetries;
+    this.leaseTimeout = leaseTimeout;
+  }
+
+  /**
+   * Partition 의 미전송 이벤트 발행
+   *
+   * @param partition 담당 Partition
+   * @param batchSize 한 번에 처리할 최대 이벤트 수
+   * @return 발행된 이벤트 수
+   */
+  public int relay(OutboxPartition partition, int batchSize) {
+    return relayLeased(partition, () -> repository.findPending(partition, batchSize));
+  }
+
+  /**
+   * 특정 event_key 의 미전송 이벤트만 발행 (After-Commit Fast Path)
+   *
+   * <p>Partition Job 과 같은 Partition Lease 를 사용하므로 두 경로가 같은 이벤트를 중복 발행하지 않으며, 같은
+   * event_key 의 이벤트 순서도 유지됩니다. Job 이 Partition 을 처리 중이면 Job 에 맡기고 0을 반환합니다.
+   *
+   * @param partition event_key 들이 속한 Partition
+   * @param eventKeys 발행할 이벤트 키 목록
+   * @param batchSize 한 번에 처리할 최대 이벤트 수
+   * @return 발행된 이벤트 수
+   */
+  public int relayKeys(OutboxPartition partition, Collection<String> eventKeys, int batchSize) {
+    return relayLeased(partition, () -> repository.findPendingByKeys(eventKeys, batchSize));
+  }
+
+  /**
+   * 미전송 이벤트 현황 조회
+   *
+   * <p>트랜잭션 없이 조회하므로 Reader DataSource 를 사용합니다 (복제 지연만큼 늦을 수 있음).
+   *
+   * @return 미전송 이벤트 수와 가장 오래된 미전송 이벤트 생성 시각
+   */
+  public OutboxBacklog backlog() {
+    return repository.findBacklog();
+  }
+
+  private int relayLeased(OutboxPartition partition, Supplier<List<OutboxEventRow>> pendingQuery) {
+    String leaseToken = UUID.randomUUID().toString();
+    List<OutboxEventRow> claimed =
+        transactionOperations.execute(status -> claim(partition, leaseToken, pendingQuery));
+    if (claimed == null || claimed.isEmpty()) {
+      return 0;
+    }
+
+    BatchResult result = sender.sendAll(claimed);
+    Integer published =
+        transactionOperations.execute(status -> complete(partition, leaseToken, result));
+    return published != null ? published : 0;
+  }
+
+  /** Lease 획득 후 미전송 이벤트 조회 (Lease 를 못 잡으면 null, 보낼 이벤트가 없으면 Lease 반납) */
+  private List<OutboxEventRow> claim(
+      OutboxPartition partition, String leaseToken, Supplier<List<OutboxEventRow>> pendingQuery) {
+    if (!repository.tryAcquireLease(partition, leaseToken, leaseTimeout)) {
+      log.debug("[OutboxRelay] Partition {} 은 다른 인스턴스가 처리 중", partition.index());
+      return null;
+    }
+
+    List<OutboxEventRow> pending = pendingQuery.get();
+    if (pending.isEmpty()) {
+      repository.releaseLease(partition, leaseToken);
+    }
+    return pending;
+  }
+
+  /** 전송 결과 반영 후 Lease 반납 */
+  private int complete(OutboxPartition partition, String leaseToken, BatchResult result) {
+    List<OutboxEventRow> published = result.acked();
+    if (!published.isEmpty()) {
+      repository.markPublished(published.stream().map(OutboxEventRow::key).toList());
+    }
+
+    for (Failure failure : result.failures()) {
+      OutboxEventRow failed = failure.row();
+      boolean movedToDlq =
+          repository.recordFailure(failed, failure.cause().getMessage(), maxRetries);
+      log.warn(
+          "[OutboxRelay] 발행 실패 - partition: {}, id: {}, eventId: {}, dlq: {}, cause: {}",
+          partition.index(),
+          failed.id(),
+          failed.eventId(),
+          movedToDlq,
+          failure.cause().getMessage());
+    }
+
+    repository.releaseLease(partition, leaseToken);
+    return published.size();
+  }
+}
@@ -0,0 +1,31 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.time.Instant;
+
+/**
+ * outbox_events 테이블 Row
+ *
+ * <p>Relay 가 Partition Lease 를 잡고 조회한 미전송 이벤트입니다.
+ *
+ * @param id PK (발행 순서)
+ * @param eventId 이벤트 ID (UUID, Consumer 멱등 처리용)
+ * @param eventType 이벤트 타입 (Topic 결정에 사용)
+ * @param eventKey 이벤트 키 (Kafka 파티션 키, Relay Partition 결정에 사용)
+ * @param payload 이벤트 페이로드 (JSON)
+ * @param retryCount 지금까지 실패한 횟수
+ * @param createdAt 생성 시각
+ */
+record OutboxEventRow(
+    long id,
+    String eventId,
+    String eventType,
+    String eventKey,
+    String payload,
+    int retryCount,
+    Instant createdAt) {
+
+  /** PK (id, created_at) */
+  OutboxEventKey key() {
+    return new OutboxEventKey(id, createdAt);
+  }
+}
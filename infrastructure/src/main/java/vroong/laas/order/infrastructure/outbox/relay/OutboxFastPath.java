@@ -0,0 +1,154 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+
+/**
+ * Outbox After-Commit Fast Path
+ *
+ * <p>트랜잭션 안에서 저장된 Outbox 이벤트를 커밋 직후 비동기로 바로 발행합니다.
+ *
+ * <p>흐름:
+ * <pre>
+ * OrderCreator (트랜잭션)
+ *   → KafkaOutboxEventClient.save()
+ *     → OutboxEventService.registerEvent()   (outbox_events INSERT)
+ *     → OutboxFastPath.publishAfterCommit(eventKey)
+ *         → 트랜잭션별로 event_key 수집
+ * 커밋 완료 (afterCompletion: COMMITTED)
+ *   → Partition 별로 묶어서 Worker 에 전달
+ *     → OutboxEventRelay.relayKeys()        (Partition Lease 획득 후 발행)
+ * </pre>
+ *
+ * <p>특징:
+ * - Outbox 라이브러리가 저장한 Row ID 를 돌려주지 않으므로 event_key 단위로 발행
+ * - Polling Job 과 같은 Partition Lease / status 재확인을 거치므로 중복 발행 없음
+ * - 롤백된 트랜잭션, Worker Queue 초과, 발행 실패 → 아무것도 하지 않음 (Polling Job 이 발행)
+ */
+@Slf4j
+public class OutboxFastPath {
+
+  private final OutboxEventRelay relay;
+  private final int partitionCount;
+  private final int batchSize;
+  private final Executor executor;
+
+  OutboxFastPath(OutboxEventRelay relay, int partitionCount, int batchSize, Executor executor) {
+    this.relay = relay;
+    this.partitionCount = partitionCount;
+    this.batchSize = batchSize;
+    this.executor = executor;
+  }
+
+  /**
+   * Fast Path 생성
+   *
+   * @param relay Outbox Relay
+   * @param properties Relay 설정
+   * @return 설정에 따른 Fast Path (비활성이면 아무것도 하지 않음)
+   */
+  static OutboxFastPath create(OutboxEventRelay relay, OutboxRelayProperties properties) {
+    OutboxRelayProperties.FastPath fastPath = properties.fastPath();
+    if (!fastPath.enabled()) {
+      return new OutboxFastPath(relay, properties.partitions(), fastPath.batchSize(), null);
+    }
+
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            fastPath.threads(),
+            fastPath.threads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(fastPath.queueCapacity()),
+            Thread.ofPlatform().name("outbox-fast-path-", 0).factory());
+    return new OutboxFastPath(relay, properties.partitions(), fastPath.batchSize(), executor);
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 후 event_key 의 이벤트 발행 예약
+   *
+   * <p>트랜잭션 밖에서 호출되거나 Fast Path 가 비활성이면 아무것도 하지 않습니다.
+   *
+   * @param eventKey 이벤트 키
+   */
+  public void publishAfterCommit(String eventKey) {
+    if (executor == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+
+    PendingEventKeys pending =
+        (PendingEventKeys) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingEventKeys();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.eventKeys.add(eventKey);
+  }
+
+  private void submit(Set<String> eventKeys) {
+    Map<OutboxPartition, Set<String>> keysByPartition = new LinkedHashMap<>();
+    for (String eventKey : eventKeys) {
+      keysByPartition
+          .computeIfAbsent(
+              OutboxPartition.of(eventKey, partitionCount), partition -> new LinkedHashSet<>())
+          .add(eventKey);
+    }
+
+    keysByPartition.forEach(
+        (partition, keys) -> {
+          try {
+            executor.execute(() -> relay(partition, keys));
+          } catch (RejectedExecutionException e) {
+            log.debug(
+                "[OutboxFastPath] Queue 초과 - Polling Job 에 맡김 (partition: {}, keys: {})",
+                partition.index(),
+                keys.size());
+          }
+        });
+  }
+
+  private void relay(OutboxPartition partition, Set<String> eventKeys) {
+    try {
+      relay.relayKeys(partition, eventKeys, batchSize);
+    } catch (RuntimeException e) {
+      log.warn(
+          "[OutboxFastPath] 발행 실패 - Polling Job 에 맡김 (partition: {}): {}",
+          partition.index(),
+          e.getMessage());
+    }
+  }
+
+  /** Worker 종료 (애플리케이션 종료 시, 남은 작업은 Polling Job 이 발행) */
+  void close() {
+    if (executor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  /** 트랜잭션별로 수집한 event_key (커밋 후 발행) */
+  private final class PendingEventKeys implements TransactionSynchronization {
+
+    private final Set<String> eventKeys = new LinkedHashSet<>();
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(OutboxFastPath.this);
+      if (status == STATUS_COMMITTED) {
+        submit(eventKeys);
+      }
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * Outbox 이벤트 Kafka 전송기
+ *
+ * <p>outbox_events Row 를 그대로 Kafka Record 로 보냅니다.
+ *
+ * <p>Record 구성 (Outbox 라이브러리가 발행하던 Record 와 동일):
+ * - Topic: outbox.relay.default-topic (라이브러리 Topic, event_type 별로 바꿀 때만 topics 설정)
+ * - Key: event_key (같은 주문의 이벤트는 같은 Kafka 파티션)
+ * - Value: payload (라이브러리가 저장한 KafkaEvent JSON 그대로, 인코딩된 Payload 는 같은 JSON 으로 복원)
+ * - Header: 추가하지 않음 (eventId, eventType 등은 KafkaEvent 안에 있음)
+ *
+ * <p>Batch 전송 (Round):
+ * - event_key 별 n 번째 이벤트끼리 한 Round 로 묶어 Ack 를 기다리지 않고 모두 Producer 에 넣음 (linger/batch 로
+ *   묶여 전송)
+ * - Round 의 Ack 를 모두 확인한 뒤 다음 Round 전송 → 같은 event_key 의 이벤트는 앞 이벤트 Ack 후에만 전송
+ * - 실패한 event_key 의 뒤 이벤트는 보내지도, 성공으로 세지도 않음 (다음 Relay 에서 순서대로 재전송)
+ * - Ack 대기 시간은 Producer delivery.timeout.ms(= send-timeout) 보다 김 → 대기 Timeout 으로 실패 처리한 Record 가
+ *   나중에 전송되는 일이 없음
+ * - 다음 Round 를 마치기 전에 Partition Lease 가 만료될 수 있으면 남은 이벤트는 다음 Relay 로 미룸
+ */
+class OutboxKafkaSender {
+
+  private final Producer<String, String> producer;
+  private final OutboxRelayProperties properties;
+
+  OutboxKafkaSender(Producer<String, String> producer, OutboxRelayProperties properties) {
+    this.producer = producer;
+    this.properties = properties;
+  }
+
+  /**
+   * 이벤트 목록 일괄 전송 후 Ack 대기
+   *
+   * @param rows 전송할 이벤트 (id 오름차순)
+   * @return Ack 받은 이벤트와 event_key 별 처음 실패한 이벤트
+   */
+  BatchResult sendAll(List<OutboxEventRow> rows) {
+    long ackWaitNanos = properties.ackWaitTimeout().toNanos();
+    long lastRoundStart = System.nanoTime() + properties.leaseTimeout().toNanos() - ackWaitNanos;
+
+    List<OutboxEventRow> acked = new ArrayList<>(rows.size());
+    List<Failure> failures = new ArrayList<>();
+    Set<String> failedKeys = new HashSet<>();
+    for (List<OutboxEventRow> round : roundsByKey(rows)) {
+      if (System.nanoTime() - lastRoundStart > 0) {
+        break;
+      }
+
+      List<OutboxEventRow> sendable =
+          round.stream().filter(row -> !failedKeys.contains(row.eventKey())).toList();
+      List<CompletableFuture<Void>> acks = new ArrayList<>(sendable.size());
+      for (OutboxEventRow row : sendable) {
+        acks.add(sendAsync(row));
+      }
+
+      long deadline = System.nanoTime() + ackWaitNanos;
+      for (int i = 0; i < sendable.size(); i++) {
+        OutboxEventRow row = sendable.get(i);
+        OutboxPublishException failure = await(acks.get(i), row, deadline);
+        if (failure == null) {
+          acked.add(row);
+        } else {
+          failures.add(new Failure(row, failure));
+          failedKeys.add(row.eventKey());
+        }
+      }
+    }
+    return new BatchResult(acked, failures);
+  }
+
+  /** event_key 별 n 번째 이벤트를 n 번째 Round 로 묶음 (Round 안에서는 id 순서 유지) */
+  private static List<List<OutboxEventRow>> roundsByKey(List<OutboxEventRow> rows) {
+    Map<String, Integer> sentPerKey = new HashMap<>();
+    List<List<OutboxEventRow>> rounds = new ArrayList<>();
+    for (OutboxEventRow row : rows) {
+      int round = sentPerKey.merge(row.eventKey(), 1, Integer::sum) - 1;
+      if (round == rounds.size()) {
+        rounds.add(new ArrayList<>());
+      }
+      rounds.get(round).add(row);
+    }
+    return rounds;
+  }
+
+  private CompletableFuture<Void> sendAsync(OutboxEventRow row) {
+    String topic = properties.topicOf(row.eventType());
+    if (topic == null) {
+      return CompletableFuture.failedFuture(
+          new OutboxPublishException("Topic 설정이 없습니다 - eventType: " + row.eventType()));
+    }
+
+    ProducerRecord<String, String> record =
+        new ProducerRecord<>(topic, row.eventKey(), row.payload());
+
+    CompletableFuture<Void> ack = new CompletableFuture<>();
+    try {
+      producer.send(
+          record,
+          (metadata, exception) -> {
+            if (exception != null) {
+              ack.completeExceptionally(exception);
+            } else {
+              ack.complete(null);
+            }
+          });
+    } catch (RuntimeException e) {
+      // max.block.ms 초과(Buffer 부족, Metadata 조회 실패) 등 동기 실패
+      ack.completeExceptionally(e);
+    }
+    return ack;
+  }
+
+  private OutboxPublishException await(
+      CompletableFuture<Void> ack, OutboxEventRow row, long deadline) {
+    try {
+      ack.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new OutboxPublishException("Kafka 전송 대기 중 인터럽트 - eventId: " + row.eventId(), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof OutboxPublishException publishException) {
+        return publishException;
+      }
+      return new OutboxPublishException(
+          "Kafka 전송 실패 - eventId: " + row.eventId() + ", cause: " + e.getCause(), e.getCause());
+    } catch (TimeoutException e) {
+      return new OutboxPublishException(
+          "Kafka Ack Timeout (" + properties.ackWaitTimeout().toMillis() + "ms) - eventId: "
+              + row.eventId(),
+          e);
+    }
+  }
+
+  /** Producer 종료 (애플리케이션 종료 시, 남은 전송은 send-timeout 까지 대기) */
+  void close() {
+    producer.close(properties.sendTimeout());
+  }
+
+  /**
+   * 일괄 전송 결과
+   *
+   * @param acked Ack 받은 이벤트 (PUBLISHED 처리 대상)
+   * @param failures event_key 별 처음 실패한 이벤트 (재시도 횟수 기록 대상, 같은 key 의 뒤 이벤트는 미전송)
+   */
+  record BatchResult(List<OutboxEventRow> acked, List<Failure> failures) {}
+
+  /**
+   * 전송 실패
+   *
+   * @param row 실패한 이벤트
+   * @param cause 실패 사유
+   */
+  record Failure(OutboxEventRow row, OutboxPublishException cause) {}
+}
@@ -0,0 +1,17 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+/**
+ * Outbox 이벤트 Kafka 발행 실패 예외
+ *
+ * <p>전송 실패, Ack Timeout, Topic 미설정 등으로 이벤트를 발행하지 못한 경우 발생합니다.
+ */
+class OutboxPublishException extends RuntimeException {
+
+  OutboxPublishException(String message) {
+    super(message);
+  }
+
+  OutboxPublishException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
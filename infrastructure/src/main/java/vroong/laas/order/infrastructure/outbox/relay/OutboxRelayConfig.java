@@ -0,0 +1,97 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Outbox Relay 설정
+ *
+ * <p>Partition 단위 Outbox Relay, After-Commit Fast Path, Relay 전용 Kafka Producer 를 생성합니다.
+ *
+ * <p>특징:
+ * - Relay Producer 는 Bean 으로 노출하지 않음 (Outbox 라이브러리 Bean 과 충돌 방지)
+ * - Producer 는 acks=all + idempotence (재전송 시 Kafka 파티션 내 중복/순서 뒤바뀜 방지)
+ * - delivery.timeout.ms = send-timeout (Relay 는 이보다 오래 Ack 를 기다리므로 실패로 본 Record 는 전송되지 않음)
+ * - linger/batch/compression 은 outbox.relay.producer 로 조정 (Relay 가 batch 단위로 보내므로 묶음 효과가 큼)
+ * - Relay 트랜잭션은 READ COMMITTED (선점/완료 트랜잭션만 짧게 실행, Kafka 전송은 트랜잭션 밖)
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+@Slf4j
+public class OutboxRelayConfig {
+
+  @Bean(destroyMethod = "close")
+  OutboxKafkaSender outboxKafkaSender(
+      OutboxRelayProperties properties,
+      @Value("${outbox.event.publisher.bootstrap-servers}") String bootstrapServers) {
+
+    OutboxRelayProperties.Producer producer = properties.producer();
+    Map<String, Object> producerConfigs =
+        Map.of(
+            ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+            ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+            ProducerConfig.ACKS_CONFIG, "all",
+            ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+            ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) properties.sendTimeout().toMillis(),
+            ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG,
+                (int) properties.sendTimeout().minus(producer.linger()).toMillis(),
+            ProducerConfig.LINGER_MS_CONFIG, (int) producer.linger().toMillis(),
+            ProducerConfig.BATCH_SIZE_CONFIG, producer.batchSize(),
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.compressionType());
+
+    log.info(
+        "[OutboxRelayConfig] Relay Producer 설정: bootstrapServers={}, defaultTopic={}, topics={},"
+            + " linger={}, batchSize={}, compression={}",
+        bootstrapServers,
+        properties.defaultTopic(),
+        properties.topics(),
+        producer.linger(),
+        producer.batchSize(),
+        producer.compressionType());
+
+    return new OutboxKafkaSender(new KafkaProducer<>(producerConfigs), properties);
+  }
+
+  @Bean
+  public OutboxEventRelay outboxEventRelay(
+      JdbcTemplate jdbcTemplate,
+      OutboxKafkaSender outboxKafkaSender,
+      PlatformTransactionManager transactionManager,
+      OutboxRelayProperties properties) {
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+    return new OutboxEventRelay(
+        new OutboxEventJdbcRepository(jdbcTemplate),
+        outboxKafkaSender,
+        transactionTemplate,
+        properties.maxRetries(),
+        properties.leaseTimeout());
+  }
+
+  @Bean(destroyMethod = "close")
+  public OutboxFastPath outboxFastPath(
+      OutboxEventRelay outboxEventRelay, OutboxRelayProperties properties) {
+
+    log.info(
+        "[OutboxRelayConfig] Fast Path 설정: enabled={}, threads={}, partitions={}",
+        properties.fastPath().enabled(),
+        properties.fastPath().threads(),
+        properties.partitions());
+
+    return OutboxFastPath.create(outboxEventRelay, properties);
+  }
+}
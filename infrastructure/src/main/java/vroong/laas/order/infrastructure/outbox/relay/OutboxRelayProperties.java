@@ -0,0 +1,150 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+
+/**
+ * Outbox Relay 설정 Properties
+ *
+ * <p>application.yml의 {@code outbox.relay} 설정을 바인딩합니다.
+ *
+ * <p>설정 예시:
+ *
+ * <pre>{@code
+ * outbox:
+ *   relay:
+ *     default-topic: order.order.events
+ *     topics:
+ *       ORDER_CREATED: order.order.events
+ *     send-timeout: 5s
+ *     lease-timeout: 1m
+ *     max-retries: 5
+ *     partitions: 4
+ *     producer:
+ *       linger: 5ms
+ *       batch-size: 65536
+ *       compression-type: lz4
+ *     fast-path:
+ *       enabled: true
+ * }</pre>
+ *
+ * @param defaultTopic event_type 별 Topic 이 없을 때 사용할 Topic (Outbox 라이브러리가 발행하던 Topic)
+ * @param topics event_type → Topic 매핑
+ * @param sendTimeout Record 1건의 Kafka 전송 제한 시간 (Producer delivery.timeout.ms, linger 보다 길어야 함)
+ * @param leaseTimeout Partition Lease 유효 시간 (Ack 대기 시간보다 길어야 함, Worker 가 죽으면 이 시간 후 다른
+ *     Worker 가 이어 받음)
+ * @param maxRetries DLQ 로 이동하기 전까지 허용하는 실패 횟수
+ * @param partitions Relay Partition 수 (outbox_events.partition_no 의 Partition 수 {@value
+ *     OutboxPartition#STORED_COUNT} 와 같아야 함, Job 의 job.outbox.publish.partitions 도 동일)
+ * @param producer Relay 전용 Kafka Producer 설정
+ * @param fastPath After-Commit Fast Path 설정
+ */
+@ConfigurationProperties(prefix = "outbox.relay")
+public record OutboxRelayProperties(
+    String defaultTopic,
+    @DefaultValue Map<String, String> topics,
+    @DefaultValue("5s") Duration sendTimeout,
+    @DefaultValue("1m") Duration leaseTimeout,
+    @DefaultValue("5") int maxRetries,
+    @DefaultValue("4") int partitions,
+    @DefaultValue Producer producer,
+    @DefaultValue FastPath fastPath) {
+
+  /** delivery.timeout.ms 이후 Callback 이 호출될 때까지의 여유 시간 */
+  static final Duration ACK_WAIT_MARGIN = Duration.ofSeconds(1);
+
+  public OutboxRelayProperties {
+    if (maxRetries < 1) {
+      throw new IllegalArgumentException("outbox.relay.max-retries는 1 이상이어야 합니다");
+    }
+    if (sendTimeout.compareTo(producer.linger()) <= 0) {
+      throw new IllegalArgumentException(
+          "outbox.relay.send-timeout은 producer.linger보다 길어야 합니다: " + sendTimeout);
+    }
+    if (leaseTimeout.compareTo(sendTimeout.plus(ACK_WAIT_MARGIN)) <= 0) {
+      throw new IllegalArgumentException(
+          "outbox.relay.lease-timeout은 send-timeout + "
+              + ACK_WAIT_MARGIN.toSeconds()
+              + "s 보다 길어야 합니다: "
+              + leaseTimeout);
+    }
+    if (partitions != OutboxPartition.STORED_COUNT) {
+      throw new IllegalArgumentException(
+          "outbox.relay.partitions는 outbox_events.partition_no 의 Partition 수("
+              + OutboxPartition.STORED_COUNT
+              + ")와 같아야 합니다: "
+              + partitions);
+    }
+  }
+
+  /**
+   * Round 별 Kafka Ack 대기 시간
+   *
+   * <p>Producer 는 delivery.timeout.ms(= send-timeout) 안에 반드시 성공/실패 Callback 을 호출하므로, 그보다 길게
+   * 기다려 "대기는 Timeout 인데 실제로는 전송됨" 인 경우를 만들지 않습니다.
+   *
+   * @return send-timeout + 여유 시간
+   */
+  public Duration ackWaitTimeout() {
+    return sendTimeout.plus(ACK_WAIT_MARGIN);
+  }
+
+  /**
+   * event_type 에 해당하는 Topic 조회
+   *
+   * @param eventType 이벤트 타입
+   * @return Topic (설정이 없으면 null)
+   */
+  public String topicOf(String eventType) {
+    return topics.getOrDefault(eventType, defaultTopic);
+  }
+
+  /**
+   * Relay 전용 Kafka Producer 설정
+   *
+   * <p>Relay 는 선점한 이벤트를 한 번에 Producer 에 넣으므로 linger/batch 로 여러 이벤트가 하나의 요청으로 묶입니다.
+   *
+   * @param linger 요청을 보내기 전 같은 파티션 Record 를 모으는 시간 (linger.ms)
+   * @param batchSize 파티션별 요청 최대 크기 bytes (batch.size)
+   * @param compressionType 압축 방식: none, gzip, snappy, lz4, zstd (compression.type)
+   */
+  public record Producer(
+      @DefaultValue("5ms") Duration linger,
+      @DefaultValue("65536") int batchSize,
+      @DefaultValue("lz4") String compressionType) {
+
+    public Producer {
+      if (linger.isNegative() || batchSize < 0) {
+        throw new IllegalArgumentException("producer.linger, batch-size는 0 이상이어야 합니다");
+      }
+    }
+  }
+
+  /**
+   * After-Commit Fast Path 설정
+   *
+   * <p>트랜잭션 커밋 직후 방금 저장한 이벤트를 Polling Job 을 기다리지 않고 바로 발행합니다. 놓친 이벤트는 Polling
+   * Job 이 발행합니다.
+   *
+   * @param enabled Fast Path 사용 여부
+   * @param threads 발행 Worker 수 (Writer Connection 을 최대 이 수만큼 사용)
+   * @param queueCapacity 대기 가능한 발행 작업 수 (초과 시 Polling Job 에 맡김)
+   * @param batchSize 한 번에 발행할 최대 이벤트 수
+   */
+  public record FastPath(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("2") int threads,
+      @DefaultValue("1000") int queueCapacity,
+      @DefaultValue("100") int batchSize) {
+
+    public FastPath {
+      if (threads < 1 || queueCapacity < 1 || batchSize < 1) {
+        throw new IllegalArgumentException(
+            "fast-path.threads, queue-capacity, batch-size는 1 이상이어야 합니다");
+      }
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package vroong.laas.order.infrastructure.outbox.retention;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import vroong.laas.order.core.domain.outbox.PublishedOutboxEvent;
+import vroong.laas.order.core.domain.outbox.required.OutboxRetentionClient;
+import vroong.laas.order.infrastructure.outbox.codec.OutboxPayloadCodec;
+
+/**
+ * JDBC Outbox Retention Client Adapter
+ *
+ * <p>보관 기간이 지난 PUBLISHED 이벤트를 outbox_events 에서 정리합니다.
+ *
+ * <p>특징:
+ * - Chunk 조회는 idx_status_id (status, id) 를 id 순서로 읽는 Keyset 방식 (OFFSET 없음)
+ * - 삭제는 PK IN (...) + status = PUBLISHED 조건 (짧은 트랜잭션, 발행 중인 Row 와 충돌 없음)
+ * - 삭제에도 created_at < cutoff 조건을 주어 보관 기간이 지난 Partition 만 읽음 (Partition Pruning)
+ * - Partition 은 UNIX_TIMESTAMP(created_at) 월 단위 Range (UTC), 이름은 pYYYYMM, 마지막은 MAXVALUE
+ *   (scripts/outbox-events-partition.sh)
+ * - pmax 는 항상 비어 있어야 함: Row 가 있으면 REORGANIZE 가 Row 를 복사하며 테이블을 잠그므로 Partition 을
+ *   추가하지 않고 경고만 남김
+ * - outbox_events 가 Partition 되어 있지 않으면 Partition 관련 메서드는 아무것도 하지 않음
+ */
+@Repository
+@Slf4j
+public class JdbcOutboxRetentionClient implements OutboxRetentionClient {
+
+  private static final String STATUS_PUBLISHED = "PUBLISHED";
+  private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  public JdbcOutboxRetentionClient(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  @Override
+  public List<Long> findPublishedIdsBefore(Instant cutoff, long afterId, int limit) {
+    return jdbcTemplate.queryForList(
+        "SELECT id FROM outbox_events"
+            + " WHERE status = ? AND id > ? AND created_at < ?"
+            + " ORDER BY id LIMIT ?",
+        Long.class,
+        STATUS_PUBLISHED,
+        afterId,
+        Timestamp.from(cutoff),
+        limit);
+  }
+
+  @Override
+  public List<PublishedOutboxEvent> findPublishedBefore(Instant cutoff, long afterId, int limit) {
+    return jdbcTemplate.query(
+        "SELECT id, event_id, event_type, event_key, payload, payload_codec, payload_blob,"
+            + " created_at, published_at FROM outbox_events"
+            + " WHERE status = ? AND id > ? AND created_at < ?"
+            + " ORDER BY id LIMIT ?",
+        JdbcOutboxRetentionClient::mapRow,
+        STATUS_PUBLISHED,
+        afterId,
+        Timestamp.from(cutoff),
+        limit);
+  }
+
+  @Override
+  public int deletePublished(List<Long> ids, Instant cutoff) {
+    return namedJdbcTemplate.update(
+        "DELETE FROM outbox_events"
+            + " WHERE id IN (:ids) AND created_at < :cutoff AND status = :status",
+        Map.of("ids", ids, "cutoff", Timestamp.from(cutoff), "status", STATUS_PUBLISHED));
+  }
+
+  @Override
+  public int dropPartitionsBefore(Instant cutoff) {
+    int dropped = 0;
+    for (TablePartition partition : findPartitions()) {
+      if (partition.upperBound() == null || partition.upperBound() > cutoff.getEpochSecond()) {
+        break;
+      }
+      // 아직 발행되지 않았거나 DLQ 로 간 이벤트가 있으면 Partition 을 남겨두고 Row 단위 정리에 맡김
+      Long remaining =
+          jdbcTemplate.queryForObject(
+              "SELECT COUNT(*) FROM outbox_events PARTITION (" + partition.name() + ")"
+                  + " WHERE status <> ?",
+              Long.class,
+              STATUS_PUBLISHED);
+      if (remaining != null && remaining > 0) {
+        log.warn(
+            "[OutboxRetention] PUBLISHED 가 아닌 이벤트 {}건이 있어 Partition {} 유지",
+            remaining,
+            partition.name());
+        continue;
+      }
+      jdbcTemplate.execute("ALTER TABLE outbox_events DROP PARTITION " + partition.name());
+      log.info("[OutboxRetention] Partition {} DROP", partition.name());
+      dropped++;
+    }
+    return dropped;
+  }
+
+  @Override
+  public int addPartitionsUntil(Instant until) {
+    List<TablePartition> partitions = findPartitions();
+    Long lastUpperBound =
+        partitions.stream()
+            .map(TablePartition::upperBound)
+            .filter(Objects::nonNull)
+            .reduce((first, second) -> second)
+            .orElse(null);
+    if (lastUpperBound == null) {
+      return 0;
+    }
+    boolean hasMaxValue = partitions.getLast().upperBound() == null;
+    if (hasMaxValue && hasRows(partitions.getLast())) {
+      log.warn(
+          "[OutboxRetention] {} Partition 에 Row 가 있어 Partition 을 추가하지 않음"
+              + " (REORGANIZE 는 Row 를 복사하며 테이블을 잠금, Online Schema Change 로 나눠야 함)",
+          partitions.getLast().name());
+      return 0;
+    }
+
+    int added = 0;
+    LocalDate monthStart =
+        Instant.ofEpochSecond(lastUpperBound).atZone(ZoneOffset.UTC).toLocalDate();
+    while (!toInstant(monthStart).isAfter(until)) {
+      LocalDate nextMonthStart = monthStart.plusMonths(1);
+      String definition =
+          "PARTITION " + PARTITION_NAME.format(monthStart)
+              + " VALUES LESS THAN (" + toInstant(nextMonthStart).getEpochSecond() + ")";
+      jdbcTemplate.execute(
+          hasMaxValue
+              ? "ALTER TABLE outbox_events REORGANIZE PARTITION pmax INTO ("
+                  + definition + ", PARTITION pmax VALUES LESS THAN MAXVALUE)"
+              : "ALTER TABLE outbox_events ADD PARTITION (" + definition + ")");
+      log.info("[OutboxRetention] Partition {} 생성", PARTITION_NAME.format(monthStart));
+      monthStart = nextMonthStart;
+      added++;
+    }
+    return added;
+  }
+
+  private boolean hasRows(TablePartition partition) {
+    return !jdbcTemplate
+        .queryForList(
+            "SELECT 1 FROM outbox_events PARTITION (" + partition.name() + ") LIMIT 1",
+            Integer.class)
+        .isEmpty();
+  }
+
+  /** outbox_events Partition 목록 (상한 오름차순, Partition 되어 있지 않으면 빈 목록) */
+  private List<TablePartition> findPartitions() {
+    return jdbcTemplate.query(
+        "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'outbox_events'"
+            + " AND PARTITION_NAME IS NOT NULL"
+            + " ORDER BY PARTITION_ORDINAL_POSITION",
+        (rs, rowNum) -> {
+          String description = rs.getString("PARTITION_DESCRIPTION");
+          return new TablePartition(
+              rs.getString("PARTITION_NAME"),
+              "MAXVALUE".equalsIgnoreCase(description) ? null : Long.valueOf(description));
+        });
+  }
+
+  private static Instant toInstant(LocalDate date) {
+    return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+
+  private static PublishedOutboxEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+    Timestamp publishedAt = rs.getTimestamp("published_at");
+    return new PublishedOutboxEvent(
+        rs.getLong("id"),
+        rs.getString("event_id"),
+        rs.getString("event_type"),
+        rs.getString("event_key"),
+        OutboxPayloadCodec.readPayload(
+            rs.getString("payload_codec"), rs.getString("payload"), rs.getBytes("payload_blob")),
+        rs.getTimestamp("created_at").toInstant(),
+        publishedAt != null ? publishedAt.toInstant() : null);
+  }
+
+  /**
+   * outbox_events Partition
+   *
+   * @param name Partition 이름
+   * @param upperBound 상한 (UNIX_TIMESTAMP(created_at) 기준, MAXVALUE 이면 null)
+   */
+  private record TablePartition(String name, Long upperBound) {}
+}
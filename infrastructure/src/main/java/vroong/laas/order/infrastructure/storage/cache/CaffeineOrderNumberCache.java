@@ -0,0 +1,92 @@
+package vroong.laas.order.infrastructure.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vroong.laas.order.core.domain.order.OrderNumber;
+import vroong.laas.order.core.domain.order.required.OrderNumberCache;
+
+/**
+ * 주문번호 → Order ID 매핑 캐시 (OrderNumberCache Adapter)
+ *
+ * <p>Caffeine 로컬 캐시 (크기 제한만, 만료 없음)
+ *
+ * <p>특징:
+ * - 매핑은 바뀌지 않으므로 무효화/버전 비교 없음
+ * - 주문 생성 시 커밋 후 저장 (롤백된 주문의 매핑은 남지 않음)
+ * - loader(DB) 조회는 캐시 Lock 밖에서 실행 (같은 주문번호 동시 miss 시 중복 조회 가능, 결과는 같음)
+ *
+ * <p>Metrics: cache.gets{cache=order-number, result=hit|miss} 등
+ */
+public class CaffeineOrderNumberCache implements OrderNumberCache {
+
+  public static final String CACHE_NAME = "order-number";
+
+  private final Cache<String, Long> cache;
+
+  CaffeineOrderNumberCache(Cache<String, Long> cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * 설정 기반 캐시 생성
+   *
+   * @param properties 캐시 설정
+   * @param meterRegistry Metrics 등록 대상 (null이면 Metrics 미등록)
+   * @return 캐시 (enabled=false 이면 항상 loader 를 호출하는 비활성 캐시)
+   */
+  public static CaffeineOrderNumberCache create(
+      OrderCacheProperties properties, MeterRegistry meterRegistry) {
+    if (!properties.enabled()) {
+      return new CaffeineOrderNumberCache(null);
+    }
+
+    Cache<String, Long> cache =
+        Caffeine.newBuilder().maximumSize(properties.numberMaximumSize()).recordStats().build();
+
+    if (meterRegistry != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    return new CaffeineOrderNumberCache(cache);
+  }
+
+  @Override
+  public Optional<Long> getOrLoad(
+      OrderNumber orderNumber, Function<OrderNumber, Optional<Long>> loader) {
+    if (cache == null) {
+      return loader.apply(orderNumber);
+    }
+
+    Long orderId = cache.getIfPresent(orderNumber.value());
+    if (orderId != null) {
+      return Optional.of(orderId);
+    }
+
+    Optional<Long> loaded = loader.apply(orderNumber);
+    loaded.ifPresent(id -> cache.put(orderNumber.value(), id));
+    return loaded;
+  }
+
+  @Override
+  public void put(OrderNumber orderNumber, Long orderId) {
+    if (cache == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              cache.put(orderNumber.value(), orderId);
+            }
+          });
+      return;
+    }
+    cache.put(orderNumber.value(), orderId);
+  }
+}
@@ -0,0 +1,45 @@
+package vroong.laas.order.infrastructure.storage.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vroong.laas.order.core.domain.order.required.OrderSharedCacheStore;
+
+/**
+ * Order Aggregate 캐시 설정
+ *
+ * <p>로컬 Near Cache 와, OrderSharedCacheStore Bean 이 있으면 공유 캐시를 함께 사용하는 OrderCache 를 생성합니다.
+ *
+ * <p>주문번호 → ID 매핑 캐시(OrderNumberCache)도 함께 생성합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderCacheProperties.class)
+@Slf4j
+public class OrderCacheConfig {
+
+  @Bean
+  public TwoTierOrderCache orderCache(
+      OrderCacheProperties properties,
+      ObjectProvider<OrderSharedCacheStore> sharedStore,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    OrderSharedCacheStore store = sharedStore.getIfAvailable();
+
+    log.info(
+        "[OrderCacheConfig] Order 캐시 설정: enabled={}, maximumSize={}, ttl={}, sharedStore={}",
+        properties.enabled(),
+        properties.maximumSize(),
+        properties.ttl(),
+        store != null ? store.getClass().getSimpleName() : "없음");
+
+    return TwoTierOrderCache.create(properties, store, meterRegistry.getIfAvailable());
+  }
+
+  @Bean
+  public CaffeineOrderNumberCache orderNumberCache(
+      OrderCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return CaffeineOrderNumberCache.create(properties, meterRegistry.getIfAvailable());
+  }
+}
@@ -0,0 +1,41 @@
+package vroong.laas.order.infrastructure.storage.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Order Aggregate 캐시 설정 Properties
+ *
+ * <p>application.yml의 {@code order.cache} 설정을 바인딩합니다.
+ *
+ * <p>설정 예시:
+ *
+ * <pre>{@code
+ * order:
+ *   cache:
+ *     enabled: true
+ *     maximum-size: 10000
+ *     ttl: 30s
+ *     number-maximum-size: 100000
+ * }</pre>
+ *
+ * @param enabled 캐시 사용 여부 (false: 항상 DB 조회)
+ * @param maximumSize 로컬 Near Cache 최대 항목 수
+ * @param ttl 로컬 Near Cache 보관 시간 (다른 인스턴스의 변경이 이 인스턴스 조회에 반영되기까지의 최대 시간)
+ * @param numberMaximumSize 주문번호 → ID 매핑 캐시 최대 항목 수 (매핑은 바뀌지 않으므로 만료 없음)
+ */
+@ConfigurationProperties(prefix = "order.cache")
+public record OrderCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("30s") Duration ttl,
+    @DefaultValue("100000") long numberMaximumSize) {
+
+  public OrderCacheProperties {
+    if (maximumSize < 1 || numberMaximumSize < 1 || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException(
+          "order.cache.maximum-size, number-maximum-size, ttl은 0보다 커야 합니다");
+    }
+  }
+}
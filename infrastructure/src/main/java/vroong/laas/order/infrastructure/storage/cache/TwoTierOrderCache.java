@@ -0,0 +1,253 @@
+package vroong.laas.order.infrastructure.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.required.OrderCache;
+import vroong.laas.order.core.domain.order.required.OrderSharedCacheStore;
+
+/**
+ * 2단계 Order Aggregate 캐시 (OrderCache Adapter)
+ *
+ * <p>조회 순서: 로컬 Near Cache (Caffeine) → 공유 캐시 (OrderSharedCacheStore, 선택) → DB (loader)
+ *
+ * <p>버전 규칙:
+ * - 항목은 orders.version 과 함께 저장하며, 같은 주문의 더 높은 버전 항목을 낮은 버전으로 덮어쓰지 않음
+ * - 항목의 버전은 loader 가 조회한 orders Row 의 version (버전만 따로 조회하지 않음)
+ * - 호출자가 이미 읽은 버전(조건부 조회)보다 낮은 항목(Near/공유 모두)은 반환하지 않고 DB 에서 다시 조회
+ * - 무효화는 항목 대신 "버전 v 미만 금지" 표시(Tombstone)를 남김
+ *   → 변경 커밋 전에 읽은 이전 버전을 늦게 저장하려 해도 무시됨
+ * - 무효화는 트랜잭션 커밋 후 실행 (롤백 시 무효화하지 않음)
+ *
+ * <p>특징:
+ * - 저장/반환 시 Order 를 복사 (호출자가 변경해도 캐시 항목은 그대로)
+ * - 공유 캐시 장애는 로그만 남기고 DB 조회로 대체
+ * - Hit 는 DB 조회 없음, Miss 는 Aggregate 조회 1회
+ * - 다른 인스턴스의 Near Cache 는 무효화가 닿지 않으므로 TTL 동안 이전 버전을 반환할 수 있음 (변경은 캐시를 거치지
+ *   않고 orders.version 으로 동시 변경을 검사)
+ *
+ * <p>Metrics (Micrometer):
+ * - cache.gets{cache=order, result=hit|miss} 등 (Near Cache Hit Ratio)
+ * - order.cache.shared.gets{result=hit|miss} (공유 캐시)
+ * - order.cache.load (DB 조회 시간)
+ */
+@Slf4j
+public class TwoTierOrderCache implements OrderCache {
+
+  public static final String CACHE_NAME = "order";
+
+  private final Cache<Long, Entry> nearCache;
+  private final OrderSharedCacheStore sharedStore;
+  private final Timer loadTimer;
+  private final Counter sharedHits;
+  private final Counter sharedMisses;
+
+  TwoTierOrderCache(
+      Cache<Long, Entry> nearCache, OrderSharedCacheStore sharedStore, MeterRegistry registry) {
+    this.nearCache = nearCache;
+    this.sharedStore = sharedStore;
+    this.loadTimer =
+        registry != null
+            ? Timer.builder("order.cache.load")
+                .description("Order 캐시 miss 시 DB 조회 시간")
+                .register(registry)
+            : null;
+    this.sharedHits = sharedCounter(registry, "hit");
+    this.sharedMisses = sharedCounter(registry, "miss");
+  }
+
+  /**
+   * 설정 기반 캐시 생성
+   *
+   * @param properties 캐시 설정
+   * @param sharedStore 공유 캐시 (없으면 null)
+   * @param meterRegistry Metrics 등록 대상 (null이면 Metrics 미등록)
+   * @return 캐시 (enabled=false 이면 항상 loader 를 호출하는 비활성 캐시)
+   */
+  public static TwoTierOrderCache create(
+      OrderCacheProperties properties,
+      OrderSharedCacheStore sharedStore,
+      MeterRegistry meterRegistry) {
+    if (!properties.enabled()) {
+      return new TwoTierOrderCache(null, null, null);
+    }
+
+    Cache<Long, Entry> nearCache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+
+    if (meterRegistry != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, nearCache, CACHE_NAME);
+    }
+    return new TwoTierOrderCache(nearCache, sharedStore, meterRegistry);
+  }
+
+  @Override
+  public Optional<Order> getOrLoad(Long orderId, Function<Long, Optional<Order>> loader) {
+    return getOrLoad(orderId, Long.MIN_VALUE, loader);
+  }
+
+  @Override
+  public Optional<Order> getOrLoad(
+      Long orderId, long currentVersion, Function<Long, Optional<Order>> loader) {
+    if (nearCache == null) {
+      return loader.apply(orderId);
+    }
+
+    Entry entry = nearCache.getIfPresent(orderId);
+    if (entry != null && entry.order() != null && entry.version() >= currentVersion) {
+      return Optional.of(entry.order().copy());
+    }
+
+    Optional<Order> shared =
+        getShared(orderId)
+            .filter(order -> order.getVersion() != null && order.getVersion() >= currentVersion);
+    if (shared.isPresent()) {
+      putNear(shared.get());
+      return Optional.of(shared.get().copy());
+    }
+
+    Optional<Order> loaded = load(orderId, loader);
+    loaded.ifPresent(
+        order -> {
+          putNear(order);
+          putShared(order);
+        });
+    return loaded;
+  }
+
+  @Override
+  public void invalidate(Long orderId, long version) {
+    if (nearCache == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evict(orderId, version);
+            }
+          });
+      return;
+    }
+    evict(orderId, version);
+  }
+
+  private void evict(Long orderId, long version) {
+    nearCache
+        .asMap()
+        .compute(
+            orderId,
+            (id, current) ->
+                current != null && current.version() > version
+                    ? current
+                    : Entry.tombstone(version));
+
+    if (sharedStore != null) {
+      try {
+        sharedStore.invalidate(orderId, version);
+      } catch (RuntimeException e) {
+        log.warn("[OrderCache] 공유 캐시 무효화 실패 - orderId: {}, {}", orderId, e.getMessage());
+      }
+    }
+  }
+
+  /** 버전이 같거나 낮은 항목/Tombstone 만 교체 */
+  private void putNear(Order order) {
+    if (order.getVersion() == null) {
+      return;
+    }
+    Entry candidate = new Entry(order.copy(), order.getVersion());
+    nearCache
+        .asMap()
+        .compute(
+            order.getId(),
+            (id, current) -> current == null || candidate.replaces(current) ? candidate : current);
+  }
+
+  private Optional<Order> load(Long orderId, Function<Long, Optional<Order>> loader) {
+    if (loadTimer == null) {
+      return loader.apply(orderId);
+    }
+    long start = System.nanoTime();
+    try {
+      return loader.apply(orderId);
+    } finally {
+      loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Optional<Order> getShared(Long orderId) {
+    if (sharedStore == null) {
+      return Optional.empty();
+    }
+    try {
+      Optional<Order> order = sharedStore.get(orderId);
+      increment(order.isPresent() ? sharedHits : sharedMisses);
+      return order;
+    } catch (RuntimeException e) {
+      log.warn("[OrderCache] 공유 캐시 조회 실패 - orderId: {}, {}", orderId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void putShared(Order order) {
+    if (sharedStore == null || order.getVersion() == null) {
+      return;
+    }
+    try {
+      sharedStore.put(order.copy());
+    } catch (RuntimeException e) {
+      log.warn("[OrderCache] 공유 캐시 저장 실패 - orderId: {}, {}", order.getId(), e.getMessage());
+    }
+  }
+
+  private static Counter sharedCounter(MeterRegistry registry, String result) {
+    if (registry == null) {
+      return null;
+    }
+    return Counter.builder("order.cache.shared.gets")
+        .description("Order 공유 캐시 조회 수")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  private static void increment(Counter counter) {
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+
+  /**
+   * Near Cache 항목
+   *
+   * @param order 캐시된 Order (Tombstone 이면 null)
+   * @param version Order 버전 (Tombstone 이면 이 버전 미만 저장 금지)
+   */
+  record Entry(Order order, long version) {
+
+    static Entry tombstone(long version) {
+      return new Entry(null, version);
+    }
+
+    /** 이 항목이 current 를 교체할 수 있는지 (더 높은 버전, 또는 같은 버전의 Tombstone) */
+    boolean replaces(Entry current) {
+      return version > current.version()
+          || (version == current.version() && current.order() == null);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
 import java.time.Instant;
 import java.util.Objects;
 import lombok.AccessLevel;
@@ -13,12 +14,28 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.proxy.HibernateProxy;
 
+/**
+ * 공통 Entity
+ *
+ * <p>ID 할당:
+ * - order_id_sequence (pooled, 100개 블록) 에서 애플리케이션이 INSERT 전에 ID 할당
+ * - IDENTITY와 달리 persist 시점에 INSERT 하지 않으므로 flush 시 JDBC Batch Insert 가능
+ * - MySQL에서는 Hibernate가 order_id_sequence 테이블로 시퀀스를 에뮬레이션
+ * - 기존 AUTO_INCREMENT 는 10^12 로 옮겨 두었으므로 시퀀스 ID와 겹치지 않음 (V20250120_001)
+ */
 @MappedSuperclass
 @Getter
 public abstract class BaseEntity {
 
+  public static final String ID_GENERATOR = "order_id_generator";
+  public static final int ID_ALLOCATION_SIZE = 100;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
+  @SequenceGenerator(
+      name = ID_GENERATOR,
+      sequenceName = "order_id_sequence",
+      allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   @Column(name = "entity_status", nullable = false)
@@ -0,0 +1,180 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import vroong.laas.order.core.domain.order.DeliveryPolicy;
+import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderItem;
+import vroong.laas.order.core.domain.order.OrderNumber;
+
+/**
+ * Order Aggregate 조회 결과 Row (JPQL Projection)
+ *
+ * <p>orders + order_locations + order_delivery_policies + order_items 를 한 번의 JOIN 쿼리로 읽은 결과
+ *
+ * <p>특징:
+ * - 주문 아이템 1개당 1 Row (아이템이 없으면 item 컬럼이 null 인 1 Row)
+ * - 관리(Managed) 상태의 JPA Entity를 만들지 않고 바로 Domain Order로 변환
+ * - location/policy 가 없으면 locationId/deliveryPolicyId 가 null (LEFT JOIN)
+ * - items/location/policy 의 Domain 변환은 각 Entity 의 매핑을 재사용 (Row → 비관리 Entity → Domain)
+ * - orders 컬럼만 여기서 직접 조립 (OrderEntity 는 id/version 을 Builder 로 받지 않음)
+ *
+ * @see OrderJpaRepository#findAggregateRowsById(Long)
+ */
+public record OrderAggregateRow(
+    // orders
+    Long orderId,
+    String orderNumber,
+    OrderStatus status,
+    Instant orderedAt,
+    Instant deliveredAt,
+    Instant cancelledAt,
+    Long version,
+    // order_locations
+    Long locationId,
+    String originContactName,
+    String originContactPhoneNumber,
+    String originEntrancePassword,
+    String originEntranceGuide,
+    String originRequestMessage,
+    BigDecimal originLatitude,
+    BigDecimal originLongitude,
+    String originJibnunAddress,
+    String originRoadAddress,
+    String originDetailAddress,
+    String destinationContactName,
+    String destinationContactPhoneNumber,
+    String destinationEntrancePassword,
+    String destinationEntranceGuide,
+    String destinationRequestMessage,
+    BigDecimal destinationLatitude,
+    BigDecimal destinationLongitude,
+    String destinationJibnunAddress,
+    String destinationRoadAddress,
+    String destinationDetailAddress,
+    // order_delivery_policies
+    Long deliveryPolicyId,
+    String deliveryPolicyJson,
+    // order_items
+    String itemName,
+    Integer quantity,
+    BigDecimal price,
+    String category,
+    BigDecimal weight,
+    BigDecimal volumeLength,
+    BigDecimal volumeWidth,
+    BigDecimal volumeHeight) {
+
+  /**
+   * Row 목록을 Domain Order 목록으로 조립
+   *
+   * <p>같은 orderId 의 Row 들을 하나의 Order 로 묶으며, 최초 등장 순서를 유지한다.
+   *
+   * @param rows JOIN 쿼리 결과
+   * @return Domain Order 목록
+   * @throws IllegalStateException location 또는 delivery policy 가 없는 경우
+   */
+  public static List<Order> toDomains(List<OrderAggregateRow> rows) {
+    Map<Long, List<OrderAggregateRow>> rowsByOrderId = new LinkedHashMap<>();
+    for (OrderAggregateRow row : rows) {
+      rowsByOrderId.computeIfAbsent(row.orderId(), id -> new ArrayList<>()).add(row);
+    }
+
+    List<Order> orders = new ArrayList<>(rowsByOrderId.size());
+    for (List<OrderAggregateRow> orderRows : rowsByOrderId.values()) {
+      orders.add(toDomain(orderRows));
+    }
+    return orders;
+  }
+
+  private static Order toDomain(List<OrderAggregateRow> orderRows) {
+    OrderAggregateRow head = orderRows.getFirst();
+
+    if (head.locationId() == null) {
+      throw new IllegalStateException("OrderLocation이 없습니다. orderId: " + head.orderId());
+    }
+    if (head.deliveryPolicyId() == null) {
+      throw new IllegalStateException("OrderDeliveryPolicy가 없습니다. orderId: " + head.orderId());
+    }
+
+    List<OrderItem> items = new ArrayList<>(orderRows.size());
+    for (OrderAggregateRow row : orderRows) {
+      if (row.itemName() != null) {
+        items.add(row.toOrderItem());
+      }
+    }
+
+    // Infrastructure OrderStatus → Domain OrderStatus 변환
+    vroong.laas.order.core.domain.order.OrderStatus domainStatus =
+        vroong.laas.order.core.domain.order.OrderStatus.valueOf(head.status().name());
+
+    OrderLocationEntity location = head.toLocationEntity();
+
+    return new Order(
+        head.orderId(),
+        OrderNumber.of(head.orderNumber()),
+        domainStatus,
+        items,
+        location.toOriginDomain(),
+        location.toDestinationDomain(),
+        head.toDeliveryPolicy(),
+        head.orderedAt(),
+        head.deliveredAt(),
+        head.cancelledAt(),
+        head.version());
+  }
+
+  /**
+   * Row 의 location 컬럼 → 비관리(Transient) Entity
+   *
+   * <p>Domain 변환은 Entity 의 매핑(toOriginDomain / toDestinationDomain)을 그대로 사용합니다.
+   */
+  private OrderLocationEntity toLocationEntity() {
+    return OrderLocationEntity.builder()
+        .orderId(orderId)
+        .originContactName(originContactName)
+        .originContactPhoneNumber(originContactPhoneNumber)
+        .originEntrancePassword(originEntrancePassword)
+        .originEntranceGuide(originEntranceGuide)
+        .originRequestMessage(originRequestMessage)
+        .originLatitude(originLatitude)
+        .originLongitude(originLongitude)
+        .originJibnunAddress(originJibnunAddress)
+        .originRoadAddress(originRoadAddress)
+        .originDetailAddress(originDetailAddress)
+        .destinationContactName(destinationContactName)
+        .destinationContactPhoneNumber(destinationContactPhoneNumber)
+        .destinationEntrancePassword(destinationEntrancePassword)
+        .destinationEntranceGuide(destinationEntranceGuide)
+        .destinationRequestMessage(destinationRequestMessage)
+        .destinationLatitude(destinationLatitude)
+        .destinationLongitude(destinationLongitude)
+        .destinationJibnunAddress(destinationJibnunAddress)
+        .destinationRoadAddress(destinationRoadAddress)
+        .destinationDetailAddress(destinationDetailAddress)
+        .build();
+  }
+
+  private DeliveryPolicy toDeliveryPolicy() {
+    return new OrderDeliveryPolicyEntity(orderId, deliveryPolicyJson).toDomain();
+  }
+
+  private OrderItem toOrderItem() {
+    return OrderItemEntity.builder()
+        .orderId(orderId)
+        .itemName(itemName)
+        .quantity(quantity)
+        .price(price)
+        .category(category)
+        .weight(weight)
+        .volumeLength(volumeLength)
+        .volumeWidth(volumeWidth)
+        .volumeHeight(volumeHeight)
+        .build()
+        .toDomain();
+  }
+}
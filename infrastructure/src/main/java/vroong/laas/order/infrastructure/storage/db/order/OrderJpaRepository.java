@@ -1,7 +1,9 @@
 package vroong.laas.order.infrastructure.storage.db.order;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,6 +14,74 @@ import org.springframework.data.repository.query.Param;
  */
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
 
+  /**
+   * Order Aggregate 단일 쿼리 조회용 SELECT 절
+   *
+   * <p>orders 기준으로 location, delivery policy, items 를 LEFT JOIN 하여 {@link OrderAggregateRow}로 투영
+   */
+  String AGGREGATE_SELECT =
+      "SELECT new vroong.laas.order.infrastructure.storage.db.order.OrderAggregateRow("
+          + "o.id, o.orderNumber, o.status, o.orderedAt, o.deliveredAt, o.cancelledAt, o.version, "
+          + "l.id, "
+          + "l.originContactName, l.originContactPhoneNumber, "
+          + "l.originEntrancePassword, l.originEntranceGuide, l.originRequestMessage, "
+          + "l.originLatitude, l.originLongitude, "
+          + "l.originJibnunAddress, l.originRoadAddress, l.originDetailAddress, "
+          + "l.destinationContactName, l.destinationContactPhoneNumber, "
+          + "l.destinationEntrancePassword, l.destinationEntranceGuide, "
+          + "l.destinationRequestMessage, "
+          + "l.destinationLatitude, l.destinationLongitude, "
+          + "l.destinationJibnunAddress, l.destinationRoadAddress, l.destinationDetailAddress, "
+          + "p.id, p.deliveryPolicyJson, "
+          + "i.itemName, i.quantity, i.price, i.category, i.weight, "
+          + "i.volumeLength, i.volumeWidth, i.volumeHeight) "
+          + "FROM OrderEntity o "
+          + "LEFT JOIN OrderLocationEntity l ON l.orderId = o.id "
+          + "AND l.entityStatus = vroong.laas.order.infrastructure.storage.db.EntityStatus.ACTIVE "
+          + "LEFT JOIN OrderDeliveryPolicyEntity p ON p.orderId = o.id "
+          + "AND p.entityStatus = vroong.laas.order.infrastructure.storage.db.EntityStatus.ACTIVE "
+          + "LEFT JOIN OrderItemEntity i ON i.orderId = o.id "
+          + "AND i.entityStatus = vroong.laas.order.infrastructure.storage.db.EntityStatus.ACTIVE ";
+
+  /**
+   * 주문 ID로 Order Aggregate 전체를 한 번의 쿼리로 조회
+   *
+   * <p>아이템 1개당 1 Row 가 반환되며, 주문이 없으면 빈 목록
+   *
+   * @param orderId 주문 ID
+   * @return Aggregate Row 목록 (아이템 ID 순)
+   */
+  @Query(AGGREGATE_SELECT + "WHERE o.id = :orderId ORDER BY i.id")
+  List<OrderAggregateRow> findAggregateRowsById(@Param("orderId") Long orderId);
+
+  /**
+   * 주문번호로 Order Aggregate 전체를 한 번의 쿼리로 조회
+   *
+   * @param orderNumber 주문번호
+   * @return Aggregate Row 목록 (아이템 ID 순)
+   */
+  @Query(AGGREGATE_SELECT + "WHERE o.orderNumber = :orderNumber ORDER BY i.id")
+  List<OrderAggregateRow> findAggregateRowsByOrderNumber(@Param("orderNumber") String orderNumber);
+
+  /**
+   * 주문 ID 목록으로 Order Aggregate 를 한 번의 IN-list 쿼리로 일괄 조회
+   *
+   * @param orderIds 주문 ID 목록
+   * @return Aggregate Row 목록 (주문 ID, 아이템 ID 순)
+   */
+  @Query(AGGREGATE_SELECT + "WHERE o.id IN :orderIds ORDER BY o.id, i.id")
+  List<OrderAggregateRow> findAggregateRowsByIdIn(@Param("orderIds") List<Long> orderIds);
+
+  /**
+   * 주문번호 목록으로 Order Aggregate 를 한 번의 IN-list 쿼리로 일괄 조회
+   *
+   * @param orderNumbers 주문번호 목록
+   * @return Aggregate Row 목록 (주문 ID, 아이템 ID 순)
+   */
+  @Query(AGGREGATE_SELECT + "WHERE o.orderNumber IN :orderNumbers ORDER BY o.id, i.id")
+  List<OrderAggregateRow> findAggregateRowsByOrderNumberIn(
+      @Param("orderNumbers") List<String> orderNumbers);
+
   /**
    * 주문번호로 주문 조회
    *
@@ -27,5 +97,43 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
    * @return 존재하면 true, 아니면 false
    */
   boolean existsByOrderNumber(String orderNumber);
+
+  /**
+   * 주문 ID로 orders Row 만 조회 (요약 조회, JOIN 없음)
+   *
+   * @param orderId 주문 ID
+   * @return 요약 Row (없으면 Optional.empty())
+   */
+  @Query(
+      "SELECT new vroong.laas.order.infrastructure.storage.db.order.OrderSummaryRow("
+          + "o.id, o.orderNumber, o.status, o.orderedAt, o.deliveredAt, o.cancelledAt, o.version) "
+          + "FROM OrderEntity o WHERE o.id = :orderId")
+  Optional<OrderSummaryRow> findSummaryById(@Param("orderId") Long orderId);
+
+  /**
+   * 주문번호로 주문 ID 조회 (order_number Unique Index 만 사용)
+   *
+   * @param orderNumber 주문번호
+   * @return 주문 ID (없으면 Optional.empty())
+   */
+  @Query("SELECT o.id FROM OrderEntity o WHERE o.orderNumber = :orderNumber")
+  Optional<Long> findIdByOrderNumber(@Param("orderNumber") String orderNumber);
+
+  /**
+   * Aggregate 버전 증가
+   *
+   * <p>orders 이외의 테이블(location 등)만 변경할 때 Aggregate 버전을 올리기 위해 사용합니다. 현재 버전이
+   * expectedVersion 일 때만 증가시킵니다. (Compare-And-Set)
+   *
+   * @param orderId 주문 ID
+   * @param expectedVersion 변경 전에 조회한 버전
+   * @return 변경된 Row 수 (다른 요청이 먼저 변경했으면 0)
+   */
+  @Modifying
+  @Query(
+      "UPDATE OrderEntity o SET o.version = o.version + 1"
+          + " WHERE o.id = :orderId AND o.version = :expectedVersion")
+  int incrementVersion(
+      @Param("orderId") Long orderId, @Param("expectedVersion") long expectedVersion);
 }
 
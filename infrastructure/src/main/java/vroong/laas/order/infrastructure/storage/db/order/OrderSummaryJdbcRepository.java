@@ -0,0 +1,97 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import vroong.laas.order.core.domain.order.OrderCursor;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+
+/**
+ * 주문 목록 조회 JDBC Repository (Keyset Pagination)
+ *
+ * <p>orders 테이블만 읽어 {@link OrderSummaryRow} 로 변환합니다.
+ *
+ * <p>특징:
+ * - 정렬: ordered_at DESC, id DESC (OFFSET 없이 이전 페이지 마지막 (ordered_at, id) 뒤부터 조회)
+ * - 지정한 조건만 WHERE 에 포함 (조건별로 Index 를 고를 수 있도록 "IS NULL OR" 형태를 쓰지 않음)
+ * - status 지정 시 idx_status_ordered_at_id, 미지정 시 idx_ordered_at_id 를 역순 Range Scan
+ *   (V20250124_001)
+ */
+@Repository
+public class OrderSummaryJdbcRepository {
+
+  static final String SELECT_SUMMARY =
+      "SELECT id, order_number, status, ordered_at, delivered_at, cancelled_at, version"
+          + " FROM orders WHERE 1 = 1";
+
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  public OrderSummaryJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  /**
+   * 조건에 맞는 주문 요약 조회
+   *
+   * @param condition 조회 조건
+   * @param after 이전 페이지 마지막 위치 (첫 페이지면 null)
+   * @param limit 최대 조회 건수
+   * @return 요약 Row 목록 ((ordered_at, id) 내림차순)
+   */
+  public List<OrderSummaryRow> findSummaries(
+      OrderSearchCondition condition, OrderCursor after, int limit) {
+    StringBuilder sql = new StringBuilder(SELECT_SUMMARY);
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    appendConditions(sql, params, condition);
+
+    if (after != null) {
+      sql.append(
+          " AND (ordered_at < :afterOrderedAt"
+              + " OR (ordered_at = :afterOrderedAt AND id < :afterId))");
+      params.addValue("afterOrderedAt", Timestamp.from(after.orderedAt()));
+      params.addValue("afterId", after.id());
+    }
+    sql.append(" ORDER BY ordered_at DESC, id DESC LIMIT :limit");
+    params.addValue("limit", limit);
+
+    return namedJdbcTemplate.query(sql.toString(), params, OrderSummaryJdbcRepository::mapRow);
+  }
+
+  /** 지정한 조건만 WHERE 에 추가 */
+  static void appendConditions(
+      StringBuilder sql, MapSqlParameterSource params, OrderSearchCondition condition) {
+    if (condition.status() != null) {
+      sql.append(" AND status = :status");
+      params.addValue("status", condition.status().name());
+    }
+    if (condition.orderedFrom() != null) {
+      sql.append(" AND ordered_at >= :orderedFrom");
+      params.addValue("orderedFrom", Timestamp.from(condition.orderedFrom()));
+    }
+    if (condition.orderedTo() != null) {
+      sql.append(" AND ordered_at < :orderedTo");
+      params.addValue("orderedTo", Timestamp.from(condition.orderedTo()));
+    }
+  }
+
+  static OrderSummaryRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new OrderSummaryRow(
+        rs.getLong("id"),
+        rs.getString("order_number"),
+        OrderStatus.valueOf(rs.getString("status")),
+        toInstant(rs.getTimestamp("ordered_at")),
+        toInstant(rs.getTimestamp("delivered_at")),
+        toInstant(rs.getTimestamp("cancelled_at")),
+        rs.getLong("version"));
+  }
+
+  private static Instant toInstant(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toInstant() : null;
+  }
+}
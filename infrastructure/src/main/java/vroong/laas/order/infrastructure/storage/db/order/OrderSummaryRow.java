@@ -0,0 +1,34 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import java.time.Instant;
+import vroong.laas.order.core.domain.order.OrderNumber;
+import vroong.laas.order.core.domain.order.OrderSummary;
+
+/**
+ * 주문 요약 조회 결과 Row (JPQL Projection)
+ *
+ * <p>orders 테이블만 읽으며 관리(Managed) 상태의 JPA Entity를 만들지 않습니다.
+ *
+ * @see OrderJpaRepository#findSummaryById(Long)
+ */
+public record OrderSummaryRow(
+    Long orderId,
+    String orderNumber,
+    OrderStatus status,
+    Instant orderedAt,
+    Instant deliveredAt,
+    Instant cancelledAt,
+    Long version) {
+
+  /** Row → Domain OrderSummary 변환 */
+  public OrderSummary toDomain() {
+    return new OrderSummary(
+        orderId,
+        OrderNumber.of(orderNumber),
+        vroong.laas.order.core.domain.order.OrderStatus.valueOf(status.name()),
+        orderedAt,
+        deliveredAt,
+        cancelledAt,
+        version);
+  }
+}
@@ -0,0 +1,128 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.exception.OrderExportLimitExceededException;
+import vroong.laas.order.infrastructure.common.config.DataSourceConfig;
+
+/**
+ * 주문 요약 Streaming 조회 JDBC Repository (Export 용)
+ *
+ * <p>기간 내 주문을 List 로 모으지 않고 Row 단위로 Consumer 에 넘깁니다.
+ *
+ * <p>특징:
+ * - Reader DataSource 직접 사용 (Routing/트랜잭션을 거치지 않음, Export 가 Writer 에 붙지 않도록)
+ * - Forward-only / Read-only ResultSet + fetchSize=Integer.MIN_VALUE (Connector/J Row Streaming)
+ * - 정렬: ordered_at ASC, id ASC (idx_ordered_at_id / idx_status_ordered_at_id 정순 Range Scan)
+ * - Consumer 가 실패하면 (예: 클라이언트 연결 끊김) Statement 를 cancel 해서 남은 Row 를 읽지 않고 종료
+ *
+ * <p>Reader Connection 보호:
+ * - Streaming 중에는 응답 전송이 끝날 때까지 Reader Connection 을 잡고 있음
+ * - 동시 실행 수 제한 (order.export.max-concurrent, 기본 2): 넘으면 기다리지 않고
+ *   OrderExportLimitExceededException (일반 조회가 쓸 Reader Pool 을 남겨둠)
+ * - 실행 시간 제한 (order.export.max-execution-time, 기본 10m): MAX_EXECUTION_TIME Optimizer Hint 로
+ *   MySQL 이 Query 를 중단 (느린 클라이언트가 Connection 을 계속 잡지 못하도록, Row 전송 시간 포함)
+ *
+ * @see OrderSummaryJdbcRepository
+ */
+@Slf4j
+@Repository
+public class OrderSummaryStreamRepository {
+
+  /** MySQL Connector/J 에서 Row 단위 Streaming 을 켜는 fetchSize */
+  static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final String selectSummary;
+
+  @Autowired
+  public OrderSummaryStreamRepository(
+      @Qualifier(DataSourceConfig.READER_DATASOURCE_NAME) DataSource readerDataSource,
+      @Value("${order.export.max-concurrent:2}") int maxConcurrent,
+      @Value("${order.export.max-execution-time:10m}") Duration maxExecutionTime) {
+    this(readerDataSource, STREAMING_FETCH_SIZE, maxConcurrent, maxExecutionTime);
+  }
+
+  OrderSummaryStreamRepository(
+      DataSource dataSource, int fetchSize, int maxConcurrent, Duration maxExecutionTime) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("order.export.max-concurrent는 0보다 커야 합니다");
+    }
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.setFetchSize(fetchSize);
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.permits = new Semaphore(maxConcurrent);
+    this.maxConcurrent = maxConcurrent;
+    this.selectSummary =
+        "SELECT /*+ MAX_EXECUTION_TIME("
+            + maxExecutionTime.toMillis()
+            + ") */"
+            + OrderSummaryJdbcRepository.SELECT_SUMMARY.substring("SELECT".length());
+  }
+
+  /**
+   * 조건에 맞는 주문 요약을 순서대로 Consumer 에 전달
+   *
+   * @param condition 조회 조건
+   * @param consumer Row 처리기 (호출 스레드에서 동기 호출)
+   * @return 전달한 Row 수
+   * @throws OrderExportLimitExceededException 동시 실행 수를 넘은 경우 (Connection 을 잡지 않음)
+   */
+  public long stream(OrderSearchCondition condition, Consumer<OrderSummaryRow> consumer) {
+    if (!permits.tryAcquire()) {
+      throw new OrderExportLimitExceededException(maxConcurrent);
+    }
+    try {
+      return streamRows(condition, consumer);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private long streamRows(OrderSearchCondition condition, Consumer<OrderSummaryRow> consumer) {
+    StringBuilder sql = new StringBuilder(selectSummary);
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    OrderSummaryJdbcRepository.appendConditions(sql, params, condition);
+    sql.append(" ORDER BY ordered_at ASC, id ASC");
+
+    long[] count = {0};
+    namedJdbcTemplate.query(
+        sql.toString(),
+        params,
+        rs -> {
+          OrderSummaryRow row = OrderSummaryJdbcRepository.mapRow(rs, 0);
+          try {
+            consumer.accept(row);
+          } catch (RuntimeException e) {
+            // Streaming ResultSet 은 close 시 남은 Row 를 모두 읽으므로 먼저 Query 를 중단
+            cancelQuietly(rs.getStatement());
+            throw e;
+          }
+          count[0]++;
+        });
+    return count[0];
+  }
+
+  private static void cancelQuietly(Statement statement) {
+    try {
+      statement.cancel();
+    } catch (SQLException e) {
+      log.warn("주문 Export Query cancel 실패", e);
+    }
+  }
+}
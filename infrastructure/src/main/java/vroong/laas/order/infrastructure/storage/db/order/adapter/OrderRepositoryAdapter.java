@@ -3,18 +3,24 @@ package vroong.laas.order.infrastructure.storage.db.order.adapter;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import vroong.laas.order.core.domain.order.DeliveryPolicy;
 import vroong.laas.order.core.domain.order.Destination;
 import vroong.laas.order.core.domain.order.EntranceInfo;
 import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderCursor;
 import vroong.laas.order.core.domain.order.OrderItem;
 import vroong.laas.order.core.domain.order.OrderNumber;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.OrderSummary;
 import vroong.laas.order.core.domain.order.Origin;
+import vroong.laas.order.core.domain.order.exception.OrderConcurrentlyModifiedException;
 import vroong.laas.order.core.domain.order.required.OrderRepository;
 import vroong.laas.order.core.domain.shared.Address;
 import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.storage.db.order.OrderAggregateRow;
 import vroong.laas.order.infrastructure.storage.db.order.OrderDeliveryPolicyEntity;
 import vroong.laas.order.infrastructure.storage.db.order.OrderDeliveryPolicyJpaRepository;
 import vroong.laas.order.infrastructure.storage.db.order.OrderEntity;
@@ -24,6 +30,9 @@ import vroong.laas.order.infrastructure.storage.db.order.OrderJpaRepository;
 import vroong.laas.order.infrastructure.storage.db.order.OrderLocationEntity;
 import vroong.laas.order.infrastructure.storage.db.order.OrderLocationJpaRepository;
 import vroong.laas.order.infrastructure.storage.db.order.OrderStatus;
+import vroong.laas.order.infrastructure.storage.db.order.OrderSummaryJdbcRepository;
+import vroong.laas.order.infrastructure.storage.db.order.OrderSummaryRow;
+import vroong.laas.order.infrastructure.storage.db.order.OrderSummaryStreamRepository;
 
 /**
  * Order Repository Adapter
@@ -46,12 +55,17 @@ public class OrderRepositoryAdapter implements OrderRepository {
   private final OrderItemJpaRepository orderItemJpaRepository;
   private final OrderLocationJpaRepository orderLocationJpaRepository;
   private final OrderDeliveryPolicyJpaRepository orderDeliveryPolicyJpaRepository;
+  private final OrderSummaryJdbcRepository orderSummaryJdbcRepository;
+  private final OrderSummaryStreamRepository orderSummaryStreamRepository;
 
   // === 저장 ===
 
   /**
    * Order 생성 및 저장
    *
+   * <p>ID는 order_id_sequence 블록에서 persist 시점에 할당되므로 orders INSERT 결과를 기다리지 않고 연관
+   * Entity를 만들 수 있습니다. 4개 테이블 INSERT는 트랜잭션 flush 시 테이블별 JDBC Batch로 함께 전송됩니다.
+   *
    * @param orderNumber 주문번호
    * @param items 주문 아이템 목록
    * @param origin 출발지
@@ -67,7 +81,7 @@ public class OrderRepositoryAdapter implements OrderRepository {
       Destination destination,
       DeliveryPolicy deliveryPolicy) {
 
-    // 1. OrderEntity 생성 및 저장
+    // 1. OrderEntity 생성 및 저장 (ID만 할당, INSERT는 flush 시점)
     OrderEntity orderEntity =
         OrderEntity.builder()
             .orderNumber(orderNumber.value())
@@ -88,16 +102,99 @@ public class OrderRepositoryAdapter implements OrderRepository {
 
   // === 조회 ===
 
+  /**
+   * 주문 ID로 Order 조회
+   *
+   * <p>orders/location/delivery policy/items 를 단일 JOIN 쿼리로 읽어 바로 Domain Order 로 변환
+   *
+   * @param orderId 주문 ID
+   * @return Order (없으면 Optional.empty())
+   */
   @Override
   public Optional<Order> findById(Long orderId) {
-    return orderJpaRepository.findById(orderId).map(this::toDomainWithDetails);
+    return toSingleOrder(orderJpaRepository.findAggregateRowsById(orderId));
   }
 
+  /**
+   * 주문번호로 Order 조회
+   *
+   * @param orderNumber 주문번호
+   * @return Order (없으면 Optional.empty())
+   */
   @Override
   public Optional<Order> findByOrderNumber(OrderNumber orderNumber) {
-    return orderJpaRepository
-        .findByOrderNumber(orderNumber.value())
-        .map(this::toDomainWithDetails);
+    return toSingleOrder(orderJpaRepository.findAggregateRowsByOrderNumber(orderNumber.value()));
+  }
+
+  /**
+   * ID로 주문 요약 조회
+   *
+   * <p>orders 테이블만 조회 (location/policy/items JOIN, delivery_policy_json 파싱 없음)
+   *
+   * @param id 주문 ID
+   * @return 주문 요약 (없으면 Optional.empty())
+   */
+  @Override
+  public Optional<OrderSummary> findSummaryById(Long id) {
+    return orderJpaRepository.findSummaryById(id).map(OrderSummaryRow::toDomain);
+  }
+
+  /**
+   * 조건에 맞는 주문 요약 목록 조회 (Keyset Pagination, orders 테이블만 조회)
+   *
+   * @param condition 조회 조건
+   * @param after 이전 페이지 마지막 위치 (첫 페이지면 null)
+   * @param limit 최대 조회 건수
+   * @return 주문 요약 목록 ((orderedAt, id) 내림차순)
+   */
+  @Override
+  public List<OrderSummary> findSummaries(
+      OrderSearchCondition condition, OrderCursor after, int limit) {
+    return orderSummaryJdbcRepository.findSummaries(condition, after, limit).stream()
+        .map(OrderSummaryRow::toDomain)
+        .toList();
+  }
+
+  /**
+   * 조건에 맞는 주문 요약 Streaming 조회 (Reader DB, orders 테이블만 조회)
+   *
+   * @param condition 조회 조건
+   * @param consumer 주문 요약 처리기 ((orderedAt, id) 오름차순으로 호출)
+   * @return 전달한 주문 수
+   */
+  @Override
+  public long streamSummaries(OrderSearchCondition condition, Consumer<OrderSummary> consumer) {
+    return orderSummaryStreamRepository.stream(condition, row -> consumer.accept(row.toDomain()));
+  }
+
+  @Override
+  public Optional<Long> findIdByOrderNumber(OrderNumber orderNumber) {
+    return orderJpaRepository.findIdByOrderNumber(orderNumber.value());
+  }
+
+  /**
+   * ID 목록으로 Order 일괄 조회
+   *
+   * <p>주문 수와 관계없이 단일 IN-list JOIN 쿼리로 조회 후 메모리에서 Aggregate 조립
+   *
+   * @param ids 주문 ID 목록
+   * @return Order 목록 (ID 오름차순, 없는 주문 제외)
+   */
+  @Override
+  public List<Order> findAllByIds(List<Long> ids) {
+    return OrderAggregateRow.toDomains(orderJpaRepository.findAggregateRowsByIdIn(ids));
+  }
+
+  /**
+   * 주문번호 목록으로 Order 일괄 조회
+   *
+   * @param orderNumbers 주문번호 목록
+   * @return Order 목록 (ID 오름차순, 없는 주문 제외)
+   */
+  @Override
+  public List<Order> findAllByOrderNumbers(List<OrderNumber> orderNumbers) {
+    List<String> values = orderNumbers.stream().map(OrderNumber::value).toList();
+    return OrderAggregateRow.toDomains(orderJpaRepository.findAggregateRowsByOrderNumberIn(values));
   }
 
   @Override
@@ -120,15 +217,30 @@ public class OrderRepositoryAdapter implements OrderRepository {
    * <p>유지되는 것:
    * - Contact (연락처) - 변경되지 않음
    *
+   * <p>orders.version 을 1 증가시켜 Aggregate 변경을 표시합니다 (캐시 버전 비교, ETag). 버전이 expectedVersion
+   * 이 아니면 아무것도 변경하지 않고 예외를 던집니다.
+   *
    * @param orderId 주문 ID
+   * @param expectedVersion 변경 전에 조회한 버전
    * @param newAddress 새로운 주소
    * @param newLatLng 새로운 위경도
    * @param newEntranceInfo 새로운 출입 정보
+   * @return 변경 후 Aggregate 버전
+   * @throws OrderConcurrentlyModifiedException 다른 요청이 먼저 변경한 경우
    */
   @Override
-  public void updateDestinationAddress(
-      Long orderId, Address newAddress, LatLng newLatLng, EntranceInfo newEntranceInfo) {
-    // 1. OrderLocationEntity 조회
+  public long updateDestinationAddress(
+      Long orderId,
+      long expectedVersion,
+      Address newAddress,
+      LatLng newLatLng,
+      EntranceInfo newEntranceInfo) {
+    // 1. Aggregate 버전 증가 (조회한 버전일 때만, 이후 같은 주문의 변경은 커밋까지 대기)
+    if (orderJpaRepository.incrementVersion(orderId, expectedVersion) == 0) {
+      throw new OrderConcurrentlyModifiedException(orderId, expectedVersion);
+    }
+
+    // 2. OrderLocationEntity 조회
     OrderLocationEntity locationEntity =
         orderLocationJpaRepository
             .findByOrderId(orderId)
@@ -136,11 +248,12 @@ public class OrderRepositoryAdapter implements OrderRepository {
                 () ->
                     new IllegalStateException("OrderLocation이 없습니다. orderId: " + orderId));
 
-    // 2. Destination 주소 필드만 업데이트 (Contact 유지)
+    // 3. Destination 주소 필드만 업데이트 (Contact 유지)
     locationEntity.updateDestinationAddress(newAddress, newLatLng, newEntranceInfo);
 
-    // 3. 명시적으로 저장
+    // 4. 명시적으로 저장
     orderLocationJpaRepository.save(locationEntity);
+    return expectedVersion + 1;
   }
 
   // === Private Helper Methods ===
@@ -163,44 +276,10 @@ public class OrderRepositoryAdapter implements OrderRepository {
     orderDeliveryPolicyJpaRepository.save(policyEntity);
   }
 
-  /**
-   * OrderEntity를 연관 데이터와 함께 Domain Order로 변환
-   *
-   * @param orderEntity OrderEntity
-   * @return Domain Order
-   */
-  private Order toDomainWithDetails(OrderEntity orderEntity) {
-    Long orderId = orderEntity.getId();
-
-    // 1. OrderItem 조회 및 변환
-    List<OrderItem> items =
-        orderItemJpaRepository.findByOrderId(orderId).stream()
-            .map(OrderItemEntity::toDomain)
-            .toList();
-
-    // 2. OrderLocation 조회 및 변환
-    OrderLocationEntity locationEntity =
-        orderLocationJpaRepository
-            .findByOrderId(orderId)
-            .orElseThrow(
-                () ->
-                    new IllegalStateException("OrderLocation이 없습니다. orderId: " + orderId));
-
-    Origin origin = locationEntity.toOriginDomain();
-    Destination destination = locationEntity.toDestinationDomain();
-
-    // 3. DeliveryPolicy 조회 및 변환
-    OrderDeliveryPolicyEntity policyEntity =
-        orderDeliveryPolicyJpaRepository
-            .findByOrderId(orderId)
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "OrderDeliveryPolicy가 없습니다. orderId: " + orderId));
-
-    DeliveryPolicy policy = policyEntity.toDomain();
-
-    // 4. OrderEntity → Domain Order 변환
-    return orderEntity.toDomain(items, origin, destination, policy);
+  private Optional<Order> toSingleOrder(List<OrderAggregateRow> rows) {
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(OrderAggregateRow.toDomains(rows).getFirst());
   }
 }
@@ -0,0 +1,40 @@
+-- ===================================
+-- Order Aggregate ID 시퀀스 (Application-assigned ID)
+-- Created: 2025-01-20
+-- ===================================
+
+-- ===================================
+-- 1. order_id_sequence 테이블 (Hibernate pooled 시퀀스)
+-- ===================================
+-- MySQL은 SEQUENCE를 지원하지 않으므로 Hibernate가 단일 Row 테이블로 시퀀스를 에뮬레이션
+-- - orders, order_items, order_locations, order_delivery_policies 가 공유
+-- - next_val 1회 증가(+100)로 ID 100개 블록을 애플리케이션에 할당 (pooled optimizer)
+-- - INSERT 전에 ID가 정해지므로 Hibernate JDBC Batch Insert 가능 (IDENTITY는 Batch 불가)
+CREATE TABLE order_id_sequence (
+    next_val BIGINT NOT NULL COMMENT '다음 ID 블록 상한값'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Order Aggregate ID 시퀀스';
+
+-- 기존 AUTO_INCREMENT ID와 겹치지 않도록 현재 최대 ID + 블록 크기(100) + 1 로 시작
+INSERT INTO order_id_sequence (next_val)
+SELECT GREATEST(
+           COALESCE((SELECT MAX(id) FROM orders), 0),
+           COALESCE((SELECT MAX(id) FROM order_items), 0),
+           COALESCE((SELECT MAX(id) FROM order_locations), 0),
+           COALESCE((SELECT MAX(id) FROM order_delivery_policies), 0)
+       ) + 101;
+
+-- ===================================
+-- 2. AUTO_INCREMENT 를 시퀀스 범위 밖으로 이동 (Rolling 배포 중 ID 충돌 방지)
+-- ===================================
+-- 배포 중에는 구버전 Pod(AUTO_INCREMENT)와 신버전 Pod(시퀀스)가 동시에 INSERT 함
+-- - AUTO_INCREMENT 를 그대로 두면 구버전 Pod가 시퀀스 블록(MAX(id)+1 ~)과 같은 ID를 발급
+-- - 시퀀스 쪽에 간격만 두는 방식은 불가: InnoDB 는 명시적으로 INSERT 된 ID가 카운터보다 크면
+--   AUTO_INCREMENT 를 그 ID + 1 로 올리므로 구버전 Pod가 곧바로 시퀀스 블록 안으로 들어옴
+-- - 따라서 AUTO_INCREMENT 를 시퀀스가 도달할 수 없는 1조(10^12)로 올림
+--   (시퀀스 ID는 카운터보다 작으므로 카운터를 건드리지 않음)
+-- - 배포 중 구버전 Pod가 만든 Row만 10^12 이상 ID를 가지며, 배포 완료 후에는 발급되지 않음
+-- - MySQL 8 에서 AUTO_INCREMENT 변경은 테이블 재작성 없는 메타데이터 변경
+ALTER TABLE orders AUTO_INCREMENT = 1000000000000;
+ALTER TABLE order_items AUTO_INCREMENT = 1000000000000;
+ALTER TABLE order_locations AUTO_INCREMENT = 1000000000000;
+ALTER TABLE order_delivery_policies AUTO_INCREMENT = 1000000000000;
@@ -0,0 +1,19 @@
+-- ===================================
+-- Outbox Relay Partition Lease
+-- Created: 2025-01-21
+-- ===================================
+
+-- Partition 별 Relay Worker 가 트랜잭션 동안 Row Lock (FOR UPDATE SKIP LOCKED) 을 잡아
+-- 여러 Job 인스턴스가 같은 Partition 을 동시에 처리하지 않도록 한다.
+CREATE TABLE outbox_relay_partitions (
+    partition_no INT PRIMARY KEY COMMENT 'Partition 번호 (MOD(CRC32(event_key), partition 수))'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Outbox Relay Partition Lease';
+
+-- 최대 Partition 수(256)만큼 미리 생성 (OutboxPartition.MAX_COUNT)
+INSERT INTO outbox_relay_partitions (partition_no)
+WITH RECURSIVE seq (n) AS (
+    SELECT 0
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 255
+)
+SELECT n FROM seq;
@@ -0,0 +1,29 @@
+-- ===================================
+-- Outbox Payload Codec
+-- Created: 2025-01-22
+-- ===================================
+
+-- 이벤트 타입별로 페이로드를 압축(DEFLATE)하여 payload_blob 에 저장할 수 있도록 한다.
+-- - payload_codec = 'JSON'   : 기존과 동일하게 payload(TEXT) 사용 (Outbox 라이브러리 저장분)
+-- - payload_codec = 'DEFLATE': payload 는 NULL, payload_blob 에 압축 JSON 저장
+-- 기존 Row 는 모두 'JSON' 으로 채워지므로 데이터 변환은 없다.
+--
+-- 온라인 변경:
+-- - payload 를 NULL 허용으로 바꾸면 테이블을 재작성하지만 INPLACE 로 가능 (재작성 중에도 INSERT/UPDATE 가능)
+-- - 컬럼 추가도 같은 재작성에 포함되므로 ALGORITHM=INPLACE, LOCK=NONE 을 명시
+--   (조건을 만족하지 못하면 테이블을 잠그는 대신 에러로 중단)
+ALTER TABLE outbox_events
+    MODIFY COLUMN payload TEXT NULL COMMENT '이벤트 페이로드 (JSON, payload_codec = JSON 일 때)',
+    ADD COLUMN payload_codec VARCHAR(20) NOT NULL DEFAULT 'JSON'
+        COMMENT '페이로드 저장 방식: JSON, DEFLATE' AFTER payload,
+    ADD COLUMN payload_blob MEDIUMBLOB NULL
+        COMMENT '인코딩된 페이로드 (payload_codec != JSON 일 때)' AFTER payload_codec,
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE outbox_events_dlq
+    MODIFY COLUMN payload TEXT NULL COMMENT '이벤트 페이로드 (JSON, payload_codec = JSON 일 때)',
+    ADD COLUMN payload_codec VARCHAR(20) NOT NULL DEFAULT 'JSON'
+        COMMENT '페이로드 저장 방식: JSON, DEFLATE' AFTER payload,
+    ADD COLUMN payload_blob MEDIUMBLOB NULL
+        COMMENT '인코딩된 페이로드 (payload_codec != JSON 일 때)' AFTER payload_codec,
+    ALGORITHM=INPLACE, LOCK=NONE;
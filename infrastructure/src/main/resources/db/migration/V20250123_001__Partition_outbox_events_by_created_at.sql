@@ -0,0 +1,42 @@
+-- ===================================
+-- outbox_events created_at Range Partition
+-- Created: 2025-01-23
+-- ===================================
+
+-- 보관 기간이 지난 발행 완료 이벤트를 Row 단위 DELETE 대신 Partition DROP 으로 정리하기 위해
+-- outbox_events 를 created_at 월 단위 Range Partition 으로 나눈다. (OutboxRetentionJob)
+--
+-- 변경 내용:
+-- - 모든 UNIQUE KEY 에 Partition 컬럼이 포함되어야 하므로 PK 를 (id, created_at) 으로 변경
+-- - event_id UNIQUE 는 (event_id, created_at) UNIQUE 로 변경
+--   (같은 이벤트는 created_at 도 같으므로 중복 INSERT 는 계속 막힘, idx_event_id 는 이 키의 앞부분과 같아 제거)
+-- - Partition 은 실행 시점(UTC) 기준으로 생성: 이번 달 이전은 pinit, 이번 달부터 4개월치 월 Partition, 빈 pmax
+-- - 이후 Partition 은 OutboxRetentionJob 이 pmax 를 나눠 미리 생성한다. (pmax 가 비어 있어야 Row 복사 없음)
+--
+-- 적용 방법:
+-- - 새 환경 / Row 가 적은 테이블: 이 마이그레이션 그대로 실행 (테이블 복사, 복사하는 동안 쓰기 대기)
+-- - Row 가 많은 운영 테이블: 이 ALTER 대신 scripts/outbox-events-partition.sh (pt-online-schema-change) 로
+--   같은 변경을 적용한 뒤 이 버전은 적용된 것으로 기록한다. (Flyway 가이드: 운영 SQL 은 DBA 가 수동 실행)
+SET @month_start = DATE_FORMAT(UTC_TIMESTAMP(), '%Y-%m-01');
+
+SET @partition_ddl = CONCAT(
+    'ALTER TABLE outbox_events',
+    ' DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at),',
+    ' DROP INDEX event_id, DROP INDEX idx_event_id,',
+    ' ADD UNIQUE KEY uk_event_id_created_at (event_id, created_at)',
+    ' PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (',
+    'PARTITION pinit VALUES LESS THAN (',
+    TIMESTAMPDIFF(SECOND, '1970-01-01', @month_start), '), ',
+    'PARTITION p', DATE_FORMAT(@month_start, '%Y%m'), ' VALUES LESS THAN (',
+    TIMESTAMPDIFF(SECOND, '1970-01-01', @month_start + INTERVAL 1 MONTH), '), ',
+    'PARTITION p', DATE_FORMAT(@month_start + INTERVAL 1 MONTH, '%Y%m'), ' VALUES LESS THAN (',
+    TIMESTAMPDIFF(SECOND, '1970-01-01', @month_start + INTERVAL 2 MONTH), '), ',
+    'PARTITION p', DATE_FORMAT(@month_start + INTERVAL 2 MONTH, '%Y%m'), ' VALUES LESS THAN (',
+    TIMESTAMPDIFF(SECOND, '1970-01-01', @month_start + INTERVAL 3 MONTH), '), ',
+    'PARTITION p', DATE_FORMAT(@month_start + INTERVAL 3 MONTH, '%Y%m'), ' VALUES LESS THAN (',
+    TIMESTAMPDIFF(SECOND, '1970-01-01', @month_start + INTERVAL 4 MONTH), '), ',
+    'PARTITION pmax VALUES LESS THAN MAXVALUE)');
+
+PREPARE partition_outbox_events FROM @partition_ddl;
+EXECUTE partition_outbox_events;
+DEALLOCATE PREPARE partition_outbox_events;
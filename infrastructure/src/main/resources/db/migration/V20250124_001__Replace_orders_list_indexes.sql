@@ -0,0 +1,18 @@
+-- ===================================
+-- 주문 목록 조회 (Keyset Pagination) Index
+-- Created: 2025-01-24
+-- ===================================
+
+-- GET /api/v1/orders 는 (ordered_at DESC, id DESC) 순서로 이전 페이지 마지막 (ordered_at, id) 뒤부터 조회한다.
+-- - status 지정: WHERE status = ? AND ordered_at 범위 ORDER BY ordered_at DESC, id DESC
+--   → (status, ordered_at, id) 를 역순 Range Scan (filesort 없음)
+-- - status 미지정: WHERE ordered_at 범위 ORDER BY ordered_at DESC, id DESC
+--   → (ordered_at, id) 를 역순 Range Scan
+-- 단일 컬럼 idx_status(선택도 낮음), idx_ordered_at 은 위 두 Index 로 대체한다.
+-- (InnoDB 보조 Index 는 PK 를 포함하지만, 정렬/Keyset 조건에 쓰는 id 를 명시적으로 둔다.)
+ALTER TABLE orders
+    ADD INDEX idx_status_ordered_at_id (status, ordered_at, id),
+    ADD INDEX idx_ordered_at_id (ordered_at, id),
+    DROP INDEX idx_status,
+    DROP INDEX idx_ordered_at,
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,26 @@
+-- ===================================
+-- outbox_events Relay Partition 번호 컬럼
+-- Created: 2025-01-25
+-- ===================================
+
+-- Relay 가 Partition 별 미전송 이벤트를 인덱스로 찾도록 partition_no 를 저장한다.
+-- - 기존 조건 MOD(CRC32(event_key), ?) = ? 는 인덱스를 쓸 수 없어 PENDING 범위 전체를 읽으며
+--   다른 Partition 의 Row 까지 매번 해시 계산
+-- - 이벤트는 Outbox 라이브러리(JSON)와 EncodedOutboxEventWriter 두 곳에서 저장되므로
+--   애플리케이션이 아니라 생성 컬럼으로 INSERT 시점에 계산
+-- - Partition 수 4 는 outbox.relay.partitions / OutboxPartition.STORED_COUNT 와 같아야 함
+--   (Partition 수 변경 시 이 컬럼 정의를 바꾸는 Migration 필요)
+--
+-- 온라인 변경:
+-- - VIRTUAL 생성 컬럼 추가는 테이블 재작성 없는 메타데이터 변경 (ALGORITHM=INSTANT)
+-- - 보조 인덱스에 값이 저장되므로 조회 시 CRC32 를 다시 계산하지 않음
+-- - 인덱스 생성은 INPLACE, LOCK=NONE (생성 중에도 INSERT/UPDATE 가능)
+ALTER TABLE outbox_events
+    ADD COLUMN partition_no TINYINT UNSIGNED
+        AS (MOD(CRC32(event_key), 4)) VIRTUAL
+        COMMENT 'Relay Partition 번호 (MOD(CRC32(event_key), 4))',
+    ALGORITHM=INSTANT;
+
+ALTER TABLE outbox_events
+    ADD INDEX idx_status_partition_id (status, partition_no, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,12 @@
+-- ===================================
+-- outbox_events event_key 인덱스 (Fast Path)
+-- Created: 2025-01-25
+-- ===================================
+
+-- Fast Path 는 방금 커밋한 이벤트의 event_key 로 미전송 이벤트를 찾는다. (findPendingIdsByKeys)
+-- - event_key 인덱스가 없으면 PENDING 범위(idx_status_id) 전체를 읽으므로 Backlog 가 쌓일수록 느려짐
+-- - (event_key, status, id): 키별 PENDING Row 만 읽고 id 순서로 정렬
+-- - 인덱스 생성은 INPLACE, LOCK=NONE (생성 중에도 INSERT/UPDATE 가능)
+ALTER TABLE outbox_events
+    ADD INDEX idx_event_key_status_id (event_key, status, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
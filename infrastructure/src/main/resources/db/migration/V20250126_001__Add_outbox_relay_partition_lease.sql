@@ -0,0 +1,16 @@
+-- ===================================
+-- outbox_relay_partitions Lease 컬럼
+-- Created: 2025-01-26
+-- ===================================
+
+-- Relay 가 Kafka Ack 를 기다리는 동안 DB Lock 을 잡지 않도록 Partition Lease 를 Row Lock 대신 컬럼으로 표시한다.
+-- - 선점 트랜잭션: 만료된 Lease 만 UPDATE 로 가져오고 바로 커밋
+-- - 완료 트랜잭션: 자기 lease_token 인 경우에만 반납
+-- - Worker 가 반납 없이 죽으면 leased_until 이 지난 뒤 다른 Worker 가 가져감 (outbox.relay.lease-timeout)
+--
+-- 온라인 변경:
+-- - NULL 허용 컬럼을 끝에 추가하는 메타데이터 변경 (ALGORITHM=INSTANT)
+ALTER TABLE outbox_relay_partitions
+    ADD COLUMN lease_token VARCHAR(36) NULL COMMENT '현재 Lease 를 가진 Relay 의 Token (UUID)',
+    ADD COLUMN leased_until TIMESTAMP(6) NULL COMMENT 'Lease 만료 시각 (DB 시계 기준)',
+    ALGORITHM=INSTANT;
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
 import vroong.laas.order.core.domain.shared.Address;
 import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.cache.ReverseGeocodingCache;
+import vroong.laas.order.infrastructure.external.address.chain.ReverseGeocodingProviderChain;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+import vroong.laas.order.infrastructure.external.address.hedge.HedgedReverseGeocoder;
 import vroong.laas.order.infrastructure.external.address.provider.KakaoReverseGeocodingProvider;
 import vroong.laas.order.infrastructure.external.address.provider.NaverReverseGeocodingProvider;
 import vroong.laas.order.infrastructure.external.address.provider.NeogeoReverseGeocodingProvider;
@@ -49,7 +54,11 @@ class AddressRefinementAdapterTest {
 
     // Fallback 순서: Neogeo → Naver → Kakao
     addressRefinementAdapter =
-        new AddressRefinementAdapter(List.of(neogeoProvider, naverProvider, kakaoProvider));
+        new AddressRefinementAdapter(
+            ReverseGeocodingProviderChain.fixed(
+                List.of(neogeoProvider, naverProvider, kakaoProvider)),
+            ReverseGeocodingCache.disabled(),
+            HedgedReverseGeocoder.disabled());
   }
 
   @Test
@@ -157,6 +166,38 @@ class AddressRefinementAdapterTest {
     verify(kakaoProvider, times(1)).reverseGeocode(latLng);
   }
 
+  @Test
+  @DisplayName("같은 좌표 재요청 시 캐시에서 반환하고 Provider를 호출하지 않음")
+  void cache_hit_skips_providers() {
+    // given
+    ReverseGeocodingCache cache =
+        ReverseGeocodingCache.create(
+            new AddressRefinementProperties.Cache(true, 100, Duration.ofMinutes(10), 6), null);
+    AddressRefinementAdapter cachedAdapter =
+        new AddressRefinementAdapter(
+            ReverseGeocodingProviderChain.fixed(
+                List.of(neogeoProvider, naverProvider, kakaoProvider)),
+            cache,
+            HedgedReverseGeocoder.disabled());
+
+    LatLng latLng = randomLatLng();
+    Address originalAddress = randomAddress();
+    Address refinedAddress =
+        new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", "1층");
+
+    given(neogeoProvider.getProviderName()).willReturn("NEOGEO");
+    given(neogeoProvider.reverseGeocode(latLng)).willReturn(refinedAddress);
+
+    // when
+    Address first = cachedAdapter.refineByReverseGeocoding(latLng, originalAddress);
+    Address second = cachedAdapter.refineByReverseGeocoding(latLng, originalAddress);
+
+    // then
+    assertThat(first).isEqualTo(refinedAddress);
+    assertThat(second).isEqualTo(refinedAddress);
+    verify(neogeoProvider, times(1)).reverseGeocode(latLng);
+  }
+
   // Helper methods
   private LatLng randomLatLng() {
     // FixtureMonkey가 생성한 값은 범위를 벗어날 수 있으므로 직접 생성
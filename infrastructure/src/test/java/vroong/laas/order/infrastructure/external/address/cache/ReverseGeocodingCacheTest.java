@@ -0,0 +1,88 @@
+package vroong.laas.order.infrastructure.external.address.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+
+@DisplayName("ReverseGeocodingCache 테스트")
+class ReverseGeocodingCacheTest {
+
+  private static final Address ADDRESS =
+      new Address("서울시 강남구 역삼동 123", "서울시 강남구 테헤란로 123", null);
+
+  @Test
+  @DisplayName("precision 자릿수 격자 안의 좌표는 같은 캐시 키로 조회")
+  void same_grid_hits() {
+    // given
+    ReverseGeocodingCache cache = ReverseGeocodingCache.create(cacheProperties(true, 6), null);
+    cache.put(latLng("37.5012341", "127.0396001"), ADDRESS);
+
+    // when & then
+    assertThat(cache.get(latLng("37.5012339", "127.0396004"))).contains(ADDRESS);
+    assertThat(cache.get(latLng("37.501234", "127.039600"))).contains(ADDRESS);
+    assertThat(cache.get(latLng("37.5012360", "127.0396001"))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("비활성 캐시는 저장하지 않고 항상 miss")
+  void disabled_cache_always_misses() {
+    // given
+    ReverseGeocodingCache cache = ReverseGeocodingCache.create(cacheProperties(false, 6), null);
+    LatLng latLng = latLng("37.5012", "127.0396");
+
+    // when
+    cache.put(latLng, ADDRESS);
+
+    // then
+    assertThat(cache.get(latLng)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("hit/miss 횟수를 Micrometer Metrics로 노출")
+  void exports_hit_miss_metrics() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ReverseGeocodingCache cache =
+        ReverseGeocodingCache.create(cacheProperties(true, 6), meterRegistry);
+    LatLng latLng = latLng("37.5012", "127.0396");
+
+    // when
+    cache.get(latLng); // miss
+    cache.put(latLng, ADDRESS);
+    cache.get(latLng); // hit
+
+    // then
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", ReverseGeocodingCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1.0);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", ReverseGeocodingCache.CACHE_NAME)
+                .tag("result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  private AddressRefinementProperties.Cache cacheProperties(boolean enabled, int precision) {
+    return new AddressRefinementProperties.Cache(
+        enabled, 100, Duration.ofMinutes(10), precision);
+  }
+
+  private LatLng latLng(String latitude, String longitude) {
+    return new LatLng(new BigDecimal(latitude), new BigDecimal(longitude));
+  }
+}
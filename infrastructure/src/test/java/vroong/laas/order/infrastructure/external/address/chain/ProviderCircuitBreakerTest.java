@@ -0,0 +1,125 @@
+package vroong.laas.order.infrastructure.external.address.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.infrastructure.external.address.chain.ProviderCircuitBreaker.State;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+
+@DisplayName("ProviderCircuitBreaker 테스트")
+class ProviderCircuitBreakerTest {
+
+  private final AtomicLong clock = new AtomicLong(0);
+  private ProviderCircuitBreaker breaker;
+
+  @BeforeEach
+  void setUp() {
+    // window 10건, 최소 4건, 실패율 50%, Slow Call 1s 이상 80%, OPEN 30s, 시험 호출 2건
+    breaker =
+        new ProviderCircuitBreaker(
+            "NEOGEO",
+            new AddressRefinementProperties.CircuitBreaker(
+                true, 10, 4, 0.5, Duration.ofSeconds(1), 0.8, Duration.ofSeconds(30), 2),
+            clock::get);
+  }
+
+  @Test
+  @DisplayName("실패율이 임계치 이상이면 OPEN 되고 호출을 허용하지 않음")
+  void opens_on_failure_rate() {
+    // given
+    breaker.onSuccess(10);
+    breaker.onSuccess(10);
+    breaker.onFailure(10);
+
+    // when
+    breaker.onFailure(10);
+
+    // then
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+    assertThat(breaker.isCallPermitted()).isFalse();
+    assertThat(breaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  @DisplayName("최소 호출 수 미만이면 모두 실패해도 CLOSED 유지")
+  void stays_closed_below_minimum_calls() {
+    // when
+    breaker.onFailure(10);
+    breaker.onFailure(10);
+    breaker.onFailure(10);
+
+    // then
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("Slow Call 비율이 임계치 이상이면 성공 응답이어도 OPEN")
+  void opens_on_slow_call_rate() {
+    // when
+    for (int i = 0; i < 4; i++) {
+      breaker.onSuccess(1500);
+    }
+
+    // then
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  @DisplayName("open-duration 경과 후 HALF_OPEN으로 시험 호출을 제한적으로 허용")
+  void half_open_after_open_duration() {
+    // given
+    openBreaker();
+    clock.addAndGet(Duration.ofSeconds(30).toMillis());
+
+    // when & then
+    assertThat(breaker.isCallPermitted()).isTrue();
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+    assertThat(breaker.tryAcquirePermission()).isTrue();
+    assertThat(breaker.tryAcquirePermission()).isFalse(); // 시험 호출 2건 초과
+  }
+
+  @Test
+  @DisplayName("HALF_OPEN 시험 호출이 모두 성공하면 CLOSED")
+  void half_open_success_closes() {
+    // given
+    openBreaker();
+    clock.addAndGet(Duration.ofSeconds(30).toMillis());
+    breaker.tryAcquirePermission();
+    breaker.tryAcquirePermission();
+
+    // when
+    breaker.onSuccess(10);
+    breaker.onSuccess(10);
+
+    // then
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+  void half_open_failure_reopens() {
+    // given
+    openBreaker();
+    clock.addAndGet(Duration.ofSeconds(30).toMillis());
+    breaker.tryAcquirePermission();
+
+    // when
+    breaker.onFailure(10);
+
+    // then
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+    assertThat(breaker.isCallPermitted()).isFalse();
+  }
+
+  private void openBreaker() {
+    for (int i = 0; i < 4; i++) {
+      breaker.onFailure(10);
+    }
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+  }
+}
@@ -0,0 +1,224 @@
+package vroong.laas.order.infrastructure.external.address.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodingProvider;
+
+@DisplayName("ReverseGeocodingProviderChain 테스트")
+class ReverseGeocodingProviderChainTest {
+
+  private static final LatLng LAT_LNG =
+      new LatLng(new BigDecimal("37.5012"), new BigDecimal("127.0396"));
+
+  private static final AddressRefinementProperties.CircuitBreaker CIRCUIT_BREAKER =
+      new AddressRefinementProperties.CircuitBreaker(
+          true, 4, 2, 0.5, Duration.ofSeconds(2), 0.8, Duration.ofSeconds(30), 1);
+
+  private final AtomicLong clock = new AtomicLong(0);
+
+  @Test
+  @DisplayName("응답 시간 샘플이 없으면 fallback-order 순서 유지")
+  void keeps_fallback_order_without_samples() {
+    // given
+    ReverseGeocodingProviderChain chain =
+        chain(StubProvider.success("NEOGEO", 0), StubProvider.success("NAVER", 0));
+
+    // when
+    List<ReverseGeocodingProvider> providers = chain.providers();
+
+    // then
+    assertThat(providers)
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("NEOGEO", "NAVER");
+  }
+
+  @Test
+  @DisplayName("Circuit OPEN Provider는 호출 없이 목록에서 제외")
+  void skips_open_provider() {
+    // given
+    StubProvider neogeo = StubProvider.failure("NEOGEO");
+    StubProvider naver = StubProvider.success("NAVER", 0);
+    ReverseGeocodingProviderChain chain = chain(neogeo, naver);
+
+    ReverseGeocodingProvider guardedNeogeo = chain.providers().getFirst();
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> guardedNeogeo.reverseGeocode(LAT_LNG))
+          .isInstanceOf(RuntimeException.class);
+    }
+
+    // when
+    List<ReverseGeocodingProvider> providers = chain.providers();
+
+    // then
+    assertThat(providers)
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("NAVER");
+    assertThatThrownBy(() -> guardedNeogeo.reverseGeocode(LAT_LNG))
+        .isInstanceOf(ProviderCircuitOpenException.class);
+    assertThat(neogeo.calls()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("open-duration 경과 후 OPEN Provider를 다시 시도 대상에 포함")
+  void probes_open_provider_after_open_duration() {
+    // given
+    StubProvider neogeo = StubProvider.failure("NEOGEO");
+    ReverseGeocodingProviderChain chain = chain(neogeo, StubProvider.success("NAVER", 0));
+    ReverseGeocodingProvider guardedNeogeo = chain.providers().getFirst();
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> guardedNeogeo.reverseGeocode(LAT_LNG))
+          .isInstanceOf(RuntimeException.class);
+    }
+
+    // when
+    clock.addAndGet(Duration.ofSeconds(30).toMillis());
+
+    // then
+    assertThat(chain.providers())
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("NEOGEO", "NAVER");
+  }
+
+  @Test
+  @DisplayName("최근 성공 응답 시간이 빠른 Provider를 먼저 시도")
+  void reorders_by_recent_latency() {
+    // given
+    ReverseGeocodingProviderChain chain =
+        chain(StubProvider.success("NEOGEO", 120), StubProvider.success("NAVER", 0));
+    for (ReverseGeocodingProvider provider : chain.providers()) {
+      provider.reverseGeocode(LAT_LNG);
+    }
+
+    // when
+    List<ReverseGeocodingProvider> providers = chain.providers();
+
+    // then
+    assertThat(providers)
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("NAVER", "NEOGEO");
+  }
+
+  @Test
+  @DisplayName("응답 시간이 같은 구간이면 fallback-order 순서 유지")
+  void ties_broken_by_fallback_order() {
+    // given
+    ReverseGeocodingProviderChain chain =
+        chain(StubProvider.success("NEOGEO", 10), StubProvider.success("NAVER", 0));
+    for (ReverseGeocodingProvider provider : chain.providers()) {
+      provider.reverseGeocode(LAT_LNG);
+    }
+
+    // when
+    List<ReverseGeocodingProvider> providers = chain.providers();
+
+    // then
+    assertThat(providers)
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("NEOGEO", "NAVER");
+  }
+
+  @Test
+  @DisplayName("응답 시간 샘플이 없는 Provider는 fallback-order 자리를 유지해 계속 시도됨")
+  void unsampled_provider_keeps_configured_position() {
+    // given
+    StubProvider naver = StubProvider.success("NAVER", 0);
+    ReverseGeocodingProviderChain chain =
+        chain(StubProvider.success("NEOGEO", 120), naver, StubProvider.success("KAKAO", 0));
+    List<ReverseGeocodingProvider> initial = chain.providers();
+    initial.get(0).reverseGeocode(LAT_LNG);
+    initial.get(2).reverseGeocode(LAT_LNG);
+
+    // when
+    List<ReverseGeocodingProvider> providers = chain.providers();
+
+    // then
+    assertThat(naver.calls()).isZero();
+    assertThat(providers)
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("KAKAO", "NAVER", "NEOGEO");
+  }
+
+  @Test
+  @DisplayName("fixed Chain은 Circuit Breaker 없이 fallback-order 그대로 사용")
+  void fixed_chain_keeps_order() {
+    // given
+    StubProvider neogeo = StubProvider.failure("NEOGEO");
+    ReverseGeocodingProviderChain chain =
+        ReverseGeocodingProviderChain.fixed(List.of(neogeo, StubProvider.success("NAVER", 0)));
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(() -> chain.providers().getFirst().reverseGeocode(LAT_LNG))
+          .isInstanceOf(RuntimeException.class);
+    }
+
+    // when & then
+    assertThat(chain.providers())
+        .extracting(ReverseGeocodingProvider::getProviderName)
+        .containsExactly("NEOGEO", "NAVER");
+  }
+
+  private ReverseGeocodingProviderChain chain(ReverseGeocodingProvider... providers) {
+    return new ReverseGeocodingProviderChain(
+        List.of(providers),
+        CIRCUIT_BREAKER,
+        new AddressRefinementProperties.Reordering(true, Duration.ofMillis(50), 1.0),
+        null,
+        clock::get);
+  }
+
+  /** 지정한 지연 후 성공하거나 즉시 실패하는 테스트용 Provider */
+  private static class StubProvider implements ReverseGeocodingProvider {
+
+    private final String name;
+    private final long delayMillis;
+    private final boolean fail;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private StubProvider(String name, long delayMillis, boolean fail) {
+      this.name = name;
+      this.delayMillis = delayMillis;
+      this.fail = fail;
+    }
+
+    static StubProvider success(String name, long delayMillis) {
+      return new StubProvider(name, delayMillis, false);
+    }
+
+    static StubProvider failure(String name) {
+      return new StubProvider(name, 0, true);
+    }
+
+    int calls() {
+      return calls.get();
+    }
+
+    @Override
+    public String getProviderName() {
+      return name;
+    }
+
+    @Override
+    public Address reverseGeocode(LatLng latLng) {
+      calls.incrementAndGet();
+      if (fail) {
+        throw new RuntimeException(name + " API 실패");
+      }
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new Address(name + " 지번", name + " 도로명", null);
+    }
+  }
+}
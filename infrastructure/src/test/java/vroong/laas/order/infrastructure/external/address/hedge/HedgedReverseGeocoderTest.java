@@ -0,0 +1,238 @@
+package vroong.laas.order.infrastructure.external.address.hedge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import vroong.laas.order.core.domain.address.exception.AddressRefineFailedException;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.infrastructure.external.address.config.AddressRefinementProperties;
+import vroong.laas.order.infrastructure.external.address.provider.ReverseGeocodingProvider;
+
+@DisplayName("HedgedReverseGeocoder 테스트")
+class HedgedReverseGeocoderTest {
+
+  private static final LatLng LAT_LNG =
+      new LatLng(new BigDecimal("37.5012"), new BigDecimal("127.0396"));
+
+  private SimpleMeterRegistry meterRegistry;
+  private HedgedReverseGeocoder hedgedReverseGeocoder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    hedgedReverseGeocoder =
+        HedgedReverseGeocoder.create(
+            new AddressRefinementProperties.Hedging(
+                true,
+                Duration.ofMillis(100),
+                Duration.ofMillis(10),
+                Duration.ofSeconds(1),
+                0.95,
+                10,
+                5),
+            meterRegistry,
+            mdcPropagating());
+  }
+
+  @AfterEach
+  void tearDown() {
+    hedgedReverseGeocoder.close();
+    MDC.clear();
+  }
+
+  @Test
+  @DisplayName("첫 번째 Provider가 Hedge Delay 안에 응답하면 다음 Provider를 호출하지 않음")
+  void primary_answers_within_delay() {
+    // given
+    StubProvider neogeo = StubProvider.success("NEOGEO", 0);
+    StubProvider naver = StubProvider.success("NAVER", 0);
+
+    // when
+    Address result = hedgedReverseGeocoder.reverseGeocode(List.of(neogeo, naver), LAT_LNG);
+
+    // then
+    assertThat(result.roadAddress()).isEqualTo("NEOGEO 도로명");
+    assertThat(naver.calls()).isZero();
+    assertThat(winCount("NEOGEO", false)).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("첫 번째 Provider가 느리면 다음 Provider를 병렬 호출하고 먼저 성공한 응답 사용")
+  void slow_primary_is_hedged() {
+    // given
+    StubProvider neogeo = StubProvider.success("NEOGEO", 3000);
+    StubProvider naver = StubProvider.success("NAVER", 0);
+
+    // when
+    long startedAt = System.nanoTime();
+    Address result = hedgedReverseGeocoder.reverseGeocode(List.of(neogeo, naver), LAT_LNG);
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+    // then
+    assertThat(result.roadAddress()).isEqualTo("NAVER 도로명");
+    assertThat(elapsedMillis).isLessThan(3000);
+    assertThat(
+            meterRegistry
+                .get("address.refinement.hedge.fired")
+                .tag("provider", "NAVER")
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+    assertThat(winCount("NAVER", true)).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("첫 번째 Provider가 실패하면 Hedge Delay를 기다리지 않고 다음 Provider 호출")
+  void failed_primary_falls_back_immediately() {
+    // given
+    StubProvider neogeo = StubProvider.failure("NEOGEO");
+    StubProvider naver = StubProvider.success("NAVER", 0);
+
+    // when
+    Address result = hedgedReverseGeocoder.reverseGeocode(List.of(neogeo, naver), LAT_LNG);
+
+    // then
+    assertThat(result.roadAddress()).isEqualTo("NAVER 도로명");
+    assertThat(winCount("NAVER", false)).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("모든 Provider 실패 시 AddressRefineFailedException 발생")
+  void all_providers_fail() {
+    // given
+    StubProvider neogeo = StubProvider.failure("NEOGEO");
+    StubProvider naver = StubProvider.failure("NAVER");
+
+    // when & then
+    assertThatThrownBy(
+            () -> hedgedReverseGeocoder.reverseGeocode(List.of(neogeo, naver), LAT_LNG))
+        .isInstanceOf(AddressRefineFailedException.class)
+        .hasMessageContaining("모든 역지오코딩 서비스가 실패했습니다");
+  }
+
+  @Test
+  @DisplayName("샘플이 쌓이면 Hedge Delay는 최근 응답 시간 백분위수를 따름")
+  void hedge_delay_adapts_to_recent_latency() {
+    // given
+    StubProvider neogeo = StubProvider.success("NEOGEO", 30);
+    assertThat(hedgedReverseGeocoder.hedgeDelay(neogeo)).isEqualTo(Duration.ofMillis(100));
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      hedgedReverseGeocoder.reverseGeocode(List.of(neogeo), LAT_LNG);
+    }
+
+    // then
+    assertThat(hedgedReverseGeocoder.hedgeDelay(neogeo))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(30))
+        .isLessThan(Duration.ofMillis(100));
+  }
+
+  @Test
+  @DisplayName("Hedge 로 추가 호출된 Provider 스레드에도 요청 스레드의 MDC(traceId) 전파")
+  void hedged_call_carries_request_context() {
+    // given
+    StubProvider neogeo = StubProvider.success("NEOGEO", 3000);
+    StubProvider naver = StubProvider.success("NAVER", 0);
+    MDC.put("traceId", "trace-123");
+
+    // when
+    hedgedReverseGeocoder.reverseGeocode(List.of(neogeo, naver), LAT_LNG);
+
+    // then
+    assertThat(neogeo.traceId()).isEqualTo("trace-123");
+    assertThat(naver.traceId()).isEqualTo("trace-123");
+  }
+
+  /** 제출 시점의 MDC 를 실행 스레드로 복사하는 Decorator (ContextPropagatingTaskDecorator 대용) */
+  private static TaskDecorator mdcPropagating() {
+    return task -> {
+      Map<String, String> context = MDC.getCopyOfContextMap();
+      return () -> {
+        if (context != null) {
+          MDC.setContextMap(context);
+        }
+        try {
+          task.run();
+        } finally {
+          MDC.clear();
+        }
+      };
+    };
+  }
+
+  private double winCount(String provider, boolean hedged) {
+    return meterRegistry
+        .get("address.refinement.provider.wins")
+        .tag("provider", provider)
+        .tag("hedged", String.valueOf(hedged))
+        .counter()
+        .count();
+  }
+
+  /** 지정한 지연 후 성공하거나 즉시 실패하는 테스트용 Provider */
+  private static class StubProvider implements ReverseGeocodingProvider {
+
+    private final String name;
+    private final long delayMillis;
+    private final boolean fail;
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile String traceId;
+
+    private StubProvider(String name, long delayMillis, boolean fail) {
+      this.name = name;
+      this.delayMillis = delayMillis;
+      this.fail = fail;
+    }
+
+    static StubProvider success(String name, long delayMillis) {
+      return new StubProvider(name, delayMillis, false);
+    }
+
+    static StubProvider failure(String name) {
+      return new StubProvider(name, 0, true);
+    }
+
+    int calls() {
+      return calls.get();
+    }
+
+    String traceId() {
+      return traceId;
+    }
+
+    @Override
+    public String getProviderName() {
+      return name;
+    }
+
+    @Override
+    public Address reverseGeocode(LatLng latLng) {
+      calls.incrementAndGet();
+      traceId = MDC.get("traceId");
+      if (fail) {
+        throw new RuntimeException(name + " API 실패");
+      }
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(name + " 호출 취소");
+      }
+      return new Address(name + " 지번", name + " 도로명", null);
+    }
+  }
+}
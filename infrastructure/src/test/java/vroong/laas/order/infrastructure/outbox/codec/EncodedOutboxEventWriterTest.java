@@ -0,0 +1,87 @@
+package vroong.laas.order.infrastructure.outbox.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+@DisplayName("EncodedOutboxEventWriter 테스트 (H2)")
+class EncodedOutboxEventWriterTest {
+
+  private static final String JSON =
+      "{\"eventType\":\"ORDER_CREATED\",\"payload\":{\"orderId\":1,"
+          + "\"originLocation\":{\"contactName\":\"홍길동\",\"roadAddress\":\"서울시 강남구 테헤란로\"},"
+          + "\"destinationLocation\":{\"contactName\":\"김철수\",\"roadAddress\":\"서울시 강남구 테헤란로\"}}}";
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private EncodedOutboxEventWriter sut;
+
+  @BeforeEach
+  void setUp() {
+    // LAST_INSERT_ID() 는 Connection 별 값이므로 트랜잭션처럼 Connection 하나를 공유
+    dataSource = new SingleConnectionDataSource("jdbc:h2:mem:encoded-outbox;MODE=MySQL", true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        "CREATE TABLE outbox_events (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+            + " event_id VARCHAR(36) NOT NULL, event_type VARCHAR(100) NOT NULL,"
+            + " event_key VARCHAR(255) NOT NULL, payload TEXT NULL,"
+            + " payload_codec VARCHAR(20) NOT NULL DEFAULT 'JSON', payload_blob BLOB NULL,"
+            + " status VARCHAR(20) NOT NULL)");
+    sut = new EncodedOutboxEventWriter(jdbcTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP TABLE outbox_events");
+    dataSource.destroy();
+  }
+
+  @Test
+  @DisplayName("라이브러리가 저장한 JSON 을 그대로 인코딩하고 payload 는 비움")
+  void encodes_library_json_in_place() {
+    // given
+    registerByLibrary("ORD-1");
+
+    // when
+    boolean encoded = sut.encodeRegistered("ORD-1", OutboxPayloadCodec.DEFLATE);
+
+    // then
+    Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM outbox_events");
+    assertThat(encoded).isTrue();
+    assertThat(row.get("payload")).isNull();
+    assertThat(row.get("payload_codec")).isEqualTo("DEFLATE");
+    assertThat(OutboxPayloadCodec.DEFLATE.decode((byte[]) row.get("payload_blob")))
+        .isEqualTo(JSON);
+  }
+
+  @Test
+  @DisplayName("방금 저장한 Row 의 키가 다르면 JSON 그대로 둠")
+  void leaves_row_untouched_when_key_differs() {
+    // given
+    registerByLibrary("ORD-1");
+
+    // when
+    boolean encoded = sut.encodeRegistered("ORD-2", OutboxPayloadCodec.DEFLATE);
+
+    // then
+    Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM outbox_events");
+    assertThat(encoded).isFalse();
+    assertThat(row.get("payload")).isEqualTo(JSON);
+    assertThat(row.get("payload_codec")).isEqualTo("JSON");
+  }
+
+  /** OutboxEventService.registerEvent() 가 남기는 Row */
+  private void registerByLibrary(String eventKey) {
+    jdbcTemplate.update(
+        "INSERT INTO outbox_events (event_id, event_type, event_key, payload, status)"
+            + " VALUES (RANDOM_UUID(), 'ORDER_CREATED', ?, ?, 'PENDING')",
+        eventKey,
+        JSON);
+  }
+}
@@ -0,0 +1,71 @@
+package vroong.laas.order.infrastructure.outbox.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import vroong.laas.order.core.domain.outbox.OutboxEventType;
+
+@DisplayName("OutboxPayloadCodec 테스트")
+class OutboxPayloadCodecTest {
+
+  private static final String JSON =
+      "{\"eventType\":\"ORDER_CREATED\",\"payload\":{\"orderId\":1,"
+          + "\"originLocation\":{\"contactName\":\"홍길동\",\"roadAddress\":\"서울시 강남구 테헤란로\"},"
+          + "\"destinationLocation\":{\"contactName\":\"김철수\",\"roadAddress\":\"서울시 강남구 테헤란로\"}}}";
+
+  @ParameterizedTest
+  @EnumSource(OutboxPayloadCodec.class)
+  @DisplayName("인코딩 후 디코딩하면 원본 JSON 복원")
+  void encode_then_decode_returns_original(OutboxPayloadCodec codec) {
+    // when
+    String decoded = codec.decode(codec.encode(JSON));
+
+    // then
+    assertThat(decoded).isEqualTo(JSON);
+  }
+
+  @Test
+  @DisplayName("DEFLATE는 반복이 많은 JSON을 원본보다 작게 저장")
+  void deflate_is_smaller_than_json() {
+    // when
+    byte[] json = OutboxPayloadCodec.JSON.encode(JSON);
+    byte[] deflate = OutboxPayloadCodec.DEFLATE.encode(JSON);
+
+    // then
+    assertThat(deflate.length).isLessThan(json.length);
+  }
+
+  @Test
+  @DisplayName("손상된 DEFLATE 페이로드는 예외 발생")
+  void deflate_decode_corrupted_throws() {
+    // given
+    byte[] encoded = OutboxPayloadCodec.DEFLATE.encode(JSON);
+    byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+    // when & then
+    assertThatThrownBy(() -> OutboxPayloadCodec.DEFLATE.decode(truncated))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("손상된 DEFLATE 페이로드");
+  }
+
+  @Test
+  @DisplayName("설정이 없는 이벤트 타입은 JSON Codec")
+  void codecOf_defaults_to_json() {
+    // given
+    OutboxPayloadProperties empty = new OutboxPayloadProperties(Map.of());
+    OutboxPayloadProperties deflate =
+        new OutboxPayloadProperties(
+            Map.of(OutboxEventType.ORDER_CREATED, OutboxPayloadCodec.DEFLATE));
+
+    // when & then
+    assertThat(empty.codecOf(OutboxEventType.ORDER_CREATED)).isEqualTo(OutboxPayloadCodec.JSON);
+    assertThat(deflate.codecOf(OutboxEventType.ORDER_CREATED))
+        .isEqualTo(OutboxPayloadCodec.DEFLATE);
+  }
+}
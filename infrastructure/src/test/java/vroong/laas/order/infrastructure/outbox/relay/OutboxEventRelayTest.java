@@ -0,0 +1,235 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxKafkaSender.BatchResult;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxKafkaSender.Failure;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventRelay 테스트")
+class OutboxEventRelayTest {
+
+  private static final OutboxPartition PARTITION = new OutboxPartition(1, 4);
+  private static final int MAX_RETRIES = 3;
+  private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(1);
+  private static final Instant CREATED_AT = Instant.parse("2025-01-21T00:00:00Z");
+
+  @Mock private OutboxEventJdbcRepository repository;
+  @Mock private OutboxKafkaSender sender;
+
+  private final TrackingTransactions transactions = new TrackingTransactions();
+  private OutboxEventRelay sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new OutboxEventRelay(repository, sender, transactions, MAX_RETRIES, LEASE_TIMEOUT);
+  }
+
+  @Test
+  @DisplayName("Lease를 잡고 조회한 이벤트를 id 순서대로 발행 후 PUBLISHED 처리하고 Lease 반납")
+  void relay_publishes_in_id_order() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(true);
+    given(repository.findPending(PARTITION, 10)).willReturn(List.of(row(1L), row(2L)));
+    given(sender.sendAll(List.of(row(1L), row(2L))))
+        .willReturn(new BatchResult(List.of(row(1L), row(2L)), List.of()));
+
+    // when
+    int published = sut.relay(PARTITION, 10);
+
+    // then
+    assertThat(published).isEqualTo(2);
+    ArgumentCaptor<String> leaseToken = ArgumentCaptor.forClass(String.class);
+    InOrder inOrder = inOrder(sender, repository);
+    inOrder.verify(repository).tryAcquireLease(eq(PARTITION), leaseToken.capture(), any());
+    inOrder.verify(sender).sendAll(List.of(row(1L), row(2L)));
+    inOrder.verify(repository).markPublished(List.of(key(1L), key(2L)));
+    inOrder.verify(repository).releaseLease(PARTITION, leaseToken.getValue());
+  }
+
+  @Test
+  @DisplayName("Kafka 전송은 선점 트랜잭션 커밋 후, 완료 트랜잭션 시작 전에 실행 (Ack 대기 중 Lock 없음)")
+  void relay_sends_outside_transaction() {
+    // given
+    AtomicBoolean sentInTransaction = new AtomicBoolean(true);
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(true);
+    given(repository.findPending(PARTITION, 10)).willReturn(List.of(row(1L)));
+    given(sender.sendAll(List.of(row(1L))))
+        .willAnswer(
+            invocation -> {
+              sentInTransaction.set(transactions.active);
+              return new BatchResult(List.of(row(1L)), List.of());
+            });
+
+    // when
+    sut.relay(PARTITION, 10);
+
+    // then
+    assertThat(sentInTransaction).isFalse();
+    assertThat(transactions.executed).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 Partition Lease를 가지고 있으면 조회 없이 종료")
+  void relay_skips_partition_leased_by_other_instance() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(false);
+
+    // when
+    int published = sut.relay(PARTITION, 10);
+
+    // then
+    assertThat(published).isZero();
+    verify(repository, never()).findPending(PARTITION, 10);
+    verify(repository, never()).releaseLease(eq(PARTITION), anyString());
+  }
+
+  @Test
+  @DisplayName("발행 실패 시 Ack 받은 이벤트만 PUBLISHED 처리하고 실패를 기록")
+  void relay_records_failure_and_stops() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(true);
+    given(repository.findPending(PARTITION, 10)).willReturn(List.of(row(1L), row(2L), row(3L)));
+    given(sender.sendAll(List.of(row(1L), row(2L), row(3L))))
+        .willReturn(
+            new BatchResult(
+                List.of(row(1L)),
+                List.of(new Failure(row(2L), new OutboxPublishException("Kafka 전송 실패")))));
+
+    // when
+    int published = sut.relay(PARTITION, 10);
+
+    // then
+    assertThat(published).isEqualTo(1);
+    verify(repository).markPublished(List.of(key(1L)));
+    verify(repository).recordFailure(row(2L), "Kafka 전송 실패", MAX_RETRIES);
+    verify(repository).releaseLease(eq(PARTITION), anyString());
+  }
+
+  @Test
+  @DisplayName("첫 이벤트부터 실패하면 PUBLISHED 처리 없이 실패만 기록")
+  void relay_records_failure_of_first_event() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(true);
+    given(repository.findPending(PARTITION, 10)).willReturn(List.of(row(1L), row(2L)));
+    given(sender.sendAll(List.of(row(1L), row(2L))))
+        .willReturn(
+            new BatchResult(
+                List.of(),
+                List.of(new Failure(row(1L), new OutboxPublishException("Topic 설정이 없습니다")))));
+
+    // when
+    int published = sut.relay(PARTITION, 10);
+
+    // then
+    assertThat(published).isZero();
+    verify(repository).recordFailure(row(1L), "Topic 설정이 없습니다", MAX_RETRIES);
+    verify(repository, never()).markPublished(anyList());
+  }
+
+  @Test
+  @DisplayName("미전송 이벤트가 없으면 전송 없이 Lease 반납")
+  void relay_without_pending_events() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(true);
+    given(repository.findPending(PARTITION, 10)).willReturn(List.of());
+
+    // when
+    int published = sut.relay(PARTITION, 10);
+
+    // then
+    assertThat(published).isZero();
+    verify(sender, never()).sendAll(anyList());
+    verify(repository).releaseLease(eq(PARTITION), anyString());
+  }
+
+  @Test
+  @DisplayName("Fast Path: 같은 Partition Lease를 잡고 지정한 event_key의 이벤트만 발행")
+  void relayKeys_publishes_only_given_keys() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(true);
+    given(repository.findPendingByKeys(List.of("100"), 10)).willReturn(List.of(row(1L)));
+    given(sender.sendAll(List.of(row(1L))))
+        .willReturn(new BatchResult(List.of(row(1L)), List.of()));
+
+    // when
+    int published = sut.relayKeys(PARTITION, List.of("100"), 10);
+
+    // then
+    assertThat(published).isEqualTo(1);
+    verify(repository).markPublished(List.of(key(1L)));
+    verify(repository, never()).findPending(PARTITION, 10);
+  }
+
+  @Test
+  @DisplayName("Fast Path: Polling Job이 Partition을 처리 중이면 Job에 맡김 (중복 발행 없음)")
+  void relayKeys_leaves_partition_to_job() {
+    // given
+    given(repository.tryAcquireLease(eq(PARTITION), anyString(), eq(LEASE_TIMEOUT)))
+        .willReturn(false);
+
+    // when
+    int published = sut.relayKeys(PARTITION, List.of("100"), 10);
+
+    // then
+    assertThat(published).isZero();
+    verify(sender, never()).sendAll(anyList());
+  }
+
+  private OutboxEventKey key(long id) {
+    return new OutboxEventKey(id, CREATED_AT);
+  }
+
+  private OutboxEventRow row(long id) {
+    return new OutboxEventRow(
+        id, "event-" + id, "ORDER_CREATED", "100", "{\"orderId\":100}", 0, CREATED_AT);
+  }
+
+  /** 트랜잭션 실행 여부와 횟수를 기록하는 TransactionOperations */
+  private static final class TrackingTransactions implements TransactionOperations {
+
+    private boolean active;
+    private int executed;
+
+    @Override
+    public <T> T execute(TransactionCallback<T> action) {
+      active = true;
+      executed++;
+      try {
+        return action.doInTransaction(null);
+      } finally {
+        active = false;
+      }
+    }
+  }
+}
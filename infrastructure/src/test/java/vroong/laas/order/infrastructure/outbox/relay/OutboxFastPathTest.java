@@ -0,0 +1,105 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxFastPath 테스트")
+class OutboxFastPathTest {
+
+  private static final int PARTITIONS = 4;
+  private static final int BATCH_SIZE = 10;
+
+  @Mock private OutboxEventRelay relay;
+
+  private OutboxFastPath sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new OutboxFastPath(relay, PARTITIONS, BATCH_SIZE, Runnable::run);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.unbindResourceIfPossible(sut);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("커밋 후 트랜잭션에서 저장한 event_key를 Partition별로 발행")
+  void publishes_event_keys_after_commit() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    sut.publishAfterCommit("100");
+    sut.publishAfterCommit("100");
+
+    // when
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+
+    // then
+    verify(relay).relayKeys(OutboxPartition.of("100", PARTITIONS), Set.of("100"), BATCH_SIZE);
+  }
+
+  @Test
+  @DisplayName("롤백되면 발행하지 않음")
+  void skips_rolled_back_transaction() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    sut.publishAfterCommit("100");
+
+    // when
+    complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    // then
+    verify(relay, never()).relayKeys(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖에서 호출되면 아무것도 하지 않음")
+  void ignores_call_outside_transaction() {
+    // when
+    sut.publishAfterCommit("100");
+
+    // then
+    verifyNoInteractions(relay);
+  }
+
+  @Test
+  @DisplayName("발행 실패는 Polling Job에 맡기고 예외를 전파하지 않음")
+  void swallows_relay_failure() {
+    // given
+    willThrow(new IllegalStateException("DB 연결 실패"))
+        .given(relay)
+        .relayKeys(any(), any(), anyInt());
+    TransactionSynchronizationManager.initSynchronization();
+    sut.publishAfterCommit("100");
+
+    // when & then (예외 없음)
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+  }
+
+  private void complete(int status) {
+    for (TransactionSynchronization synchronization :
+        TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(status);
+    }
+  }
+}
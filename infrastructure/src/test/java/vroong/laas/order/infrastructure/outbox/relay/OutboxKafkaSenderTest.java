@@ -0,0 +1,229 @@
+package vroong.laas.order.infrastructure.outbox.relay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxKafkaSender.BatchResult;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxKafkaSender.Failure;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxRelayProperties.FastPath;
+import vroong.laas.order.infrastructure.outbox.relay.OutboxRelayProperties.Producer;
+
+/**
+ * OutboxKafkaSender 테스트
+ *
+ * <p>Kafka 대신 MockProducer(kafka-clients 제공 In-Memory Producer)로 일괄 전송과 Ack 처리를 검증합니다.
+ */
+@DisplayName("OutboxKafkaSender 테스트")
+class OutboxKafkaSenderTest {
+
+  private static final String DEFAULT_TOPIC = "order.order.events";
+  private static final Instant CREATED_AT = Instant.parse("2025-01-21T00:00:00Z");
+
+  @Test
+  @DisplayName("이벤트를 모두 보낸 뒤 Ack를 확인하고 라이브러리 Topic으로 Key/Value만 그대로 전송")
+  void sendAll_sends_whole_batch() {
+    // given
+    MockProducer<String, String> producer = mockProducer(true);
+    OutboxKafkaSender sut = new OutboxKafkaSender(producer, properties(Map.of(), 1000));
+
+    // when
+    BatchResult result = sut.sendAll(List.of(row(1L, "100"), row(2L, "200")));
+
+    // then
+    assertThat(result.acked()).containsExactly(row(1L, "100"), row(2L, "200"));
+    assertThat(result.failures()).isEmpty();
+    assertThat(producer.history()).hasSize(2);
+    ProducerRecord<String, String> first = producer.history().getFirst();
+    assertThat(first.topic()).isEqualTo(DEFAULT_TOPIC);
+    assertThat(first.key()).isEqualTo("100");
+    assertThat(first.value()).isEqualTo("{\"id\":1}");
+    assertThat(first.headers().toArray()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("서로 다른 key의 이벤트는 Ack를 기다리기 전에 모두 Producer에 넣고, 실패한 이벤트만 제외")
+  void sendAll_sends_different_keys_together() throws Exception {
+    // given
+    MockProducer<String, String> producer = mockProducer(false);
+    OutboxKafkaSender sut = new OutboxKafkaSender(producer, properties(Map.of(), 5000));
+    List<OutboxEventRow> rows = List.of(row(1L, "100"), row(2L, "200"), row(3L, "300"));
+
+    // when
+    CompletableFuture<BatchResult> result = CompletableFuture.supplyAsync(() -> sut.sendAll(rows));
+    awaitSent(producer, 3);  // Ack 전에 3건 모두 전송됨
+    producer.completeNext();
+    producer.errorNext(new IllegalStateException("broker down"));
+    producer.completeNext();
+
+    // then
+    BatchResult batchResult = result.get(5, TimeUnit.SECONDS);
+    assertThat(batchResult.acked()).containsExactly(row(1L, "100"), row(3L, "300"));
+    assertThat(batchResult.failures()).extracting(Failure::row).containsExactly(row(2L, "200"));
+    assertThat(batchResult.failures().getFirst().cause())
+        .hasMessageContaining("event-2")
+        .hasMessageContaining("broker down");
+  }
+
+  @Test
+  @DisplayName("같은 key의 이벤트는 앞 이벤트 Ack 후에만 보내고, 실패하면 뒤 이벤트는 보내지 않음")
+  void sendAll_stops_key_at_first_failure() throws Exception {
+    // given
+    MockProducer<String, String> producer = mockProducer(false);
+    OutboxKafkaSender sut = new OutboxKafkaSender(producer, properties(Map.of(), 5000));
+    List<OutboxEventRow> rows = List.of(row(1L, "100"), row(2L, "100"), row(3L, "200"));
+
+    // when
+    CompletableFuture<BatchResult> result = CompletableFuture.supplyAsync(() -> sut.sendAll(rows));
+    awaitSent(producer, 2);  // 1번, 3번만 전송 (2번은 1번 Ack 대기)
+    producer.errorNext(new IllegalStateException("broker down"));
+    producer.completeNext();
+
+    // then
+    BatchResult batchResult = result.get(5, TimeUnit.SECONDS);
+    assertThat(batchResult.acked()).containsExactly(row(3L, "200"));
+    assertThat(batchResult.failures()).extracting(Failure::row).containsExactly(row(1L, "100"));
+    assertThat(producer.history()).extracting(ProducerRecord::value).doesNotContain("{\"id\":2}");
+  }
+
+  @Test
+  @DisplayName("Topic 설정이 없는 이벤트는 전송하지 않고 실패 처리")
+  void sendAll_fails_without_topic() {
+    // given
+    MockProducer<String, String> producer = mockProducer(true);
+    OutboxKafkaSender sut =
+        new OutboxKafkaSender(producer, properties(null, Map.of("ORDER_CREATED", "created"), 1000));
+
+    // when
+    BatchResult result =
+        sut.sendAll(List.of(row(1L, "100", "ORDER_CREATED"), row(2L, "200", "UNKNOWN")));
+
+    // then
+    assertThat(result.acked()).containsExactly(row(1L, "100", "ORDER_CREATED"));
+    assertThat(result.failures().getFirst().cause()).hasMessageContaining("Topic 설정이 없습니다");
+    assertThat(producer.history()).extracting(ProducerRecord::topic).containsExactly("created");
+  }
+
+  @Test
+  @DisplayName("delivery.timeout(send-timeout) + 여유 시간 안에 Ack가 오지 않으면 Timeout 실패")
+  void sendAll_times_out() {
+    // given - Ack 를 완료시키지 않음
+    MockProducer<String, String> producer = mockProducer(false);
+    OutboxKafkaSender sut = new OutboxKafkaSender(producer, properties(Map.of(), 50));
+
+    // when
+    BatchResult result = sut.sendAll(List.of(row(1L, "100")));
+
+    // then
+    assertThat(result.acked()).isEmpty();
+    assertThat(result.failures().getFirst().cause())
+        .hasMessageContaining("Kafka Ack Timeout (1050ms)");
+  }
+
+  @Test
+  @DisplayName("Lease 유효 시간이 Ack 대기 시간보다 짧으면 설정 오류")
+  void rejects_lease_timeout_shorter_than_ack_wait() {
+    assertThatThrownBy(() -> properties(Map.of(), 5000, Duration.ofSeconds(6)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("lease-timeout");
+  }
+
+  @Test
+  @DisplayName("Relay: 선점한 batch를 한 번에 전송하고 한 번의 UPDATE로 PUBLISHED 처리")
+  void relay_publishes_batch_with_single_update() {
+    // given
+    MockProducer<String, String> producer = mockProducer(true);
+    OutboxEventJdbcRepository repository = mock(OutboxEventJdbcRepository.class);
+    OutboxPartition partition = new OutboxPartition(0, 4);
+    List<OutboxEventRow> rows = List.of(row(1L, "100"), row(2L, "200"), row(3L, "300"));
+    given(repository.tryAcquireLease(eq(partition), anyString(), any())).willReturn(true);
+    given(repository.findPending(partition, 10)).willReturn(rows);
+
+    OutboxEventRelay sut =
+        new OutboxEventRelay(
+            repository,
+            new OutboxKafkaSender(producer, properties(Map.of(), 1000)),
+            TransactionOperations.withoutTransaction(),
+            3,
+            Duration.ofMinutes(1));
+
+    // when
+    int published = sut.relay(partition, 10);
+
+    // then
+    assertThat(published).isEqualTo(3);
+    assertThat(producer.history()).hasSize(3);
+    verify(repository).markPublished(List.of(key(1L), key(2L), key(3L)));
+  }
+
+  private static MockProducer<String, String> mockProducer(boolean autoComplete) {
+    return new MockProducer<>(autoComplete, null, new StringSerializer(), new StringSerializer());
+  }
+
+  private static OutboxRelayProperties properties(Map<String, String> topics, long timeoutMs) {
+    return properties(DEFAULT_TOPIC, topics, timeoutMs, Duration.ofMinutes(1));
+  }
+
+  private static OutboxRelayProperties properties(
+      Map<String, String> topics, long timeoutMs, Duration leaseTimeout) {
+    return properties(DEFAULT_TOPIC, topics, timeoutMs, leaseTimeout);
+  }
+
+  private static OutboxRelayProperties properties(
+      String defaultTopic, Map<String, String> topics, long timeoutMs) {
+    return properties(defaultTopic, topics, timeoutMs, Duration.ofMinutes(1));
+  }
+
+  private static OutboxRelayProperties properties(
+      String defaultTopic, Map<String, String> topics, long timeoutMs, Duration leaseTimeout) {
+    return new OutboxRelayProperties(
+        defaultTopic,
+        topics,
+        Duration.ofMillis(timeoutMs),
+        leaseTimeout,
+        3,
+        4,
+        new Producer(Duration.ofMillis(5), 65536, "lz4"),
+        new FastPath(false, 2, 1000, 100));
+  }
+
+  private static void awaitSent(MockProducer<String, String> producer, int count)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (producer.history().size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(producer.history()).hasSize(count);
+  }
+
+  private static OutboxEventKey key(long id) {
+    return new OutboxEventKey(id, CREATED_AT);
+  }
+
+  private static OutboxEventRow row(long id, String eventKey) {
+    return row(id, eventKey, "ORDER_CREATED");
+  }
+
+  private static OutboxEventRow row(long id, String eventKey, String eventType) {
+    return new OutboxEventRow(
+        id, "event-" + id, eventType, eventKey, "{\"id\":" + id + "}", 0, CREATED_AT);
+  }
+}
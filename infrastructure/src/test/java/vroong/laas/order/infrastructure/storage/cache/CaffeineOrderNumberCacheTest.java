@@ -0,0 +1,88 @@
+package vroong.laas.order.infrastructure.storage.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vroong.laas.order.core.domain.order.OrderNumber;
+
+@DisplayName("CaffeineOrderNumberCache 테스트")
+class CaffeineOrderNumberCacheTest {
+
+  private static final OrderNumber ORDER_NUMBER = OrderNumber.of("ORD-20250115100000001");
+
+  @Test
+  @DisplayName("첫 조회만 DB를 읽고 이후에는 캐시된 ID를 반환")
+  void loads_once_then_hits() {
+    // given
+    CaffeineOrderNumberCache sut = CaffeineOrderNumberCache.create(properties(true), null);
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    sut.getOrLoad(ORDER_NUMBER, number -> Optional.of(1L + calls.getAndIncrement()));
+    Optional<Long> result =
+        sut.getOrLoad(ORDER_NUMBER, number -> Optional.of(1L + calls.getAndIncrement()));
+
+    // then
+    assertThat(result).contains(1L);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("없는 주문번호는 캐시하지 않음")
+  void does_not_cache_missing_order() {
+    // given
+    CaffeineOrderNumberCache sut = CaffeineOrderNumberCache.create(properties(true), null);
+    sut.getOrLoad(ORDER_NUMBER, number -> Optional.empty());
+
+    // when
+    Optional<Long> result = sut.getOrLoad(ORDER_NUMBER, number -> Optional.of(1L));
+
+    // then
+    assertThat(result).contains(1L);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 저장한 매핑은 커밋 후에만 조회됨")
+  void put_in_transaction_applies_after_commit() {
+    // given
+    CaffeineOrderNumberCache sut = CaffeineOrderNumberCache.create(properties(true), null);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      sut.put(ORDER_NUMBER, 1L);
+
+      // when & then: 커밋 전에는 DB 조회
+      assertThat(sut.getOrLoad(ORDER_NUMBER, number -> Optional.empty())).isEmpty();
+
+      // when & then: 커밋 후에는 캐시에서 조회
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      assertThat(sut.getOrLoad(ORDER_NUMBER, number -> Optional.empty())).contains(1L);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("비활성 캐시는 항상 DB를 읽음")
+  void disabled_cache_always_loads() {
+    // given
+    CaffeineOrderNumberCache sut = CaffeineOrderNumberCache.create(properties(false), null);
+    sut.put(ORDER_NUMBER, 1L);
+
+    // when
+    Optional<Long> result = sut.getOrLoad(ORDER_NUMBER, number -> Optional.empty());
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  private OrderCacheProperties properties(boolean enabled) {
+    return new OrderCacheProperties(enabled, 100, Duration.ofMinutes(1), 100);
+  }
+}
@@ -0,0 +1,239 @@
+package vroong.laas.order.infrastructure.storage.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.order.DeliveryPolicy;
+import vroong.laas.order.core.domain.order.Destination;
+import vroong.laas.order.core.domain.order.EntranceInfo;
+import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderNumber;
+import vroong.laas.order.core.domain.order.OrderStatus;
+import vroong.laas.order.core.domain.order.Origin;
+import vroong.laas.order.core.domain.order.required.OrderSharedCacheStore;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.Contact;
+import vroong.laas.order.core.domain.shared.LatLng;
+
+@DisplayName("TwoTierOrderCache 테스트")
+class TwoTierOrderCacheTest {
+
+  private static final Long ORDER_ID = 1L;
+
+  @Test
+  @DisplayName("첫 조회만 DB를 읽고 이후에는 캐시에서 반환")
+  void loads_once_then_hits() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(true), null, meterRegistry);
+    CountingLoader loader = new CountingLoader(order(1L, "역삼동 1"));
+
+    // when
+    sut.getOrLoad(ORDER_ID, loader);
+    Optional<Order> cached = sut.getOrLoad(ORDER_ID, loader);
+
+    // then
+    assertThat(cached).get().extracting(Order::getVersion).isEqualTo(1L);
+    assertThat(loader.calls.get()).isEqualTo(1);
+    assertThat(meterRegistry.get("order.cache.load").timer().count()).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", TwoTierOrderCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("반환된 Order를 변경해도 캐시 항목은 그대로")
+  void returns_copies() {
+    // given
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(true), null, null);
+    CountingLoader loader = new CountingLoader(order(1L, "역삼동 1"));
+    Order first = sut.getOrLoad(ORDER_ID, loader).orElseThrow();
+
+    // when
+    first.changeDestinationAddress(
+        new Address("서초동 2", "서울시 서초구 강남대로 2", null),
+        new LatLng(new BigDecimal("37.4833"), new BigDecimal("127.0324")),
+        EntranceInfo.empty());
+    Order second = sut.getOrLoad(ORDER_ID, loader).orElseThrow();
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getDestination().address().jibnunAddress()).isEqualTo("역삼동 1");
+  }
+
+  @Test
+  @DisplayName("무효화 이후에는 무효화 버전보다 낮은 버전을 캐시하지 않음")
+  void tombstone_rejects_stale_version() {
+    // given
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(true), null, null);
+    sut.invalidate(ORDER_ID, 2L);
+
+    // when: 변경 커밋 전에 읽은 이전 버전을 늦게 저장
+    sut.getOrLoad(ORDER_ID, 1L, new CountingLoader(order(1L, "역삼동 1")));
+    CountingLoader fresh = new CountingLoader(order(2L, "서초동 2"));
+    Optional<Order> result = sut.getOrLoad(ORDER_ID, 2L, fresh);
+
+    // then
+    assertThat(fresh.calls.get()).isEqualTo(1);
+    assertThat(result).get().extracting(Order::getVersion).isEqualTo(2L);
+    assertThat(sut.getOrLoad(ORDER_ID, 2L, fresh))
+        .get()
+        .extracting(Order::getVersion)
+        .isEqualTo(2L);
+    assertThat(fresh.calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("더 높은 버전으로 무효화하면 기존 항목을 다시 읽음")
+  void invalidate_evicts_older_entry() {
+    // given
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(true), null, null);
+    sut.getOrLoad(ORDER_ID, 1L, new CountingLoader(order(1L, "역삼동 1")));
+
+    // when
+    sut.invalidate(ORDER_ID, 2L);
+    CountingLoader fresh = new CountingLoader(order(2L, "서초동 2"));
+    Optional<Order> result = sut.getOrLoad(ORDER_ID, 2L, fresh);
+
+    // then
+    assertThat(fresh.calls.get()).isEqualTo(1);
+    assertThat(result)
+        .get()
+        .extracting(order -> order.getDestination().address().jibnunAddress())
+        .isEqualTo("서초동 2");
+  }
+
+  @Test
+  @DisplayName("조건부 조회: 호출자가 읽은 버전보다 낮은 Near Cache 항목은 다시 읽음 (다른 인스턴스의 변경)")
+  void stale_near_entry_is_reloaded() {
+    // given
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(true), null, null);
+    sut.getOrLoad(ORDER_ID, 1L, new CountingLoader(order(1L, "역삼동 1")));
+
+    // when: 다른 인스턴스에서 변경된 버전 2를 호출자가 orders Row 에서 읽음
+    CountingLoader fresh = new CountingLoader(order(2L, "서초동 2"));
+    Optional<Order> result = sut.getOrLoad(ORDER_ID, 2L, fresh);
+    sut.getOrLoad(ORDER_ID, 2L, fresh);
+
+    // then
+    assertThat(fresh.calls.get()).isEqualTo(1);
+    assertThat(result)
+        .get()
+        .extracting(order -> order.getDestination().address().jibnunAddress())
+        .isEqualTo("서초동 2");
+  }
+
+  @Test
+  @DisplayName("조건부 조회: 공유 캐시 항목도 호출자가 읽은 버전보다 낮으면 사용하지 않음")
+  void stale_shared_entry_is_ignored() {
+    // given
+    OrderSharedCacheStore sharedStore = new InMemorySharedStore(order(1L, "역삼동 1"));
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(true), sharedStore, null);
+    CountingLoader fresh = new CountingLoader(order(2L, "서초동 2"));
+
+    // when
+    Optional<Order> result = sut.getOrLoad(ORDER_ID, 2L, fresh);
+
+    // then
+    assertThat(fresh.calls.get()).isEqualTo(1);
+    assertThat(result).get().extracting(Order::getVersion).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("비활성 캐시는 항상 DB를 읽음")
+  void disabled_cache_always_loads() {
+    // given
+    TwoTierOrderCache sut = TwoTierOrderCache.create(properties(false), null, null);
+    CountingLoader loader = new CountingLoader(order(1L, "역삼동 1"));
+
+    // when
+    sut.getOrLoad(ORDER_ID, loader);
+    sut.getOrLoad(ORDER_ID, loader);
+
+    // then
+    assertThat(loader.calls.get()).isEqualTo(2);
+  }
+
+  private OrderCacheProperties properties(boolean enabled) {
+    return new OrderCacheProperties(enabled, 100, Duration.ofMinutes(1), 100);
+  }
+
+  private Order order(long version, String destinationJibnun) {
+    return new Order(
+        ORDER_ID,
+        OrderNumber.of("ORD-20250115100000001"),
+        OrderStatus.CREATED,
+        List.of(),
+        new Origin(
+            new Contact("홍길동", "010-1234-5678"),
+            new Address("역삼동 123-45", "서울시 강남구 테헤란로", "1층"),
+            new LatLng(new BigDecimal("37.5665"), new BigDecimal("126.9780")),
+            EntranceInfo.empty()),
+        new Destination(
+            new Contact("김철수", "010-9876-5432"),
+            new Address(destinationJibnun, "서울시 강남구 테헤란로 1", null),
+            new LatLng(new BigDecimal("37.5012"), new BigDecimal("127.0396")),
+            EntranceInfo.empty()),
+        new DeliveryPolicy(false, true, false, null, Instant.parse("2025-01-15T10:00:00Z")),
+        Instant.parse("2025-01-15T10:00:00Z"),
+        null,
+        null,
+        version);
+  }
+
+  private static class InMemorySharedStore implements OrderSharedCacheStore {
+
+    private Order order;
+
+    InMemorySharedStore(Order order) {
+      this.order = order;
+    }
+
+    @Override
+    public Optional<Order> get(Long orderId) {
+      return Optional.ofNullable(order);
+    }
+
+    @Override
+    public void put(Order order) {
+      if (this.order == null || order.getVersion() >= this.order.getVersion()) {
+        this.order = order;
+      }
+    }
+
+    @Override
+    public void invalidate(Long orderId, long version) {
+      order = null;
+    }
+  }
+
+  private static class CountingLoader implements Function<Long, Optional<Order>> {
+
+    private final Order order;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    CountingLoader(Order order) {
+      this.order = order;
+    }
+
+    @Override
+    public Optional<Order> apply(Long orderId) {
+      calls.incrementAndGet();
+      return Optional.of(order);
+    }
+  }
+}
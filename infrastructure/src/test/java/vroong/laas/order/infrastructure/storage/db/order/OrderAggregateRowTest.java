@@ -0,0 +1,159 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.order.DeliveryPolicy;
+import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.infrastructure.common.util.JsonUtil;
+
+@DisplayName("OrderAggregateRow 조립 테스트")
+class OrderAggregateRowTest {
+
+  private static final Instant ORDERED_AT = Instant.parse("2025-01-15T10:00:00Z");
+  private static final String POLICY_JSON =
+      JsonUtil.toJson(new DeliveryPolicy(false, true, false, null, ORDERED_AT));
+
+  @Test
+  @DisplayName("아이템 Row 여러 개를 하나의 Order로 조립")
+  void toDomains_groups_item_rows_into_single_order() {
+    // given
+    List<OrderAggregateRow> rows =
+        List.of(
+            row(1L, "ORD-20250115100000001", 10L, 20L, "피자", 1, "20000"),
+            row(1L, "ORD-20250115100000001", 10L, 20L, "콜라", 2, "2000"));
+
+    // when
+    List<Order> orders = OrderAggregateRow.toDomains(rows);
+
+    // then
+    assertThat(orders).hasSize(1);
+    Order order = orders.getFirst();
+    assertThat(order.getId()).isEqualTo(1L);
+    assertThat(order.getOrderNumber().value()).isEqualTo("ORD-20250115100000001");
+    assertThat(order.getStatus())
+        .isEqualTo(vroong.laas.order.core.domain.order.OrderStatus.CREATED);
+    assertThat(order.getItems()).extracting("itemName").containsExactly("피자", "콜라");
+    assertThat(order.getItems().get(1).price().amount()).isEqualByComparingTo("2000");
+    assertThat(order.getOrigin().contact().name()).isEqualTo("홍길동");
+    assertThat(order.getOrigin().latLng().latitude()).isEqualByComparingTo("37.5665");
+    assertThat(order.getDestination().address().detailAddress()).isEqualTo("3층 301호");
+    assertThat(order.getDeliveryPolicy().contactlessDelivery()).isTrue();
+    assertThat(order.getOrderedAt()).isEqualTo(ORDERED_AT);
+    assertThat(order.getVersion()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("아이템이 없는 주문은 빈 아이템 목록으로 조립")
+  void toDomains_without_items() {
+    // given
+    List<OrderAggregateRow> rows =
+        List.of(row(1L, "ORD-20250115100000001", 10L, 20L, null, null, null));
+
+    // when
+    List<Order> orders = OrderAggregateRow.toDomains(rows);
+
+    // then
+    assertThat(orders).hasSize(1);
+    assertThat(orders.getFirst().getItems()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("여러 주문의 Row는 최초 등장 순서대로 각각 조립")
+  void toDomains_keeps_order_of_first_appearance() {
+    // given
+    List<OrderAggregateRow> rows =
+        List.of(
+            row(2L, "ORD-20250115100000002", 11L, 21L, "치킨", 1, "18000"),
+            row(1L, "ORD-20250115100000001", 10L, 20L, "피자", 1, "20000"),
+            row(2L, "ORD-20250115100000002", 11L, 21L, "맥주", 2, "4000"));
+
+    // when
+    List<Order> orders = OrderAggregateRow.toDomains(rows);
+
+    // then
+    assertThat(orders).extracting(Order::getId).containsExactly(2L, 1L);
+    assertThat(orders.getFirst().getItems()).hasSize(2);
+    assertThat(orders.get(1).getItems()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("OrderLocation이 없으면 예외 발생")
+  void toDomains_without_location_throws() {
+    // given
+    List<OrderAggregateRow> rows =
+        List.of(row(1L, "ORD-20250115100000001", null, 20L, "피자", 1, "20000"));
+
+    // when & then
+    assertThatThrownBy(() -> OrderAggregateRow.toDomains(rows))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("OrderLocation이 없습니다");
+  }
+
+  @Test
+  @DisplayName("OrderDeliveryPolicy가 없으면 예외 발생")
+  void toDomains_without_delivery_policy_throws() {
+    // given
+    List<OrderAggregateRow> rows =
+        List.of(row(1L, "ORD-20250115100000001", 10L, null, "피자", 1, "20000"));
+
+    // when & then
+    assertThatThrownBy(() -> OrderAggregateRow.toDomains(rows))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("OrderDeliveryPolicy가 없습니다");
+  }
+
+  private OrderAggregateRow row(
+      Long orderId,
+      String orderNumber,
+      Long locationId,
+      Long deliveryPolicyId,
+      String itemName,
+      Integer quantity,
+      String price) {
+    return new OrderAggregateRow(
+        orderId,
+        orderNumber,
+        OrderStatus.CREATED,
+        ORDERED_AT,
+        null,
+        null,
+        3L,
+        locationId,
+        "홍길동",
+        "010-1234-5678",
+        "1234",
+        "정문 이용",
+        "빠른 배송 부탁드립니다",
+        new BigDecimal("37.5665"),
+        new BigDecimal("126.9780"),
+        "역삼동 123-45",
+        "서울시 강남구 테헤란로",
+        "1층",
+        "김철수",
+        "010-9876-5432",
+        "5678",
+        "후문 이용",
+        "문 앞에 놔주세요",
+        new BigDecimal("37.4833"),
+        new BigDecimal("127.0324"),
+        "서초동 567-89",
+        "서울시 서초구 강남대로",
+        "3층 301호",
+        deliveryPolicyId,
+        deliveryPolicyId != null ? POLICY_JSON : null,
+        itemName,
+        quantity,
+        price != null ? new BigDecimal(price) : null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+}
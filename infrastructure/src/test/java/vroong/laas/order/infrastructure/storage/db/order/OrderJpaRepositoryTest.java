@@ -0,0 +1,223 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import vroong.laas.order.core.domain.order.DeliveryPolicy;
+import vroong.laas.order.core.domain.order.Destination;
+import vroong.laas.order.core.domain.order.EntranceInfo;
+import vroong.laas.order.core.domain.order.Order;
+import vroong.laas.order.core.domain.order.OrderItem;
+import vroong.laas.order.core.domain.order.Origin;
+import vroong.laas.order.core.domain.shared.Address;
+import vroong.laas.order.core.domain.shared.Contact;
+import vroong.laas.order.core.domain.shared.LatLng;
+import vroong.laas.order.core.domain.shared.Money;
+
+/**
+ * OrderJpaRepository 쿼리 수 테스트 (H2)
+ *
+ * <p>Hibernate Statistics 의 PrepareStatement 수로 DB 왕복 횟수를 측정합니다.
+ * (Flyway 마이그레이션은 MySQL 전용이므로 ddl-auto 로 스키마 생성)
+ *
+ * <p>JDBC Batch 설정은 api 모듈 application.yml 과 동일하게 맞춥니다.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+      "spring.jpa.properties.hibernate.order_inserts=true"
+    })
+@DisplayName("OrderJpaRepository 쿼리 수 테스트 (H2)")
+class OrderJpaRepositoryTest {
+
+  private static final Instant ORDERED_AT = Instant.parse("2025-01-15T10:00:00Z");
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private OrderJpaRepository orderJpaRepository;
+  @Autowired private OrderItemJpaRepository orderItemJpaRepository;
+  @Autowired private OrderLocationJpaRepository orderLocationJpaRepository;
+  @Autowired private OrderDeliveryPolicyJpaRepository orderDeliveryPolicyJpaRepository;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("Aggregate 조회: 테이블별 조회 4회 → JOIN 조회 1회")
+  void findAggregateRowsById_uses_single_statement() {
+    // given
+    Long orderId = persistOrder("ORD-20250115100000001", 3);
+
+    // when
+    long tablePerQuery =
+        countStatements(
+            () -> {
+              orderJpaRepository.findById(orderId);
+              orderItemJpaRepository.findByOrderId(orderId);
+              orderLocationJpaRepository.findByOrderId(orderId);
+              orderDeliveryPolicyJpaRepository.findByOrderId(orderId);
+            });
+    List<OrderAggregateRow> rows = orderJpaRepository.findAggregateRowsById(orderId);
+    long singleJoin =
+        countStatements(() -> orderJpaRepository.findAggregateRowsById(orderId));
+
+    // then
+    assertThat(tablePerQuery).isEqualTo(4);
+    assertThat(singleJoin).isEqualTo(1);
+    Order order = OrderAggregateRow.toDomains(rows).getFirst();
+    assertThat(order.getId()).isEqualTo(orderId);
+    assertThat(order.getItems()).hasSize(3);
+    assertThat(order.getDestination().address().detailAddress()).isEqualTo("3층 301호");
+    assertThat(order.getDeliveryPolicy().contactlessDelivery()).isTrue();
+  }
+
+  @Test
+  @DisplayName("일괄 조회: 주문 수와 관계없이 IN-list JOIN 조회 1회")
+  void findAggregateRowsByIdIn_uses_single_statement() {
+    // given
+    Long first = persistOrder("ORD-20250115100000001", 2);
+    Long second = persistOrder("ORD-20250115100000002", 1);
+
+    // when
+    long statements =
+        countStatements(() -> orderJpaRepository.findAggregateRowsByIdIn(List.of(first, second)));
+
+    // then
+    assertThat(statements).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("요약 조회: orders 1 Row 만 조회하고 Entity 는 로딩하지 않음")
+  void findSummaryById_reads_orders_row_only() {
+    // given
+    Long orderId = persistOrder("ORD-20250115100000001", 3);
+
+    // when
+    entityManager.clear();
+    statistics.clear();
+    OrderSummaryRow row = orderJpaRepository.findSummaryById(orderId).orElseThrow();
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    assertThat(row.orderId()).isEqualTo(orderId);
+    assertThat(row.orderNumber()).isEqualTo("ORD-20250115100000001");
+  }
+
+  @Test
+  @DisplayName("대량 INSERT: pooled 시퀀스 + JDBC Batch 로 Row 수보다 훨씬 적은 Statement 실행")
+  void bulk_insert_is_batched_with_pooled_sequence() {
+    // given
+    int itemCount = 120;
+
+    // when
+    long statements =
+        countStatements(
+            () -> {
+              OrderEntity order =
+                  orderJpaRepository.save(
+                      OrderEntity.builder()
+                          .orderNumber("ORD-20250115100000001")
+                          .status(OrderStatus.CREATED)
+                          .orderedAt(ORDERED_AT)
+                          .build());
+              for (int i = 0; i < itemCount; i++) {
+                orderItemJpaRepository.save(OrderItemEntity.from(item(i), order.getId()));
+              }
+              entityManager.flush();
+            });
+
+    // then
+    // 시퀀스 조회: 121개 ID / 100개 블록 → 최대 3회 (IDENTITY 였다면 ID마다 INSERT 1회)
+    // INSERT: orders 1회 + order_items 120건 / batch_size 50 → 3회
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(itemCount + 1);
+    assertThat(statements).isLessThanOrEqualTo(3 + 1 + 3);
+  }
+
+  @Test
+  @DisplayName("pooled 시퀀스: 한 블록(100개) 안의 ID는 시퀀스 조회 없이 할당")
+  void pooled_sequence_allocates_block_without_round_trips() {
+    // given
+    Long orderId = persistOrder("ORD-20250115100000001", 0);
+
+    // when
+    long statements =
+        countStatements(
+            () -> {
+              for (int i = 0; i < 10; i++) {
+                orderItemJpaRepository.save(OrderItemEntity.from(item(i), orderId));
+              }
+            });
+
+    // then
+    assertThat(statements).isLessThanOrEqualTo(1);
+  }
+
+  /** 영속성 컨텍스트를 비운 뒤 실행한 PrepareStatement 수 */
+  private long countStatements(Runnable action) {
+    entityManager.clear();
+    statistics.clear();
+    action.run();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private Long persistOrder(String orderNumber, int itemCount) {
+    OrderEntity order =
+        orderJpaRepository.save(
+            OrderEntity.builder()
+                .orderNumber(orderNumber)
+                .status(OrderStatus.CREATED)
+                .orderedAt(ORDERED_AT)
+                .build());
+    Long orderId = order.getId();
+
+    for (int i = 0; i < itemCount; i++) {
+      orderItemJpaRepository.save(OrderItemEntity.from(item(i), orderId));
+    }
+    orderLocationJpaRepository.save(OrderLocationEntity.from(origin(), destination(), orderId));
+    orderDeliveryPolicyJpaRepository.save(
+        OrderDeliveryPolicyEntity.from(
+            new DeliveryPolicy(false, true, false, null, ORDERED_AT), orderId));
+
+    entityManager.flush();
+    entityManager.clear();
+    return orderId;
+  }
+
+  private static OrderItem item(int index) {
+    return new OrderItem("상품" + index, 1, new Money(new BigDecimal("1000")), "식품", null, null);
+  }
+
+  private static Origin origin() {
+    return new Origin(
+        new Contact("홍길동", "010-1234-5678"),
+        new Address("역삼동 123-45", "서울시 강남구 테헤란로", "1층"),
+        new LatLng(new BigDecimal("37.5665"), new BigDecimal("126.9780")),
+        new EntranceInfo("1234", "정문 이용", "빠른 배송 부탁드립니다"));
+  }
+
+  private static Destination destination() {
+    return new Destination(
+        new Contact("김철수", "010-9876-5432"),
+        new Address("서초동 567-89", "서울시 서초구 강남대로", "3층 301호"),
+        new LatLng(new BigDecimal("37.4833"), new BigDecimal("127.0324")),
+        new EntranceInfo("5678", "후문 이용", "문 앞에 놔주세요"));
+  }
+}
@@ -0,0 +1,97 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import vroong.laas.order.core.domain.order.OrderCursor;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+
+@DisplayName("OrderSummaryJdbcRepository Keyset 조회 테스트 (H2)")
+class OrderSummaryJdbcRepositoryTest {
+
+  private static final Instant T0 = Instant.parse("2025-01-15T10:00:00Z");
+
+  private JdbcTemplate jdbcTemplate;
+  private OrderSummaryJdbcRepository sut;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate =
+        new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:order-summary;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    jdbcTemplate.execute(
+        "CREATE TABLE orders (id BIGINT PRIMARY KEY, order_number VARCHAR(50) NOT NULL,"
+            + " status VARCHAR(30) NOT NULL, ordered_at TIMESTAMP NOT NULL,"
+            + " delivered_at TIMESTAMP NULL, cancelled_at TIMESTAMP NULL,"
+            + " version BIGINT NOT NULL DEFAULT 0)");
+    // 같은 주문 시각(T0+1s)에 id 2, 3, 4 → id 로 순서 결정
+    insert(1L, "CREATED", T0);
+    insert(2L, "CREATED", T0.plusSeconds(1));
+    insert(3L, "DELIVERED", T0.plusSeconds(1));
+    insert(4L, "CREATED", T0.plusSeconds(1));
+    insert(5L, "CREATED", T0.plusSeconds(2));
+    sut = new OrderSummaryJdbcRepository(jdbcTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP TABLE orders");
+  }
+
+  @Test
+  @DisplayName("주문 시각, id 내림차순으로 Cursor 뒤의 주문만 조회")
+  void pages_through_all_orders_without_gaps() {
+    // given
+    OrderSearchCondition all = new OrderSearchCondition(null, null, null);
+
+    // when
+    List<OrderSummaryRow> first = sut.findSummaries(all, null, 2);
+    List<OrderSummaryRow> second = sut.findSummaries(all, cursorOf(first.getLast()), 2);
+    List<OrderSummaryRow> third = sut.findSummaries(all, cursorOf(second.getLast()), 2);
+
+    // then
+    assertThat(first).extracting(OrderSummaryRow::orderId).containsExactly(5L, 4L);
+    assertThat(second).extracting(OrderSummaryRow::orderId).containsExactly(3L, 2L);
+    assertThat(third).extracting(OrderSummaryRow::orderId).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("status, 주문 시각 범위(시작 포함, 끝 미포함) 조건 적용")
+  void applies_status_and_ordered_at_range() {
+    // given
+    OrderSearchCondition condition =
+        new OrderSearchCondition(
+            vroong.laas.order.core.domain.order.OrderStatus.CREATED,
+            T0.plusSeconds(1),
+            T0.plusSeconds(2));
+
+    // when
+    List<OrderSummaryRow> rows = sut.findSummaries(condition, null, 10);
+
+    // then
+    assertThat(rows).extracting(OrderSummaryRow::orderId).containsExactly(4L, 2L);
+    assertThat(rows.getFirst().status()).isEqualTo(OrderStatus.CREATED);
+    assertThat(rows.getFirst().orderedAt()).isEqualTo(T0.plusSeconds(1));
+  }
+
+  private void insert(Long id, String status, Instant orderedAt) {
+    jdbcTemplate.update(
+        "INSERT INTO orders (id, order_number, status, ordered_at) VALUES (?, ?, ?, ?)",
+        id,
+        "ORD-2025011510000000" + id,
+        status,
+        Timestamp.from(orderedAt));
+  }
+
+  private OrderCursor cursorOf(OrderSummaryRow row) {
+    return new OrderCursor(row.orderedAt(), row.orderId());
+  }
+}
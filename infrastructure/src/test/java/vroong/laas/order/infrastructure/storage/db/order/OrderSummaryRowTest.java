@@ -0,0 +1,36 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vroong.laas.order.core.domain.order.OrderSummary;
+
+@DisplayName("OrderSummaryRow 변환 테스트")
+class OrderSummaryRowTest {
+
+  @Test
+  @DisplayName("orders Row를 Domain OrderSummary로 변환")
+  void toDomain() {
+    // given
+    Instant orderedAt = Instant.parse("2025-01-15T10:00:00Z");
+    Instant deliveredAt = Instant.parse("2025-01-15T11:00:00Z");
+    OrderSummaryRow row =
+        new OrderSummaryRow(
+            1L, "ORD-20250115100000001", OrderStatus.DELIVERED, orderedAt, deliveredAt, null, 2L);
+
+    // when
+    OrderSummary summary = row.toDomain();
+
+    // then
+    assertThat(summary.id()).isEqualTo(1L);
+    assertThat(summary.orderNumber().value()).isEqualTo("ORD-20250115100000001");
+    assertThat(summary.status())
+        .isEqualTo(vroong.laas.order.core.domain.order.OrderStatus.DELIVERED);
+    assertThat(summary.orderedAt()).isEqualTo(orderedAt);
+    assertThat(summary.deliveredAt()).isEqualTo(deliveredAt);
+    assertThat(summary.cancelledAt()).isNull();
+    assertThat(summary.version()).isEqualTo(2L);
+  }
+}
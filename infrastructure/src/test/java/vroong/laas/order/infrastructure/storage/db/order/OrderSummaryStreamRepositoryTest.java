@@ -0,0 +1,137 @@
+package vroong.laas.order.infrastructure.storage.db.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import vroong.laas.order.core.domain.order.OrderSearchCondition;
+import vroong.laas.order.core.domain.order.exception.OrderExportLimitExceededException;
+
+@DisplayName("OrderSummaryStreamRepository Streaming 조회 테스트 (H2)")
+class OrderSummaryStreamRepositoryTest {
+
+  private static final Instant T0 = Instant.parse("2025-01-15T10:00:00Z");
+
+  private JdbcTemplate jdbcTemplate;
+  private OrderSummaryStreamRepository sut;
+
+  @BeforeEach
+  void setUp() {
+    DataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:order-stream;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        "CREATE TABLE orders (id BIGINT PRIMARY KEY, order_number VARCHAR(50) NOT NULL,"
+            + " status VARCHAR(30) NOT NULL, ordered_at TIMESTAMP NOT NULL,"
+            + " delivered_at TIMESTAMP NULL, cancelled_at TIMESTAMP NULL,"
+            + " version BIGINT NOT NULL DEFAULT 0)");
+    insert(1L, "CREATED", T0.plusSeconds(1));
+    insert(2L, "DELIVERED", T0);
+    insert(3L, "CREATED", T0.plusSeconds(1));
+    insert(4L, "CREATED", T0.plusSeconds(3));
+    // H2 는 음수 fetchSize 를 허용하지 않으므로 일반 fetchSize 사용
+    sut = new OrderSummaryStreamRepository(dataSource, 100, 1, Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP TABLE orders");
+  }
+
+  @Test
+  @DisplayName("주문 시각, id 오름차순으로 모든 주문을 Consumer 에 전달")
+  void streams_in_ascending_order() {
+    // given
+    List<Long> ids = new ArrayList<>();
+
+    // when
+    long count =
+        sut.stream(new OrderSearchCondition(null, null, null), row -> ids.add(row.orderId()));
+
+    // then
+    assertThat(count).isEqualTo(4);
+    assertThat(ids).containsExactly(2L, 1L, 3L, 4L);
+  }
+
+  @Test
+  @DisplayName("status, 주문 시각 범위(시작 포함, 끝 미포함) 조건 적용")
+  void applies_status_and_ordered_at_range() {
+    // given
+    OrderSearchCondition condition =
+        new OrderSearchCondition(
+            vroong.laas.order.core.domain.order.OrderStatus.CREATED, T0, T0.plusSeconds(3));
+    List<Long> ids = new ArrayList<>();
+
+    // when
+    long count = sut.stream(condition, row -> ids.add(row.orderId()));
+
+    // then
+    assertThat(count).isEqualTo(2);
+    assertThat(ids).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("Consumer 가 실패하면 조회를 중단하고 예외를 그대로 전달")
+  void stops_when_consumer_fails() {
+    // given
+    List<Long> ids = new ArrayList<>();
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                sut.stream(
+                    new OrderSearchCondition(null, null, null),
+                    row -> {
+                      ids.add(row.orderId());
+                      throw new IllegalStateException("client aborted");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("client aborted");
+    assertThat(ids).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("동시 실행 한도를 넘으면 Connection 을 잡지 않고 실패, 끝나면 다시 실행 가능")
+  void rejects_export_over_concurrency_limit() {
+    // given
+    OrderSearchCondition condition = new OrderSearchCondition(null, null, null);
+    List<Throwable> rejected = new ArrayList<>();
+
+    // when: 첫 Export 가 전송 중일 때 두 번째 Export 시작
+    sut.stream(
+        condition,
+        row -> {
+          if (rejected.isEmpty()) {
+            try {
+              sut.stream(condition, ignored -> {});
+            } catch (OrderExportLimitExceededException e) {
+              rejected.add(e);
+            }
+          }
+        });
+
+    // then
+    assertThat(rejected).hasSize(1);
+    assertThat(sut.stream(condition, row -> {})).isEqualTo(4);
+  }
+
+  private void insert(Long id, String status, Instant orderedAt) {
+    jdbcTemplate.update(
+        "INSERT INTO orders (id, order_number, status, ordered_at) VALUES (?, ?, ?, ?)",
+        id,
+        "ORD-2025011510000000" + id,
+        status,
+        Timestamp.from(orderedAt));
+  }
+}
@@ -10,14 +10,20 @@ import org.springframework.stereotype.Component;
  *
  * <p>Outbox 테이블에서 미전송 이벤트를 Kafka로 발행하는 Job의 설정을 외부화합니다.
  *
+ * <p>실행 주기와 batch 크기는 Backlog 에 따라 아래 범위 안에서 자동 조정됩니다.
+ *
  * <p>설정 예시 (application.yml):
  * <pre>
  * job:
  *   outbox:
  *     publish:
  *       enabled: true
- *       fixed-delay: 10000
- *       batch-size: 100
+ *       min-delay: 200
+ *       max-delay: 10000
+ *       min-batch-size: 100
+ *       max-batch-size: 1000
+ *       partitions: 4
+ *       backlog-metrics-interval: 10000
  * </pre>
  */
 @Component
@@ -34,31 +40,48 @@ public class OutboxEventPublishProperties {
   private boolean enabled = true;
 
   /**
-   * Job 실행 주기 (milliseconds)
+   * 최소 실행 간격 (milliseconds)
    *
-   * <p>이전 실행이 완료된 후 다음 실행까지 대기 시간입니다.
+   * <p>직전 실행에서 이벤트를 발행했으면 이 간격 후에 다시 실행합니다.
+   */
+  private long minDelay = 200;
+
+  /**
+   * 최대 실행 간격 (milliseconds)
    *
-   * <p>권장값:
-   * <ul>
-   *   <li>실시간성이 중요한 경우: 5000-10000 (5-10초)</li>
-   *   <li>일반적인 경우: 10000-30000 (10-30초)</li>
-   *   <li>부하가 적은 경우: 60000 (1분)</li>
-   * </ul>
+   * <p>발행할 이벤트가 없으면 실행 간격을 2배씩 늘리며, 이 값을 넘지 않습니다. 이벤트가 없을 때 최대 이 시간만큼 발행이
+   * 늦어질 수 있습니다.
    */
-  private long fixedDelay = 10000;
+  private long maxDelay = 10000;
 
   /**
-   * 한 번에 처리할 이벤트 수
+   * 최소 batch 크기 (Backlog 가 없을 때 사용)
    *
-   * <p>Outbox 테이블에서 가져올 최대 이벤트 수입니다.
+   * <p>Partition Worker 하나가 한 번에 Outbox 테이블에서 가져올 최소 이벤트 수입니다.
+   */
+  private int minBatchSize = 100;
+
+  /**
+   * 최대 batch 크기
    *
-   * <p>권장값:
-   * <ul>
-   *   <li>이벤트가 많은 경우: 100-500</li>
-   *   <li>일반적인 경우: 50-100</li>
-   *   <li>이벤트가 적은 경우: 10-50</li>
-   * </ul>
+   * <p>batch 가 가득 차서 돌아올 때마다(Backlog 존재) batch 크기를 2배씩 늘리며, 이 값을 넘지 않습니다.
    */
-  private int batchSize = 100;
-}
+  private int maxBatchSize = 1000;
 
+  /**
+   * Relay Partition 수 (= 병렬 Worker 수)
+   *
+   * <p>event_key 해시 구간별로 Worker 하나가 이벤트를 id 순서대로 발행합니다. 같은 주문의 이벤트는 항상 같은
+   * Partition 에 속하므로 주문별 발행 순서가 유지됩니다.
+   *
+   * <p>주의: outbox_events.partition_no 의 Partition 수(4)와 같아야 합니다 (OutboxPartition#STORED_COUNT).
+   */
+  private int partitions = 4;
+
+  /**
+   * Backlog Metrics 갱신 간격 (milliseconds)
+   *
+   * <p>미전송 이벤트 수 / 가장 오래된 미전송 이벤트 대기 시간 Gauge 를 갱신하는 최소 간격입니다.
+   */
+  private long backlogMetricsInterval = 10000;
+}
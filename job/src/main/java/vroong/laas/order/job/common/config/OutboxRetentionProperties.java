@@ -0,0 +1,105 @@
+package vroong.laas.order.job.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox Retention Job 설정 Properties
+ *
+ * <p>보관 기간이 지난 발행 완료(PUBLISHED) 이벤트를 outbox_events 에서 정리하는 Job의 설정을 외부화합니다.
+ *
+ * <p>설정 예시 (application.yml):
+ * <pre>
+ * job:
+ *   outbox:
+ *     retention:
+ *       enabled: true
+ *       cron: "0 30 4 * * *"
+ *       retention-days: 7
+ *       chunk-size: 1000
+ *       chunk-pause: 100
+ *       max-chunks-per-run: 1000
+ *       partition-maintenance: true
+ *       partition-months-ahead: 2
+ *       archive:
+ *         enabled: false
+ *         directory: /var/lib/order-job/outbox-archive
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "job.outbox.retention")
+@Getter
+@Setter
+public class OutboxRetentionProperties {
+
+  /**
+   * Outbox Retention Job 활성화 여부
+   *
+   * <p>false로 설정하면 Job이 실행되지 않습니다.
+   */
+  private boolean enabled = false;
+
+  /** 실행 주기 (cron, 트래픽이 적은 시간대 권장) */
+  private String cron = "0 30 4 * * *";
+
+  /**
+   * 보관 기간 (일)
+   *
+   * <p>생성된 지 이 기간이 지난 PUBLISHED 이벤트를 정리합니다. PENDING / DLQ 이벤트는 정리하지 않습니다.
+   */
+  private int retentionDays = 7;
+
+  /**
+   * 한 번에 삭제할 이벤트 수
+   *
+   * <p>DELETE 한 번이 잡는 Lock 과 Undo/Binlog 크기를 제한합니다.
+   */
+  private int chunkSize = 1000;
+
+  /**
+   * Chunk 사이 대기 시간 (milliseconds)
+   *
+   * <p>Replica 지연과 발행(Relay) 쿼리 영향을 줄이기 위해 Chunk 삭제 사이에 쉽니다.
+   */
+  private long chunkPause = 100;
+
+  /**
+   * 한 번 실행에서 처리할 최대 Chunk 수
+   *
+   * <p>남은 이벤트는 다음 실행에서 정리합니다.
+   */
+  private int maxChunksPerRun = 1000;
+
+  /**
+   * Partition 관리 여부
+   *
+   * <p>outbox_events 가 created_at Range Partition 되어 있을 때 (V20250123_001):
+   * - 앞으로 사용할 월 단위 Partition 을 미리 생성
+   * - Archive 를 사용하지 않으면 보관 기간이 지난 Partition 을 Row 삭제 대신 DROP
+   */
+  private boolean partitionMaintenance = true;
+
+  /** 미리 만들어 둘 Partition 개월 수 */
+  private int partitionMonthsAhead = 2;
+
+  /** 삭제 전 로컬 파일 Archive 설정 */
+  private Archive archive = new Archive();
+
+  @Getter
+  @Setter
+  public static class Archive {
+
+    /**
+     * Archive 활성화 여부
+     *
+     * <p>true 이면 삭제하기 전에 Chunk 단위로 gzip 압축 JSON Lines 파일을 남깁니다. 파일 쓰기에 실패하면 해당
+     * Chunk 는 삭제하지 않습니다.
+     */
+    private boolean enabled = false;
+
+    /** Archive 파일 디렉터리 (하위에 생성일(UTC)별 디렉터리 생성) */
+    private String directory = "./outbox-archive";
+  }
+}
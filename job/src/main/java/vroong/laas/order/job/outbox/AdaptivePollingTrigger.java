@@ -0,0 +1,81 @@
+package vroong.laas.order.job.outbox;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import vroong.laas.order.job.common.config.OutboxEventPublishProperties;
+
+/**
+ * Backlog 기반 Outbox Polling Trigger
+ *
+ * <p>발행 결과에 따라 다음 실행 간격과 batch 크기를 조정합니다.
+ *
+ * <p>규칙:
+ * - batch 가 가득 참 (Backlog 존재) → batch 크기 2배 (max-batch-size 까지)
+ * - 실행에서 이벤트 발행 → 다음 실행은 min-delay 후
+ * - 실행에서 발행할 이벤트 없음 → 실행 간격 2배 (max-delay 까지), batch 크기 절반 (min-batch-size 까지)
+ */
+class AdaptivePollingTrigger implements Trigger {
+
+  private final long minDelayMillis;
+  private final long maxDelayMillis;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+
+  private final AtomicInteger batchSize;
+  private volatile long delayMillis;
+
+  AdaptivePollingTrigger(OutboxEventPublishProperties properties) {
+    if (properties.getMinDelay() < 1 || properties.getMinDelay() > properties.getMaxDelay()) {
+      throw new IllegalArgumentException("min-delay는 1 이상, max-delay 이하여야 합니다");
+    }
+    if (properties.getMinBatchSize() < 1
+        || properties.getMinBatchSize() > properties.getMaxBatchSize()) {
+      throw new IllegalArgumentException("min-batch-size는 1 이상, max-batch-size 이하여야 합니다");
+    }
+    this.minDelayMillis = properties.getMinDelay();
+    this.maxDelayMillis = properties.getMaxDelay();
+    this.minBatchSize = properties.getMinBatchSize();
+    this.maxBatchSize = properties.getMaxBatchSize();
+    this.batchSize = new AtomicInteger(minBatchSize);
+    this.delayMillis = minDelayMillis;
+  }
+
+  /** 현재 batch 크기 */
+  int batchSize() {
+    return batchSize.get();
+  }
+
+  /** 현재 실행 간격 (milliseconds) */
+  long delayMillis() {
+    return delayMillis;
+  }
+
+  /** batch 가 가득 차서 돌아옴 (Backlog 존재) → batch 크기 증가 */
+  void onFullBatch() {
+    batchSize.updateAndGet(size -> (int) Math.min((long) size * 2, maxBatchSize));
+  }
+
+  /**
+   * 한 번의 실행 종료
+   *
+   * @param publishedCount 이번 실행에서 발행한 이벤트 수
+   */
+  void onCycleCompleted(int publishedCount) {
+    if (publishedCount > 0) {
+      delayMillis = minDelayMillis;
+      return;
+    }
+    delayMillis = Math.min(delayMillis * 2, maxDelayMillis);
+    batchSize.updateAndGet(size -> Math.max(size / 2, minBatchSize));
+  }
+
+  /** 직전 실행 종료 시각 + 현재 실행 간격 */
+  @Override
+  public Instant nextExecution(TriggerContext triggerContext) {
+    Instant lastCompletion = triggerContext.lastCompletion();
+    Instant base = lastCompletion != null ? lastCompletion : triggerContext.getClock().instant();
+    return base.plusMillis(delayMillis);
+  }
+}
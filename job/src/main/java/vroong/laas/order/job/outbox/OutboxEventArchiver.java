@@ -0,0 +1,123 @@
+package vroong.laas.order.job.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import vroong.laas.order.core.domain.outbox.PublishedOutboxEvent;
+
+/**
+ * Outbox Event Archiver
+ *
+ * <p>삭제할 Outbox 이벤트를 로컬 디스크에 gzip 압축 JSON Lines 파일로 남깁니다.
+ *
+ * <p>특징:
+ * - Chunk 1개 = 파일 1개: {directory}/{생성일(UTC)}/outbox-events-{firstId}-{lastId}.jsonl.gz
+ * - 임시 파일에 쓰고 fsync 후 이름 변경 (삭제 전에 파일이 완전히 기록되었음을 보장)
+ * - payload 는 저장된 JSON 을 그대로 기록
+ */
+class OutboxEventArchiver {
+
+  private final Path directory;
+
+  OutboxEventArchiver(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * 이벤트 Chunk Archive
+   *
+   * @param events id 오름차순 이벤트 목록 (비어 있지 않음)
+   * @return 생성한 Archive 파일
+   * @throws UncheckedIOException 파일 쓰기에 실패한 경우
+   */
+  Path archive(List<PublishedOutboxEvent> events) {
+    PublishedOutboxEvent first = events.getFirst();
+    PublishedOutboxEvent last = events.getLast();
+    try {
+      Path dayDirectory =
+          directory.resolve(first.createdAt().atZone(ZoneOffset.UTC).toLocalDate().toString());
+      Files.createDirectories(dayDirectory);
+
+      String fileName = "outbox-events-" + first.id() + "-" + last.id() + ".jsonl.gz";
+      Path target = dayDirectory.resolve(fileName);
+      Path temp = dayDirectory.resolve(fileName + ".tmp");
+
+      try (Writer writer =
+          new BufferedWriter(
+              new OutputStreamWriter(
+                  new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+        for (PublishedOutboxEvent event : events) {
+          writer.write(toJsonLine(event));
+          writer.write('\n');
+        }
+      }
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+      return Files.move(
+          temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Outbox 이벤트 Archive 실패: id " + first.id() + " ~ " + last.id(), e);
+    }
+  }
+
+  static String toJsonLine(PublishedOutboxEvent event) {
+    StringBuilder json = new StringBuilder(256 + lengthOf(event.payload()));
+    json.append("{\"id\":").append(event.id());
+    appendField(json, "event_id", event.eventId());
+    appendField(json, "event_type", event.eventType());
+    appendField(json, "event_key", event.eventKey());
+    appendField(json, "created_at", toString(event.createdAt()));
+    appendField(json, "published_at", toString(event.publishedAt()));
+    json.append(",\"payload\":").append(event.payload() != null ? event.payload() : "null");
+    return json.append('}').toString();
+  }
+
+  private static void appendField(StringBuilder json, String name, String value) {
+    json.append(",\"").append(name).append("\":");
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+
+  private static String toString(Instant instant) {
+    return instant != null ? instant.toString() : null;
+  }
+
+  private static int lengthOf(String value) {
+    return value != null ? value.length() : 0;
+  }
+}
@@ -1,11 +1,24 @@
 package vroong.laas.order.job.outbox;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
+import vroong.laas.order.core.domain.outbox.OutboxBacklog;
 import vroong.laas.order.core.domain.outbox.OutboxEventPublisher;
+import vroong.laas.order.core.domain.outbox.OutboxPartition;
 import vroong.laas.order.job.common.config.OutboxEventPublishProperties;
 import vroong.laas.order.job.scheduled.BaseScheduledJob;
 
@@ -14,9 +27,19 @@ import vroong.laas.order.job.scheduled.BaseScheduledJob;
  *
  * <p>Outbox 테이블에서 미전송 이벤트를 Kafka로 발행합니다.
  *
- * <p>실행 주기: 10초 (job.outbox.publish.fixed-delay)
+ * <p>실행 방식:
+ * - event_key 해시 구간(Partition)별 Worker 가 병렬로 발행 (job.outbox.publish.partitions)
+ * - Worker 는 batch 가 가득 차서 돌아오는 동안(Backlog 존재) 쉬지 않고 반복 발행하며 batch 크기를 늘림
+ * - 다음 실행 시각은 {@link AdaptivePollingTrigger} 가 결정
+ *   (발행이 있으면 min-delay, 없으면 2배씩 max-delay 까지)
  *
- * <p>AOP가 자동으로 로깅, 실행 시간 측정, 예외 처리를 수행합니다.
+ * <p>고정 주기(@Scheduled)가 아닌 Trigger 로 등록하므로 ScheduledJobLoggingAspect 대상이 아닙니다. 짧은 간격으로 자주
+ * 실행되므로 발행이 있을 때만 로그를 남깁니다.
+ *
+ * <p>Metrics:
+ * - outbox.backlog.pending: 미전송 이벤트 수
+ * - outbox.backlog.oldest.age: 가장 오래된 미전송 이벤트 대기 시간
+ * - outbox.publish.delay / outbox.publish.batch.size: 현재 실행 간격 / batch 크기
  *
  * <p>아키텍처:
  * <pre>
@@ -24,34 +47,139 @@ import vroong.laas.order.job.scheduled.BaseScheduledJob;
  *   → OutboxEventPublisher (Domain Service)
  *     → OutboxEventClient (Port)
  *       → KafkaOutboxEventClient (Infrastructure Adapter)
+ *         → OutboxEventRelay (Partition 선점 + Kafka 발행)
  * </pre>
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @ConditionalOnProperty(
     prefix = "job.outbox.publish",
     name = "enabled",
     havingValue = "true",
     matchIfMissing = false)
-public class OutboxEventPublishJob implements BaseScheduledJob {
+public class OutboxEventPublishJob
+    implements BaseScheduledJob, SchedulingConfigurer, DisposableBean {
 
   private final OutboxEventPublisher outboxEventPublisher;  // Domain Service
   private final OutboxEventPublishProperties properties;
+  private final AdaptivePollingTrigger trigger;
+  private final List<OutboxPartition> partitions;
+  private final ExecutorService relayExecutor;
+  private final Clock clock;
+
+  private final AtomicReference<OutboxBacklog> backlog =
+      new AtomicReference<>(OutboxBacklog.empty());
+  private volatile long backlogRefreshedAt;
+
+  public OutboxEventPublishJob(
+      OutboxEventPublisher outboxEventPublisher,
+      OutboxEventPublishProperties properties,
+      MeterRegistry meterRegistry) {
+    this.outboxEventPublisher = outboxEventPublisher;
+    this.properties = properties;
+    this.trigger = new AdaptivePollingTrigger(properties);
+    this.partitions = OutboxPartition.all(properties.getPartitions());
+    this.relayExecutor =
+        Executors.newFixedThreadPool(
+            partitions.size(), Thread.ofPlatform().name("outbox-relay-", 0).factory());
+    this.clock = Clock.systemUTC();
+    registerMetrics(meterRegistry);
+  }
+
+  /** Adaptive Trigger 로 Job 등록 */
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addTriggerTask(this::execute, trigger);
+  }
 
   /**
    * Outbox Event Publish 실행
    *
-   * <p>ScheduledJobLoggingAspect가 자동으로 로깅 및 예외 처리를 수행합니다.
+   * <p>모든 Partition Worker 가 Backlog 를 비울 때까지 기다린 뒤 다음 실행 간격을 조정합니다.
    */
-  @Scheduled(fixedDelayString = "${job.outbox.publish.fixed-delay:10000}")
   @Override
   public void execute() {
-    int publishedCount = outboxEventPublisher.publishPendingEvents(properties.getBatchSize());
+    List<CompletableFuture<Integer>> workers =
+        partitions.stream()
+            .map(partition -> CompletableFuture.supplyAsync(() -> drain(partition), relayExecutor))
+            .toList();
+
+    int publishedCount = workers.stream().mapToInt(CompletableFuture::join).sum();
+    trigger.onCycleCompleted(publishedCount);
 
     if (publishedCount > 0) {
-      log.info("Published {} events from outbox to Kafka", publishedCount);
+      log.info(
+          "Published {} events from outbox to Kafka ({} partitions, next batch size {})",
+          publishedCount,
+          partitions.size(),
+          trigger.batchSize());
     }
+
+    refreshBacklog();
+  }
+
+  /**
+   * Partition Backlog 발행
+   *
+   * <p>batch 가 가득 차서 돌아오면 남은 이벤트가 있다고 보고 batch 크기를 늘려 바로 다음 batch 를 발행합니다.
+   *
+   * @return 발행된 이벤트 수
+   */
+  private int drain(OutboxPartition partition) {
+    int total = 0;
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        int batchSize = trigger.batchSize();
+        int published = outboxEventPublisher.publishPendingEvents(batchSize, partition);
+        total += published;
+        if (published < batchSize) {
+          break;
+        }
+        trigger.onFullBatch();
+      }
+    } catch (RuntimeException e) {
+      // 한 Partition 실패가 다른 Partition 발행을 막지 않도록 여기서 처리 (다음 실행에서 재시도)
+      log.error("Outbox partition {} publish failed", partition.index(), e);
+    }
+    return total;
   }
-}
 
+  /** backlog-metrics-interval 마다 미전송 이벤트 현황 갱신 */
+  private void refreshBacklog() {
+    long now = clock.millis();
+    if (now - backlogRefreshedAt < properties.getBacklogMetricsInterval()) {
+      return;
+    }
+    backlogRefreshedAt = now;
+    try {
+      backlog.set(outboxEventPublisher.getBacklog());
+    } catch (RuntimeException e) {
+      log.warn("Outbox backlog 조회 실패: {}", e.getMessage());
+    }
+  }
+
+  private void registerMetrics(MeterRegistry meterRegistry) {
+    Gauge.builder("outbox.backlog.pending", backlog, ref -> ref.get().pendingCount())
+        .description("미전송(PENDING) Outbox 이벤트 수")
+        .register(meterRegistry);
+    TimeGauge.builder(
+            "outbox.backlog.oldest.age",
+            backlog,
+            TimeUnit.MILLISECONDS,
+            ref -> ref.get().oldestAge(clock.instant()).toMillis())
+        .description("가장 오래된 미전송 Outbox 이벤트 대기 시간")
+        .register(meterRegistry);
+    TimeGauge.builder(
+            "outbox.publish.delay", trigger, TimeUnit.MILLISECONDS, t -> t.delayMillis())
+        .description("Outbox Publish Job 현재 실행 간격")
+        .register(meterRegistry);
+    Gauge.builder("outbox.publish.batch.size", trigger, t -> t.batchSize())
+        .description("Outbox Publish Job 현재 batch 크기")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void destroy() {
+    relayExecutor.close();
+  }
+}
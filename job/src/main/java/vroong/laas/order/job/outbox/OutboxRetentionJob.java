@@ -0,0 +1,143 @@
+package vroong.laas.order.job.outbox;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import vroong.laas.order.core.domain.outbox.OutboxEventPurger;
+import vroong.laas.order.core.domain.outbox.PublishedOutboxEvent;
+import vroong.laas.order.job.common.config.OutboxRetentionProperties;
+import vroong.laas.order.job.scheduled.BaseScheduledJob;
+
+/**
+ * Outbox Retention Job
+ *
+ * <p>보관 기간(retention-days)이 지난 발행 완료(PUBLISHED) 이벤트를 outbox_events 에서 정리합니다. PENDING /
+ * DLQ 이벤트는 정리하지 않습니다.
+ *
+ * <p>흐름:
+ * 1. (Partition 관리 시) 앞으로 사용할 월 단위 Partition 미리 생성
+ * 2. (Partition 관리 + Archive 미사용 시) 보관 기간이 지난 Partition DROP
+ * 3. 남은 대상 이벤트를 id 순서 Chunk 로 조회 → (Archive 시) 파일 기록 → 삭제, Chunk 사이 chunk-pause 대기
+ *
+ * <p>아키텍처:
+ * <pre>
+ * OutboxRetentionJob (Job Layer)
+ *   → OutboxEventPurger (Domain Service)
+ *     → OutboxRetentionClient (Port)
+ *       → JdbcOutboxRetentionClient (Infrastructure Adapter)
+ * </pre>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+    prefix = "job.outbox.retention",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class OutboxRetentionJob implements BaseScheduledJob {
+
+  private final OutboxEventPurger outboxEventPurger;  // Domain Service
+  private final OutboxRetentionProperties properties;
+  private final OutboxEventArchiver archiver;
+  private final Clock clock;
+
+  public OutboxRetentionJob(
+      OutboxEventPurger outboxEventPurger, OutboxRetentionProperties properties) {
+    this.outboxEventPurger = outboxEventPurger;
+    this.properties = properties;
+    this.archiver = new OutboxEventArchiver(Path.of(properties.getArchive().getDirectory()));
+    this.clock = Clock.systemUTC();
+  }
+
+  /**
+   * Outbox Retention 실행
+   *
+   * <p>ScheduledJobLoggingAspect가 자동으로 로깅 및 예외 처리를 수행합니다.
+   */
+  @Scheduled(cron = "${job.outbox.retention.cron:0 30 4 * * *}")
+  @Override
+  public void execute() {
+    Instant now = clock.instant();
+    Instant cutoff = now.minus(Duration.ofDays(properties.getRetentionDays()));
+    boolean archiveEnabled = properties.getArchive().isEnabled();
+
+    int addedPartitions = 0;
+    int droppedPartitions = 0;
+    if (properties.isPartitionMaintenance()) {
+      Instant until =
+          now.atZone(ZoneOffset.UTC).plusMonths(properties.getPartitionMonthsAhead()).toInstant();
+      addedPartitions = outboxEventPurger.addPartitionsUntil(until);
+      // Archive 는 Row 를 읽어 파일로 남겨야 하므로 Partition DROP 을 쓰지 않음
+      if (!archiveEnabled) {
+        droppedPartitions = outboxEventPurger.dropPartitionsBefore(cutoff);
+      }
+    }
+
+    int deletedCount = purge(cutoff, archiveEnabled);
+
+    log.info(
+        "Outbox retention (cutoff {}): deleted {} events, dropped {} partitions,"
+            + " added {} partitions",
+        cutoff,
+        deletedCount,
+        droppedPartitions,
+        addedPartitions);
+  }
+
+  /**
+   * 보관 기간이 지난 이벤트를 Chunk 단위로 삭제
+   *
+   * @return 삭제된 이벤트 수
+   */
+  private int purge(Instant cutoff, boolean archiveEnabled) {
+    int chunkSize = properties.getChunkSize();
+    long afterId = 0;
+    int deletedCount = 0;
+
+    for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+      List<Long> ids;
+      if (archiveEnabled) {
+        List<PublishedOutboxEvent> events =
+            outboxEventPurger.findPublishedBefore(cutoff, afterId, chunkSize);
+        if (events.isEmpty()) {
+          break;
+        }
+        archiver.archive(events);  // 실패 시 예외 → 이 Chunk 는 삭제하지 않음
+        ids = events.stream().map(PublishedOutboxEvent::id).toList();
+      } else {
+        ids = outboxEventPurger.findPublishedIdsBefore(cutoff, afterId, chunkSize);
+        if (ids.isEmpty()) {
+          break;
+        }
+      }
+
+      deletedCount += outboxEventPurger.deletePublished(ids, cutoff);
+      afterId = ids.getLast();
+      if (ids.size() < chunkSize || !pause()) {
+        break;
+      }
+    }
+    return deletedCount;
+  }
+
+  /** Chunk 사이 대기 (인터럽트되면 false) */
+  private boolean pause() {
+    if (properties.getChunkPause() <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(properties.getChunkPause());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
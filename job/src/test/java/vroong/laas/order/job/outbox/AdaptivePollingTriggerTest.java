@@ -0,0 +1,108 @@
+package vroong.laas.order.job.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import vroong.laas.order.job.common.config.OutboxEventPublishProperties;
+
+@DisplayName("AdaptivePollingTrigger 테스트")
+class AdaptivePollingTriggerTest {
+
+  private OutboxEventPublishProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new OutboxEventPublishProperties();
+    properties.setMinDelay(100);
+    properties.setMaxDelay(1000);
+    properties.setMinBatchSize(50);
+    properties.setMaxBatchSize(300);
+  }
+
+  @Test
+  @DisplayName("발행할 이벤트가 없으면 실행 간격을 2배씩 늘려 max-delay에서 멈춤")
+  void idle_cycles_back_off_exponentially() {
+    // given
+    AdaptivePollingTrigger sut = new AdaptivePollingTrigger(properties);
+
+    // when & then
+    sut.onCycleCompleted(0);
+    assertThat(sut.delayMillis()).isEqualTo(200);
+    sut.onCycleCompleted(0);
+    sut.onCycleCompleted(0);
+    assertThat(sut.delayMillis()).isEqualTo(800);
+    sut.onCycleCompleted(0);
+    assertThat(sut.delayMillis()).isEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("이벤트를 발행하면 실행 간격을 min-delay로 되돌림")
+  void published_cycle_resets_delay() {
+    // given
+    AdaptivePollingTrigger sut = new AdaptivePollingTrigger(properties);
+    sut.onCycleCompleted(0);
+    sut.onCycleCompleted(0);
+
+    // when
+    sut.onCycleCompleted(3);
+
+    // then
+    assertThat(sut.delayMillis()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("batch가 가득 차면 batch 크기를 max-batch-size까지 늘리고, 유휴 시 줄임")
+  void batch_size_grows_with_backlog_and_shrinks_when_idle() {
+    // given
+    AdaptivePollingTrigger sut = new AdaptivePollingTrigger(properties);
+
+    // when & then
+    sut.onFullBatch();
+    assertThat(sut.batchSize()).isEqualTo(100);
+    sut.onFullBatch();
+    sut.onFullBatch();
+    assertThat(sut.batchSize()).isEqualTo(300);
+
+    sut.onCycleCompleted(0);
+    assertThat(sut.batchSize()).isEqualTo(150);
+    sut.onCycleCompleted(0);
+    sut.onCycleCompleted(0);
+    assertThat(sut.batchSize()).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("다음 실행 시각 = 직전 실행 종료 시각 + 현재 실행 간격")
+  void next_execution_is_relative_to_last_completion() {
+    // given
+    AdaptivePollingTrigger sut = new AdaptivePollingTrigger(properties);
+    sut.onCycleCompleted(0);
+    Instant completedAt = Instant.parse("2025-01-21T00:00:00Z");
+    SimpleTriggerContext context =
+        new SimpleTriggerContext(Clock.fixed(completedAt, ZoneOffset.UTC));
+    context.update(completedAt, completedAt, completedAt);
+
+    // when
+    Instant next = sut.nextExecution(context);
+
+    // then
+    assertThat(next).isEqualTo(completedAt.plusMillis(200));
+  }
+
+  @Test
+  @DisplayName("min-delay가 max-delay보다 크면 예외 발생")
+  void invalid_delay_bounds_throw() {
+    // given
+    properties.setMinDelay(2000);
+
+    // when & then
+    assertThatThrownBy(() -> new AdaptivePollingTrigger(properties))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,181 @@
+package vroong.laas.order.job.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import vroong.laas.order.core.domain.outbox.OutboxEventPurger;
+import vroong.laas.order.core.domain.outbox.PublishedOutboxEvent;
+import vroong.laas.order.job.common.config.OutboxRetentionProperties;
+
+@DisplayName("OutboxRetentionJob 테스트")
+class OutboxRetentionJobTest {
+
+  private static final Instant CREATED_AT = Instant.parse("2025-01-10T10:00:00Z");
+
+  @TempDir Path archiveDirectory;
+
+  private OutboxEventPurger purger;
+  private OutboxRetentionProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    purger = mock(OutboxEventPurger.class);
+    properties = new OutboxRetentionProperties();
+    properties.setChunkSize(2);
+    properties.setChunkPause(0);
+    properties.getArchive().setDirectory(archiveDirectory.toString());
+  }
+
+  @Test
+  @DisplayName("마지막 ID 이후부터 Chunk 단위로 삭제하고 Chunk가 덜 차면 종료")
+  void execute_deletes_in_keyed_chunks() {
+    // given
+    given(purger.findPublishedIdsBefore(any(), eq(0L), eq(2))).willReturn(List.of(1L, 2L));
+    given(purger.findPublishedIdsBefore(any(), eq(2L), eq(2))).willReturn(List.of(5L));
+    given(purger.deletePublished(anyList(), any()))
+        .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+    // when
+    new OutboxRetentionJob(purger, properties).execute();
+
+    // then
+    then(purger).should().deletePublished(eq(List.of(1L, 2L)), any());
+    then(purger).should().deletePublished(eq(List.of(5L)), any());
+    then(purger).should(never()).findPublishedIdsBefore(any(), eq(5L), anyInt());
+  }
+
+  @Test
+  @DisplayName("max-chunks-per-run에 도달하면 남은 이벤트는 다음 실행에 맡김")
+  void execute_stops_at_max_chunks() {
+    // given
+    properties.setMaxChunksPerRun(1);
+    given(purger.findPublishedIdsBefore(any(), anyLong(), anyInt())).willReturn(List.of(1L, 2L));
+
+    // when
+    new OutboxRetentionJob(purger, properties).execute();
+
+    // then
+    then(purger).should().findPublishedIdsBefore(any(), anyLong(), anyInt());
+    then(purger).should().deletePublished(eq(List.of(1L, 2L)), any());
+  }
+
+  @Test
+  @DisplayName("Partition 관리 시 미래 Partition 생성 후 오래된 Partition DROP")
+  void execute_maintains_partitions() {
+    // given
+    given(purger.findPublishedIdsBefore(any(), anyLong(), anyInt())).willReturn(List.of());
+
+    // when
+    new OutboxRetentionJob(purger, properties).execute();
+
+    // then
+    then(purger).should().addPartitionsUntil(any());
+    then(purger).should().dropPartitionsBefore(any());
+  }
+
+  @Test
+  @DisplayName("Archive 사용 시 파일을 남긴 뒤 삭제하고 Partition은 DROP하지 않음")
+  void execute_archives_before_delete() throws IOException {
+    // given
+    properties.getArchive().setEnabled(true);
+    given(purger.findPublishedBefore(any(), eq(0L), eq(2)))
+        .willReturn(List.of(event(1L, "{\"orderId\":1}"), event(2L, "{\"orderId\":2}")));
+    given(purger.findPublishedBefore(any(), eq(2L), eq(2))).willReturn(List.of());
+
+    // when
+    new OutboxRetentionJob(purger, properties).execute();
+
+    // then
+    then(purger).should().deletePublished(eq(List.of(1L, 2L)), any());
+    then(purger).should(never()).dropPartitionsBefore(any());
+
+    Path archive = archiveDirectory.resolve("2025-01-10").resolve("outbox-events-1-2.jsonl.gz");
+    assertThat(readLines(archive))
+        .containsExactly(
+            "{\"id\":1,\"event_id\":\"event-1\",\"event_type\":\"ORDER_CREATED\","
+                + "\"event_key\":\"1\",\"created_at\":\"2025-01-10T10:00:00Z\","
+                + "\"published_at\":\"2025-01-10T10:00:01Z\",\"payload\":{\"orderId\":1}}",
+            "{\"id\":2,\"event_id\":\"event-2\",\"event_type\":\"ORDER_CREATED\","
+                + "\"event_key\":\"2\",\"created_at\":\"2025-01-10T10:00:00Z\","
+                + "\"published_at\":\"2025-01-10T10:00:01Z\",\"payload\":{\"orderId\":2}}");
+    try (Stream<Path> files = Files.list(archive.getParent())) {
+      assertThat(files).containsExactly(archive);  // 임시 파일이 남지 않음
+    }
+  }
+
+  @Test
+  @DisplayName("Archive 실패 시 해당 Chunk는 삭제하지 않음")
+  void execute_does_not_delete_when_archive_fails() throws IOException {
+    // given
+    Path notDirectory = Files.createFile(archiveDirectory.resolve("file"));
+    properties.getArchive().setEnabled(true);
+    properties.getArchive().setDirectory(notDirectory.toString());
+    given(purger.findPublishedBefore(any(), anyLong(), anyInt()))
+        .willReturn(List.of(event(1L, "{}")));
+
+    // when & then
+    OutboxRetentionJob sut = new OutboxRetentionJob(purger, properties);
+    assertThatThrownBy(sut::execute).isInstanceOf(UncheckedIOException.class);
+    then(purger).should(never()).deletePublished(anyList(), any());
+  }
+
+  @Test
+  @DisplayName("Archive 문자열 값은 JSON 이스케이프")
+  void toJsonLine_escapes_string_values() {
+    // given
+    PublishedOutboxEvent event =
+        new PublishedOutboxEvent(1L, "id", "TYPE", "a\"b\\c\n", "{}", CREATED_AT, null);
+
+    // when
+    String line = OutboxEventArchiver.toJsonLine(event);
+
+    // then
+    assertThat(line)
+        .contains("\"event_key\":\"a\\\"b\\\\c\\n\"")
+        .contains("\"published_at\":null");
+  }
+
+  private static PublishedOutboxEvent event(long id, String payload) {
+    return new PublishedOutboxEvent(
+        id,
+        "event-" + id,
+        "ORDER_CREATED",
+        String.valueOf(id),
+        payload,
+        CREATED_AT,
+        CREATED_AT.plusSeconds(1));
+  }
+
+  private static List<String> readLines(Path gzip) throws IOException {
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(gzip)), StandardCharsets.UTF_8))) {
+      return reader.lines().toList();
+    }
+  }
+}
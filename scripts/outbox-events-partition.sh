@@ -0,0 +1,61 @@
+#!/bin/bash
+#
+# outbox_events created_at Range Partition 적용 (V20250123_001)
+#
+# Row 가 많은 운영 테이블 전용입니다. 새 환경이나 Row 가 적은 테이블은 마이그레이션이 그대로 적용합니다.
+# PK 변경과 PARTITION BY 는 테이블 전체를 복사하므로 pt-online-schema-change 로 적용합니다.
+# (새 테이블에 복사하는 동안 Trigger 로 변경분을 따라가고, 마지막 RENAME 만 짧게 잠금)
+# 적용 후 flyway_schema_history 에 V20250123_001 을 적용된 것으로 기록합니다.
+#
+# Partition 은 실행 시점 기준으로 만듭니다.
+# - pinit: 이번 달 이전
+# - pYYYYMM: 이번 달부터 MONTHS_AHEAD 개월
+# - pmax: 비어 있는 MAXVALUE (OutboxRetentionJob 이 나눠 다음 Partition 생성)
+#
+# 사용법:
+#   DB_HOST=... DB_USER=... DB_PASSWORD=... scripts/outbox-events-partition.sh            # dry-run
+#   DB_HOST=... DB_USER=... DB_PASSWORD=... scripts/outbox-events-partition.sh --execute  # 적용
+
+set -euo pipefail
+
+DB_HOST="${DB_HOST:-localhost}"
+DB_PORT="${DB_PORT:-3306}"
+DB_NAME="${DB_NAME:-order}"
+DB_USER="${DB_USER:-order_user}"
+DB_PASSWORD="${DB_PASSWORD:-order_password}"
+MONTHS_AHEAD="${MONTHS_AHEAD:-3}"
+MODE="${1:---dry-run}"
+
+# UTC 기준 월 시작 시각의 epoch seconds
+month_start() {
+  date -u -d "$(date -u +%Y-%m-01) +$1 month" +%s
+}
+
+month_name() {
+  date -u -d "$(date -u +%Y-%m-01) +$1 month" +p%Y%m
+}
+
+partitions="PARTITION pinit VALUES LESS THAN ($(month_start 0))"
+for ((i = 0; i <= MONTHS_AHEAD; i++)); do
+  partitions+=", PARTITION $(month_name "$i") VALUES LESS THAN ($(month_start $((i + 1))))"
+done
+partitions+=", PARTITION pmax VALUES LESS THAN MAXVALUE"
+
+alter="DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at),"
+alter+=" DROP INDEX event_id, DROP INDEX idx_event_id,"
+alter+=" ADD UNIQUE KEY uk_event_id_created_at (event_id, created_at)"
+alter+=" PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (${partitions})"
+
+echo "📝 ALTER TABLE outbox_events ${alter}"
+
+# PK 를 바꾸므로 --no-check-alter 필요 (삭제 Trigger 는 기존 PK id 로 새 테이블 Row 를 찾음, id 는 계속 유일)
+pt-online-schema-change \
+  "${MODE}" \
+  --no-check-alter \
+  --alter "${alter}" \
+  --chunk-time 0.5 \
+  --max-load Threads_running=50 \
+  --critical-load Threads_running=200 \
+  --set-vars lock_wait_timeout=5 \
+  --password "${DB_PASSWORD}" \
+  "h=${DB_HOST},P=${DB_PORT},D=${DB_NAME},t=outbox_events,u=${DB_USER}"